@@ -0,0 +1,79 @@
+package com.example.newscurator.agent;
+
+import com.example.newscurator.benchmark.BenchmarkData;
+import com.example.newscurator.benchmark.FixedCorpusSearchTool;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.utils.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks do agente: ranking por relevância e curadoria de ponta a ponta
+ *
+ * A busca é substituída por um corpus determinístico dividido entre os tópicos,
+ * de forma que o tamanho do corpus processado é controlado pelo parâmetro. O
+ * setup confere que a busca do agente realmente devolve esse corpus.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Benchmark)
+public class NewsCuratorAgentBenchmark {
+
+    private static final List<String> TOPICS = List.of("inteligência artificial", "tecnologia", "inovação");
+
+    @Param({"30", "300", "3000"})
+    public int corpusSize;
+
+    private NewsCuratorAgent agent;
+    private List<NewsArticle> corpus;
+
+    @Setup
+    public void setUp() {
+        ConfigManager configManager = new ConfigManager();
+        corpus = BenchmarkData.corpus(corpusSize);
+        agent = new NewsCuratorAgent(configManager,
+            new FixedCorpusSearchTool(configManager, corpus, TOPICS));
+        verifySearchUsesCorpus();
+    }
+
+    /**
+     * Falha se a busca do agente não devolver o corpus inteiro entre os tópicos,
+     * o que indica que a sobrescrita da busca deixou de ser chamada
+     */
+    private void verifySearchUsesCorpus() {
+        int hits = 0;
+        for (String topic : TOPICS) {
+            hits += agent.searchTopic(topic).size();
+        }
+        if (hits != corpus.size()) {
+            throw new IllegalStateException("A busca devolveu " + hits + " artigos em vez dos "
+                + corpus.size() + " do corpus");
+        }
+    }
+
+    @Benchmark
+    public List<NewsArticle> filterByRelevance() {
+        return agent.filterByRelevance(corpus);
+    }
+
+    @Benchmark
+    public NewsReport curateNews() {
+        return agent.curateNews(TOPICS);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.newscurator.benchmark;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.sources.SyntheticCorpus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Dados determinísticos para os benchmarks
+ *
+ * Todos os corpora vêm do {@link SyntheticCorpus} com uma semente fixa, de modo
+ * que execuções antes e depois de uma mudança medem exatamente a mesma entrada
+ * que os testes de carga.
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Gera um corpus de artigos com a semente padrão
+     */
+    public static List<NewsArticle> corpus(int size) {
+        return corpus(size, SEED);
+    }
+
+    public static List<NewsArticle> corpus(int size, long seed) {
+        return new SyntheticCorpus(seed, size).stream()
+            .collect(Collectors.toCollection(() -> new ArrayList<>(size)));
+    }
+
+    /**
+     * Gera um relatório já categorizado e resumido, pronto para renderização
+     */
+    public static NewsReport report(int size) {
+        List<NewsArticle> articles = corpus(size);
+        Map<String, Integer> categorySummary = new LinkedHashMap<>();
+
+        for (NewsArticle article : articles) {
+            String category = article.getCategory();
+            article.setSummary("Resumo determinístico do artigo \"" + article.getTitle()
+                + "\" com contexto suficiente para exercitar a renderização.");
+            categorySummary.merge(category, 1, Integer::sum);
+        }
+
+        NewsReport report = new NewsReport("Relatório de Notícias: benchmark", List.of("tecnologia", "economia"));
+        report.setGeneratedAt(LocalDateTime.of(2024, 2, 1, 12, 0));
+        report.setArticles(articles);
+        report.setCategorySummary(categorySummary);
+        report.setSummary("Este relatório apresenta " + size + " notícias geradas deterministicamente.");
+        return report;
+    }
+}
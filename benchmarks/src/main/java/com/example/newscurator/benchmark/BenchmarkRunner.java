@@ -0,0 +1,34 @@
+package com.example.newscurator.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa todos os benchmarks com o profiler de GC e grava os resultados em JSON
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.example.newscurator.benchmark.BenchmarkRunner [regex] [arquivo.json]
+ * </pre>
+ *
+ * O arquivo gerado serve de linha de base para comparar antes e depois de cada mudança.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com.example.newscurator.*";
+        String result = args.length > 1 ? args[1] : "jmh-result.json";
+
+        Options options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result)
+            .build();
+
+        new Runner(options).run();
+    }
+}
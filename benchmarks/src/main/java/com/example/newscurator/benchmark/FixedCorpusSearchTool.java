@@ -0,0 +1,50 @@
+package com.example.newscurator.benchmark;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.tools.NewsSearchTool;
+import com.example.newscurator.utils.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Busca que devolve sempre o mesmo corpus determinístico, dividido igualmente entre os tópicos
+ *
+ * Cada busca devolve cópias da fatia do tópico, para que categorização e resumo
+ * de uma invocação não alterem a entrada da seguinte. O limite de resultados é
+ * ignorado: o tamanho processado é controlado apenas pelo corpus.
+ */
+public class FixedCorpusSearchTool extends NewsSearchTool {
+
+    private final List<NewsArticle> corpus;
+    private final List<String> topics;
+    private final AtomicLong searches = new AtomicLong();
+
+    public FixedCorpusSearchTool(ConfigManager configManager, List<NewsArticle> corpus, List<String> topics) {
+        super(configManager);
+        this.corpus = corpus;
+        this.topics = topics;
+    }
+
+    @Override
+    public List<NewsArticle> searchNews(String topic, int maxResults) {
+        searches.incrementAndGet();
+        int index = topics.indexOf(topic);
+        int slice = index >= 0 ? index : Math.floorMod(topic.hashCode(), topics.size());
+        int perTopic = corpus.size() / topics.size();
+        List<NewsArticle> articles = new ArrayList<>(perTopic);
+        for (NewsArticle source : corpus.subList(slice * perTopic, (slice + 1) * perTopic)) {
+            articles.add(new NewsArticle(source));
+        }
+        return articles;
+    }
+
+    /**
+     * Buscas atendidas por este corpus; zero depois de uma curadoria indica que
+     * o agente não passa por esta sobrescrita
+     */
+    public long searches() {
+        return searches.get();
+    }
+}
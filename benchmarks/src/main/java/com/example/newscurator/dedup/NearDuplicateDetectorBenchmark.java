@@ -0,0 +1,53 @@
+package com.example.newscurator.dedup;
+
+import com.example.newscurator.benchmark.BenchmarkData;
+import com.example.newscurator.models.NewsArticle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link NearDuplicateDetector#collapse(List)} sobre o corpus sintético (15% de republicações)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+@State(Scope.Benchmark)
+public class NearDuplicateDetectorBenchmark {
+
+    @Param({"10000", "100000"})
+    public int corpusSize;
+
+    private List<NewsArticle> corpus;
+
+    @Setup(Level.Trial)
+    public void loadCorpus() {
+        corpus = BenchmarkData.corpus(corpusSize);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCoverage() {
+        for (NewsArticle article : corpus) {
+            article.setCoverage(null);
+        }
+    }
+
+    @Benchmark
+    public List<NewsArticle> collapse() {
+        return new NearDuplicateDetector().collapse(corpus);
+    }
+}
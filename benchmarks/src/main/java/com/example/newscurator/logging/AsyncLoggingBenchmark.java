@@ -0,0 +1,88 @@
+package com.example.newscurator.logging;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.benchmark.BenchmarkData;
+import com.example.newscurator.benchmark.FixedCorpusSearchTool;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.utils.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da curadoria com log desligado, síncrono (slf4j-simple) e assíncrono
+ *
+ * Vários clientes curam em paralelo com os logs por tópico e por artigo no
+ * nível INFO. Os modos síncrono e assíncrono gravam em arquivo, para que a
+ * comparação meça a serialização das threads e não a velocidade do terminal.
+ * O setup confere que a curadoria busca no corpus fixo, e não na fonte simulada.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AsyncLoggingBenchmark {
+
+    private static final List<String> TOPICS = List.of("inteligência artificial", "tecnologia", "inovação");
+
+    private NewsCuratorAgent agent;
+
+    @Setup
+    public void setUp() {
+        ConfigManager configManager = new ConfigManager();
+        if ("async".equals(System.getProperty("benchmark.logging"))) {
+            configManager.setProperty("logging.async.enabled", "true");
+            configManager.setProperty("logging.file.path", "target/async-logging.log");
+            configManager.setProperty("logging.level", "INFO");
+            AsyncLogging.installIfEnabled(configManager);
+        }
+        FixedCorpusSearchTool searchTool = new FixedCorpusSearchTool(configManager, BenchmarkData.corpus(30), TOPICS);
+        agent = new NewsCuratorAgent(configManager, searchTool);
+        agent.curateNews(TOPICS);
+        if (searchTool.searches() != TOPICS.size()) {
+            throw new IllegalStateException("A curadoria fez " + searchTool.searches()
+                + " buscas no corpus fixo em vez de " + TOPICS.size());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        AsyncLogging.shutdown();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+    public NewsReport loggingOff() {
+        return agent.curateNews(TOPICS);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {
+        "-Dorg.slf4j.simpleLogger.defaultLogLevel=info",
+        "-Dorg.slf4j.simpleLogger.logFile=target/sync-logging.log"})
+    public NewsReport syncLogging() {
+        return agent.curateNews(TOPICS);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {
+        "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn",
+        "-Dbenchmark.logging=async"})
+    public NewsReport asyncLogging() {
+        return agent.curateNews(TOPICS);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.newscurator.models;
+
+import com.example.newscurator.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link NewsReport#setArticles(List)}, que recalcula o score médio
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Benchmark)
+public class NewsReportBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int corpusSize;
+
+    private List<NewsArticle> articles;
+    private NewsReport report;
+
+    @Setup
+    public void setUp() {
+        articles = BenchmarkData.corpus(corpusSize);
+        report = new NewsReport("Relatório de Notícias: benchmark", List.of("tecnologia"));
+    }
+
+    @Benchmark
+    public double setArticles() {
+        report.setArticles(articles);
+        return report.getAverageRelevanceScore();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.newscurator.relevance;
+
+import com.example.newscurator.benchmark.BenchmarkData;
+import com.example.newscurator.models.NewsArticle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link Bm25Index#score(String, int[])} sobre todos os artigos indexados
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Benchmark)
+public class Bm25IndexBenchmark {
+
+    @Param({"1000", "20000"})
+    public int candidates;
+
+    @Param({"tecnologia", "inteligência artificial no mercado"})
+    public String topic;
+
+    private Bm25Index index;
+    private int[] documentIds;
+
+    @Setup
+    public void setUp() {
+        List<NewsArticle> corpus = BenchmarkData.corpus(candidates);
+        index = new Bm25Index(candidates);
+        documentIds = new int[candidates];
+        for (int i = 0; i < candidates; i++) {
+            documentIds[i] = index.add(corpus.get(i));
+        }
+    }
+
+    @Benchmark
+    public double[] scoreCandidates() {
+        return index.score(topic, documentIds);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.newscurator.tools;
+
+import com.example.newscurator.benchmark.BenchmarkData;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.utils.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link NewsCategorizerTool#categorizeArticle(NewsArticle)}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Benchmark)
+public class NewsCategorizerToolBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int corpusSize;
+
+    private NewsCategorizerTool categorizerTool;
+    private List<NewsArticle> corpus;
+
+    @Setup
+    public void setUp() {
+        categorizerTool = new NewsCategorizerTool(new ConfigManager());
+        corpus = BenchmarkData.corpus(corpusSize);
+    }
+
+    @Benchmark
+    public void categorizeArticle(Blackhole blackhole) {
+        for (NewsArticle article : corpus) {
+            blackhole.consume(categorizerTool.categorizeArticle(article));
+        }
+    }
+}
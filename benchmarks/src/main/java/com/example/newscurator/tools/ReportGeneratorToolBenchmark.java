@@ -0,0 +1,52 @@
+package com.example.newscurator.tools;
+
+import com.example.newscurator.benchmark.BenchmarkData;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.utils.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da renderização de relatórios em texto e JSON
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@State(Scope.Benchmark)
+public class ReportGeneratorToolBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int corpusSize;
+
+    private ReportGeneratorTool reportTool;
+    private NewsReport report;
+
+    @Setup
+    public void setUp() {
+        reportTool = new ReportGeneratorTool(new ConfigManager());
+        report = BenchmarkData.report(corpusSize);
+    }
+
+    @Benchmark
+    public String generateTextReport() {
+        return reportTool.generateTextReport(report);
+    }
+
+    @Benchmark
+    public String generateJsonReport() {
+        return reportTool.generateJsonReport(report);
+    }
+}
@@ -1,21 +1,38 @@
 package com.example.newscurator;
 
+import com.example.newscurator.agent.ContinuousCurator;
 import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.batch.BatchRunner;
+import com.example.newscurator.logging.AsyncLogging;
 import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.scheduling.CurationScheduler;
+import com.example.newscurator.server.NewsCuratorServer;
 import com.example.newscurator.tools.ReportGeneratorTool;
 import com.example.newscurator.utils.ConfigManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 /**
  * Aplicação principal do Curador de Notícias Inteligente
  * 
- * Esta classe fornece uma interface de linha de comando para interagir com o agente
+ * Esta classe fornece uma interface de linha de comando para interagir com o agente.
+ * Com {@code --batch} ou {@code --server} executa sem interação (ver {@link #printUsage()}).
  */
 public class NewsCuratorApplication {
     
@@ -23,12 +40,20 @@ public class NewsCuratorApplication {
     private static final Scanner scanner = new Scanner(System.in);
     
     public static void main(String[] args) {
+        if (args.length > 0 && "--batch".equals(args[0])) {
+            System.exit(runBatch(args));
+        }
+        if (args.length > 0 && "--server".equals(args[0])) {
+            runServer(args);
+            return;
+        }
+        
         logger.info("Iniciando Curador de Notícias Inteligente");
         
         try {
             // Inicializa o agente
             NewsCuratorAgent agent = new NewsCuratorAgent();
-            ReportGeneratorTool reportTool = new ReportGeneratorTool(new ConfigManager());
+            ReportGeneratorTool reportTool = agent.getReportGeneratorTool();
             
             // Exibe banner de boas-vindas
             printWelcomeBanner();
@@ -86,6 +111,153 @@ public class NewsCuratorApplication {
         }
     }
     
+    /**
+     * Executa o modo batch: lê conjuntos de tópicos e escreve relatórios NDJSON
+     * 
+     * @return Código de saída do processo
+     */
+    private static int runBatch(String[] args) {
+        Map<String, String> options;
+        int parallelism;
+        try {
+            options = parseOptions(args);
+            parallelism = parsePositive(options, "--parallelism", Runtime.getRuntime().availableProcessors());
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            printUsage();
+            return 2;
+        }
+        
+        String input = options.getOrDefault("--input", "-");
+        String output = options.getOrDefault("--output", "-");
+        
+        try (BufferedReader reader = "-".equals(input)
+                 ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                 : Files.newBufferedReader(Paths.get(input), StandardCharsets.UTF_8);
+             Writer writer = "-".equals(output)
+                 ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                 : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+            
+            AsyncLogging.installIfEnabled(ConfigManager.shared());
+            NewsCuratorAgent agent = new NewsCuratorAgent();
+            ReportGeneratorTool reportTool = agent.getReportGeneratorTool();
+            BatchRunner.BatchSummary summary = new BatchRunner(agent, reportTool, parallelism).run(reader, writer);
+            
+            System.err.println(summary.format());
+            return summary.exitCode();
+            
+        } catch (Exception e) {
+            logger.error("Erro fatal no modo batch", e);
+            System.err.println("❌ Erro fatal: " + e.getMessage());
+            return 1;
+        }
+    }
+    
+    /**
+     * Executa o modo servidor HTTP; o processo permanece ativo até receber sinal de término
+     */
+    private static void runServer(String[] args) {
+        Map<String, String> options;
+        try {
+            options = parseOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        
+        try {
+            ConfigManager configManager = ConfigManager.shared();
+            if (options.containsKey("--port")) {
+                configManager.setProperty("server.port", options.get("--port"));
+            }
+            Duration grace = Duration.ofSeconds(
+                Long.parseLong(configManager.getProperty("server.shutdown.grace.seconds", "10")));
+            
+            AsyncLogging.installIfEnabled(configManager);
+            NewsCuratorAgent agent = new NewsCuratorAgent(configManager);
+            NewsCuratorServer server = new NewsCuratorServer(agent, agent.getReportGeneratorTool(), configManager);
+            List<String> continuousTopics = Arrays.stream(configManager.getProperty("continuous.topics", "").split(","))
+                .map(String::trim)
+                .filter(topic -> !topic.isEmpty())
+                .toList();
+            ContinuousCurator continuous = continuousTopics.isEmpty()
+                ? null : new ContinuousCurator(agent, configManager, continuousTopics);
+            server.setContinuousCurator(continuous);
+            CurationScheduler scheduler = Boolean.parseBoolean(configManager.getProperty("scheduler.enabled", "false"))
+                ? new CurationScheduler(configManager) : null;
+            server.setScheduler(scheduler);
+            server.start();
+            if (continuous != null) {
+                continuous.start();
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                if (continuous != null) {
+                    continuous.close();
+                }
+                server.stop(grace);
+                if (scheduler != null) {
+                    scheduler.close();
+                }
+            }, "server-shutdown"));
+            
+            System.err.println("🌐 Servidor ativo em http://localhost:" + server.getPort());
+            
+        } catch (Exception e) {
+            logger.error("Erro fatal no modo servidor", e);
+            System.err.println("❌ Erro fatal: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Converte argumentos no formato {@code --opcao valor} em um mapa
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Argumento inválido: " + args[i]);
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+    
+    /**
+     * Lê uma opção inteira maior ou igual a 1
+     * 
+     * @throws IllegalArgumentException se o valor não for um inteiro positivo
+     */
+    private static int parsePositive(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // Tratado abaixo, com a mesma mensagem dos valores fora do intervalo
+        }
+        throw new IllegalArgumentException(name + " deve ser um inteiro maior ou igual a 1: " + value);
+    }
+    
+    /**
+     * Exibe instruções de uso dos modos não interativos
+     */
+    private static void printUsage() {
+        System.err.println("Uso: java -jar news-curator-agent.jar --batch [--input arquivo|-] [--output arquivo|-] [--parallelism N]");
+        System.err.println("  --input        Conjuntos de tópicos, um por linha, separados por vírgula (padrão: stdin)");
+        System.err.println("  --output       Relatórios em NDJSON (padrão: stdout)");
+        System.err.println("  --parallelism  Curadorias simultâneas (padrão: número de processadores)");
+        System.err.println("Uso: java -jar news-curator-agent.jar --server [--port N]");
+        System.err.println("  --port         Porta HTTP (padrão: server.port)");
+    }
+    
     /**
      * Exibe banner de boas-vindas
      */
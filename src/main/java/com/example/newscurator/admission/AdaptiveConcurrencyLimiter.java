@@ -0,0 +1,168 @@
+package com.example.newscurator.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite de curadorias simultâneas que se ajusta à latência medida (AIMD)
+ *
+ * Cada curadoria concluída é uma amostra. Acima da latência alvo, o limite é
+ * multiplicado por {@code backoff}, no máximo uma vez a cada {@code limite}
+ * amostras, para que as requisições admitidas antes da redução não a repitam.
+ * Abaixo do alvo e com o limite em uso, ele cresce 1/limite por amostra, cerca de
+ * uma vaga por rodada completa. Assim a concorrência converge para o ponto em que
+ * a latência encosta no alvo, em vez de crescer a fila até estourá-lo.
+ *
+ * A admissão é sem lock (CAS no contador de execuções); só o ajuste do limite é
+ * sincronizado. Quem não consegue vaga pode esperar até um prazo curto, mas a fila
+ * de espera também é limitada.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetNanos;
+    private final double backoff;
+    private final int maxWaiting;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Object released = new Object();
+    private volatile double limit;
+    private long samplesSinceDecrease = Long.MAX_VALUE / 2; // A primeira amostra lenta já reduz
+
+    /**
+     * @param initialLimit Limite inicial
+     * @param minLimit Limite mínimo
+     * @param maxLimit Limite máximo; igual ao mínimo para um limite fixo
+     * @param targetLatencyMillis Latência alvo; amostras acima dela reduzem o limite
+     * @param backoff Fator de redução, em (0, 1)
+     * @param maxWaiting Requisições que podem aguardar vaga ao mesmo tempo
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyMillis,
+                                      double backoff, int maxWaiting) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limites inválidos: mínimo " + minLimit + ", máximo " + maxLimit);
+        }
+        if (backoff <= 0 || backoff >= 1) {
+            throw new IllegalArgumentException("backoff deve estar em (0, 1): " + backoff);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.backoff = backoff;
+        this.maxWaiting = maxWaiting;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Limite fixo, sem ajuste pela latência e sem teto para a fila de espera
+     */
+    public static AdaptiveConcurrencyLimiter fixed(int limit) {
+        return new AdaptiveConcurrencyLimiter(limit, limit, limit, Long.MAX_VALUE / 1_000_000, 0.5, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Obtém uma vaga dentro do limite, esperando no máximo {@code timeoutMillis}
+     *
+     * @return true se obteve a vaga; nesse caso chame {@link #release(long)} ou {@link #releaseWithoutSample()}
+     */
+    public boolean tryAcquire(long timeoutMillis) {
+        if (tryAcquire(1.0)) {
+            return true;
+        }
+        if (timeoutMillis <= 0) {
+            return false;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            synchronized (released) {
+                while (!tryAcquire(1.0)) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(released, remaining);
+                }
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Obtém uma vaga acima do limite, até {@code limite × (1 + headroom)}, sem esperar
+     *
+     * Usada para atender de forma degradada (mais barata) quando o limite está cheio.
+     */
+    public boolean tryAcquireOverflow(double headroom) {
+        return tryAcquire(1.0 + headroom);
+    }
+
+    private boolean tryAcquire(double factor) {
+        int ceiling = Math.max(1, (int) (limit * factor));
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= ceiling) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Libera a vaga e usa a latência da execução para ajustar o limite
+     */
+    public void release(long latencyNanos) {
+        int concurrent = inFlight.get();
+        adjust(latencyNanos, concurrent);
+        releaseWithoutSample();
+    }
+
+    /**
+     * Libera a vaga sem ajustar o limite (ex.: execução degradada ou com falha)
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+        if (waiting.get() > 0) {
+            synchronized (released) {
+                released.notify();
+            }
+        }
+    }
+
+    private synchronized void adjust(long latencyNanos, int concurrent) {
+        double current = limit;
+        samplesSinceDecrease++;
+        if (latencyNanos > targetNanos) {
+            if (samplesSinceDecrease >= current) {
+                limit = Math.max(minLimit, current * backoff);
+                samplesSinceDecrease = 0;
+            }
+        } else if (concurrent >= current * 0.8 || waiting.get() > 0) {
+            // Só cresce quando o limite está de fato em uso
+            limit = Math.min(maxLimit, current + 1.0 / current);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+}
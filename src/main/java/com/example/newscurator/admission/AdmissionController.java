@@ -0,0 +1,259 @@
+package com.example.newscurator.admission;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.jfr.AdmissionEvent;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.utils.ConfigManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Controle de admissão das curadorias sob sobrecarga
+ *
+ * Dentro do limite adaptativo ({@link AdaptiveConcurrencyLimiter}) a curadoria é
+ * completa, e sua latência realimenta o limite. Com o limite cheio, a resposta
+ * degrada em vez de entrar em fila, na ordem:
+ * <ol>
+ *   <li>relatório recente dos mesmos tópicos, do cache;</li>
+ *   <li>curadoria sem resumos, em uma folga acima do limite;</li>
+ *   <li>recusa imediata ({@link RejectedExecutionException}).</li>
+ * </ol>
+ * Assim a latência das curadorias admitidas se mantém perto do alvo durante picos.
+ */
+public class AdmissionController {
+
+    /**
+     * Como a requisição foi atendida
+     */
+    public enum Mode {
+        FULL, DEGRADED, CACHED
+    }
+
+    /**
+     * Relatório entregue e o modo de atendimento
+     */
+    public record Admitted(NewsReport report, Mode mode) {
+    }
+
+    /**
+     * Curadoria que informa o próprio tempo de execução
+     *
+     * Só esse tempo realimenta o limite: a espera em uma fila antes da execução (como
+     * a do escalonador) não é latência da curadoria.
+     */
+    @FunctionalInterface
+    public interface Curation {
+
+        /**
+         * @param summarize false no modo degradado (sem resumos)
+         * @param executed Recebe o tempo de execução, em nanossegundos
+         */
+        NewsReport run(boolean summarize, LongConsumer executed);
+    }
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long timeoutMillis;
+    private final double degradedHeadroom;
+    private final Function<List<String>, NewsReport> degraded;
+    private final int cacheSize;
+    private final long cacheMaxAgeNanos;
+    private final Map<String, CachedReport> cache;
+
+    private final LongAdder full = new LongAdder();
+    private final LongAdder degradedCount = new LongAdder();
+    private final LongAdder cached = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Cria o controle com os parâmetros {@code admission.*} e os limites do servidor
+     * ({@code server.max.concurrent}, {@code server.admission.timeout.ms}); o modo
+     * degradado cura sem resumos
+     */
+    public AdmissionController(NewsCuratorAgent agent, ConfigManager configManager) {
+        this(limiter(configManager),
+             Long.parseLong(configManager.getProperty("server.admission.timeout.ms", "100")),
+             Double.parseDouble(configManager.getProperty("admission.degraded.headroom", "0.5")),
+             topics -> agent.curateNews(topics, false),
+             Integer.parseInt(configManager.getProperty("admission.cache.size", "256")),
+             Duration.ofSeconds(Long.parseLong(configManager.getProperty("admission.cache.max.age.seconds", "300"))));
+    }
+
+    /**
+     * @param timeoutMillis Espera máxima por uma vaga dentro do limite
+     * @param degradedHeadroom Folga acima do limite para curadorias degradadas (0,5 = 50%)
+     * @param degraded Curadoria mais barata usada na folga, ou null para não degradar; com
+     *                 {@link #curate(List, Curation)}, só indica se a degradação está habilitada
+     * @param cacheSize Relatórios guardados para servir sob sobrecarga; 0 desabilita
+     * @param cacheMaxAge Idade máxima de um relatório servido do cache
+     */
+    public AdmissionController(AdaptiveConcurrencyLimiter limiter, long timeoutMillis, double degradedHeadroom,
+                               Function<List<String>, NewsReport> degraded, int cacheSize, Duration cacheMaxAge) {
+        this.limiter = limiter;
+        this.timeoutMillis = timeoutMillis;
+        this.degradedHeadroom = degradedHeadroom;
+        this.degraded = degraded;
+        this.cacheSize = cacheSize;
+        this.cacheMaxAgeNanos = cacheMaxAge.toNanos();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedReport> eldest) {
+                return size() > AdmissionController.this.cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Controle com limite fixo, sem degradação nem cache
+     */
+    public static AdmissionController fixed(int maxConcurrent, long timeoutMillis) {
+        return new AdmissionController(AdaptiveConcurrencyLimiter.fixed(maxConcurrent), timeoutMillis,
+                                       0.0, null, 0, Duration.ZERO);
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(ConfigManager configManager) {
+        int max = Integer.parseInt(configManager.getProperty("server.max.concurrent", "64"));
+        if (!Boolean.parseBoolean(configManager.getProperty("admission.adaptive.enabled", "true"))) {
+            return AdaptiveConcurrencyLimiter.fixed(max);
+        }
+        int min = Integer.parseInt(configManager.getProperty("admission.min.limit", "2"));
+        return new AdaptiveConcurrencyLimiter(
+            Integer.parseInt(configManager.getProperty("admission.initial.limit", String.valueOf(Math.max(min, max / 4)))),
+            min, max,
+            Long.parseLong(configManager.getProperty("admission.latency.target.ms", "500")),
+            Double.parseDouble(configManager.getProperty("admission.backoff", "0.9")),
+            Integer.parseInt(configManager.getProperty("admission.max.waiting", String.valueOf(max))));
+    }
+
+    /**
+     * Atende uma curadoria conforme a carga
+     *
+     * @param topics Tópicos, usados também como chave do cache
+     * @param curation Curadoria completa
+     * @throws RejectedExecutionException se não houver vaga, relatório em cache nem folga para degradar
+     */
+    public Admitted curate(List<String> topics, Supplier<NewsReport> curation) {
+        return curate(topics, (summarize, executed) -> {
+            long start = System.nanoTime();
+            NewsReport report = summarize ? curation.get() : degraded.apply(topics);
+            executed.accept(System.nanoTime() - start);
+            return report;
+        });
+    }
+
+    /**
+     * Atende uma curadoria conforme a carga; a mesma curadoria atende o modo completo e
+     * o degradado, para que os dois passem pela mesma fila e pelo mesmo prazo
+     *
+     * @param topics Tópicos, usados também como chave do cache
+     * @throws RejectedExecutionException se não houver vaga, relatório em cache nem folga para degradar
+     */
+    public Admitted curate(List<String> topics, Curation curation) {
+        AdmissionEvent event = new AdmissionEvent();
+        event.begin();
+        String key = String.join("\n", topics);
+        String mode = "failed";
+        int articles = 0;
+        try {
+            Admitted admitted = admit(key, topics, curation);
+            mode = admitted.mode().name().toLowerCase();
+            articles = admitted.report().getTotalArticles();
+            return admitted;
+        } catch (RejectedExecutionException e) {
+            mode = "rejected";
+            throw e;
+        } finally {
+            event.complete(String.join(", ", topics), articles, mode);
+        }
+    }
+
+    private Admitted admit(String key, List<String> topics, Curation curation) {
+        if (limiter.tryAcquire(timeoutMillis)) {
+            AtomicLong executed = new AtomicLong(-1);
+            boolean completed = false;
+            try {
+                NewsReport report = curation.run(true, executed::set);
+                completed = true;
+                remember(key, report);
+                full.increment();
+                return new Admitted(report, Mode.FULL);
+            } finally {
+                if (completed && executed.get() >= 0) {
+                    limiter.release(executed.get());
+                } else {
+                    limiter.releaseWithoutSample();
+                }
+            }
+        }
+
+        NewsReport recent = recall(key);
+        if (recent != null) {
+            cached.increment();
+            return new Admitted(recent, Mode.CACHED);
+        }
+        if (degraded != null && limiter.tryAcquireOverflow(degradedHeadroom)) {
+            try {
+                NewsReport report = curation.run(false, ignored -> { });
+                degradedCount.increment();
+                return new Admitted(report, Mode.DEGRADED);
+            } finally {
+                // Curadorias degradadas são mais rápidas e distorceriam a latência medida
+                limiter.releaseWithoutSample();
+            }
+        }
+        rejected.increment();
+        throw new RejectedExecutionException("Servidor sobrecarregado (limite atual: " + limiter.getLimit() + ")");
+    }
+
+    private void remember(String key, NewsReport report) {
+        if (cacheSize > 0) {
+            synchronized (cache) {
+                cache.put(key, new CachedReport(report, System.nanoTime()));
+            }
+        }
+    }
+
+    private NewsReport recall(String key) {
+        if (cacheSize == 0) {
+            return null;
+        }
+        synchronized (cache) {
+            CachedReport entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.storedAtNanos > cacheMaxAgeNanos) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.report;
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(limiter.getLimit(), limiter.getInFlight(), limiter.getWaiting(),
+                         full.sum(), degradedCount.sum(), cached.sum(), rejected.sum());
+    }
+
+    private record CachedReport(NewsReport report, long storedAtNanos) {
+    }
+
+    /**
+     * Limite atual, ocupação e contadores por modo de atendimento
+     */
+    public record Stats(int limit, int inFlight, int waiting, long full, long degraded, long cached, long rejected) {
+
+        public String format() {
+            return String.format("limite=%d em execução=%d aguardando=%d completas=%d degradadas=%d cache=%d recusadas=%d",
+                                 limit, inFlight, waiting, full, degraded, cached, rejected);
+        }
+    }
+}
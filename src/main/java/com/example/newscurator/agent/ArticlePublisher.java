@@ -0,0 +1,304 @@
+package com.example.newscurator.agent;
+
+import com.example.newscurator.dedup.ArticleDeduplicator;
+import com.example.newscurator.dedup.NearDuplicateDetector;
+import com.example.newscurator.logging.AsyncLogging;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Curadoria em fluxo: publica cada artigo assim que ele fica pronto
+ *
+ * As buscas dos tópicos começam na assinatura e rodam em paralelo. Os resultados
+ * são deduplicados, categorizados e resumidos um artigo por vez, e só enquanto o
+ * assinante tem demanda: com a demanda esgotada, o processamento para com no
+ * máximo um artigo pronto à espera, e a memória fica limitada aos resultados das
+ * buscas. Os artigos saem na ordem em que ficam prontos, não por relevância.
+ *
+ * Cada artigo publicado é uma cópia: tópicos e fontes de repetidos que chegam
+ * depois são somados ao original e aparecem apenas no relatório final, disponível
+ * em {@link #report()} antes do {@code onComplete}. O relatório é ordenado e
+ * limitado como o de {@link NewsCuratorAgent#curateNews(List)}.
+ *
+ * Aceita um único assinante; os sinais ao assinante são emitidos por threads do
+ * executor, um de cada vez.
+ */
+public final class ArticlePublisher implements Flow.Publisher<NewsArticle> {
+
+    private static final Logger logger = AsyncLogging.getLogger(ArticlePublisher.class);
+
+    private final NewsCuratorAgent agent;
+    private final List<String> topics;
+    private final String topicLabel;
+    private final Executor executor;
+    private final NearDuplicateDetector nearDuplicates;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final CompletableFuture<NewsReport> report = new CompletableFuture<>();
+
+    ArticlePublisher(NewsCuratorAgent agent, List<String> topics, Executor executor,
+                     NearDuplicateDetector nearDuplicates) {
+        this.agent = agent;
+        this.topics = List.copyOf(topics);
+        this.topicLabel = String.join(", ", topics);
+        this.executor = executor;
+        this.nearDuplicates = nearDuplicates;
+    }
+
+    /**
+     * Relatório final, concluído antes do {@code onComplete}; cancelado se o assinante cancelar
+     */
+    public CompletableFuture<NewsReport> report() {
+        return report;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super NewsArticle> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Este publicador aceita um único assinante"));
+            return;
+        }
+        logger.info("Iniciando curadoria em fluxo para tópicos: {}", topics);
+        Session session = new Session(subscriber);
+        subscriber.onSubscribe(session);
+        session.start();
+    }
+
+    /**
+     * Resultado da busca de um tópico, aguardando processamento
+     */
+    private record TopicResult(String topic, List<NewsArticle> articles) {
+    }
+
+    /**
+     * Estado de uma assinatura
+     *
+     * Todo o processamento e os sinais ao assinante acontecem no laço {@link #drain()},
+     * que roda em uma thread por vez (contador {@code wip}); os campos sem
+     * sincronização só são acessados por ele.
+     */
+    private final class Session implements Flow.Subscription {
+        private final Flow.Subscriber<? super NewsArticle> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicInteger pendingSearches = new AtomicInteger(topics.size());
+        private final Queue<TopicResult> ready = new ConcurrentLinkedQueue<>();
+        private final List<FutureTask<?>> searches = new ArrayList<>(topics.size());
+        private final long startNanos = System.nanoTime();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        private final ArticleDeduplicator deduplicator = new ArticleDeduplicator(64);
+        private final NearDuplicateDetector.Index nearIndex = nearDuplicates != null ? nearDuplicates.newIndex(64) : null;
+        private final List<NewsArticle> kept = new ArrayList<>();
+        private TopicResult current;
+        private int position;
+        private NewsArticle next;
+        private boolean published;
+        private boolean terminated;
+
+        Session(Flow.Subscriber<? super NewsArticle> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void start() {
+            for (String topic : topics) {
+                FutureTask<List<NewsArticle>> search = new FutureTask<>(() -> agent.searchTopic(topic)) {
+                    @Override
+                    protected void done() {
+                        if (!isCancelled()) {
+                            try {
+                                ready.add(new TopicResult(topic, get()));
+                            } catch (Exception e) {
+                                error = e;
+                            }
+                        }
+                        pendingSearches.decrementAndGet();
+                        drain();
+                    }
+                };
+                synchronized (searches) {
+                    searches.add(search);
+                }
+                if (cancelled) {
+                    search.cancel(true);
+                    continue;
+                }
+                try {
+                    executor.execute(search);
+                } catch (RuntimeException e) {
+                    error = e;
+                    search.cancel(false);
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Demanda deve ser positiva: " + n);
+            } else {
+                long current;
+                long updated;
+                do {
+                    current = requested.get();
+                    if (current == Long.MAX_VALUE) {
+                        break;
+                    }
+                    updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, updated));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelSearches();
+                report.cancel(false);
+                logger.info("Curadoria em fluxo cancelada pelo assinante");
+            }
+        }
+
+        private void cancelSearches() {
+            synchronized (searches) {
+                for (FutureTask<?> search : searches) {
+                    search.cancel(true);
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this::drainLoop);
+            } catch (RuntimeException e) {
+                // Executor encerrado: não há onde processar, nem como sinalizar fora do laço
+                wip.set(0);
+                cancelled = true;
+                cancelSearches();
+                report.completeExceptionally(e);
+                logger.error("Executor recusou a curadoria em fluxo", e);
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            while (true) {
+                if (terminated || cancelled) {
+                    return;
+                }
+                long demand = requested.get();
+                long emitted = 0;
+                try {
+                    while (!cancelled && error == null) {
+                        if (next == null) {
+                            next = poll();
+                        }
+                        if (next == null || emitted == demand) {
+                            break;
+                        }
+                        NewsArticle article = next;
+                        next = null;
+                        if (!published) {
+                            published = true;
+                            agent.recordFirstArticle(System.nanoTime() - startNanos);
+                        }
+                        subscriber.onNext(article);
+                        emitted++;
+                    }
+                    if (error != null) {
+                        fail(error);
+                        return;
+                    }
+                    // Buscas concluídas antes de a fila ser examinada: nada mais pode chegar
+                    if (!cancelled && next == null && pendingSearches.get() == 0 && ready.isEmpty() && current == null) {
+                        complete();
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Próximo artigo novo, já categorizado e resumido, ou null se é preciso esperar buscas
+         */
+        private NewsArticle poll() {
+            while (true) {
+                if (current == null) {
+                    current = ready.poll();
+                    position = 0;
+                    if (current == null) {
+                        return null;
+                    }
+                }
+                if (position == current.articles().size()) {
+                    current = null;
+                    continue;
+                }
+                NewsArticle article = current.articles().get(position++);
+                if (!deduplicator.add(current.topic(), article)
+                    || (nearIndex != null && nearIndex.offer(article) != null)) {
+                    continue;
+                }
+                kept.add(article);
+                agent.enrichArticle(topicLabel, article);
+                return new NewsArticle(article);
+            }
+        }
+
+        private void complete() {
+            terminated = true;
+            NewsReport finalReport = agent.report(topics, topicLabel, agent.rank(topicLabel, kept));
+            logger.info("Curadoria em fluxo concluída: {} artigos publicados, {} no relatório",
+                        kept.size(), finalReport.getTotalArticles());
+            report.complete(finalReport);
+            subscriber.onComplete();
+        }
+
+        private void fail(Throwable failure) {
+            terminated = true;
+            cancelSearches();
+            logger.error("Erro durante a curadoria em fluxo", failure);
+            report.completeExceptionally(failure);
+            subscriber.onError(failure);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.newscurator.agent;
+
+import com.example.newscurator.logging.AsyncLogging;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uma curadoria assíncrona em andamento, com prazo e cancelamento
+ *
+ * Cada busca e cada bloco de resumos é uma tarefa no executor. As etapas de
+ * coordenação (deduplicação, categorização, ranking e relatório) rodam quando
+ * todas as tarefas da fase terminam ou quando o prazo vence, o que vier primeiro;
+ * no segundo caso as tarefas pendentes são canceladas com interrupção e a fase
+ * segue só com o que terminou. Nenhuma thread fica bloqueada esperando o prazo.
+ */
+final class AsyncCuration {
+
+    private static final Logger logger = AsyncLogging.getLogger(AsyncCuration.class);
+
+    /** Artigos por tarefa de resumo; blocos menores perdem menos trabalho no prazo */
+    static final int SUMMARY_CHUNK = 8;
+
+    private final NewsCuratorAgent agent;
+    private final List<String> topics;
+    private final String topicLabel;
+    private final Executor executor;
+    private final boolean summarize;
+    private final long deadlineNanos;
+    private final CompletableFuture<Void> deadline;
+    private final CompletableFuture<NewsReport> result = new CompletableFuture<>();
+    private final Set<Task<?>> inFlight = ConcurrentHashMap.newKeySet();
+
+    // Escrito apenas pelas etapas de coordenação, encadeadas uma após a outra
+    private boolean partial;
+
+    /**
+     * @param summarize false para pular os resumos (modo degradado); o relatório não fica parcial por isso
+     */
+    AsyncCuration(NewsCuratorAgent agent, List<String> topics, Duration deadline, Executor executor, boolean summarize) {
+        this.agent = agent;
+        this.topics = List.copyOf(topics);
+        this.topicLabel = String.join(", ", topics);
+        this.executor = executor;
+        this.summarize = summarize;
+        this.deadlineNanos = System.nanoTime() + Math.max(0, deadline.toNanos());
+        this.deadline = new CompletableFuture<Void>()
+            .completeOnTimeout(null, Math.max(0, deadline.toNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    CompletableFuture<NewsReport> start() {
+        result.whenComplete((report, error) -> {
+            deadline.cancel(false);
+            if (result.isCancelled()) {
+                logger.info("Curadoria assíncrona cancelada para tópicos: {}", topics);
+                cancelAll();
+            }
+        });
+
+        List<Task<List<NewsArticle>>> searches = new ArrayList<>(topics.size());
+        for (String topic : topics) {
+            searches.add(submit(() -> agent.searchTopic(topic)));
+        }
+        next(searches, () -> afterSearches(searches));
+        return result;
+    }
+
+    private void afterSearches(List<Task<List<NewsArticle>>> searches) {
+        List<String> answered = new ArrayList<>(topics.size());
+        List<List<NewsArticle>> results = new ArrayList<>(topics.size());
+        for (int i = 0; i < searches.size(); i++) {
+            List<NewsArticle> articles = searches.get(i).resultOrCancel();
+            if (articles != null) {
+                answered.add(topics.get(i));
+                results.add(articles);
+            }
+        }
+        if (answered.size() < topics.size()) {
+            partial = true;
+            logger.warn("Prazo esgotado na busca: {} de {} tópicos responderam", answered.size(), topics.size());
+        }
+
+        List<NewsArticle> articles = agent.deduplicate(topicLabel, answered, results, null);
+        if (!deadline.isDone()) {
+            // Roda na thread de coordenação: a espera pelos downloads termina no prazo
+            articles = agent.fetchBodies(topicLabel, articles, Duration.ofNanos(deadlineNanos - System.nanoTime()));
+        }
+        List<NewsArticle> categorized = agent.categorize(topicLabel, articles);
+
+        List<Task<String[]>> chunks = new ArrayList<>();
+        if (summarize && deadline.isDone()) {
+            partial |= !categorized.isEmpty();
+        } else if (summarize) {
+            for (int from = 0; from < categorized.size(); from += SUMMARY_CHUNK) {
+                List<NewsArticle> chunk = categorized.subList(from, Math.min(from + SUMMARY_CHUNK, categorized.size()));
+                chunks.add(submit(() -> agent.summaries(topicLabel, chunk)));
+            }
+        }
+        next(chunks, () -> afterSummaries(categorized, chunks));
+    }
+
+    private void afterSummaries(List<NewsArticle> articles, List<Task<String[]>> chunks) {
+        int missing = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            String[] summaries = chunks.get(i).resultOrCancel();
+            int from = i * SUMMARY_CHUNK;
+            if (summaries == null) {
+                missing += Math.min(SUMMARY_CHUNK, articles.size() - from);
+                continue;
+            }
+            // Aplicados aqui, e não nas tarefas, para que uma tarefa cancelada não altere o relatório
+            for (int j = 0; j < summaries.length; j++) {
+                articles.get(from + j).setSummary(summaries[j]);
+            }
+        }
+        if (missing > 0) {
+            partial = true;
+            logger.warn("Prazo esgotado nos resumos: {} de {} artigos sem resumo", missing, articles.size());
+        }
+
+        NewsReport report = agent.report(topics, topicLabel, agent.rank(topicLabel, articles));
+        report.setPartial(partial);
+        logger.info("Curadoria assíncrona concluída com {} artigos{}", report.getTotalArticles(),
+                    partial ? " (parcial)" : "");
+        result.complete(report);
+    }
+
+    /**
+     * Executa a próxima etapa quando as tarefas terminam ou o prazo vence
+     */
+    private void next(List<? extends Task<?>> tasks, Runnable step) {
+        CompletableFuture<?>[] completions = new CompletableFuture<?>[tasks.size()];
+        int i = 0;
+        for (Task<?> task : tasks) {
+            completions[i++] = task.completion;
+        }
+        CompletableFuture.anyOf(CompletableFuture.allOf(completions), deadline)
+            .handle((ignored, error) -> null)
+            .thenRunAsync(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    step.run();
+                } catch (RuntimeException e) {
+                    logger.error("Erro durante a curadoria assíncrona", e);
+                    cancelAll();
+                    result.completeExceptionally(e);
+                }
+            }, executor)
+            .exceptionally(error -> {
+                // Executor recusou a etapa (ex.: encerrado)
+                result.completeExceptionally(error);
+                return null;
+            });
+    }
+
+    private <T> Task<T> submit(Callable<T> callable) {
+        Task<T> task = new Task<>(callable);
+        inFlight.add(task);
+        if (result.isDone()) {
+            task.cancel(true);
+            return task;
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.reject(e);
+        }
+        return task;
+    }
+
+    private void cancelAll() {
+        for (Task<?> task : inFlight) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Tarefa cancelável cujo término completa um {@link CompletableFuture}
+     */
+    private final class Task<T> extends FutureTask<T> {
+        private final CompletableFuture<T> completion = new CompletableFuture<>();
+
+        Task(Callable<T> callable) {
+            super(callable);
+        }
+
+        /**
+         * Resultado da tarefa, ou null se ela não terminou a tempo (nesse caso é cancelada)
+         *
+         * @throws RuntimeException se a tarefa falhou
+         */
+        T resultOrCancel() {
+            if (!isDone()) {
+                cancel(true);
+            }
+            if (isCancelled()) {
+                return null;
+            }
+            try {
+                return get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    return null;
+                }
+                throw new RuntimeException("Falha na curadoria de notícias: " + e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                // Não ocorre: a tarefa já terminou
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        void reject(RejectedExecutionException e) {
+            setException(e);
+        }
+
+        @Override
+        protected void done() {
+            inFlight.remove(this);
+            if (isCancelled()) {
+                completion.cancel(false);
+                return;
+            }
+            try {
+                completion.complete(get());
+            } catch (ExecutionException e) {
+                completion.completeExceptionally(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                completion.completeExceptionally(e);
+            }
+        }
+    }
+}
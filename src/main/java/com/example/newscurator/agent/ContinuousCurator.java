@@ -0,0 +1,359 @@
+package com.example.newscurator.agent;
+
+import com.example.newscurator.dedup.ArticleFingerprints;
+import com.example.newscurator.dedup.BloomFilter;
+import com.example.newscurator.dedup.FingerprintSet;
+import com.example.newscurator.dedup.LongHashSet;
+import com.example.newscurator.logging.AsyncLogging;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.relevance.FreshnessDecay;
+import com.example.newscurator.utils.ConfigManager;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Curadoria contínua: consulta os tópicos periodicamente e processa só o que é novo
+ *
+ * Cada tópico tem uma marca d'água (a data de publicação mais recente já vista).
+ * Artigos publicados antes da marca, descontada a tolerância a atrasos, são
+ * ignorados sem outra verificação; os demais são comparados com o conjunto de
+ * URLs e títulos já vistos. Artigos que já estão na visão apenas ganham o tópico.
+ * Somente os artigos novos passam por categorização e resumo e entram em uma
+ * visão permanente ordenada por relevância (com o mesmo decaimento por idade do
+ * ranking da curadoria), limitada em tamanho e em tempo de retenção.
+ *
+ * As marcas d'água e o conjunto de vistos só avançam quando o ciclo termina: se
+ * a busca, o download ou o enriquecimento falhar, os artigos do ciclo voltam a
+ * ser considerados no próximo.
+ *
+ * O relatório da visão e os contadores são publicados ao fim de cada ciclo e
+ * podem ser lidos de qualquer thread sem bloquear a curadoria.
+ */
+public class ContinuousCurator implements AutoCloseable {
+
+    private static final Logger logger = AsyncLogging.getLogger(ContinuousCurator.class);
+
+    private final NewsCuratorAgent agent;
+    private final List<String> topics;
+    private final String topicLabel;
+    private final Duration interval;
+    private final int viewSize;
+    private final Duration lateness;
+    private final Duration retention;
+    private final FingerprintSet seen;
+
+    private final Map<String, LocalDateTime> watermarks = new HashMap<>();
+    private final Map<Long, ViewEntry> view = new HashMap<>();
+    private volatile NewsReport report;
+    private volatile Stats stats = new Stats(0, 0, 0, 0, 0, 0);
+
+    private long polls;
+    private long fetched;
+    private long stale;
+    private long alreadyInView;
+    private long processed;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Cria a curadoria contínua com os parâmetros {@code continuous.*} da configuração
+     */
+    public ContinuousCurator(NewsCuratorAgent agent, ConfigManager configManager, List<String> topics) {
+        this(agent, topics,
+             Duration.ofSeconds(Long.parseLong(configManager.getProperty("continuous.interval.seconds", "300"))),
+             Integer.parseInt(configManager.getProperty("continuous.view.size", "50")),
+             Duration.ofMinutes(Long.parseLong(configManager.getProperty("continuous.lateness.minutes", "60"))),
+             Duration.ofHours(Long.parseLong(configManager.getProperty("continuous.retention.hours", "24"))),
+             seenSet(configManager));
+    }
+
+    /**
+     * @param interval Intervalo entre ciclos
+     * @param viewSize Máximo de artigos na visão
+     * @param lateness Atraso tolerado em relação à marca d'água de cada tópico
+     * @param retention Tempo máximo de um artigo na visão
+     * @param seen Impressões digitais dos artigos já processados
+     */
+    public ContinuousCurator(NewsCuratorAgent agent, List<String> topics, Duration interval, int viewSize,
+                             Duration lateness, Duration retention, FingerprintSet seen) {
+        if (topics.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um tópico");
+        }
+        if (viewSize <= 0) {
+            throw new IllegalArgumentException("continuous.view.size deve ser positivo: " + viewSize);
+        }
+        this.agent = agent;
+        this.topics = List.copyOf(topics);
+        this.topicLabel = String.join(", ", topics);
+        this.interval = interval;
+        this.viewSize = viewSize;
+        this.lateness = lateness;
+        this.retention = retention;
+        this.seen = seen;
+    }
+
+    private static FingerprintSet seenSet(ConfigManager configManager) {
+        long expected = Long.parseLong(configManager.getProperty("continuous.seen.expected", "1000000"));
+        if (Boolean.parseBoolean(configManager.getProperty("continuous.seen.bloom", "false"))) {
+            return new BloomFilter(expected, Double.parseDouble(
+                configManager.getProperty("continuous.seen.false.positive.rate", "0.001")));
+        }
+        return new LongHashSet((int) Math.min(expected, 1 << 20));
+    }
+
+    /**
+     * Agenda os ciclos; o primeiro roda imediatamente
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "continuous-curator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::pollSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("Curadoria contínua iniciada para {} a cada {}s", topics, interval.toSeconds());
+    }
+
+    /**
+     * Executa um ciclo de curadoria de forma síncrona
+     *
+     * @return Número de artigos novos processados no ciclo
+     */
+    public synchronized int pollOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, LocalDateTime> advanced = new HashMap<>();
+        List<List<NewsArticle>> results = new ArrayList<>(topics.size());
+        for (String topic : topics) {
+            results.add(filterKnown(topic, agent.searchTopic(topic), advanced));
+        }
+
+        PendingFingerprints pending = new PendingFingerprints(seen);
+        List<NewsArticle> fresh = agent.deduplicate(topicLabel, topics, results, pending);
+        fresh = agent.enrich(topicLabel, agent.fetchBodies(topicLabel, fresh));
+        pending.commit();
+        watermarks.putAll(advanced);
+        for (NewsArticle article : fresh) {
+            // Listas imutáveis: o artigo pode estar em um relatório já publicado
+            article.setTopics(List.copyOf(article.getTopics()));
+            view.put(viewKey(article), new ViewEntry(article, now));
+        }
+        agent.recordCurated(fresh);
+
+        polls++;
+        processed += fresh.size();
+        publish(now);
+        logger.info("Ciclo contínuo: {} artigos novos, {} na visão", fresh.size(), view.size());
+        return fresh.size();
+    }
+
+    /**
+     * Relatório da visão atual, ou null antes do primeiro ciclo
+     */
+    public NewsReport currentReport() {
+        return report;
+    }
+
+    /**
+     * Contadores acumulados até o último ciclo concluído
+     */
+    public Stats getStats() {
+        return stats;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Remove os artigos anteriores à marca d'água do tópico e os que já estão na visão
+     *
+     * @param advanced Recebe a nova marca d'água do tópico, aplicada só se o ciclo terminar
+     */
+    private List<NewsArticle> filterKnown(String topic, List<NewsArticle> articles,
+                                          Map<String, LocalDateTime> advanced) {
+        LocalDateTime watermark = watermarks.get(topic);
+        LocalDateTime cutoff = watermark != null ? watermark.minus(lateness) : null;
+        LocalDateTime newest = watermark;
+        List<NewsArticle> candidates = new ArrayList<>(articles.size());
+        for (NewsArticle article : articles) {
+            fetched++;
+            LocalDateTime publishedAt = article.getPublishedAt();
+            if (publishedAt != null) {
+                if (cutoff != null && publishedAt.isBefore(cutoff)) {
+                    stale++;
+                    continue;
+                }
+                if (newest == null || publishedAt.isAfter(newest)) {
+                    newest = publishedAt;
+                }
+            }
+            ViewEntry entry = view.get(viewKey(article));
+            if (entry != null) {
+                alreadyInView++;
+                entry.attribute(topic);
+                continue;
+            }
+            candidates.add(article);
+        }
+        if (newest != null) {
+            advanced.put(topic, newest);
+        }
+        return candidates;
+    }
+
+    private void publish(LocalDateTime now) {
+        LocalDateTime expiry = now.minus(retention);
+        view.values().removeIf(entry -> entry.ingestedAt.isBefore(expiry));
+
+        List<ViewEntry> ranked = new ArrayList<>(view.values());
+        FreshnessDecay decay = agent.freshnessDecay();
+        if (decay == null) {
+            ranked.sort(Comparator.comparingDouble((ViewEntry entry) -> entry.article.getRelevanceScore()).reversed());
+        } else {
+            List<NewsArticle> inView = new ArrayList<>(ranked.size());
+            for (ViewEntry entry : ranked) {
+                inView.add(entry.article);
+            }
+            LocalDateTime reference = FreshnessDecay.reference(inView, now);
+            ranked.sort(Comparator.comparingDouble((ViewEntry entry) -> decay.score(entry.article, reference)).reversed());
+        }
+        if (ranked.size() > viewSize) {
+            // Os removidos continuam no conjunto de vistos e não voltam à visão
+            for (ViewEntry evicted : ranked.subList(viewSize, ranked.size())) {
+                view.remove(viewKey(evicted.article));
+            }
+            ranked = ranked.subList(0, viewSize);
+        }
+
+        List<NewsArticle> articles = new ArrayList<>(ranked.size());
+        for (ViewEntry entry : ranked) {
+            articles.add(entry.article);
+        }
+        NewsReport current = agent.getReportGeneratorTool().generateReport(topics, List.copyOf(articles));
+        current.setTrendingKeywords(agent.getTrendingKeywords());
+        report = current;
+        stats = new Stats(polls, fetched, stale, alreadyInView, processed, view.size());
+    }
+
+    private static long viewKey(NewsArticle article) {
+        long url = ArticleFingerprints.url(article.getUrl());
+        return url != ArticleFingerprints.NONE ? url : ArticleFingerprints.title(article.getTitle());
+    }
+
+    private void pollSafely() {
+        try {
+            pollOnce();
+        } catch (RuntimeException e) {
+            logger.error("Erro no ciclo de curadoria contínua", e);
+        }
+    }
+
+    /**
+     * Impressões digitais de um ciclo, repassadas ao conjunto de vistos só em {@link #commit()}
+     *
+     * Usada por uma única thread (o ciclo, sob o monitor do curador).
+     */
+    private static final class PendingFingerprints implements FingerprintSet {
+        private final FingerprintSet committed;
+        private final LongHashSet pending = new LongHashSet(64);
+        private long[] added = new long[64];
+        private int count;
+
+        PendingFingerprints(FingerprintSet committed) {
+            this.committed = committed;
+        }
+
+        @Override
+        public boolean add(long fingerprint) {
+            if (committed.contains(fingerprint) || !pending.add(fingerprint)) {
+                return false;
+            }
+            if (count == added.length) {
+                added = Arrays.copyOf(added, count * 2);
+            }
+            added[count++] = fingerprint;
+            return true;
+        }
+
+        @Override
+        public boolean contains(long fingerprint) {
+            return committed.contains(fingerprint) || pending.contains(fingerprint);
+        }
+
+        @Override
+        public long size() {
+            return committed.size() + count;
+        }
+
+        void commit() {
+            for (int i = 0; i < count; i++) {
+                committed.add(added[i]);
+            }
+        }
+    }
+
+    /**
+     * Artigo da visão e o instante em que entrou nela
+     */
+    private static final class ViewEntry {
+        private final NewsArticle article;
+        private final LocalDateTime ingestedAt;
+
+        ViewEntry(NewsArticle article, LocalDateTime ingestedAt) {
+            this.article = article;
+            this.ingestedAt = ingestedAt;
+        }
+
+        void attribute(String topic) {
+            List<String> topics = article.getTopics();
+            if (!topics.contains(topic)) {
+                List<String> updated = new ArrayList<>(topics.size() + 1);
+                updated.addAll(topics);
+                updated.add(topic);
+                article.setTopics(List.copyOf(updated));
+            }
+        }
+    }
+
+    /**
+     * Contadores da curadoria contínua
+     *
+     * @param fetched Artigos devolvidos pelas buscas
+     * @param stale Ignorados por serem anteriores à marca d'água
+     * @param alreadyInView Já presentes na visão (só recebem o tópico)
+     * @param processed Novos, categorizados e resumidos
+     */
+    public record Stats(long polls, long fetched, long stale, long alreadyInView, long processed, int viewSize) {
+
+        /**
+         * Fração dos artigos buscados que não precisou ser processada de novo
+         */
+        public double reuseRatio() {
+            return fetched == 0 ? 0.0 : 1.0 - (double) processed / fetched;
+        }
+
+        public String format() {
+            return String.format("ciclos=%d buscados=%d antigos=%d já na visão=%d processados=%d visão=%d reaproveitamento=%.1f%%",
+                                 polls, fetched, stale, alreadyInView, processed, viewSize, reuseRatio() * 100);
+        }
+    }
+}
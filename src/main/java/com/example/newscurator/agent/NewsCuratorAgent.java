@@ -1,49 +1,122 @@
 package com.example.newscurator.agent;
 
+import com.example.newscurator.dedup.ArticleDeduplicator;
+import com.example.newscurator.dedup.FingerprintSet;
+import com.example.newscurator.dedup.NearDuplicateDetector;
+import com.example.newscurator.fetch.BodyFetcher;
+import com.example.newscurator.jfr.BodyFetchEvent;
+import com.example.newscurator.jfr.CategorizationBatchEvent;
+import com.example.newscurator.jfr.DeduplicationEvent;
+import com.example.newscurator.jfr.RankingEvent;
+import com.example.newscurator.jfr.ReportRenderingEvent;
+import com.example.newscurator.jfr.SummarizationEvent;
+import com.example.newscurator.jfr.TopicSearchEvent;
+import com.example.newscurator.logging.AsyncLogging;
+import com.example.newscurator.metrics.MetricsSnapshot;
+import com.example.newscurator.metrics.PipelineMetrics;
+import com.example.newscurator.metrics.PipelineStage;
 import com.example.newscurator.models.NewsArticle;
 import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.relevance.FreshnessDecay;
+import com.example.newscurator.store.OffHeapArticleStore;
+import com.example.newscurator.store.RecentArticleIndex;
 import com.example.newscurator.tools.NewsSearchTool;
 import com.example.newscurator.tools.NewsSummarizerTool;
 import com.example.newscurator.tools.NewsCategorizerTool;
 import com.example.newscurator.tools.ReportGeneratorTool;
+import com.example.newscurator.trends.TrendDetector;
 import com.example.newscurator.utils.ConfigManager;
+import com.example.newscurator.utils.ConfigSnapshot;
+import com.example.newscurator.utils.Lazy;
 
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Agente principal responsável por curar notícias
  * 
  * Este agente coordena diferentes ferramentas para:
  * 1. Buscar notícias sobre tópicos específicos
- * 2. Filtrar e categorizar as notícias
+ * 2. Remover notícias repetidas entre tópicos, baixar o texto das páginas
+ *    (com {@code fetch.enabled}), filtrar e categorizar as notícias
  * 3. Gerar resumos personalizados
- * 4. Criar relatórios estruturados
+ * 4. Ordenar por relevância, com decaimento pela idade da notícia, e criar
+ *    relatórios estruturados
+ * 
+ * Os artigos ordenados também entram em um índice em memória das notícias
+ * recentes por tópico, consultado por {@link #getRecentTopStories} sem novas buscas,
+ * e na contagem das palavras em alta ({@link #getTrendingKeywords}).
+ * 
+ * As ferramentas são criadas sob demanda no primeiro uso, reduzindo o tempo de
+ * inicialização de JVMs de curta duração.
  */
 public class NewsCuratorAgent {
     
-    private static final Logger logger = LoggerFactory.getLogger(NewsCuratorAgent.class);
+    private static final Logger logger = AsyncLogging.getLogger(NewsCuratorAgent.class);
     
-    private final NewsSearchTool searchTool;
-    private final NewsSummarizerTool summarizerTool;
-    private final NewsCategorizerTool categorizerTool;
-    private final ReportGeneratorTool reportGeneratorTool;
+    private final Lazy<NewsSearchTool> searchTool;
+    private final Lazy<NewsSummarizerTool> summarizerTool;
+    private final Lazy<NewsCategorizerTool> categorizerTool;
+    private final Lazy<ReportGeneratorTool> reportGeneratorTool;
+    private final Lazy<BodyFetcher> bodyFetcher;
+    private final Lazy<RecentArticleIndex> recentIndex;
+    private final Lazy<TrendDetector> trendDetector;
     private final ConfigManager configManager;
+    private final PipelineMetrics metrics = new PipelineMetrics();
+    private final Lazy<ExecutorService> asyncExecutor;
     
+    /**
+     * Cria o agente usando a configuração compartilhada da JVM
+     */
     public NewsCuratorAgent() {
-        this.configManager = new ConfigManager();
-        this.searchTool = new NewsSearchTool(configManager);
-        this.summarizerTool = new NewsSummarizerTool(configManager);
-        this.categorizerTool = new NewsCategorizerTool(configManager);
-        this.reportGeneratorTool = new ReportGeneratorTool(configManager);
+        this(ConfigManager.shared());
+    }
+    
+    public NewsCuratorAgent(ConfigManager configManager) {
+        this(configManager, null);
+    }
+    
+    /**
+     * Cria o agente com uma ferramenta de busca específica (ex.: dados determinísticos em benchmarks)
+     * 
+     * @param searchTool Ferramenta de busca, ou null para usar a busca padrão
+     */
+    public NewsCuratorAgent(ConfigManager configManager, NewsSearchTool searchTool) {
+        this.configManager = configManager;
+        this.searchTool = searchTool != null
+            ? Lazy.of(() -> searchTool)
+            : Lazy.of(() -> new NewsSearchTool(configManager));
+        this.summarizerTool = Lazy.of(() -> new NewsSummarizerTool(configManager));
+        this.categorizerTool = Lazy.of(() -> new NewsCategorizerTool(configManager));
+        this.reportGeneratorTool = Lazy.of(() -> new ReportGeneratorTool(configManager));
+        this.bodyFetcher = Lazy.of(() -> new BodyFetcher(configManager));
+        this.recentIndex = Lazy.of(() -> newRecentIndex(configManager));
+        this.trendDetector = Lazy.of(() -> newTrendDetector(configManager));
+        this.asyncExecutor = Lazy.of(() -> newAsyncExecutor(configManager));
         
         logger.info("NewsCuratorAgent inicializado com sucesso");
     }
     
+    /**
+     * Ferramenta de relatórios do agente, compartilhada com a interface de linha de comando
+     */
+    public ReportGeneratorTool getReportGeneratorTool() {
+        return reportGeneratorTool.get();
+    }
+    
     /**
      * Método principal para curar notícias sobre tópicos específicos
      * 
@@ -51,33 +124,45 @@ public class NewsCuratorAgent {
      * @return Relatório de notícias curadas
      */
     public NewsReport curateNews(List<String> topics) {
+        return curateNews(topics, true);
+    }
+    
+    /**
+     * Cura notícias, opcionalmente sem gerar resumos (modo degradado sob sobrecarga)
+     * 
+     * @param summarize false para manter o texto da fonte e pular o estágio mais caro
+     */
+    public NewsReport curateNews(List<String> topics, boolean summarize) {
+        return curateNews(topics, summarize, configManager.getMaxSearchResults());
+    }
+    
+    /**
+     * @param maxResults Artigos pedidos por tópico e mantidos no ranking
+     */
+    private NewsReport curateNews(List<String> topics, boolean summarize, int maxResults) {
         logger.info("Iniciando curadoria de notícias para tópicos: {}", topics);
         
         try {
+            String topicLabel = String.join(", ", topics);
+            
             // 1. Buscar notícias para cada tópico
-            List<NewsArticle> allArticles = new ArrayList<>();
+            List<List<NewsArticle>> results = new ArrayList<>(topics.size());
             for (String topic : topics) {
-                logger.info("Buscando notícias para o tópico: {}", topic);
-                List<NewsArticle> articles = searchTool.searchNews(topic);
-                allArticles.addAll(articles);
+                results.add(searchTopic(topic, maxResults));
             }
             
-            logger.info("Total de artigos encontrados: {}", allArticles.size());
-            
-            // 2. Categorizar as notícias
-            logger.info("Categorizando notícias...");
-            allArticles = categorizerTool.categorizeArticles(allArticles);
+            // 2. Remover notícias repetidas entre os tópicos antes do processamento
+            List<NewsArticle> allArticles = deduplicate(topicLabel, topics, results, null);
+            allArticles = fetchBodies(topicLabel, allArticles);
             
-            // 3. Gerar resumos para cada artigo
-            logger.info("Gerando resumos...");
-            allArticles = summarizerTool.summarizeArticles(allArticles);
+            // 3. Categorizar e gerar resumos para cada artigo
+            allArticles = summarize ? enrich(topicLabel, allArticles) : categorize(topicLabel, allArticles);
             
             // 4. Filtrar por relevância (manter apenas os mais relevantes)
-            allArticles = filterByRelevance(allArticles);
+            allArticles = rank(topicLabel, allArticles, maxResults);
             
             // 5. Gerar relatório final
-            logger.info("Gerando relatório final...");
-            NewsReport report = reportGeneratorTool.generateReport(topics, allArticles);
+            NewsReport report = report(topics, topicLabel, allArticles);
             
             logger.info("Curadoria concluída com sucesso. Relatório gerado com {} artigos", 
                        report.getTotalArticles());
@@ -90,6 +175,233 @@ public class NewsCuratorAgent {
         }
     }
     
+    /**
+     * Busca notícias de um tópico, registrando métricas e o evento JFR da busca
+     */
+    List<NewsArticle> searchTopic(String topic) {
+        return searchTopic(topic, configManager.getMaxSearchResults());
+    }
+    
+    List<NewsArticle> searchTopic(String topic, int maxResults) {
+        logger.info("Buscando notícias para o tópico: {}", topic);
+        TopicSearchEvent searchEvent = new TopicSearchEvent();
+        searchEvent.begin();
+        long start = System.nanoTime();
+        List<NewsArticle> articles = searchTool.get().searchNews(topic, maxResults);
+        metrics.record(PipelineStage.SEARCH, System.nanoTime() - start, articles.size());
+        searchEvent.complete(topic, articles.size());
+        return articles;
+    }
+    
+    /**
+     * Remove notícias repetidas e quase idênticas entre os resultados dos tópicos
+     * 
+     * @param results Resultados de cada tópico, na ordem de {@code topics}
+     * @param history Impressões digitais de execuções anteriores, ou null para considerar só esta
+     * @return Artigos restantes, com os tópicos que os encontraram
+     */
+    List<NewsArticle> deduplicate(String topicLabel, List<String> topics, List<List<NewsArticle>> results,
+                                  FingerprintSet history) {
+        int found = 0;
+        for (List<NewsArticle> articles : results) {
+            found += articles.size();
+        }
+        DeduplicationEvent dedupEvent = new DeduplicationEvent();
+        dedupEvent.begin();
+        long start = System.nanoTime();
+        ArticleDeduplicator deduplicator = new ArticleDeduplicator(found, history);
+        for (int i = 0; i < topics.size(); i++) {
+            for (NewsArticle article : results.get(i)) {
+                deduplicator.add(topics.get(i), article);
+            }
+        }
+        List<NewsArticle> articles = deduplicator.getArticles();
+        int unique = articles.size();
+        NearDuplicateDetector nearDuplicates = nearDuplicateDetector();
+        if (nearDuplicates != null) {
+            // Versões da mesma notícia em outras fontes, com títulos ligeiramente diferentes
+            articles = nearDuplicates.collapse(articles);
+        }
+        metrics.record(PipelineStage.DEDUP, System.nanoTime() - start, found);
+        dedupEvent.complete(topicLabel, articles.size());
+        
+        logger.info("Total de artigos encontrados: {} ({} repetidos, {} já vistos e {} quase idênticos removidos)",
+                   articles.size(), deduplicator.getDuplicateCount(), deduplicator.getPreviouslySeenCount(),
+                   unique - articles.size());
+        return articles;
+    }
+    
+    /**
+     * Baixa as páginas dos artigos sem corpo e extrai o texto, se {@code fetch.enabled}
+     */
+    List<NewsArticle> fetchBodies(String topicLabel, List<NewsArticle> articles) {
+        return fetchBodies(topicLabel, articles, null);
+    }
+    
+    /**
+     * @param timeout Espera máxima pelos downloads, ou null para esperar todos
+     */
+    List<NewsArticle> fetchBodies(String topicLabel, List<NewsArticle> articles, Duration timeout) {
+        if (!configManager.getSnapshot().fetchEnabled()) {
+            return articles;
+        }
+        logger.info("Baixando o texto dos artigos...");
+        BodyFetchEvent fetchEvent = new BodyFetchEvent();
+        fetchEvent.begin();
+        long start = System.nanoTime();
+        int filled = timeout == null
+            ? bodyFetcher.get().fetchBodies(articles)
+            : bodyFetcher.get().fetchBodies(articles, timeout);
+        metrics.record(PipelineStage.FETCH, System.nanoTime() - start, articles.size());
+        fetchEvent.complete(topicLabel, filled);
+        logger.info("Texto extraído para {} de {} artigos", filled, articles.size());
+        return articles;
+    }
+    
+    /**
+     * Categoriza e resume os artigos, registrando métricas e eventos JFR de cada estágio
+     */
+    List<NewsArticle> enrich(String topicLabel, List<NewsArticle> articles) {
+        return summarize(topicLabel, categorize(topicLabel, articles));
+    }
+    
+    List<NewsArticle> categorize(String topicLabel, List<NewsArticle> articles) {
+        logger.info("Categorizando notícias...");
+        CategorizationBatchEvent categorizeEvent = new CategorizationBatchEvent();
+        categorizeEvent.begin();
+        long start = System.nanoTime();
+        articles = categorizerTool.get().categorizeArticles(articles);
+        metrics.record(PipelineStage.CATEGORIZE, System.nanoTime() - start, articles.size());
+        categorizeEvent.complete(topicLabel, articles.size());
+        return articles;
+    }
+    
+    List<NewsArticle> summarize(String topicLabel, List<NewsArticle> articles) {
+        logger.info("Gerando resumos...");
+        SummarizationEvent summarizeEvent = new SummarizationEvent();
+        summarizeEvent.begin();
+        long start = System.nanoTime();
+        articles = summarizerTool.get().summarizeArticles(articles);
+        metrics.record(PipelineStage.SUMMARIZE, System.nanoTime() - start, articles.size());
+        summarizeEvent.complete(topicLabel, articles.size());
+        return articles;
+    }
+    
+    /**
+     * Gera os resumos de um bloco de artigos sem alterá-los
+     * 
+     * Verifica a interrupção da thread entre um artigo e outro, permitindo cancelar
+     * o bloco no meio.
+     * 
+     * @return Resumos na ordem dos artigos
+     * @throws CancellationException se a thread for interrompida
+     */
+    String[] summaries(String topicLabel, List<NewsArticle> articles) {
+        SummarizationEvent summarizeEvent = new SummarizationEvent();
+        summarizeEvent.begin();
+        long start = System.nanoTime();
+        NewsSummarizerTool summarizer = summarizerTool.get();
+        String[] summaries = new String[articles.size()];
+        for (int i = 0; i < summaries.length; i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Resumos cancelados");
+            }
+            summaries[i] = summarizer.generateSummary(articles.get(i));
+        }
+        metrics.record(PipelineStage.SUMMARIZE, System.nanoTime() - start, summaries.length);
+        summarizeEvent.complete(topicLabel, summaries.length);
+        return summaries;
+    }
+    
+    /**
+     * Categoriza e resume um único artigo, no lugar (curadoria em fluxo)
+     */
+    void enrichArticle(String topicLabel, NewsArticle article) {
+        long start = System.nanoTime();
+        try {
+            article.setCategory(categorizerTool.get().categorizeArticle(article));
+        } catch (RuntimeException e) {
+            logger.error("Erro ao categorizar artigo: {}", article.getTitle(), e);
+            article.setCategory("geral");
+        }
+        long categorized = System.nanoTime();
+        metrics.record(PipelineStage.CATEGORIZE, categorized - start, 1);
+        article.setSummary(summarizerTool.get().generateSummary(article));
+        metrics.record(PipelineStage.SUMMARIZE, System.nanoTime() - categorized, 1);
+    }
+    
+    void recordFirstArticle(long nanos) {
+        metrics.record(PipelineStage.FIRST_ARTICLE, nanos, 1);
+    }
+    
+    /**
+     * Ordena por relevância e mantém os melhores, registrando métricas e o evento JFR do ranking
+     * 
+     * Todos os candidatos, não só os mantidos, entram no índice de notícias recentes
+     * e na contagem das palavras em alta.
+     */
+    List<NewsArticle> rank(String topicLabel, List<NewsArticle> articles) {
+        return rank(topicLabel, articles, configManager.getMaxSearchResults());
+    }
+    
+    List<NewsArticle> rank(String topicLabel, List<NewsArticle> articles, int maxResults) {
+        RankingEvent rankEvent = new RankingEvent();
+        rankEvent.begin();
+        long start = System.nanoTime();
+        int candidates = articles.size();
+        List<NewsArticle> ranked = filterByRelevance(articles, maxResults);
+        metrics.record(PipelineStage.RANK, System.nanoTime() - start, candidates);
+        rankEvent.complete(topicLabel, candidates);
+        recordCurated(articles);
+        return ranked;
+    }
+    
+    /**
+     * Guarda os artigos no índice de notícias recentes, nos tópicos que os encontraram,
+     * e conta seus termos nas palavras em alta
+     */
+    void recordCurated(List<NewsArticle> articles) {
+        if (!articles.isEmpty()) {
+            recentIndex.get().addAll(articles, LocalDateTime.now());
+            trendDetector.get().recordAll(articles);
+        }
+    }
+    
+    /**
+     * Palavras em alta nos artigos curados na janela de {@code trends.window.minutes}
+     * 
+     * @return Termo e ocorrências estimadas, da mais para a menos frequente; vazio antes da primeira curadoria
+     */
+    public Map<String, Long> getTrendingKeywords() {
+        return trendDetector.isInitialized() ? trendDetector.get().top() : Map.of();
+    }
+    
+    /**
+     * Melhores notícias de um tópico publicadas na janela, a partir do índice em memória
+     * 
+     * Responde com os artigos já curados (categorizados e resumidos) por execuções
+     * anteriores, sem consultar as fontes; tópicos ainda não curados não têm resultados.
+     * 
+     * @param window Janela até agora, limitada a {@code recent.retention.hours}
+     * @param limit Máximo de artigos
+     * @return Cópias dos artigos, da maior para a menor relevância com decaimento
+     */
+    public List<NewsArticle> getRecentTopStories(String topic, Duration window, int limit) {
+        return recentIndex.get().top(topic, window, limit, LocalDateTime.now());
+    }
+    
+    NewsReport report(List<String> topics, String topicLabel, List<NewsArticle> articles) {
+        logger.info("Gerando relatório final...");
+        ReportRenderingEvent reportEvent = new ReportRenderingEvent("report");
+        reportEvent.begin();
+        long start = System.nanoTime();
+        NewsReport report = reportGeneratorTool.get().generateReport(topics, articles);
+        report.setTrendingKeywords(getTrendingKeywords());
+        metrics.record(PipelineStage.REPORT, System.nanoTime() - start, articles.size());
+        reportEvent.complete(topicLabel, articles.size());
+        return report;
+    }
+    
     /**
      * Curar notícias com configurações personalizadas
      */
@@ -97,65 +409,295 @@ public class NewsCuratorAgent {
         logger.info("Curadoria personalizada - Tópicos: {}, Max artigos: {}, Score mínimo: {}", 
                    topics, maxArticles, minRelevanceScore);
         
-        // Temporariamente ajustar configurações
-        int originalMaxResults = configManager.getMaxSearchResults();
-        configManager.setMaxSearchResults(maxArticles);
+        // O limite segue pela chamada: a configuração é compartilhada com as outras curadorias
+        NewsReport report = curateNews(topics, true, maxArticles);
+        
+        // Filtrar por score mínimo
+        List<NewsArticle> filteredArticles = report.getArticles().stream()
+            .filter(article -> article.getRelevanceScore() >= minRelevanceScore)
+            .toList();
+        
+        report.setArticles(filteredArticles);
+        return report;
+    }
+    
+    /**
+     * Método de conveniência para curar notícias sobre um único tópico
+     */
+    public NewsReport curateNews(String topic) {
+        return curateNews(Arrays.asList(topic));
+    }
+    
+    /**
+     * Cura notícias de forma assíncrona, com prazo, no executor próprio do agente
+     * 
+     * @see #curateNewsAsync(List, Duration, Executor)
+     */
+    public CompletableFuture<NewsReport> curateNewsAsync(List<String> topics, Duration deadline) {
+        return curateNewsAsync(topics, deadline, asyncExecutor.get());
+    }
+    
+    /**
+     * Cura notícias de forma assíncrona, com prazo, opcionalmente sem gerar resumos
+     * 
+     * @param summarize false para manter o texto da fonte (modo degradado sob sobrecarga)
+     * @see #curateNewsAsync(List, Duration, Executor)
+     */
+    public CompletableFuture<NewsReport> curateNewsAsync(List<String> topics, Duration deadline, boolean summarize) {
+        logger.info("Iniciando curadoria assíncrona para tópicos: {} (prazo {} ms)", topics, deadline.toMillis());
+        return new AsyncCuration(this, topics, deadline, asyncExecutor.get(), summarize).start();
+    }
+    
+    /**
+     * Cura notícias de forma assíncrona, com prazo
+     * 
+     * As buscas de cada tópico e os resumos rodam como tarefas no executor. Se o prazo
+     * vencer antes do fim, as tarefas pendentes são canceladas e o futuro é concluído
+     * com o melhor relatório possível até ali, marcado como parcial: tópicos sem
+     * resposta ficam de fora e artigos sem resumo mantêm o texto da fonte. Cancelar o
+     * futuro interrompe as buscas e os resumos em andamento.
+     * 
+     * @param topics Lista de tópicos para buscar notícias
+     * @param deadline Prazo a partir da chamada
+     * @param executor Executor das buscas, dos resumos e das etapas de coordenação
+     * @return Futuro do relatório; falha se alguma busca falhar
+     */
+    public CompletableFuture<NewsReport> curateNewsAsync(List<String> topics, Duration deadline, Executor executor) {
+        logger.info("Iniciando curadoria assíncrona para tópicos: {} (prazo {} ms)", topics, deadline.toMillis());
+        return new AsyncCuration(this, topics, deadline, executor, true).start();
+    }
+    
+    /**
+     * Cura notícias em fluxo, no executor próprio do agente
+     * 
+     * @see #curateNewsStream(List, Executor)
+     */
+    public ArticlePublisher curateNewsStream(List<String> topics) {
+        return curateNewsStream(topics, asyncExecutor.get());
+    }
+    
+    /**
+     * Cura notícias em fluxo: cada artigo é publicado assim que é categorizado e resumido
+     * 
+     * A curadoria começa na assinatura e avança conforme a demanda do assinante; o
+     * relatório final fica em {@link ArticlePublisher#report()}.
+     * 
+     * @param topics Lista de tópicos para buscar notícias
+     * @param executor Executor das buscas e do processamento dos artigos
+     * @return Publicador de assinante único
+     */
+    public ArticlePublisher curateNewsStream(List<String> topics, Executor executor) {
+        return new ArticlePublisher(this, topics, executor, nearDuplicateDetector());
+    }
+    
+    /**
+     * Detector de quase-duplicatas configurado, ou null se desabilitado
+     */
+    private NearDuplicateDetector nearDuplicateDetector() {
+        ConfigSnapshot config = configManager.getSnapshot();
+        return config.nearDuplicatesEnabled() ? new NearDuplicateDetector(config.nearDuplicateThreshold()) : null;
+    }
+    
+    /**
+     * Decaimento por idade configurado, ou null se desabilitado (meia-vida 0)
+     */
+    FreshnessDecay freshnessDecay() {
+        double halfLifeHours = configManager.getSnapshot().freshnessHalfLifeHours();
+        return halfLifeHours > 0 ? new FreshnessDecay(Duration.ofMillis((long) (halfLifeHours * 3_600_000))) : null;
+    }
+    
+    private RecentArticleIndex newRecentIndex(ConfigManager configManager) {
+        return new RecentArticleIndex(
+            Duration.ofMinutes(Long.parseLong(configManager.getProperty("recent.bucket.minutes", "5"))),
+            Duration.ofHours(Long.parseLong(configManager.getProperty("recent.retention.hours", "24"))),
+            Integer.parseInt(configManager.getProperty("recent.max.per.topic", "100")),
+            freshnessDecay());
+    }
+    
+    private static TrendDetector newTrendDetector(ConfigManager configManager) {
+        return new TrendDetector(
+            Duration.ofMinutes(Long.parseLong(configManager.getProperty("trends.window.minutes", "60"))),
+            Integer.parseInt(configManager.getProperty("trends.slices", "12")),
+            Integer.parseInt(configManager.getProperty("trends.sketch.depth", "4")),
+            Integer.parseInt(configManager.getProperty("trends.sketch.width", "2048")),
+            Integer.parseInt(configManager.getProperty("trends.top", "10")));
+    }
+    
+    private static ExecutorService newAsyncExecutor(ConfigManager configManager) {
+        int threads = Integer.parseInt(configManager.getProperty("curation.async.threads",
+            String.valueOf(Math.max(2, Runtime.getRuntime().availableProcessors()))));
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "curation-async-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Cura notícias a partir de um armazenamento fora do heap (jobs de backfill)
+     * 
+     * A categorização e o ranking operam diretamente sobre os registros; apenas os
+     * artigos selecionados para o relatório são materializados no heap. A distribuição
+     * por categoria do relatório considera o armazenamento inteiro.
+     * 
+     * @param topics Tópicos do relatório
+     * @param store Armazenamento com os artigos candidatos
+     * @return Relatório com os artigos mais relevantes
+     */
+    public NewsReport curateStore(List<String> topics, OffHeapArticleStore store) {
+        logger.info("Iniciando curadoria de {} artigos do armazenamento fora do heap", store.size());
         
         try {
-            NewsReport report = curateNews(topics);
+            String topicLabel = String.join(", ", topics);
             
-            // Filtrar por score mínimo
-            List<NewsArticle> filteredArticles = report.getArticles().stream()
-                .filter(article -> article.getRelevanceScore() >= minRelevanceScore)
-                .toList();
+            CategorizationBatchEvent categorizeEvent = new CategorizationBatchEvent();
+            categorizeEvent.begin();
+            long start = System.nanoTime();
+            int categorized = categorizerTool.get().categorizeStore(store);
+            metrics.record(PipelineStage.CATEGORIZE, System.nanoTime() - start, categorized);
+            categorizeEvent.complete(topicLabel, categorized);
+            
+            RankingEvent rankEvent = new RankingEvent();
+            rankEvent.begin();
+            start = System.nanoTime();
+            List<NewsArticle> topArticles = rankStore(store);
+            metrics.record(PipelineStage.RANK, System.nanoTime() - start, categorized);
+            rankEvent.complete(topicLabel, categorized);
             
-            report.setArticles(filteredArticles);
+            SummarizationEvent summarizeEvent = new SummarizationEvent();
+            summarizeEvent.begin();
+            start = System.nanoTime();
+            topArticles = summarizerTool.get().summarizeArticles(topArticles);
+            metrics.record(PipelineStage.SUMMARIZE, System.nanoTime() - start, topArticles.size());
+            summarizeEvent.complete(topicLabel, topArticles.size());
+            
+            ReportRenderingEvent reportEvent = new ReportRenderingEvent("report");
+            reportEvent.begin();
+            start = System.nanoTime();
+            NewsReport report = reportGeneratorTool.get().generateReport(topics, topArticles);
+            report.setCategorySummary(reportGeneratorTool.get().generateCategorySummary(store));
+            metrics.record(PipelineStage.REPORT, System.nanoTime() - start, topArticles.size());
+            reportEvent.complete(topicLabel, topArticles.size());
+            
+            logger.info("Curadoria do armazenamento concluída com {} artigos", report.getTotalArticles());
             return report;
             
-        } finally {
-            // Restaurar configuração original
-            configManager.setMaxSearchResults(originalMaxResults);
+        } catch (Exception e) {
+            logger.error("Erro durante a curadoria do armazenamento", e);
+            throw new RuntimeException("Falha na curadoria do armazenamento: " + e.getMessage(), e);
         }
     }
     
     /**
-     * Método de conveniência para curar notícias sobre um único tópico
+     * Seleciona e materializa os artigos mais relevantes do armazenamento
      */
-    public NewsReport curateNews(String topic) {
-        return curateNews(Arrays.asList(topic));
+    private List<NewsArticle> rankStore(OffHeapArticleStore store) {
+        int[] ids = store.topByRelevance(configManager.getMaxSearchResults());
+        List<NewsArticle> articles = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            articles.add(store.materialize(id));
+        }
+        return articles;
     }
     
     /**
      * Filtra artigos por relevância, mantendo apenas os mais relevantes
+     * 
+     * Com {@code ranking.freshness.half.life.hours} positivo, o score de cada artigo
+     * é reduzido pela idade em relação ao artigo mais recente do lote.
      */
-    private List<NewsArticle> filterByRelevance(List<NewsArticle> articles) {
+    List<NewsArticle> filterByRelevance(List<NewsArticle> articles) {
+        return filterByRelevance(articles, configManager.getMaxSearchResults());
+    }
+    
+    List<NewsArticle> filterByRelevance(List<NewsArticle> articles, int maxResults) {
         if (articles.isEmpty()) {
             return articles;
         }
         
         // Ordena por score de relevância (decrescente) e pega os melhores
-        int maxResults = configManager.getMaxSearchResults();
+        FreshnessDecay decay = freshnessDecay();
+        if (decay == null) {
+            return articles.stream()
+                .sorted((a, b) -> Double.compare(b.getRelevanceScore(), a.getRelevanceScore()))
+                .limit(maxResults)
+                .toList();
+        }
         
+        LocalDateTime reference = FreshnessDecay.reference(articles, LocalDateTime.now());
         return articles.stream()
-            .sorted((a, b) -> Double.compare(b.getRelevanceScore(), a.getRelevanceScore()))
+            .sorted(Comparator.comparingDouble((NewsArticle article) -> decay.score(article, reference)).reversed())
             .limit(maxResults)
             .toList();
     }
     
     /**
-     * Obtém estatísticas do agente
+     * Obtém estatísticas do agente, incluindo latências e vazão por estágio
      */
     public String getAgentStats() {
-        return String.format(
+        List<String> tools = activeTools();
+        StringBuilder stats = new StringBuilder(String.format(
             "NewsCuratorAgent Stats:\n" +
-            "- Ferramentas ativas: 4\n" +
+            "- Ferramentas ativas: %d%s\n" +
             "- Categorias suportadas: %s\n" +
             "- Máximo de resultados: %d\n" +
             "- Idioma: %s",
+            tools.size(), tools.isEmpty() ? "" : " (" + String.join(", ", tools) + ")",
             String.join(", ", configManager.getSupportedCategories()),
             configManager.getMaxSearchResults(),
             configManager.getSearchLanguage()
-        );
+        ));
+        
+        MetricsSnapshot snapshot = metrics.snapshot();
+        stats.append("\n- Métricas por estágio:");
+        for (PipelineStage stage : PipelineStage.values()) {
+            stats.append("\n  • ").append(stage.getLabel()).append(": ")
+                 .append(snapshot.stage(stage).format());
+        }
+        Map<String, Long> trending = getTrendingKeywords();
+        if (!trending.isEmpty()) {
+            StringBuilder terms = new StringBuilder();
+            trending.forEach((term, count) -> terms.append(terms.length() > 0 ? ", " : "")
+                                                   .append(term).append(" (").append(count).append(')'));
+            stats.append("\n- Em alta: ").append(terms);
+        }
+        List<String> sourceHealth = searchTool.isInitialized() ? searchTool.get().getSourceHealth() : List.of();
+        if (!sourceHealth.isEmpty()) {
+            stats.append("\n- Fontes:");
+            sourceHealth.forEach(line -> stats.append("\n  • ").append(line));
+        }
+        return stats.toString();
+    }
+    
+    /**
+     * Ferramentas já criadas; as demais só existem depois do primeiro uso
+     */
+    private List<String> activeTools() {
+        List<String> tools = new ArrayList<>();
+        if (searchTool.isInitialized()) {
+            tools.add("busca");
+        }
+        if (categorizerTool.isInitialized()) {
+            tools.add("categorização");
+        }
+        if (summarizerTool.isInitialized()) {
+            tools.add("resumo");
+        }
+        if (bodyFetcher.isInitialized()) {
+            tools.add("texto completo");
+        }
+        if (reportGeneratorTool.isInitialized()) {
+            tools.add("relatórios");
+        }
+        return tools;
+    }
+    
+    /**
+     * Snapshot legível por máquina das métricas por estágio
+     */
+    public MetricsSnapshot getMetricsSnapshot() {
+        return metrics.snapshot();
     }
 }
 
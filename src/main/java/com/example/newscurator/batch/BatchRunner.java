@@ -0,0 +1,238 @@
+package com.example.newscurator.batch;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.tools.ReportGeneratorTool;
+import com.example.newscurator.utils.LatencySummary;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Modo batch não interativo
+ *
+ * Lê conjuntos de tópicos (um por linha, separados por vírgula), executa as
+ * curadorias em paralelo e escreve cada {@link NewsReport} como uma linha
+ * NDJSON, na ordem da entrada. Linhas vazias ou iniciadas por '#' são ignoradas.
+ */
+public class BatchRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchRunner.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final NewsCuratorAgent agent;
+    private final ReportGeneratorTool reportTool;
+    private final int parallelism;
+
+    public BatchRunner(NewsCuratorAgent agent, ReportGeneratorTool reportTool, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser positivo: " + parallelism);
+        }
+        this.agent = agent;
+        this.reportTool = reportTool;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Processa todas as linhas da entrada e escreve os relatórios na saída
+     *
+     * @param input Conjuntos de tópicos, um por linha
+     * @param output Destino NDJSON: uma linha (relatório ou erro) por conjunto de tópicos, na ordem da entrada
+     * @return Resumo de vazão e latência da execução
+     */
+    public BatchSummary run(BufferedReader input, Writer output) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "batch-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Limita as linhas em voo, inclusive as prontas à espera da vez, para que arquivos grandes
+        // não sejam lidos inteiros para a memória
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        OrderedOutput ordered = new OrderedOutput(output, inFlight);
+        LatencyBuffer latencies = new LatencyBuffer();
+        AtomicInteger failed = new AtomicInteger();
+        int submitted = 0;
+        long start = System.nanoTime();
+
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                List<String> topics = parseTopics(line);
+                if (topics.isEmpty()) {
+                    continue;
+                }
+
+                inFlight.acquireUninterruptibly();
+                int sequence = submitted++;
+                executor.execute(() -> {
+                    long taskStart = System.nanoTime();
+                    String json;
+                    try {
+                        json = curateAsJson(topics);
+                        latencies.add(System.nanoTime() - taskStart);
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        logger.error("Erro na curadoria batch para tópicos: {}", topics, e);
+                        json = errorAsJson(topics, e);
+                    }
+                    ordered.complete(sequence, json);
+                });
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        ordered.checkWritten();
+        output.flush();
+
+        long elapsed = System.nanoTime() - start;
+        return new BatchSummary(submitted, failed.get(), elapsed, latencies.summarize());
+    }
+
+    /**
+     * Converte uma linha de entrada na lista de tópicos
+     */
+    static List<String> parseTopics(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return List.of();
+        }
+        return Arrays.stream(trimmed.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .toList();
+    }
+
+    private String curateAsJson(List<String> topics) throws IOException {
+        NewsReport report = agent.curateNews(topics);
+        StringWriter json = new StringWriter(1024);
+        reportTool.writeJsonReport(report, json, false);
+        return json.toString();
+    }
+
+    private String errorAsJson(List<String> topics, Exception error) {
+        try {
+            StringWriter json = new StringWriter();
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(json)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("topics");
+                for (String topic : topics) {
+                    generator.writeString(topic);
+                }
+                generator.writeEndArray();
+                generator.writeStringField("error", error.getMessage());
+                generator.writeEndObject();
+            }
+            return json.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escreve as linhas na ordem de entrada, guardando as que terminam antes da vez
+     *
+     * A vaga de cada linha em {@code inFlight} só é devolvida quando ela é escrita;
+     * depois de uma falha de escrita as linhas seguintes são descartadas.
+     */
+    private static class OrderedOutput {
+        private final Writer output;
+        private final Semaphore inFlight;
+        private final Map<Integer, String> ready = new HashMap<>();
+        private int next;
+        private IOException failure;
+
+        OrderedOutput(Writer output, Semaphore inFlight) {
+            this.output = output;
+            this.inFlight = inFlight;
+        }
+
+        synchronized void complete(int sequence, String json) {
+            ready.put(sequence, json);
+            String line;
+            while ((line = ready.remove(next)) != null) {
+                next++;
+                try {
+                    if (failure == null) {
+                        output.write(line);
+                        output.write('\n');
+                    }
+                } catch (IOException e) {
+                    failure = e;
+                } finally {
+                    inFlight.release();
+                }
+            }
+        }
+
+        synchronized void checkWritten() throws IOException {
+            if (failure != null) {
+                throw new IOException("Falha ao escrever saída NDJSON", failure);
+            }
+        }
+    }
+
+    /**
+     * Acumula latências de várias threads
+     */
+    private static class LatencyBuffer {
+        private long[] samples = new long[256];
+        private int count;
+
+        synchronized void add(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+
+        synchronized LatencySummary summarize() {
+            return LatencySummary.fromNanos(samples, count);
+        }
+    }
+
+    /**
+     * Resultado de uma execução batch
+     */
+    public record BatchSummary(int total, int failed, long elapsedNanos, LatencySummary latency) {
+
+        /**
+         * Código de saída do processo: 0 se todas as curadorias terminaram, 1 se alguma falhou
+         */
+        public int exitCode() {
+            return failed == 0 ? 0 : 1;
+        }
+
+        public double throughputPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : total * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public String format() {
+            return String.format(
+                "Batch concluído: %d conjuntos de tópicos, %d falhas em %.2fs (%.2f relatórios/s)\n" +
+                "Latência por curadoria: %s",
+                total, failed, elapsedNanos / 1_000_000_000.0, throughputPerSecond(), latency.format());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.newscurator.batch;
+
+import com.example.newscurator.utils.LatencySummary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mede o tempo até o primeiro relatório de JVMs de curta duração no modo batch
+ *
+ * Cada execução inicia uma nova JVM com {@code --batch}, envia um conjunto de
+ * tópicos pela entrada padrão e mede o tempo entre o início do processo e a
+ * primeira linha NDJSON. Com {@code --archive}, compara a execução padrão com
+ * uma execução usando o arquivo AppCDS gerado pelo perfil Maven {@code appcds}.
+ *
+ * <pre>
+ * mvn -Pappcds verify
+ * java -cp target/news-curator-agent-1.0.0.jar com.example.newscurator.batch.StartupBenchmark \
+ *     --jar target/news-curator-agent-1.0.0.jar --archive target/news-curator.jsa --runs 20
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private final Path jar;
+    private final String topics;
+    private final int runs;
+
+    public StartupBenchmark(Path jar, String topics, int runs) {
+        this.jar = jar;
+        this.topics = topics;
+        this.runs = runs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Paths.get("target/news-curator-agent-1.0.0.jar");
+        Path archive = null;
+        String topics = "tecnologia, inovação";
+        int runs = 10;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--jar" -> jar = Paths.get(args[i + 1]);
+                case "--archive" -> archive = Paths.get(args[i + 1]);
+                case "--topics" -> topics = args[i + 1];
+                case "--runs" -> runs = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Argumento inválido: " + args[i]);
+            }
+        }
+        if (!Files.exists(jar)) {
+            throw new IllegalArgumentException("JAR não encontrado: " + jar + " (execute mvn package)");
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(jar, topics, runs);
+        System.out.println("Sem AppCDS:  " + benchmark.measure(List.of()).format());
+        if (archive != null) {
+            System.out.println("Com AppCDS:  " + benchmark.measure(List.of("-XX:SharedArchiveFile=" + archive)).format());
+        }
+    }
+
+    /**
+     * Executa as rodadas com as opções de JVM informadas
+     */
+    public LatencySummary measure(List<String> jvmOptions) throws IOException, InterruptedException {
+        long[] samples = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            samples[run] = timeToFirstReport(jvmOptions);
+        }
+        return LatencySummary.fromNanos(samples, runs);
+    }
+
+    private long timeToFirstReport(List<String> jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-Dorg.slf4j.simpleLogger.defaultLogLevel=warn");
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--batch");
+        command.add("--parallelism");
+        command.add("1");
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try (OutputStream stdin = process.getOutputStream()) {
+            stdin.write((topics + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        long elapsed;
+        try (BufferedReader stdout = new BufferedReader(
+                 new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String firstLine = stdout.readLine();
+            elapsed = System.nanoTime() - start;
+            if (firstLine == null) {
+                throw new IllegalStateException("Processo terminou sem produzir relatório");
+            }
+            while (stdout.readLine() != null) {
+                // descarta o restante da saída
+            }
+        }
+        process.waitFor();
+        return elapsed;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.newscurator.dedup;
+
+import com.example.newscurator.models.NewsArticle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Remove notícias repetidas entre os resultados dos tópicos de uma curadoria
+ *
+ * Dois artigos são a mesma notícia quando a URL normalizada ou o título
+ * normalizado coincidem. O primeiro a chegar sobrevive e acumula os tópicos e as
+ * fontes dos repetidos, além do maior score de relevância entre eles. Com um histórico
+ * ({@link FingerprintSet}), artigos já vistos em execuções anteriores também são
+ * descartados, o que serve ao modo incremental.
+ *
+ * Cada instância atende uma única execução e não é thread-safe; o histórico pode
+ * ser compartilhado.
+ */
+public class ArticleDeduplicator {
+
+    private final FingerprintTable urls;
+    private final FingerprintTable titles;
+    private final FingerprintSet history;
+    private final List<NewsArticle> articles;
+    private int duplicateCount;
+    private int previouslySeenCount;
+
+    public ArticleDeduplicator(int expectedArticles) {
+        this(expectedArticles, null);
+    }
+
+    /**
+     * @param expectedArticles Total de artigos esperado antes da deduplicação
+     * @param history Impressões digitais de execuções anteriores, ou null para deduplicar só esta execução
+     */
+    public ArticleDeduplicator(int expectedArticles, FingerprintSet history) {
+        this.urls = new FingerprintTable(expectedArticles);
+        this.titles = new FingerprintTable(expectedArticles);
+        this.history = history;
+        this.articles = new ArrayList<>(expectedArticles);
+    }
+
+    /**
+     * Oferece um artigo encontrado para o tópico
+     *
+     * @return true se o artigo foi mantido, false se era repetido
+     */
+    public boolean add(String topic, NewsArticle article) {
+        long url = ArticleFingerprints.url(article.getUrl());
+        long title = ArticleFingerprints.title(article.getTitle());
+
+        int existing = url != ArticleFingerprints.NONE ? urls.get(url) : FingerprintTable.ABSENT;
+        if (existing == FingerprintTable.ABSENT && title != ArticleFingerprints.NONE) {
+            existing = titles.get(title);
+        }
+        if (existing != FingerprintTable.ABSENT) {
+            NewsArticle survivor = articles.get(existing);
+            attribute(survivor, topic);
+            merge(survivor, article);
+            register(url, title, existing);
+            duplicateCount++;
+            return false;
+        }
+
+        if (history != null) {
+            boolean newUrl = url == ArticleFingerprints.NONE || history.add(url);
+            boolean newTitle = title == ArticleFingerprints.NONE || history.add(title);
+            if (!newUrl || !newTitle) {
+                previouslySeenCount++;
+                return false;
+            }
+        }
+
+        attribute(article, topic);
+        register(url, title, articles.size());
+        articles.add(article);
+        return true;
+    }
+
+    /**
+     * Artigos mantidos, na ordem em que chegaram
+     */
+    public List<NewsArticle> getArticles() {
+        return articles;
+    }
+
+    /**
+     * Artigos descartados por repetirem outro desta execução
+     */
+    public int getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * Artigos descartados por já constarem no histórico
+     */
+    public int getPreviouslySeenCount() {
+        return previouslySeenCount;
+    }
+
+    private void register(long url, long title, int index) {
+        if (url != ArticleFingerprints.NONE) {
+            urls.putIfAbsent(url, index);
+        }
+        if (title != ArticleFingerprints.NONE) {
+            titles.putIfAbsent(title, index);
+        }
+    }
+
+    /**
+     * Transfere para o sobrevivente os tópicos, as fontes e o score de um artigo repetido
+     */
+    static void merge(NewsArticle survivor, NewsArticle duplicate) {
+        if (duplicate.getTopics() != null) {
+            for (String topic : duplicate.getTopics()) {
+                attribute(survivor, topic);
+            }
+        }
+        if (!Objects.equals(survivor.getSource(), duplicate.getSource()) || duplicate.getCoverage() != null) {
+            List<String> coverage = survivor.getCoverage();
+            if (coverage == null) {
+                coverage = new ArrayList<>(4);
+                coverage.add(survivor.getSource());
+                survivor.setCoverage(coverage);
+            }
+            List<String> sources = duplicate.getCoverage() != null ? duplicate.getCoverage() : List.of(duplicate.getSource());
+            for (String source : sources) {
+                if (!coverage.contains(source)) {
+                    coverage.add(source);
+                }
+            }
+        }
+        if (duplicate.getRelevanceScore() > survivor.getRelevanceScore()) {
+            survivor.setRelevanceScore(duplicate.getRelevanceScore());
+        }
+    }
+
+    static void attribute(NewsArticle article, String topic) {
+        List<String> topics = article.getTopics();
+        if (topics == null) {
+            topics = new ArrayList<>(2);
+            article.setTopics(topics);
+        }
+        if (!topics.contains(topic)) {
+            topics.add(topic);
+        }
+    }
+}
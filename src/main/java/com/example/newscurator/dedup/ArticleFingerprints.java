@@ -0,0 +1,125 @@
+package com.example.newscurator.dedup;
+
+import com.example.newscurator.relevance.PortugueseAnalyzer;
+
+/**
+ * Impressões digitais de 64 bits para identificar a mesma notícia
+ *
+ * A URL é normalizada antes do hash: esquema, "www." e maiúsculas do host,
+ * fragmento, barra final e parâmetros de rastreamento (utm_*, fbclid, gclid) são
+ * ignorados. O título é comparado sem acentos, maiúsculas e pontuação. Nenhuma
+ * string intermediária é criada.
+ */
+public final class ArticleFingerprints {
+
+    /** Valor reservado para "sem impressão digital" (URL ou título vazios) */
+    public static final long NONE = 0L;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ArticleFingerprints() {
+    }
+
+    /**
+     * Impressão digital da URL normalizada, ou {@link #NONE} se a URL for vazia
+     */
+    public static long url(String url) {
+        if (url == null || url.isBlank()) {
+            return NONE;
+        }
+        int length = url.length();
+        int position = skipPrefix(url, 0, "https://");
+        if (position == 0) {
+            position = skipPrefix(url, 0, "http://");
+        }
+        position = skipPrefix(url, position, "www.");
+
+        long hash = FNV_OFFSET;
+        // Host sem diferenciar maiúsculas
+        for (; position < length && url.charAt(position) != '/' && url.charAt(position) != '?'
+               && url.charAt(position) != '#'; position++) {
+            hash = mix(hash, Character.toLowerCase(url.charAt(position)));
+        }
+        // Caminho sem a barra final
+        int pathEnd = position;
+        while (pathEnd < length && url.charAt(pathEnd) != '?' && url.charAt(pathEnd) != '#') {
+            pathEnd++;
+        }
+        int trimmedEnd = pathEnd;
+        while (trimmedEnd > position && url.charAt(trimmedEnd - 1) == '/') {
+            trimmedEnd--;
+        }
+        for (int i = position; i < trimmedEnd; i++) {
+            hash = mix(hash, url.charAt(i));
+        }
+        // Parâmetros da query, exceto os de rastreamento
+        if (pathEnd < length && url.charAt(pathEnd) == '?') {
+            int start = pathEnd + 1;
+            while (start < length && url.charAt(start) != '#') {
+                int end = start;
+                while (end < length && url.charAt(end) != '&' && url.charAt(end) != '#') {
+                    end++;
+                }
+                if (end > start && !isTrackingParameter(url, start)) {
+                    hash = mix(hash, '&');
+                    for (int i = start; i < end; i++) {
+                        hash = mix(hash, url.charAt(i));
+                    }
+                }
+                start = end < length && url.charAt(end) == '&' ? end + 1 : end;
+            }
+        }
+        return finish(hash);
+    }
+
+    /**
+     * Impressão digital do título normalizado, ou {@link #NONE} se não houver letras nem dígitos
+     */
+    public static long title(String title) {
+        if (title == null) {
+            return NONE;
+        }
+        long hash = FNV_OFFSET;
+        boolean empty = true;
+        boolean pendingSeparator = false;
+        for (int i = 0; i < title.length(); i++) {
+            char c = PortugueseAnalyzer.fold(title.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSeparator) {
+                    hash = mix(hash, ' ');
+                    pendingSeparator = false;
+                }
+                hash = mix(hash, c);
+                empty = false;
+            } else if (!empty) {
+                pendingSeparator = true;
+            }
+        }
+        return empty ? NONE : finish(hash);
+    }
+
+    private static int skipPrefix(String url, int position, String prefix) {
+        return url.regionMatches(true, position, prefix, 0, prefix.length()) ? position + prefix.length() : position;
+    }
+
+    private static boolean isTrackingParameter(String url, int start) {
+        return url.regionMatches(true, start, "utm_", 0, 4)
+            || url.regionMatches(true, start, "fbclid=", 0, 7)
+            || url.regionMatches(true, start, "gclid=", 0, 6);
+    }
+
+    private static long mix(long hash, char c) {
+        return (hash ^ c) * FNV_PRIME;
+    }
+
+    /**
+     * Espalha os bits do FNV (finalizador do SplitMix64) e evita o valor reservado
+     */
+    private static long finish(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash == NONE ? 1L : hash;
+    }
+}
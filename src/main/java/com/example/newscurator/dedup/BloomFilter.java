@@ -0,0 +1,89 @@
+package com.example.newscurator.dedup;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom sobre impressões digitais de 64 bits, com memória fixa
+ *
+ * Indicado para o modo incremental de longa duração: o consumo não cresce com o
+ * número de artigos vistos, ao custo de uma fração configurável de artigos novos
+ * tomados por repetidos. As posições vêm de hashing duplo sobre as duas metades da
+ * impressão digital, que já é bem distribuída. Seguro para uso concorrente.
+ */
+public class BloomFilter implements FingerprintSet {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    /**
+     * @param expectedInsertions Número de impressões digitais previsto
+     * @param falsePositiveRate Probabilidade aceitável de falso positivo (ex.: 0.001)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Parâmetros inválidos para o filtro de Bloom");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    @Override
+    public boolean add(long fingerprint) {
+        int low = (int) fingerprint;
+        int high = (int) (fingerprint >>> 32);
+        boolean changed = false;
+        for (int i = 1; i <= hashCount; i++) {
+            long combined = (low + (long) i * high) & Long.MAX_VALUE;
+            long bit = combined % bitCount;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    changed = true;
+                    break;
+                }
+                current = bits.get(word);
+            }
+        }
+        if (changed) {
+            insertions.increment();
+        }
+        return changed;
+    }
+
+    public boolean mightContain(long fingerprint) {
+        int low = (int) fingerprint;
+        int high = (int) (fingerprint >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = ((low + (long) i * high) & Long.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(long fingerprint) {
+        return mightContain(fingerprint);
+    }
+
+    @Override
+    public long size() {
+        return insertions.sum();
+    }
+
+    /**
+     * Memória ocupada pelos bits, em bytes
+     */
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.newscurator.dedup;
+
+/**
+ * Conjunto de impressões digitais já vistas, mantido entre execuções da curadoria
+ *
+ * Implementações são seguras para uso concorrente.
+ */
+public interface FingerprintSet {
+
+    /**
+     * Registra a impressão digital
+     *
+     * @return true se ela ainda não estava no conjunto
+     */
+    boolean add(long fingerprint);
+
+    /**
+     * Verifica se a impressão digital foi registrada (pode dar falso positivo em implementações probabilísticas)
+     */
+    boolean contains(long fingerprint);
+
+    /**
+     * Impressões digitais registradas (aproximado em implementações probabilísticas)
+     */
+    long size();
+}
@@ -0,0 +1,107 @@
+package com.example.newscurator.dedup;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de impressão digital para índice de artigo, com endereçamento aberto em arrays primitivos
+ *
+ * Usado dentro de uma única execução da curadoria; não é thread-safe.
+ */
+final class FingerprintTable {
+
+    static final int ABSENT = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    FingerprintTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2) * 2 - 1);
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+    }
+
+    /**
+     * Associa o índice à impressão digital se ela ainda não estiver presente
+     *
+     * @return Índice já associado, ou {@link #ABSENT} se a associação foi feita agora
+     */
+    int putIfAbsent(long key, int value) {
+        int mask = keys.length - 1;
+        int index = (int) key & mask;
+        while (keys[index] != ArticleFingerprints.NONE) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Associa o índice à impressão digital, substituindo o anterior
+     *
+     * @return Índice substituído, ou {@link #ABSENT}
+     */
+    int put(long key, int value) {
+        int mask = keys.length - 1;
+        int index = (int) key & mask;
+        while (keys[index] != ArticleFingerprints.NONE) {
+            if (keys[index] == key) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Remove todas as entradas, mantendo a capacidade
+     */
+    void clear() {
+        Arrays.fill(keys, ArticleFingerprints.NONE);
+        size = 0;
+    }
+
+    int get(long key) {
+        int mask = keys.length - 1;
+        int index = (int) key & mask;
+        while (keys[index] != ArticleFingerprints.NONE) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != ArticleFingerprints.NONE) {
+                int index = (int) oldKeys[i] & mask;
+                while (keys[index] != ArticleFingerprints.NONE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.newscurator.dedup;
+
+/**
+ * Conjunto exato de longs com endereçamento aberto em um único {@code long[]}
+ *
+ * Ocupa 8 a 16 bytes por elemento, sem objetos por entrada. O valor
+ * {@link ArticleFingerprints#NONE} (zero) marca posição vazia e não pode ser
+ * inserido. Os métodos são sincronizados; o conjunto é consultado uma vez por
+ * artigo, longe de ser o gargalo da curadoria.
+ */
+public class LongHashSet implements FingerprintSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] slots;
+    private int size;
+    private int resizeAt;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) * 2 - 1);
+        this.slots = new long[capacity];
+        this.resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    @Override
+    public synchronized boolean add(long value) {
+        if (value == ArticleFingerprints.NONE) {
+            throw new IllegalArgumentException("Valor reservado não pode ser inserido");
+        }
+        int mask = slots.length - 1;
+        int index = (int) value & mask;
+        while (slots[index] != ArticleFingerprints.NONE) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        if (++size > resizeAt) {
+            resize();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean contains(long value) {
+        int mask = slots.length - 1;
+        int index = (int) value & mask;
+        while (slots[index] != ArticleFingerprints.NONE) {
+            if (slots[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized long size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        resizeAt = (int) (slots.length * LOAD_FACTOR);
+        int mask = slots.length - 1;
+        for (long value : old) {
+            if (value != ArticleFingerprints.NONE) {
+                int index = (int) value & mask;
+                while (slots[index] != ArticleFingerprints.NONE) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = value;
+            }
+        }
+    }
+}
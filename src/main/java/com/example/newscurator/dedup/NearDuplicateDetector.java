@@ -0,0 +1,278 @@
+package com.example.newscurator.dedup;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.relevance.PortugueseAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Agrupa versões da mesma notícia publicadas por fontes diferentes
+ *
+ * Cada artigo recebe uma assinatura MinHash sobre bigramas de palavras do título
+ * e do início do texto (resumo, ou corpo quando ainda não há resumo). As
+ * assinaturas são divididas em faixas (LSH): só artigos que coincidem em alguma
+ * faixa são comparados, e cada faixa compara no máximo
+ * {@value #MAX_BUCKET_COMPARISONS} candidatos, de modo que o custo cresce
+ * linearmente com o número de artigos.
+ *
+ * De cada grupo fica o artigo de maior relevância, com os tópicos e as fontes de
+ * todos os membros.
+ */
+public class NearDuplicateDetector {
+
+    public static final double DEFAULT_THRESHOLD = 0.7;
+
+    private static final int HASHES = 32;
+    private static final int BANDS = 8;
+    private static final int ROWS = HASHES / BANDS;
+    private static final int MAX_TITLE_TOKENS = 32;
+    private static final int MAX_TEXT_TOKENS = 64;
+    private static final int MAX_BUCKET_COMPARISONS = 8;
+    private static final long[] MULTIPLIERS = new long[HASHES];
+    private static final long[] SEEDS = new long[HASHES];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < HASHES; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            MULTIPLIERS[i] = mix(seed) | 1;
+            seed += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(seed);
+        }
+    }
+
+    private final double threshold;
+
+    public NearDuplicateDetector() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param threshold Similaridade de Jaccard estimada a partir da qual dois artigos são a mesma notícia
+     */
+    public NearDuplicateDetector(double threshold) {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Limiar deve estar em (0, 1]: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Reduz cada grupo de quase-duplicatas a um representante
+     *
+     * @return Representantes na ordem do primeiro artigo de cada grupo
+     */
+    public List<NewsArticle> collapse(List<NewsArticle> articles) {
+        int count = articles.size();
+        int[][] signatures = new int[count][];
+        int[] tokens = new int[MAX_TITLE_TOKENS + MAX_TEXT_TOKENS];
+        for (int i = 0; i < count; i++) {
+            signatures[i] = signature(articles.get(i), tokens);
+        }
+
+        int[] parent = new int[count];
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+        }
+        boolean merged = false;
+        FingerprintTable buckets = new FingerprintTable(count);
+        int[] previousInBucket = new int[count];
+        for (int band = 0; band < BANDS; band++) {
+            buckets.clear();
+            for (int i = 0; i < count; i++) {
+                int[] signature = signatures[i];
+                if (signature == null) {
+                    continue;
+                }
+                long key = bandKey(signature, band);
+                int candidate = buckets.put(key, i);
+                previousInBucket[i] = candidate;
+                for (int compared = 0; candidate != FingerprintTable.ABSENT && compared < MAX_BUCKET_COMPARISONS;
+                     compared++, candidate = previousInBucket[candidate]) {
+                    if (find(parent, candidate) != find(parent, i)
+                        && similarity(signature, signatures[candidate]) >= threshold) {
+                        union(parent, candidate, i);
+                        merged = true;
+                    }
+                }
+            }
+        }
+        return merged ? representatives(articles, parent) : articles;
+    }
+
+    /**
+     * Cria um índice incremental para artigos que chegam um a um (ex.: curadoria em fluxo)
+     */
+    public Index newIndex(int expectedArticles) {
+        return new Index(expectedArticles);
+    }
+
+    /**
+     * Versão incremental do agrupamento: cada artigo oferecido é comparado só com os já aceitos
+     *
+     * O representante de cada grupo é o primeiro artigo aceito, e não o de maior
+     * relevância, já que ele pode ter sido publicado antes de os demais chegarem. Não é
+     * thread-safe.
+     */
+    public final class Index {
+        private final FingerprintTable[] buckets = new FingerprintTable[BANDS];
+        private final int[] tokens = new int[MAX_TITLE_TOKENS + MAX_TEXT_TOKENS];
+        private final long[] keys = new long[BANDS];
+        private final List<NewsArticle> accepted;
+        private int[][] signatures;
+        private int[][] previousInBucket;
+
+        private Index(int expectedArticles) {
+            int capacity = Math.max(16, expectedArticles);
+            for (int band = 0; band < BANDS; band++) {
+                buckets[band] = new FingerprintTable(capacity);
+            }
+            this.accepted = new ArrayList<>(capacity);
+            this.signatures = new int[capacity][];
+            this.previousInBucket = new int[BANDS][capacity];
+        }
+
+        /**
+         * Oferece um artigo ao índice
+         *
+         * @return null se o artigo foi aceito como notícia nova; senão, o artigo já aceito
+         *         do qual ele é quase idêntico, que recebe seus tópicos e fontes
+         */
+        public NewsArticle offer(NewsArticle article) {
+            int[] signature = signature(article, tokens);
+            if (signature == null) {
+                return null;
+            }
+            for (int band = 0; band < BANDS; band++) {
+                keys[band] = bandKey(signature, band);
+                int candidate = buckets[band].get(keys[band]);
+                for (int compared = 0; candidate != FingerprintTable.ABSENT && compared < MAX_BUCKET_COMPARISONS;
+                     compared++, candidate = previousInBucket[band][candidate]) {
+                    if (similarity(signature, signatures[candidate]) >= threshold) {
+                        NewsArticle representative = accepted.get(candidate);
+                        ArticleDeduplicator.merge(representative, article);
+                        return representative;
+                    }
+                }
+            }
+
+            int id = accepted.size();
+            if (id == signatures.length) {
+                int capacity = id * 2;
+                signatures = Arrays.copyOf(signatures, capacity);
+                for (int band = 0; band < BANDS; band++) {
+                    previousInBucket[band] = Arrays.copyOf(previousInBucket[band], capacity);
+                }
+            }
+            signatures[id] = signature;
+            accepted.add(article);
+            for (int band = 0; band < BANDS; band++) {
+                previousInBucket[band][id] = buckets[band].put(keys[band], id);
+            }
+            return null;
+        }
+    }
+
+    private static List<NewsArticle> representatives(List<NewsArticle> articles, int[] parent) {
+        int count = articles.size();
+        int[] best = new int[count];
+        for (int i = 0; i < count; i++) {
+            int root = find(parent, i);
+            if (root == i || articles.get(i).getRelevanceScore() > articles.get(best[root]).getRelevanceScore()) {
+                best[root] = i;
+            }
+        }
+
+        List<NewsArticle> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (find(parent, i) == i) {
+                result.add(articles.get(best[i]));
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            NewsArticle representative = articles.get(best[find(parent, i)]);
+            NewsArticle member = articles.get(i);
+            if (member != representative) {
+                ArticleDeduplicator.merge(representative, member);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Assinatura MinHash do artigo, ou null se não houver texto
+     */
+    private static int[] signature(NewsArticle article, int[] tokens) {
+        int length = PortugueseAnalyzer.tokenHashes(article.getTitle(), MAX_TITLE_TOKENS, tokens, 0);
+        String text = article.getSummary() != null && !article.getSummary().isBlank()
+            ? article.getSummary() : article.getBody();
+        length += PortugueseAnalyzer.tokenHashes(text, MAX_TEXT_TOKENS, tokens, length);
+        if (length == 0) {
+            return null;
+        }
+
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, length - 1);
+        for (int s = 0; s < shingles; s++) {
+            long shingle = mix(length == 1 ? tokens[0] : (long) tokens[s] << 32 | (tokens[s + 1] & 0xFFFFFFFFL));
+            // Hash multiplicativo por função: uma multiplicação por posição da assinatura
+            for (int h = 0; h < HASHES; h++) {
+                int value = (int) ((shingle * MULTIPLIERS[h] + SEEDS[h]) >>> 33);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Fração de posições iguais entre duas assinaturas, que estima a similaridade de Jaccard
+     */
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band + 1;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 0x100000001b3L + signature[row];
+        }
+        key = mix(key);
+        return key == ArticleFingerprints.NONE ? 1L : key;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        // A raiz é sempre o menor índice, que é o primeiro artigo do grupo
+        if (rootA < rootB) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootA] = rootB;
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.newscurator.fetch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Obtém o HTML de um artigo a partir da sua URL
+ */
+public interface ArticleFetcher {
+
+    /**
+     * Abre o documento do artigo
+     *
+     * @return Fluxo com o HTML, em UTF-8; fechado pelo chamador, que pode parar de ler antes do fim
+     * @throws IOException se o documento não puder ser obtido
+     */
+    InputStream open(URI url) throws IOException;
+}
@@ -0,0 +1,269 @@
+package com.example.newscurator.fetch;
+
+import com.example.newscurator.logging.AsyncLogging;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.utils.ConfigManager;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estágio que baixa a página dos artigos e extrai o texto principal para o corpo
+ *
+ * Os downloads são concorrentes, em um conjunto fixo de threads, mas cada host tem
+ * um limite próprio de downloads simultâneos: os excedentes esperam na fila do host
+ * sem ocupar threads, de modo que um portal lento não atrasa os demais. Cada página
+ * passa pelo {@link HtmlTextExtractor} com limite de bytes lidos e de caracteres
+ * guardados; o texto, com espaços normalizados, fica em uma {@code String}, que a
+ * JVM guarda com 1 byte por caractere quando o texto cabe em Latin-1, como é o
+ * caso do português.
+ *
+ * Só são buscados os artigos com URL e sem corpo (ou com corpo curto, como a
+ * descrição de um feed); falhas deixam o artigo como estava. Com prazo, a espera
+ * termina nele e só os corpos já baixados são aplicados; os downloads ainda na fila
+ * são descartados.
+ */
+public class BodyFetcher implements AutoCloseable {
+
+    private static final Logger logger = AsyncLogging.getLogger(BodyFetcher.class);
+
+    private final ArticleFetcher fetcher;
+    private final int perHostLimit;
+    private final int maxBytes;
+    private final int maxChars;
+    private final int minBodyChars;
+    private final ExecutorService executor;
+    private final Map<String, HostQueue> hosts = new ConcurrentHashMap<>();
+
+    private final LongAdder fetched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Cria o estágio com os parâmetros {@code fetch.*} da configuração
+     */
+    public BodyFetcher(ConfigManager configManager) {
+        this(fetcher(configManager),
+             Integer.parseInt(configManager.getProperty("fetch.threads", "16")),
+             Integer.parseInt(configManager.getProperty("fetch.per.host", "2")),
+             Integer.parseInt(configManager.getProperty("fetch.max.bytes", "524288")),
+             Integer.parseInt(configManager.getProperty("fetch.body.max.chars", "8000")),
+             Integer.parseInt(configManager.getProperty("fetch.min.body.chars", "280")));
+    }
+
+    /**
+     * @param threads Downloads simultâneos no total
+     * @param perHostLimit Downloads simultâneos por host
+     * @param maxBytes Bytes lidos de cada página, no máximo
+     * @param maxChars Caracteres de texto guardados por artigo, no máximo
+     * @param minBodyChars Artigos com corpo mais curto que isso são buscados
+     */
+    public BodyFetcher(ArticleFetcher fetcher, int threads, int perHostLimit, int maxBytes, int maxChars,
+                       int minBodyChars) {
+        if (threads <= 0 || perHostLimit <= 0) {
+            throw new IllegalArgumentException("fetch.threads e fetch.per.host devem ser positivos");
+        }
+        this.fetcher = fetcher;
+        this.perHostLimit = perHostLimit;
+        this.maxBytes = maxBytes;
+        this.maxChars = maxChars;
+        this.minBodyChars = minBodyChars;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "body-fetch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static ArticleFetcher fetcher(ConfigManager configManager) {
+        String pages = configManager.getProperty("fetch.pages.dir", "").trim();
+        if (!pages.isEmpty()) {
+            return new FileArticleFetcher(Path.of(pages));
+        }
+        long timeoutMillis = Long.parseLong(configManager.getProperty("fetch.timeout.ms", "5000"));
+        return new HttpArticleFetcher(Duration.ofMillis(timeoutMillis), Duration.ofMillis(
+            Long.parseLong(configManager.getProperty("fetch.read.timeout.ms", String.valueOf(timeoutMillis)))));
+    }
+
+    /**
+     * Preenche o corpo dos artigos, esperando todos os downloads
+     *
+     * @return Número de artigos que receberam corpo
+     * @throws CancellationException se a thread for interrompida; os corpos já baixados não são aplicados
+     */
+    public int fetchBodies(List<NewsArticle> articles) {
+        return fetchBodies(articles, Long.MAX_VALUE);
+    }
+
+    /**
+     * Preenche o corpo dos artigos, esperando os downloads até o prazo
+     *
+     * @param timeout Espera máxima; os artigos ainda sem página ficam como estavam
+     * @return Número de artigos que receberam corpo
+     * @throws CancellationException se a thread for interrompida; os corpos já baixados não são aplicados
+     */
+    public int fetchBodies(List<NewsArticle> articles, Duration timeout) {
+        return fetchBodies(articles, Math.max(0, timeout.toNanos()));
+    }
+
+    private int fetchBodies(List<NewsArticle> articles, long timeoutNanos) {
+        AtomicReferenceArray<String> bodies = new AtomicReferenceArray<>(articles.size());
+        AtomicBoolean abandoned = new AtomicBoolean();
+        int pending = 0;
+        for (NewsArticle article : articles) {
+            if (needsBody(article)) {
+                pending++;
+            }
+        }
+        if (pending == 0) {
+            return 0;
+        }
+
+        CountDownLatch done = new CountDownLatch(pending);
+        for (int i = 0; i < articles.size(); i++) {
+            NewsArticle article = articles.get(i);
+            if (!needsBody(article)) {
+                continue;
+            }
+            int index = i;
+            URI url;
+            try {
+                url = URI.create(article.getUrl());
+            } catch (IllegalArgumentException e) {
+                failed.increment();
+                done.countDown();
+                continue;
+            }
+            String host = url.getHost() != null ? url.getHost() : "";
+            submit(host, () -> {
+                try {
+                    if (!abandoned.get()) {
+                        bodies.set(index, fetch(url));
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        try {
+            if (!done.await(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                logger.warn("Prazo esgotado no download: {} de {} páginas pendentes", done.getCount(), pending);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Download dos corpos interrompido");
+        } finally {
+            abandoned.set(true);
+        }
+
+        int filled = 0;
+        for (int i = 0; i < bodies.length(); i++) {
+            String body = bodies.get(i);
+            if (body != null && !body.isEmpty()) {
+                articles.get(i).setBody(body);
+                filled++;
+            }
+        }
+        return filled;
+    }
+
+    private boolean needsBody(NewsArticle article) {
+        String url = article.getUrl();
+        return url != null && url.startsWith("http")
+            && (article.getBody() == null || article.getBody().length() < minBodyChars);
+    }
+
+    private String fetch(URI url) {
+        try (InputStream html = fetcher.open(url)) {
+            String text = HtmlTextExtractor.extract(html, maxBytes, maxChars);
+            fetched.increment();
+            return text;
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            logger.debug("Falha ao baixar {}: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Executa o download agora, se o host estiver abaixo do limite, ou o coloca na fila do host
+     */
+    private void submit(String host, Runnable download) {
+        while (true) {
+            HostQueue queue = hosts.computeIfAbsent(host, ignored -> new HostQueue());
+            synchronized (queue) {
+                if (queue.retired) {
+                    // Removida do mapa por outra thread entre o computeIfAbsent e o lock
+                    continue;
+                }
+                if (queue.active < perHostLimit) {
+                    queue.active++;
+                    executor.execute(() -> run(host, queue, download));
+                } else {
+                    queue.waiting.add(download);
+                }
+                return;
+            }
+        }
+    }
+
+    private void run(String host, HostQueue queue, Runnable download) {
+        Runnable next = download;
+        while (next != null) {
+            try {
+                next.run();
+            } finally {
+                synchronized (queue) {
+                    next = queue.waiting.poll();
+                    if (next == null) {
+                        queue.active--;
+                        if (queue.active == 0) {
+                            queue.retired = true;
+                            hosts.remove(host, queue);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public long getFetchedCount() {
+        return fetched.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Downloads em andamento e na fila de um host; protegida pelo próprio monitor
+     */
+    private static final class HostQueue {
+        private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+        private int active;
+        private boolean retired;
+    }
+}
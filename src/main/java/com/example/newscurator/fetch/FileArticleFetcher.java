@@ -0,0 +1,47 @@
+package com.example.newscurator.fetch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * Lê o HTML dos artigos de um diretório local, para testes e páginas salvas
+ *
+ * A URL {@code https://g1.example.com/economia/juros} corresponde ao arquivo
+ * {@code <raiz>/g1.example.com/economia/juros}, ou {@code .../juros.html} se o
+ * primeiro não existir; caminhos terminados em {@code /} usam {@code index.html}.
+ */
+public class FileArticleFetcher implements ArticleFetcher {
+
+    private final Path root;
+
+    public FileArticleFetcher(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public InputStream open(URI url) throws IOException {
+        if (url.getHost() == null) {
+            throw new IOException("URL sem host: " + url);
+        }
+        String path = url.getPath() == null || url.getPath().isEmpty() ? "/" : url.getPath();
+        if (path.endsWith("/")) {
+            path += "index.html";
+        }
+        Path file = root.resolve(url.getHost() + path).normalize();
+        if (!file.startsWith(root)) {
+            throw new IOException("URL fora do diretório de páginas: " + url);
+        }
+        if (!Files.isRegularFile(file)) {
+            Path html = file.resolveSibling(file.getFileName() + ".html");
+            if (!Files.isRegularFile(html)) {
+                throw new NoSuchFileException(file.toString());
+            }
+            file = html;
+        }
+        return Files.newInputStream(file);
+    }
+}
@@ -0,0 +1,392 @@
+package com.example.newscurator.fetch;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extrai o texto principal de uma página HTML em streaming
+ *
+ * Um tokenizador de um único passo percorre o documento sem montar a árvore:
+ * descarta scripts, estilos, comentários e blocos de navegação (menus, cabeçalho,
+ * rodapé, barras laterais, formulários), e junta o texto em parágrafos nos limites
+ * de bloco. Ficam os parágrafos de conteúdo ({@code p}, subtítulos, itens de
+ * lista, citações) e blocos soltos com texto suficiente; se a página tiver
+ * {@code <article>} ou {@code <main>} com texto, só ele é usado.
+ *
+ * A leitura para em {@code maxBytes} bytes do documento ou quando o texto do
+ * artigo atinge {@code maxChars}, de modo que páginas enormes ou malformadas não
+ * custam mais que esse limite. O HTML é lido como UTF-8.
+ */
+public final class HtmlTextExtractor {
+
+    /** Blocos soltos (fora de parágrafos) com menos caracteres que isso são descartados */
+    private static final int MIN_FREE_TEXT = 80;
+    /** Texto mínimo dentro de article/main para preferi-lo ao resto da página */
+    private static final int MIN_ARTICLE_TEXT = 200;
+    private static final int MAX_TAG_NAME = 16;
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Elementos cujo conteúdo não é texto HTML e deve ser pulado até o fechamento */
+    private static final Set<String> RAW_TEXT = Set.of("script", "style", "textarea", "noscript", "xmp");
+    /** Elementos cujo conteúdo não faz parte do texto do artigo */
+    private static final Set<String> SKIPPED = Set.of(
+        "head", "nav", "header", "footer", "aside", "form", "svg", "template", "iframe", "button", "select", "menu");
+    private static final Set<String> CONTENT = Set.of("p", "h2", "h3", "h4", "h5", "h6", "li", "blockquote", "pre");
+    private static final Set<String> BLOCK = Set.of(
+        "p", "h1", "h2", "h3", "h4", "h5", "h6", "li", "blockquote", "pre", "div", "br", "hr", "section",
+        "article", "main", "ul", "ol", "dl", "dt", "dd", "table", "tr", "td", "th", "figure", "figcaption", "body");
+
+    private static final Map<String, Character> ENTITIES = Map.ofEntries(
+        Map.entry("amp", '&'), Map.entry("lt", '<'), Map.entry("gt", '>'), Map.entry("quot", '"'),
+        Map.entry("apos", '\''), Map.entry("nbsp", ' '), Map.entry("ndash", '–'), Map.entry("mdash", '—'),
+        Map.entry("hellip", '…'), Map.entry("laquo", '«'), Map.entry("raquo", '»'), Map.entry("ldquo", '“'),
+        Map.entry("rdquo", '”'), Map.entry("lsquo", '‘'), Map.entry("rsquo", '’'), Map.entry("ordm", 'º'),
+        Map.entry("ordf", 'ª'), Map.entry("aacute", 'á'), Map.entry("eacute", 'é'), Map.entry("iacute", 'í'),
+        Map.entry("oacute", 'ó'), Map.entry("uacute", 'ú'), Map.entry("agrave", 'à'), Map.entry("acirc", 'â'),
+        Map.entry("ecirc", 'ê'), Map.entry("ocirc", 'ô'), Map.entry("atilde", 'ã'), Map.entry("otilde", 'õ'),
+        Map.entry("ccedil", 'ç'), Map.entry("uuml", 'ü'), Map.entry("Aacute", 'Á'), Map.entry("Eacute", 'É'),
+        Map.entry("Iacute", 'Í'), Map.entry("Oacute", 'Ó'), Map.entry("Uacute", 'Ú'), Map.entry("Agrave", 'À'),
+        Map.entry("Acirc", 'Â'), Map.entry("Ecirc", 'Ê'), Map.entry("Ocirc", 'Ô'), Map.entry("Atilde", 'Ã'),
+        Map.entry("Otilde", 'Õ'), Map.entry("Ccedil", 'Ç'));
+
+    private final Reader reader;
+    private final int maxChars;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int pushedBack = -1;
+
+    private final StringBuilder paragraph = new StringBuilder();
+    private final StringBuilder articleText = new StringBuilder();
+    private final StringBuilder pageText = new StringBuilder();
+    private boolean paragraphIsContent;
+    private boolean pendingSpace;
+    private int skipDepth;
+    private int articleDepth;
+
+    private HtmlTextExtractor(Reader reader, int maxChars) {
+        this.reader = reader;
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * Extrai o texto de um documento; o fluxo não é fechado
+     *
+     * @param maxBytes Bytes lidos do documento, no máximo
+     * @param maxChars Caracteres de texto extraídos, no máximo
+     * @return Parágrafos separados por quebra de linha; vazio se a página não tiver texto
+     */
+    public static String extract(InputStream html, int maxBytes, int maxChars) throws IOException {
+        Reader reader = new InputStreamReader(new CappedInputStream(html, maxBytes), StandardCharsets.UTF_8);
+        HtmlTextExtractor extractor = new HtmlTextExtractor(reader, maxChars);
+        extractor.run();
+        return extractor.result();
+    }
+
+    private void run() throws IOException {
+        int c;
+        while (articleText.length() < maxChars && (c = next()) != -1) {
+            if (c == '<') {
+                tag();
+            } else if (c == '&') {
+                text(entity());
+            } else {
+                text(c);
+            }
+        }
+        boundary();
+    }
+
+    private String result() {
+        StringBuilder chosen = articleText.length() >= MIN_ARTICLE_TEXT || articleText.length() >= pageText.length()
+            ? articleText : pageText;
+        return chosen.length() > maxChars ? chosen.substring(0, maxChars) : chosen.toString();
+    }
+
+    private void tag() throws IOException {
+        int c = next();
+        if (c == '!') {
+            declaration();
+            return;
+        }
+        if (c == '?') {
+            skipPast(">");
+            return;
+        }
+        boolean closing = c == '/';
+        if (closing) {
+            c = next();
+        }
+        if (!Character.isLetter(c)) {
+            // Não é uma tag: o '<' faz parte do texto
+            text('<');
+            if (closing) {
+                text('/');
+            }
+            pushedBack = c;
+            return;
+        }
+
+        StringBuilder name = new StringBuilder();
+        while (c != -1 && (Character.isLetterOrDigit(c) || c == '-' || c == ':')) {
+            if (name.length() < MAX_TAG_NAME) {
+                name.append(Character.toLowerCase((char) c));
+            }
+            c = next();
+        }
+        boolean selfClosing = skipAttributes(c);
+        String tag = name.toString();
+        if (closing) {
+            endTag(tag);
+        } else {
+            startTag(tag, selfClosing);
+        }
+    }
+
+    /**
+     * Pula os atributos até o fim da tag
+     *
+     * @param c Primeiro caractere depois do nome
+     * @return true se a tag termina com {@code />}
+     */
+    private boolean skipAttributes(int c) throws IOException {
+        int quote = 0;
+        int last = 0;
+        while (c != -1) {
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return last == '/';
+            } else if (!Character.isWhitespace(c)) {
+                last = c;
+            }
+            c = next();
+        }
+        return false;
+    }
+
+    private void startTag(String tag, boolean selfClosing) throws IOException {
+        if (RAW_TEXT.contains(tag)) {
+            if (!selfClosing) {
+                skipRawText(tag);
+            }
+            return;
+        }
+        if (SKIPPED.contains(tag)) {
+            boundary();
+            if (!selfClosing) {
+                skipDepth++;
+            }
+            return;
+        }
+        if (BLOCK.contains(tag)) {
+            boundary();
+            paragraphIsContent = CONTENT.contains(tag);
+        }
+        if (!selfClosing && ("article".equals(tag) || "main".equals(tag))) {
+            articleDepth++;
+        }
+    }
+
+    private void endTag(String tag) {
+        if (SKIPPED.contains(tag)) {
+            boundary();
+            skipDepth = Math.max(0, skipDepth - 1);
+            return;
+        }
+        if (BLOCK.contains(tag)) {
+            boundary();
+        }
+        if ("article".equals(tag) || "main".equals(tag)) {
+            articleDepth = Math.max(0, articleDepth - 1);
+        }
+    }
+
+    /**
+     * Fecha o parágrafo atual, guardando-o se for conteúdo
+     */
+    private void boundary() {
+        if (paragraph.length() > 0 && (paragraphIsContent || paragraph.length() >= MIN_FREE_TEXT)) {
+            StringBuilder target = articleDepth > 0 ? articleText : pageText;
+            if (target.length() < maxChars) {
+                if (target.length() > 0) {
+                    target.append('\n');
+                }
+                target.append(paragraph, 0, Math.min(paragraph.length(), maxChars - target.length()));
+            }
+        }
+        paragraph.setLength(0);
+        paragraphIsContent = false;
+        pendingSpace = false;
+    }
+
+    private void text(int c) {
+        if (skipDepth > 0 || c == -1) {
+            return;
+        }
+        if (Character.isWhitespace(c) || c == '\u00A0') {
+            pendingSpace = paragraph.length() > 0;
+            return;
+        }
+        if (paragraph.length() >= maxChars) {
+            return;
+        }
+        if (pendingSpace) {
+            paragraph.append(' ');
+            pendingSpace = false;
+        }
+        paragraph.append((char) c);
+    }
+
+    /**
+     * Decodifica uma referência de caractere após o {@code &}
+     *
+     * @return Caractere decodificado, ou -1 se o texto não era uma referência (já tratado como texto)
+     */
+    private int entity() throws IOException {
+        StringBuilder name = new StringBuilder();
+        int c = next();
+        while (c != -1 && c != ';' && name.length() < 10 && (Character.isLetterOrDigit(c) || c == '#')) {
+            name.append((char) c);
+            c = next();
+        }
+        if (c != ';') {
+            // Sem ';' não é uma referência: o que foi lido volta a ser texto
+            text('&');
+            for (int i = 0; i < name.length(); i++) {
+                text(name.charAt(i));
+            }
+            pushedBack = c;
+            return -1;
+        }
+        String value = name.toString();
+        if (value.startsWith("#")) {
+            try {
+                int code = value.length() > 1 && (value.charAt(1) == 'x' || value.charAt(1) == 'X')
+                    ? Integer.parseInt(value.substring(2), 16)
+                    : Integer.parseInt(value.substring(1));
+                return Character.isBmpCodePoint(code) ? code : ' ';
+            } catch (NumberFormatException e) {
+                return ' ';
+            }
+        }
+        Character decoded = ENTITIES.get(value);
+        return decoded != null ? decoded : ' ';
+    }
+
+    /**
+     * Comentário, doctype ou CDATA depois de {@code <!}
+     */
+    private void declaration() throws IOException {
+        int first = next();
+        if (first == '>') {
+            return;
+        }
+        int second = first == '-' ? next() : 0;
+        if (first == '-' && second == '-') {
+            skipPast("-->");
+        } else if (second != '>') {
+            skipPast(">");
+        }
+    }
+
+    private void skipRawText(String tag) throws IOException {
+        int c;
+        while ((c = next()) != -1) {
+            if (c != '<') {
+                continue;
+            }
+            c = next();
+            if (c != '/') {
+                pushedBack = c;
+                continue;
+            }
+            int matched = 0;
+            while (matched < tag.length() && (c = next()) != -1 && Character.toLowerCase(c) == tag.charAt(matched)) {
+                matched++;
+            }
+            if (matched == tag.length()) {
+                skipPast(">");
+                return;
+            }
+            pushedBack = c;
+        }
+    }
+
+    private void skipPast(String terminator) throws IOException {
+        int matched = 0;
+        int c;
+        while ((c = next()) != -1) {
+            if (c == terminator.charAt(matched)) {
+                if (++matched == terminator.length()) {
+                    return;
+                }
+            } else {
+                matched = c == terminator.charAt(0) ? 1 : 0;
+            }
+        }
+    }
+
+    private int next() throws IOException {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Fluxo que termina depois de {@code limit} bytes
+     */
+    private static final class CappedInputStream extends FilterInputStream {
+        private long remaining;
+
+        CappedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+    }
+}
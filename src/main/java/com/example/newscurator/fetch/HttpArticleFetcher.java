@@ -0,0 +1,201 @@
+package com.example.newscurator.fetch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Baixa o HTML dos artigos por HTTP, seguindo redirecionamentos
+ *
+ * O timeout da requisição só vale até os cabeçalhos; a leitura do corpo tem prazo
+ * próprio, contado a partir dos cabeçalhos, para que uma página que chega aos poucos
+ * (ou para de chegar) não prenda a thread do download.
+ */
+public class HttpArticleFetcher implements ArticleFetcher {
+
+    private final Duration timeout;
+    private final long readTimeoutNanos;
+    private final HttpClient client;
+
+    /**
+     * @param timeout Tempo máximo de conexão e de espera pela resposta; também limita a leitura do corpo
+     */
+    public HttpArticleFetcher(Duration timeout) {
+        this(timeout, timeout);
+    }
+
+    /**
+     * @param timeout Tempo máximo de conexão e de espera pelos cabeçalhos da resposta
+     * @param readTimeout Tempo máximo para ler o corpo, a partir dos cabeçalhos
+     */
+    public HttpArticleFetcher(Duration timeout, Duration readTimeout) {
+        this.timeout = timeout;
+        this.readTimeoutNanos = readTimeout.toNanos();
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    @Override
+    public InputStream open(URI url) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+            .timeout(timeout)
+            .header("Accept", "text/html")
+            .header("User-Agent", "news-curator-agent/1.0")
+            .GET()
+            .build();
+        try {
+            HttpResponse<InputStream> response = client.send(request, info -> new DeadlineBody(url, readTimeoutNanos));
+            if (response.statusCode() / 100 != 2) {
+                response.body().close();
+                throw new IOException("HTTP " + response.statusCode() + " em " + url);
+            }
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Download interrompido: " + url, e);
+        }
+    }
+
+    /**
+     * Corpo da resposta com prazo de leitura, lido à medida que chega
+     *
+     * Os blocos recebidos pelo cliente HTTP entram em uma fila, um de cada vez
+     * (o próximo só é pedido depois que o anterior começa a ser lido); a leitura
+     * espera por eles no máximo até o prazo e, vencido o prazo, falha e o fechamento
+     * cancela o download. A espera não depende de interrupção, que não desbloqueia
+     * o fluxo de {@link HttpResponse.BodyHandlers#ofInputStream()}.
+     */
+    private static final class DeadlineBody extends InputStream implements HttpResponse.BodySubscriber<InputStream> {
+        private static final List<ByteBuffer> END = Collections.unmodifiableList(new ArrayList<>());
+
+        private final URI url;
+        private final long deadlineNanos;
+        private final BlockingQueue<List<ByteBuffer>> chunks = new LinkedBlockingQueue<>();
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable failure;
+
+        // Usados só pela thread leitora
+        private Iterator<ByteBuffer> pending = Collections.emptyIterator();
+        private ByteBuffer buffer;
+        private boolean ended;
+        private boolean closed;
+
+        DeadlineBody(URI url, long readTimeoutNanos) {
+            this.url = url;
+            this.deadlineNanos = System.nanoTime() + readTimeoutNanos;
+        }
+
+        @Override
+        public CompletionStage<InputStream> getBody() {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            chunks.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure = throwable;
+            chunks.add(END);
+        }
+
+        @Override
+        public void onComplete() {
+            chunks.add(END);
+        }
+
+        @Override
+        public int read() throws IOException {
+            ByteBuffer current = current();
+            return current != null ? current.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            ByteBuffer current = current();
+            if (current == null) {
+                return -1;
+            }
+            int count = Math.min(length, current.remaining());
+            current.get(target, offset, count);
+            return count;
+        }
+
+        /**
+         * Bloco com bytes por ler, esperando o próximo até o prazo; null no fim do corpo
+         */
+        private ByteBuffer current() throws IOException {
+            if (closed) {
+                throw new IOException("Fluxo fechado: " + url);
+            }
+            while (buffer == null || !buffer.hasRemaining()) {
+                if (pending.hasNext()) {
+                    buffer = pending.next();
+                    continue;
+                }
+                if (ended) {
+                    return null;
+                }
+                long remaining = deadlineNanos - System.nanoTime();
+                List<ByteBuffer> next;
+                try {
+                    next = remaining > 0 ? chunks.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Download interrompido: " + url, e);
+                }
+                if (next == null) {
+                    throw new IOException("Tempo de leitura esgotado: " + url);
+                }
+                if (next == END) {
+                    ended = true;
+                    if (failure != null) {
+                        throw new IOException("Falha ao ler " + url, failure);
+                    }
+                    return null;
+                }
+                pending = next.iterator();
+                subscription.request(1);
+            }
+            return buffer;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                if (!ended && subscription != null) {
+                    subscription.cancel();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR: requisição de curadoria atendida (ou recusada) pelo controle de admissão
+ *
+ * Só este evento registra acerto de cache: quando o relatório vem do cache da
+ * admissão, nenhum estágio roda e nenhum outro evento é emitido.
+ */
+@Name("com.example.newscurator.Admission")
+@Label("Admission")
+@Description("Decisão do controle de admissão para uma curadoria")
+public class AdmissionEvent extends CurationEvent {
+
+    @Label("Mode")
+    @Description("Modo de atendimento: full, cached, degraded, rejected ou failed")
+    String mode;
+
+    @Label("Cache Hit")
+    @Description("Indica se o relatório veio do cache da admissão")
+    boolean cacheHit;
+
+    /**
+     * Encerra a medição com o modo de atendimento
+     */
+    public void complete(String topic, int articleCount, String mode) {
+        this.mode = mode;
+        this.cacheHit = "cached".equals(mode);
+        complete(topic, articleCount);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR: download do HTML e extração do texto dos artigos
+ */
+@Name("com.example.newscurator.BodyFetch")
+@Label("Body Fetch")
+@Description("Download das páginas dos artigos e extração do texto principal")
+public class BodyFetchEvent extends CurationEvent {
+}
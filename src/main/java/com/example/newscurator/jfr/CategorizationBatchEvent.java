@@ -0,0 +1,14 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR: categorização de um lote de artigos
+ */
+@Name("com.example.newscurator.CategorizationBatch")
+@Label("Categorization Batch")
+@Description("Categorização de um lote de artigos")
+public class CategorizationBatchEvent extends CurationEvent {
+}
@@ -0,0 +1,41 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base dos eventos do Java Flight Recorder emitidos pelos estágios da curadoria
+ *
+ * Os eventos vêm desabilitados por padrão: enquanto nenhuma gravação os habilita,
+ * {@link #begin()} e {@link #complete} são praticamente sem custo. Para habilitá-los,
+ * use o perfil {@code jfr/news-curator.jfc}.
+ */
+@Category({"News Curator", "Pipeline"})
+@Enabled(false)
+@StackTrace(false)
+public abstract class CurationEvent extends Event {
+
+    @Label("Topic")
+    @Description("Tópico ou tópicos (separados por vírgula) processados")
+    String topic;
+
+    @Label("Article Count")
+    @Description("Número de artigos processados pelo estágio")
+    int articleCount;
+
+    /**
+     * Encerra a medição e grava o evento se a gravação estiver ativa
+     */
+    public void complete(String topic, int articleCount) {
+        end();
+        if (shouldCommit()) {
+            this.topic = topic;
+            this.articleCount = articleCount;
+            commit();
+        }
+    }
+}
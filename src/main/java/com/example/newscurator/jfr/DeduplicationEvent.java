@@ -0,0 +1,14 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR: remoção de notícias repetidas entre os tópicos
+ */
+@Name("com.example.newscurator.Deduplication")
+@Label("Deduplication")
+@Description("Remoção de notícias repetidas entre os resultados dos tópicos")
+public class DeduplicationEvent extends CurationEvent {
+}
@@ -0,0 +1,14 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR: ranking por relevância dos artigos candidatos
+ */
+@Name("com.example.newscurator.Ranking")
+@Label("Ranking")
+@Description("Ranking por relevância dos artigos candidatos")
+public class RankingEvent extends CurationEvent {
+}
@@ -0,0 +1,22 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR: geração ou renderização de um relatório
+ */
+@Name("com.example.newscurator.ReportRendering")
+@Label("Report Rendering")
+@Description("Geração ou renderização de um relatório")
+public class ReportRenderingEvent extends CurationEvent {
+
+    @Label("Format")
+    @Description("Formato gerado: report, text, json ou ndjson")
+    String format;
+
+    public ReportRenderingEvent(String format) {
+        this.format = format;
+    }
+}
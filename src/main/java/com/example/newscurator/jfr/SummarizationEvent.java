@@ -0,0 +1,14 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR: geração de resumos de um lote de artigos
+ */
+@Name("com.example.newscurator.Summarization")
+@Label("Summarization")
+@Description("Geração de resumos de um lote de artigos")
+public class SummarizationEvent extends CurationEvent {
+}
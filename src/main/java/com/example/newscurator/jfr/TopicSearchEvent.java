@@ -0,0 +1,14 @@
+package com.example.newscurator.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR: busca de notícias de um tópico
+ */
+@Name("com.example.newscurator.TopicSearch")
+@Label("Topic Search")
+@Description("Busca de notícias de um tópico")
+public class TopicSearchEvent extends CurationEvent {
+}
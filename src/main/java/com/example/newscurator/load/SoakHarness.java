@@ -0,0 +1,418 @@
+package com.example.newscurator.load;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.metrics.LatencyHistogram;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.utils.ConfigManager;
+import com.example.newscurator.utils.LatencySummary;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Teste de carga e de longa duração (soak) de um único {@link NewsCuratorAgent}
+ *
+ * N clientes concorrentes chamam o agente no mesmo processo, sorteando tópicos
+ * com distribuição de Zipf, até atingir a duração ou o número de requisições.
+ * A cada intervalo é registrada uma amostra de vazão, p99, heap e GC; ao final,
+ * o resultado traz vazão total, percentis, taxa de erro e o tempo em que os
+ * clientes ficaram bloqueados em monitores.
+ *
+ * Com {@code --max-articles N}, cada cliente usa a curadoria personalizada com
+ * um limite próprio (1 a N). Relatórios acima do limite pedido e uma
+ * configuração compartilhada diferente da inicial ao final da execução indicam
+ * que requisições concorrentes interferiram umas nas outras.
+ *
+ * Roda inteiramente offline, por padrão sobre o corpus sintético determinístico
+ * ({@code --source simulated} usa os dados de demonstração):
+ *
+ * <pre>
+ * java -Dorg.slf4j.simpleLogger.defaultLogLevel=warn \
+ *     -cp target/news-curator-agent-1.0.0.jar com.example.newscurator.load.SoakHarness \
+ *     --clients 1,4,16 --duration 30 --zipf 0.99 --max-articles 5
+ * </pre>
+ */
+public class SoakHarness {
+
+    private static final List<String> DEFAULT_TOPICS = Arrays.asList(
+        "tecnologia", "política", "economia", "saúde", "esportes", "ciência",
+        "educação", "meio ambiente", "inteligência artificial", "governo",
+        "mercado financeiro", "startups", "energia", "agronegócio", "cultura");
+
+    private final NewsCuratorAgent agent;
+    private final ConfigManager configManager;
+    private final Options options;
+
+    public SoakHarness(NewsCuratorAgent agent, ConfigManager configManager, Options options) {
+        this.agent = agent;
+        this.configManager = configManager;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> clientCounts = List.of(Runtime.getRuntime().availableProcessors());
+        Options options = Options.defaults();
+        Path configFile = null;
+        String source = "synthetic";
+        boolean durationSet = false;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--clients" -> clientCounts = Arrays.stream(value.split(","))
+                    .map(String::trim).map(Integer::parseInt).toList();
+                case "--duration" -> {
+                    options = options.withDuration(Duration.ofSeconds(Long.parseLong(value)));
+                    durationSet = true;
+                }
+                case "--requests" -> options = options.withMaxRequests(Long.parseLong(value));
+                case "--topics" -> options = options.withTopics(Arrays.stream(value.split(","))
+                    .map(String::trim).filter(s -> !s.isEmpty()).toList());
+                case "--zipf" -> options = options.withZipfExponent(Double.parseDouble(value));
+                case "--topics-per-request" -> options = options.withTopicsPerRequest(Integer.parseInt(value));
+                case "--max-articles" -> options = options.withMaxArticles(Integer.parseInt(value));
+                case "--sample-interval" -> options = options.withSampleInterval(Duration.ofMillis(Long.parseLong(value)));
+                case "--seed" -> options = options.withSeed(Long.parseLong(value));
+                case "--config" -> configFile = Paths.get(value);
+                case "--source" -> source = value;
+                default -> throw new IllegalArgumentException("Argumento inválido: " + args[i]);
+            }
+        }
+        if (options.maxRequests() > 0 && !durationSet) {
+            // Apenas --requests: a execução termina pela contagem, sem limite de tempo
+            options = options.withDuration(null);
+        }
+
+        double baseline = 0;
+        for (int clients : clientCounts) {
+            // Um agente novo por rodada para que as métricas e a configuração não vazem entre rodadas
+            ConfigManager configManager = new ConfigManager(configFile);
+            configManager.setProperty("news.source", source);
+            NewsCuratorAgent agent = new NewsCuratorAgent(configManager);
+            SoakResult result = new SoakHarness(agent, configManager, options.withClients(clients)).run();
+
+            System.out.println("=== " + clients + " cliente(s) ===");
+            System.out.println(result.format());
+            if (baseline == 0) {
+                baseline = result.requestsPerSecond() / clients;
+            } else {
+                System.out.printf("Eficiência de escala: %.0f%% do ideal linear%n",
+                                  100.0 * result.requestsPerSecond() / (baseline * clients));
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Executa a carga e aguarda todos os clientes
+     */
+    public SoakResult run() throws InterruptedException {
+        ZipfianTopicSampler sampler = new ZipfianTopicSampler(options.topics(), options.zipfExponent());
+        int initialMaxResults = configManager.getMaxSearchResults();
+
+        LatencyHistogram overall = new LatencyHistogram();
+        AtomicReference<LatencyHistogram> window = new AtomicReference<>(new LatencyHistogram());
+        AtomicLong issued = new AtomicLong();
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        LongAdder violations = new LongAdder();
+
+        long start = System.nanoTime();
+        long deadline = options.duration() != null ? start + options.duration().toNanos() : Long.MAX_VALUE;
+        long maxRequests = options.maxRequests() > 0 ? options.maxRequests() : Long.MAX_VALUE;
+
+        CountDownLatch done = new CountDownLatch(options.clients());
+        List<Thread> clients = new ArrayList<>();
+        for (int client = 0; client < options.clients(); client++) {
+            SplittableRandom random = new SplittableRandom(options.seed() + client);
+            int maxArticles = options.maxArticles() > 0 ? 1 + client % options.maxArticles() : 0;
+            Thread thread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline && issued.getAndIncrement() < maxRequests) {
+                        List<String> topics = sampler.next(random, options.topicsPerRequest());
+                        long requestStart = System.nanoTime();
+                        try {
+                            NewsReport report = maxArticles > 0
+                                ? agent.curateNews(topics, maxArticles, 0.0)
+                                : agent.curateNews(topics);
+                            if (maxArticles > 0 && report.getTotalArticles() > maxArticles) {
+                                violations.increment();
+                            }
+                        } catch (RuntimeException e) {
+                            errors.increment();
+                        }
+                        long latency = System.nanoTime() - requestStart;
+                        overall.record(latency);
+                        window.get().record(latency);
+                        completed.increment();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "soak-client-" + client);
+            thread.setDaemon(true);
+            clients.add(thread);
+        }
+
+        ResourceSampler resources = new ResourceSampler(clients);
+        clients.forEach(Thread::start);
+
+        List<Sample> timeline = new ArrayList<>();
+        long intervalNanos = options.sampleInterval().toNanos();
+        long previousCompleted = 0;
+        while (!done.await(intervalNanos, TimeUnit.NANOSECONDS)) {
+            previousCompleted = addSample(timeline, start, window, completed, previousCompleted, resources);
+        }
+        long elapsed = System.nanoTime() - start;
+        addSample(timeline, start, window, completed, previousCompleted, resources);
+
+        return new SoakResult(
+            options.clients(),
+            completed.sum(),
+            errors.sum(),
+            violations.sum(),
+            initialMaxResults,
+            configManager.getMaxSearchResults(),
+            elapsed,
+            summarize(overall.snapshot()),
+            resources.blockedMillis(),
+            timeline);
+    }
+
+    private long addSample(List<Sample> timeline, long start, AtomicReference<LatencyHistogram> window,
+                           LongAdder completed, long previousCompleted, ResourceSampler resources) {
+        LatencyHistogram.Snapshot interval = window.getAndSet(new LatencyHistogram()).snapshot();
+        long total = completed.sum();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        double seconds = options.sampleInterval().toNanos() / 1_000_000_000.0;
+        timeline.add(new Sample(
+            elapsedSeconds,
+            (total - previousCompleted) / seconds,
+            interval.getValueAtQuantile(0.99) / 1_000_000.0,
+            resources.heapUsedMegabytes(),
+            resources.gcCountDelta(),
+            resources.gcMillisDelta()));
+        return total;
+    }
+
+    private static LatencySummary summarize(LatencyHistogram.Snapshot snapshot) {
+        return new LatencySummary(
+            (int) Math.min(Integer.MAX_VALUE, snapshot.getCount()),
+            snapshot.getMeanNanos() / 1_000_000.0,
+            snapshot.getValueAtQuantile(0.50) / 1_000_000.0,
+            snapshot.getValueAtQuantile(0.90) / 1_000_000.0,
+            snapshot.getValueAtQuantile(0.99) / 1_000_000.0,
+            snapshot.getMaxNanos() / 1_000_000.0);
+    }
+
+    /**
+     * Leituras de heap, GC e contenção de monitores via JMX
+     */
+    private static final class ResourceSampler {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private final List<Thread> clients;
+        private long lastGcCount;
+        private long lastGcMillis;
+
+        ResourceSampler(List<Thread> clients) {
+            this.clients = clients;
+            if (threads.isThreadContentionMonitoringSupported()) {
+                threads.setThreadContentionMonitoringEnabled(true);
+            }
+            this.lastGcCount = gcCount();
+            this.lastGcMillis = gcMillis();
+        }
+
+        double heapUsedMegabytes() {
+            return memory.getHeapMemoryUsage().getUsed() / (1024.0 * 1024.0);
+        }
+
+        long gcCountDelta() {
+            long current = gcCount();
+            long delta = current - lastGcCount;
+            lastGcCount = current;
+            return delta;
+        }
+
+        long gcMillisDelta() {
+            long current = gcMillis();
+            long delta = current - lastGcMillis;
+            lastGcMillis = current;
+            return delta;
+        }
+
+        /**
+         * Tempo total em que os clientes ficaram bloqueados em monitores (-1 se não suportado)
+         */
+        long blockedMillis() {
+            if (!threads.isThreadContentionMonitoringEnabled()) {
+                return -1;
+            }
+            long total = 0;
+            for (Thread client : clients) {
+                ThreadInfo info = threads.getThreadInfo(client.getId());
+                if (info != null && info.getBlockedTime() > 0) {
+                    total += info.getBlockedTime();
+                }
+            }
+            return total;
+        }
+
+        private long gcCount() {
+            return collectors.stream().mapToLong(gc -> Math.max(0, gc.getCollectionCount())).sum();
+        }
+
+        private long gcMillis() {
+            return collectors.stream().mapToLong(gc -> Math.max(0, gc.getCollectionTime())).sum();
+        }
+    }
+
+    /**
+     * Parâmetros da carga
+     *
+     * @param duration Duração máxima, ou null para limitar apenas por número de requisições
+     * @param maxRequests Número máximo de requisições, ou 0 para limitar apenas por duração
+     * @param maxArticles Limite máximo da curadoria personalizada, ou 0 para a curadoria padrão
+     */
+    public record Options(int clients, Duration duration, long maxRequests, List<String> topics,
+                          double zipfExponent, int topicsPerRequest, int maxArticles,
+                          Duration sampleInterval, long seed) {
+
+        public Options {
+            if (clients <= 0) {
+                throw new IllegalArgumentException("Número de clientes deve ser positivo: " + clients);
+            }
+            if (duration == null && maxRequests <= 0) {
+                throw new IllegalArgumentException("Informe a duração ou o número de requisições");
+            }
+            if (topicsPerRequest <= 0) {
+                throw new IllegalArgumentException("Tópicos por requisição deve ser positivo: " + topicsPerRequest);
+            }
+            topics = List.copyOf(topics);
+        }
+
+        public static Options defaults() {
+            return new Options(Runtime.getRuntime().availableProcessors(), Duration.ofSeconds(10), 0,
+                               DEFAULT_TOPICS, 0.99, 1, 0, Duration.ofSeconds(1), 42L);
+        }
+
+        public Options withClients(int value) {
+            return new Options(value, duration, maxRequests, topics, zipfExponent, topicsPerRequest,
+                               maxArticles, sampleInterval, seed);
+        }
+
+        public Options withDuration(Duration value) {
+            return new Options(clients, value, maxRequests, topics, zipfExponent, topicsPerRequest,
+                               maxArticles, sampleInterval, seed);
+        }
+
+        public Options withMaxRequests(long value) {
+            return new Options(clients, duration, value, topics, zipfExponent, topicsPerRequest,
+                               maxArticles, sampleInterval, seed);
+        }
+
+        public Options withTopics(List<String> value) {
+            return new Options(clients, duration, maxRequests, value, zipfExponent, topicsPerRequest,
+                               maxArticles, sampleInterval, seed);
+        }
+
+        public Options withZipfExponent(double value) {
+            return new Options(clients, duration, maxRequests, topics, value, topicsPerRequest,
+                               maxArticles, sampleInterval, seed);
+        }
+
+        public Options withTopicsPerRequest(int value) {
+            return new Options(clients, duration, maxRequests, topics, zipfExponent, value,
+                               maxArticles, sampleInterval, seed);
+        }
+
+        public Options withMaxArticles(int value) {
+            return new Options(clients, duration, maxRequests, topics, zipfExponent, topicsPerRequest,
+                               value, sampleInterval, seed);
+        }
+
+        public Options withSampleInterval(Duration value) {
+            return new Options(clients, duration, maxRequests, topics, zipfExponent, topicsPerRequest,
+                               maxArticles, value, seed);
+        }
+
+        public Options withSeed(long value) {
+            return new Options(clients, duration, maxRequests, topics, zipfExponent, topicsPerRequest,
+                               maxArticles, sampleInterval, value);
+        }
+    }
+
+    /**
+     * Amostra de um intervalo da execução
+     */
+    public record Sample(double elapsedSeconds, double requestsPerSecond, double p99Millis,
+                         double heapUsedMegabytes, long gcCount, long gcMillis) {
+
+        public String format() {
+            return String.format("%6.1fs  %8.1f req/s  p99=%7.2fms  heap=%7.1fMB  gc=%d (%dms)",
+                                 elapsedSeconds, requestsPerSecond, p99Millis, heapUsedMegabytes,
+                                 gcCount, gcMillis);
+        }
+    }
+
+    /**
+     * Resultado consolidado da carga
+     *
+     * @param blockedMillis Tempo somado dos clientes bloqueados em monitores, ou -1 se indisponível
+     */
+    public record SoakResult(int clients, long requests, long errors, long violations,
+                             int initialMaxResults, int finalMaxResults, long elapsedNanos,
+                             LatencySummary latency, long blockedMillis, List<Sample> timeline) {
+
+        public double requestsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public double errorRate() {
+            return requests == 0 ? 0.0 : (double) errors / requests;
+        }
+
+        /**
+         * Indica se a configuração compartilhada terminou diferente do início
+         */
+        public boolean configDrifted() {
+            return initialMaxResults != finalMaxResults;
+        }
+
+        public String format() {
+            StringBuilder sb = new StringBuilder(String.format(
+                "Requisições: %d em %.2fs (%.2f req/s) com %d cliente(s)\n" +
+                "Erros: %d (%.2f%%) | Relatórios acima do limite pedido: %d\n" +
+                "Latência: %s\n" +
+                "Tempo bloqueado em monitores: %s",
+                requests, elapsedNanos / 1_000_000_000.0, requestsPerSecond(), clients,
+                errors, errorRate() * 100, violations, latency.format(),
+                blockedMillis < 0 ? "indisponível" : blockedMillis + "ms"));
+            if (configDrifted()) {
+                sb.append(String.format("\nATENÇÃO: máximo de resultados mudou de %d para %d durante a carga",
+                                        initialMaxResults, finalMaxResults));
+            }
+            sb.append("\nLinha do tempo:");
+            for (Sample sample : timeline) {
+                sb.append("\n  ").append(sample.format());
+            }
+            return sb.toString();
+        }
+    }
+}
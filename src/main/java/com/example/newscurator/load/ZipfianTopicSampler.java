@@ -0,0 +1,72 @@
+package com.example.newscurator.load;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Sorteia tópicos segundo uma distribuição de Zipf
+ *
+ * O tópico de posição {@code k} (a partir de 1) tem peso {@code 1 / k^s}; com
+ * expoente 0 a distribuição é uniforme e, perto de 1, poucos tópicos "quentes"
+ * concentram a maior parte das requisições.
+ */
+public class ZipfianTopicSampler {
+
+    private final List<String> topics;
+    private final double[] cumulative;
+
+    public ZipfianTopicSampler(List<String> topics, double exponent) {
+        if (topics.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um tópico");
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Expoente de Zipf deve ser não negativo: " + exponent);
+        }
+        this.topics = List.copyOf(topics);
+        this.cumulative = new double[topics.size()];
+
+        double total = 0;
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    /**
+     * Sorteia um tópico usando o gerador do cliente (um por thread, sem disputa)
+     */
+    public String next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return topics.get(Math.min(index, topics.size() - 1));
+    }
+
+    /**
+     * Sorteia {@code count} tópicos distintos (ou todos, se houver menos)
+     */
+    public List<String> next(SplittableRandom random, int count) {
+        int limit = Math.min(count, topics.size());
+        String[] chosen = new String[limit];
+        int size = 0;
+        while (size < limit) {
+            String topic = next(random);
+            boolean duplicate = false;
+            for (int i = 0; i < size; i++) {
+                if (chosen[i].equals(topic)) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                chosen[size++] = topic;
+            }
+        }
+        return Arrays.asList(chosen);
+    }
+}
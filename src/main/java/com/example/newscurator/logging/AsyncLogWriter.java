@@ -0,0 +1,282 @@
+package com.example.newscurator.logging;
+
+import org.slf4j.event.Level;
+import org.slf4j.helpers.FormattingTuple;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Escritor de log assíncrono com buffer circular limitado
+ *
+ * As threads da curadoria formatam a linha e apenas a enfileiram; a escrita
+ * acontece em uma thread dedicada, que esvazia o buffer em lotes e grava no
+ * arquivo com um único flush por lote, sem que as threads disputem o arquivo.
+ *
+ * Política de sobrecarga: acima de 3/4 da capacidade, mensagens DEBUG/TRACE são
+ * amostradas (uma a cada {@code debugSampleRate}); com o buffer cheio, elas são
+ * descartadas. Mensagens INFO ou mais graves aguardam até {@code blockTimeoutMillis}
+ * por espaço antes de serem descartadas. Os descartes são contados e anotados
+ * no próprio arquivo.
+ *
+ * Se a escrita no arquivo falhar, o escritor se fecha e sai do {@link AsyncLogging}:
+ * as mensagens pendentes vão para a saída de erro e as seguintes voltam ao log
+ * síncrono, em vez de esperarem por um buffer que ninguém mais esvazia.
+ */
+public class AsyncLogWriter implements AutoCloseable {
+
+    private static final DateTimeFormatter TIMESTAMP =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final int MAX_BATCH = 512;
+    /** Espera após um lote parcial, para acumular mensagens em vez de acordar a cada uma */
+    private static final long LINGER_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String POISON = new String("");
+
+    private final Writer out;
+    private final ArrayBlockingQueue<String> buffer;
+    private final int highWaterMark;
+    private final int debugSampleRate;
+    private final long blockTimeoutMillis;
+    private final Level threshold;
+
+    private final AtomicLong debugSequence = new AtomicLong();
+    private final LongAdder droppedDebug = new LongAdder();
+    private final LongAdder droppedOther = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private long reportedDropped;
+
+    private final Thread writerThread;
+    private volatile boolean closed;
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(-1, "");
+
+    /**
+     * @param file Arquivo de destino (criado, com diretórios, se não existir; aberto para acréscimo)
+     * @param capacity Capacidade do buffer em mensagens
+     * @param threshold Nível mínimo registrado
+     */
+    public AsyncLogWriter(Path file, int capacity, int debugSampleRate, long blockTimeoutMillis,
+                          Level threshold) throws IOException {
+        this(openAppending(file), capacity, debugSampleRate, blockTimeoutMillis, threshold);
+    }
+
+    AsyncLogWriter(Writer out, int capacity, int debugSampleRate, long blockTimeoutMillis, Level threshold) {
+        if (capacity < 4) {
+            throw new IllegalArgumentException("Capacidade do buffer de log deve ser ao menos 4: " + capacity);
+        }
+        if (debugSampleRate <= 0) {
+            throw new IllegalArgumentException("Taxa de amostragem deve ser positiva: " + debugSampleRate);
+        }
+        this.out = out;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.highWaterMark = capacity - capacity / 4;
+        this.debugSampleRate = debugSampleRate;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.threshold = threshold;
+        this.writerThread = new Thread(this::drainLoop, "async-log-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    private static Writer openAppending(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                                       StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Inicia a thread de escrita
+     */
+    public AsyncLogWriter start() {
+        writerThread.start();
+        return this;
+    }
+
+    /**
+     * Indica se mensagens do nível informado são registradas
+     */
+    public boolean isEnabled(Level level) {
+        return level.toInt() >= threshold.toInt();
+    }
+
+    /**
+     * Enfileira uma mensagem; a linha é formatada pela thread chamadora, em paralelo,
+     * e apenas depois de a mensagem ser aceita pela política de sobrecarga
+     *
+     * @return false se a mensagem foi descartada
+     */
+    public boolean log(String loggerName, Level level, String message, Object[] arguments, Throwable throwable) {
+        if (closed || !isEnabled(level)) {
+            return false;
+        }
+
+        if (level.toInt() <= Level.DEBUG.toInt()) {
+            if (buffer.size() >= highWaterMark
+                    && debugSequence.incrementAndGet() % debugSampleRate != 0) {
+                droppedDebug.increment();
+                return false;
+            }
+            if (!buffer.offer(format(loggerName, level, message, arguments, throwable))) {
+                droppedDebug.increment();
+                return false;
+            }
+            return true;
+        }
+
+        String line = format(loggerName, level, message, arguments, throwable);
+        try {
+            if (buffer.offer(line) || buffer.offer(line, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedOther.increment();
+        return false;
+    }
+
+    private void drainLoop() {
+        List<String> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (true) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, MAX_BATCH - 1);
+
+                boolean stop = false;
+                int lines = 0;
+                for (String line : batch) {
+                    if (line == POISON) {
+                        stop = true;
+                    } else {
+                        out.write(line);
+                        lines++;
+                    }
+                }
+                writeDropNotice();
+                out.flush();
+                written.add(lines);
+                if (stop) {
+                    return;
+                }
+                if (batch.size() < MAX_BATCH) {
+                    LockSupport.parkNanos(LINGER_NANOS);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void fail(IOException e) {
+        closed = true;
+        AsyncLogging.uninstall(this);
+        System.err.println("Falha ao escrever log assíncrono, voltando ao log síncrono: " + e.getMessage());
+        List<String> pending = new ArrayList<>(buffer.size());
+        buffer.drainTo(pending);
+        for (String line : pending) {
+            if (line != POISON) {
+                System.err.print(line);
+            }
+        }
+    }
+
+    private void writeDropNotice() throws IOException {
+        long dropped = getDroppedCount();
+        if (dropped != reportedDropped) {
+            out.write(timestamp(System.currentTimeMillis())
+                + " [async-log-writer] WARN " + AsyncLogWriter.class.getName() + " - "
+                + (dropped - reportedDropped) + " mensagens descartadas por sobrecarga do buffer de log\n");
+            reportedDropped = dropped;
+        }
+    }
+
+    private String format(String loggerName, Level level, String message, Object[] arguments, Throwable throwable) {
+        FormattingTuple formatted = MessageFormatter.arrayFormat(message, arguments);
+        StringBuilder line = new StringBuilder(96 + loggerName.length() + (message != null ? message.length() : 0))
+            .append(timestamp(System.currentTimeMillis()))
+            .append(" [").append(Thread.currentThread().getName()).append("] ")
+            .append(level).append(' ')
+            .append(loggerName).append(" - ")
+            .append(formatted.getMessage()).append('\n');
+        Throwable cause = throwable != null ? throwable : formatted.getThrowable();
+        if (cause != null) {
+            StringWriter trace = new StringWriter();
+            cause.printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Reaproveita o texto do carimbo de tempo dentro do mesmo milissegundo
+     */
+    private String timestamp(long millis) {
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.millis() != millis) {
+            cached = new CachedTimestamp(millis, TIMESTAMP.format(Instant.ofEpochMilli(millis)));
+            cachedTimestamp = cached;
+        }
+        return cached.text();
+    }
+
+    /**
+     * Mensagens descartadas (amostradas ou sem espaço no buffer)
+     */
+    public long getDroppedCount() {
+        return droppedDebug.sum() + droppedOther.sum();
+    }
+
+    public long getDroppedDebugCount() {
+        return droppedDebug.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Para de aceitar mensagens, escreve as pendentes e fecha o arquivo
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (writerThread.isAlive()) {
+                buffer.put(POISON);
+                writerThread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+            out.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            System.err.println("Falha ao fechar log assíncrono: " + e.getMessage());
+        }
+    }
+
+    private record CachedTimestamp(long millis, String text) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.newscurator.logging;
+
+import com.example.newscurator.utils.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Modo de log assíncrono para os logs por tópico e por artigo da curadoria
+ *
+ * Os componentes do pipeline obtêm seus loggers por {@link #getLogger(Class)}.
+ * Enquanto o modo assíncrono não é instalado, as mensagens seguem para o
+ * slf4j-simple como antes; com {@code logging.async.enabled=true}, passam a ser
+ * enfileiradas em um {@link AsyncLogWriter} que grava em {@code logging.file.path}.
+ */
+public final class AsyncLogging {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLogging.class);
+
+    private static volatile AsyncLogWriter writer;
+
+    private AsyncLogging() {
+    }
+
+    /**
+     * Logger que segue o modo de log atual (síncrono ou assíncrono)
+     */
+    public static Logger getLogger(Class<?> type) {
+        return new RoutingLogger(LoggerFactory.getLogger(type));
+    }
+
+    /**
+     * Instala o modo assíncrono se habilitado na configuração
+     *
+     * @return true se o modo assíncrono está ativo
+     */
+    public static synchronized boolean installIfEnabled(ConfigManager configManager) {
+        if (!Boolean.parseBoolean(configManager.getProperty("logging.async.enabled", "false"))) {
+            return false;
+        }
+        if (writer != null) {
+            return true;
+        }
+        try {
+            AsyncLogWriter created = new AsyncLogWriter(
+                Paths.get(configManager.getLogFilePath()),
+                Integer.parseInt(configManager.getProperty("logging.async.buffer.size", "8192")),
+                Integer.parseInt(configManager.getProperty("logging.async.debug.sample.rate", "16")),
+                Long.parseLong(configManager.getProperty("logging.async.block.timeout.ms", "5")),
+                Level.valueOf(configManager.getLoggingLevel().trim().toUpperCase()));
+            install(created.start());
+            Runtime.getRuntime().addShutdownHook(new Thread(AsyncLogging::shutdown, "async-log-shutdown"));
+            logger.info("Log assíncrono ativo em {}", configManager.getLogFilePath());
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Não foi possível ativar o log assíncrono, mantendo o log síncrono", e);
+            return false;
+        }
+    }
+
+    /**
+     * Passa a enviar os logs do pipeline para o escritor informado (já iniciado)
+     */
+    public static synchronized void install(AsyncLogWriter asyncWriter) {
+        AsyncLogWriter previous = writer;
+        writer = asyncWriter;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Volta ao log síncrono se o escritor informado ainda for o ativo (usado quando ele falha)
+     */
+    static synchronized void uninstall(AsyncLogWriter failed) {
+        if (writer == failed) {
+            writer = null;
+        }
+    }
+
+    /**
+     * Volta ao log síncrono, escrevendo as mensagens pendentes
+     */
+    public static synchronized void shutdown() {
+        AsyncLogWriter current = writer;
+        writer = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * Escritor assíncrono ativo, ou null no modo síncrono
+     */
+    public static AsyncLogWriter currentWriter() {
+        return writer;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.newscurator.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.AbstractLogger;
+
+import java.util.Arrays;
+
+/**
+ * Logger que envia as mensagens ao {@link AsyncLogWriter} ativo ou, sem ele, ao logger SLF4J original
+ */
+final class RoutingLogger extends AbstractLogger {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Logger delegate;
+
+    RoutingLogger(Logger delegate) {
+        this.delegate = delegate;
+        this.name = delegate.getName();
+    }
+
+    private boolean isEnabled(Level level) {
+        AsyncLogWriter writer = AsyncLogging.currentWriter();
+        if (writer != null) {
+            return writer.isEnabled(level);
+        }
+        return delegate.isEnabledForLevel(level);
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String message,
+                                               Object[] arguments, Throwable throwable) {
+        AsyncLogWriter writer = AsyncLogging.currentWriter();
+        if (writer != null) {
+            writer.log(name, level, message, arguments, throwable);
+            return;
+        }
+
+        Object[] delegateArguments = arguments;
+        if (throwable != null) {
+            int length = arguments == null ? 0 : arguments.length;
+            delegateArguments = arguments == null ? new Object[1] : Arrays.copyOf(arguments, length + 1);
+            delegateArguments[length] = throwable;
+        }
+        switch (level) {
+            case ERROR -> delegate.error(marker, message, delegateArguments);
+            case WARN -> delegate.warn(marker, message, delegateArguments);
+            case INFO -> delegate.info(marker, message, delegateArguments);
+            case DEBUG -> delegate.debug(marker, message, delegateArguments);
+            case TRACE -> delegate.trace(marker, message, delegateArguments);
+        }
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return isEnabled(Level.TRACE);
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return isEnabled(Level.TRACE);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return isEnabled(Level.DEBUG);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return isEnabled(Level.INFO);
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return isEnabled(Level.INFO);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return isEnabled(Level.WARN);
+    }
+
+    @Override
+    public boolean isWarnEnabled(Marker marker) {
+        return isEnabled(Level.WARN);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return isEnabled(Level.ERROR);
+    }
+
+    @Override
+    public boolean isErrorEnabled(Marker marker) {
+        return isEnabled(Level.ERROR);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.newscurator.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latências de baixo custo, seguro para escrita concorrente
+ *
+ * Usa baldes log-lineares (8 sub-baldes por potência de 2, erro relativo de até
+ * 12,5%) e distribui as gravações em faixas indexadas pela thread, de modo que
+ * threads diferentes raramente disputam a mesma linha de cache. A leitura soma
+ * todas as faixas e é aproximada sob escrita concorrente.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /** Slots extras por faixa: soma total e máximo */
+    private static final int SUM_SLOT = BUCKETS;
+    private static final int MAX_SLOT = BUCKETS + 1;
+    private static final int STRIPE_LENGTH = BUCKETS + 2;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    public LatencyHistogram() {
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(STRIPE_LENGTH);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Registra uma latência em nanossegundos
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        AtomicLongArray stripe = stripes[stripeIndex()];
+        stripe.incrementAndGet(bucketIndex(value));
+        stripe.addAndGet(SUM_SLOT, value);
+
+        long max = stripe.get(MAX_SLOT);
+        while (value > max && !stripe.compareAndSet(MAX_SLOT, max, value)) {
+            max = stripe.get(MAX_SLOT);
+        }
+    }
+
+    /**
+     * Soma todas as faixas em um snapshot imutável
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        long sum = 0;
+        long max = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                long count = stripe.get(bucket);
+                counts[bucket] += count;
+                total += count;
+            }
+            sum += stripe.get(SUM_SLOT);
+            max = Math.max(max, stripe.get(MAX_SLOT));
+        }
+        return new Snapshot(counts, total, sum, max);
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & stripeMask;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) * width) + width - 1;
+    }
+
+    /**
+     * Estado agregado do histograma em um instante
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMaxNanos() {
+            return max;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        /**
+         * Valor no quantil informado (0.0 a 1.0), limitado ao máximo observado
+         */
+        public long getValueAtQuantile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(quantile * count));
+            long cumulative = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                cumulative += counts[bucket];
+                if (cumulative >= target) {
+                    return Math.min(bucketUpperBound(bucket), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.newscurator.metrics;
+
+import java.util.Map;
+
+/**
+ * Snapshot imutável das métricas do pipeline
+ *
+ * @param uptimeSeconds Tempo desde a criação das métricas
+ * @param stages Métricas por estágio
+ */
+public record MetricsSnapshot(double uptimeSeconds, Map<PipelineStage, StageSnapshot> stages) {
+
+    public MetricsSnapshot {
+        stages = Map.copyOf(stages);
+    }
+
+    public StageSnapshot stage(PipelineStage stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * Métricas de um estágio; latências em milissegundos
+     */
+    public record StageSnapshot(long invocations, long items, double itemsPerSecond,
+                                double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+        public String format() {
+            return String.format("%d execuções, %d artigos (%.1f/s), p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                                 invocations, items, itemsPerSecond, p50Millis, p90Millis, p99Millis, maxMillis);
+        }
+    }
+}
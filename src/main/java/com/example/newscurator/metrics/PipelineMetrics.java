@@ -0,0 +1,67 @@
+package com.example.newscurator.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências e contadores de vazão por estágio do pipeline
+ *
+ * A gravação usa apenas {@link LongAdder}s e o {@link LatencyHistogram} em faixas,
+ * sem locks, para que a instrumentação não se torne ponto de contenção.
+ */
+public class PipelineMetrics {
+
+    private final Map<PipelineStage, StageRecorder> recorders = new EnumMap<>(PipelineStage.class);
+    private final long startNanos = System.nanoTime();
+
+    public PipelineMetrics() {
+        for (PipelineStage stage : PipelineStage.values()) {
+            recorders.put(stage, new StageRecorder());
+        }
+    }
+
+    /**
+     * Registra uma execução de estágio
+     *
+     * @param stage Estágio executado
+     * @param nanos Duração em nanossegundos
+     * @param items Número de artigos processados
+     */
+    public void record(PipelineStage stage, long nanos, int items) {
+        StageRecorder recorder = recorders.get(stage);
+        recorder.latency.record(nanos);
+        recorder.items.add(items);
+    }
+
+    /**
+     * Snapshot legível por máquina de todos os estágios
+     */
+    public MetricsSnapshot snapshot() {
+        double uptimeSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        Map<PipelineStage, MetricsSnapshot.StageSnapshot> stages = new EnumMap<>(PipelineStage.class);
+        recorders.forEach((stage, recorder) -> {
+            LatencyHistogram.Snapshot latency = recorder.latency.snapshot();
+            long items = recorder.items.sum();
+            stages.put(stage, new MetricsSnapshot.StageSnapshot(
+                latency.getCount(),
+                items,
+                uptimeSeconds > 0 ? items / uptimeSeconds : 0.0,
+                toMillis(latency.getValueAtQuantile(0.50)),
+                toMillis(latency.getValueAtQuantile(0.90)),
+                toMillis(latency.getValueAtQuantile(0.99)),
+                toMillis(latency.getMaxNanos())
+            ));
+        });
+        return new MetricsSnapshot(uptimeSeconds, stages);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class StageRecorder {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder items = new LongAdder();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.newscurator.metrics;
+
+/**
+ * Estágios instrumentados do pipeline de curadoria
+ *
+ * {@link #FIRST_ARTICLE} não é um estágio: mede, na curadoria em fluxo, o tempo
+ * entre a assinatura e a entrega do primeiro artigo.
+ */
+public enum PipelineStage {
+    SEARCH("busca"),
+    DEDUP("deduplicação"),
+    FETCH("download do texto"),
+    CATEGORIZE("categorização"),
+    SUMMARIZE("resumo"),
+    RANK("ranking"),
+    REPORT("relatório"),
+    FIRST_ARTICLE("primeiro artigo");
+
+    private final String label;
+
+    PipelineStage(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
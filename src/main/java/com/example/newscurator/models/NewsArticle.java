@@ -36,6 +36,15 @@ public class NewsArticle {
     @JsonProperty("sentiment")
     private String sentiment; // POSITIVE, NEGATIVE, NEUTRAL
     
+    @JsonProperty("body")
+    private String body; // Texto completo, quando a fonte o fornece
+    
+    @JsonProperty("topics")
+    private List<String> topics; // Tópicos da curadoria que encontraram o artigo
+    
+    @JsonProperty("coverage")
+    private List<String> coverage; // Fontes que publicaram a mesma notícia (inclui a própria); null se só uma
+    
     // Construtores
     public NewsArticle() {}
     
@@ -48,6 +57,24 @@ public class NewsArticle {
         this.relevanceScore = 0.0;
     }
     
+    /**
+     * Cópia do artigo; as listas são copiadas para que alterações posteriores no original não a afetem
+     */
+    public NewsArticle(NewsArticle other) {
+        this.title = other.title;
+        this.summary = other.summary;
+        this.url = other.url;
+        this.source = other.source;
+        this.category = other.category;
+        this.publishedAt = other.publishedAt;
+        this.relevanceScore = other.relevanceScore;
+        this.keywords = other.keywords != null ? List.copyOf(other.keywords) : null;
+        this.sentiment = other.sentiment;
+        this.body = other.body;
+        this.topics = other.topics != null ? List.copyOf(other.topics) : null;
+        this.coverage = other.coverage != null ? List.copyOf(other.coverage) : null;
+    }
+    
     // Getters e Setters
     public String getTitle() {
         return title;
@@ -121,6 +148,30 @@ public class NewsArticle {
         this.sentiment = sentiment;
     }
     
+    public String getBody() {
+        return body;
+    }
+    
+    public void setBody(String body) {
+        this.body = body;
+    }
+    
+    public List<String> getTopics() {
+        return topics;
+    }
+    
+    public void setTopics(List<String> topics) {
+        this.topics = topics;
+    }
+    
+    public List<String> getCoverage() {
+        return coverage;
+    }
+    
+    public void setCoverage(List<String> coverage) {
+        this.coverage = coverage;
+    }
+    
     @Override
     public String toString() {
         return String.format("NewsArticle{title='%s', source='%s', category='%s', relevanceScore=%.2f}", 
@@ -34,6 +34,12 @@ public class NewsReport {
     @JsonProperty("averageRelevanceScore")
     private double averageRelevanceScore;
     
+    @JsonProperty("partial")
+    private boolean partial; // Curadoria interrompida pelo prazo; faltam tópicos ou resumos
+    
+    @JsonProperty("trendingKeywords")
+    private Map<String, Long> trendingKeywords; // Palavras em alta nas curadorias recentes e ocorrências estimadas
+    
     // Construtores
     public NewsReport() {
         this.generatedAt = LocalDateTime.now();
@@ -119,6 +125,22 @@ public class NewsReport {
         this.averageRelevanceScore = averageRelevanceScore;
     }
     
+    public boolean isPartial() {
+        return partial;
+    }
+    
+    public void setPartial(boolean partial) {
+        this.partial = partial;
+    }
+    
+    public Map<String, Long> getTrendingKeywords() {
+        return trendingKeywords;
+    }
+    
+    public void setTrendingKeywords(Map<String, Long> trendingKeywords) {
+        this.trendingKeywords = trendingKeywords;
+    }
+    
     @Override
     public String toString() {
         return String.format("NewsReport{title='%s', totalArticles=%d, averageRelevanceScore=%.2f}", 
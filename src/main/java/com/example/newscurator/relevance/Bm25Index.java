@@ -0,0 +1,334 @@
+package com.example.newscurator.relevance;
+
+import com.example.newscurator.models.NewsArticle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória com pontuação BM25
+ *
+ * Indexa título, palavras-chave e corpo dos artigos com pesos por campo
+ * (3, 2 e 1: um termo no título vale três ocorrências no corpo). As listas de
+ * postings são arrays primitivos ordenados por documento, preenchidos só por
+ * acréscimo; um artigo que volta com conteúdo diferente recebe um novo id e o
+ * antigo é marcado como removido. Cada lista conta à parte os documentos ativos,
+ * de modo que a frequência de documentos (e o IDF) ignora os removidos. Ao atingir
+ * o limite de documentos o índice é reiniciado.
+ *
+ * Os scores são normalizados para [0, 1): 0 quando nenhum termo da consulta
+ * aparece no artigo, próximo de 1 quando todos aparecem com frequência alta.
+ * Leituras são concorrentes; escritas são exclusivas.
+ */
+public class Bm25Index {
+
+    public static final int DEFAULT_MAX_DOCUMENTS = 100_000;
+
+    static final int TITLE_WEIGHT = 3;
+    static final int KEYWORD_WEIGHT = 2;
+    static final int BODY_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final int maxDocuments;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<Postings> postings = new ArrayList<>();
+    private final Map<String, Integer> documentIds = new HashMap<>();
+    private final BitSet removed = new BitSet();
+    private int[] lengths = new int[1024];
+    private int[] fingerprints = new int[1024];
+    /** Termos de cada documento, para descontar a frequência de documentos na remoção */
+    private int[][] documentTerms = new int[1024][];
+    private int documentCount;
+    private int liveCount;
+    private long totalLength;
+
+    public Bm25Index() {
+        this(DEFAULT_MAX_DOCUMENTS);
+    }
+
+    public Bm25Index(int maxDocuments) {
+        if (maxDocuments <= 0) {
+            throw new IllegalArgumentException("maxDocuments deve ser positivo");
+        }
+        this.maxDocuments = maxDocuments;
+    }
+
+    /**
+     * Indexa um artigo (ou reaproveita o id se ele já estiver indexado sem mudanças)
+     *
+     * @return Id do documento no índice
+     */
+    public int add(NewsArticle article) {
+        lock.writeLock().lock();
+        try {
+            if (documentCount >= maxDocuments) {
+                clear();
+            }
+            return addLocked(article);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Pontua documentos já indexados contra uma consulta
+     *
+     * @param query Consulta com uma ou mais palavras
+     * @param documentIds Ids devolvidos por {@link #add}
+     * @return Scores normalizados, na mesma ordem dos ids
+     */
+    public double[] score(String query, int[] documentIds) {
+        lock.readLock().lock();
+        try {
+            return scoreLocked(query, documentIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexa os artigos e define o score de relevância de cada um para o tópico
+     */
+    public void scoreArticles(String topic, List<NewsArticle> articles) {
+        int[] ids = new int[articles.size()];
+        lock.writeLock().lock();
+        try {
+            // Reinicia antes do lote para que todos os ids continuem válidos na pontuação
+            if (documentCount + ids.length > maxDocuments) {
+                clear();
+            }
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = addLocked(articles.get(i));
+            }
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            double[] scores = scoreLocked(topic, ids);
+            for (int i = 0; i < ids.length; i++) {
+                articles.get(i).setRelevanceScore(scores[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documentos ativos no índice
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Termos distintos no dicionário
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int addLocked(NewsArticle article) {
+        String key = article.getUrl() + '\n' + article.getTitle();
+        int fingerprint = fingerprint(article);
+        Integer existing = documentIds.get(key);
+        if (existing != null) {
+            if (fingerprints[existing] == fingerprint) {
+                return existing;
+            }
+            removed.set(existing);
+            liveCount--;
+            totalLength -= lengths[existing];
+            for (int termId : documentTerms[existing]) {
+                postings.get(termId).live--;
+            }
+            documentTerms[existing] = null;
+        }
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        PortugueseAnalyzer.tokenize(article.getTitle(), term -> count(frequencies, term, TITLE_WEIGHT));
+        if (article.getKeywords() != null) {
+            for (String keyword : article.getKeywords()) {
+                PortugueseAnalyzer.tokenize(keyword, term -> count(frequencies, term, KEYWORD_WEIGHT));
+            }
+        }
+        PortugueseAnalyzer.tokenize(article.getBody(), term -> count(frequencies, term, BODY_WEIGHT));
+
+        int id = documentCount++;
+        if (id == lengths.length) {
+            lengths = Arrays.copyOf(lengths, id * 2);
+            fingerprints = Arrays.copyOf(fingerprints, id * 2);
+            documentTerms = Arrays.copyOf(documentTerms, id * 2);
+        }
+        int length = 0;
+        int[] terms = new int[frequencies.size()];
+        int termCount = 0;
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            int frequency = entry.getValue()[0];
+            int termId = termId(entry.getKey());
+            postings.get(termId).append(id, frequency);
+            terms[termCount++] = termId;
+            length += frequency;
+        }
+        lengths[id] = length;
+        documentTerms[id] = terms;
+        fingerprints[id] = fingerprint;
+        totalLength += length;
+        liveCount++;
+        documentIds.put(key, id);
+        return id;
+    }
+
+    private double[] scoreLocked(String query, int[] ids) {
+        double[] scores = new double[ids.length];
+        if (ids.length == 0 || liveCount == 0) {
+            return scores;
+        }
+
+        // Candidatos ordenados por documento, guardando a posição original nos 32 bits baixos
+        long[] sorted = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            sorted[i] = ((long) ids[i] << 32) | i;
+        }
+        Arrays.sort(sorted);
+
+        double averageLength = (double) totalLength / liveCount;
+        double maxScore = 0;
+        for (String term : queryTerms(query)) {
+            Integer termId = termIds.get(term);
+            int documentFrequency = termId == null ? 0 : postings.get(termId).live;
+            double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            maxScore += idf * (K1 + 1);
+            if (termId != null) {
+                accumulate(postings.get(termId), idf, averageLength, sorted, scores);
+            }
+        }
+        if (maxScore > 0) {
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] /= maxScore;
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Percorre candidatos e postings em paralelo, avançando nos postings por busca exponencial
+     */
+    private void accumulate(Postings list, double idf, double averageLength, long[] sorted, double[] scores) {
+        int position = 0;
+        for (long candidate : sorted) {
+            int document = (int) (candidate >>> 32);
+            position = list.advance(position, document);
+            if (position == list.size) {
+                return;
+            }
+            if (list.documents[position] == document && !removed.get(document)) {
+                int frequency = list.frequencies[position];
+                double norm = K1 * (1 - B + B * lengths[document] / averageLength);
+                scores[(int) candidate] += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+        }
+    }
+
+    private int termId(String term) {
+        Integer termId = termIds.get(term);
+        if (termId == null) {
+            termId = postings.size();
+            termIds.put(term, termId);
+            postings.add(new Postings());
+        }
+        return termId;
+    }
+
+    private void clear() {
+        termIds.clear();
+        postings.clear();
+        documentIds.clear();
+        removed.clear();
+        Arrays.fill(documentTerms, 0, documentCount, null);
+        documentCount = 0;
+        liveCount = 0;
+        totalLength = 0;
+    }
+
+    private static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        PortugueseAnalyzer.tokenize(query, terms::add);
+        return terms;
+    }
+
+    private static void count(Map<String, int[]> frequencies, String term, int weight) {
+        frequencies.computeIfAbsent(term, t -> new int[1])[0] += weight;
+    }
+
+    private static int fingerprint(NewsArticle article) {
+        int hash = String.valueOf(article.getTitle()).hashCode();
+        hash = 31 * hash + (article.getKeywords() != null ? article.getKeywords().hashCode() : 0);
+        return 31 * hash + (article.getBody() != null ? article.getBody().hashCode() : 0);
+    }
+
+    /**
+     * Lista de postings de um termo: ids crescentes e frequências ponderadas
+     *
+     * {@code size} inclui os documentos removidos, que continuam na lista;
+     * {@code live} conta só os ativos e é a frequência de documentos do termo.
+     */
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int live;
+
+        void append(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+            live++;
+        }
+
+        /**
+         * Primeira posição a partir de {@code from} com id maior ou igual ao documento
+         */
+        int advance(int from, int document) {
+            if (from >= size || documents[from] >= document) {
+                return from;
+            }
+            int step = 1;
+            int low = from;
+            int high = from + 1;
+            while (high < size && documents[high] < document) {
+                low = high;
+                step <<= 1;
+                high = from + step;
+            }
+            high = Math.min(high, size);
+            int found = Arrays.binarySearch(documents, low + 1, high, document);
+            return found >= 0 ? found : -found - 1;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.newscurator.relevance;
+
+import com.example.newscurator.models.NewsArticle;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+/**
+ * Decaimento exponencial do score de relevância com a idade do artigo
+ *
+ * O peso cai pela metade a cada meia-vida: com meia-vida de 24 horas, um artigo de
+ * ontem precisa do dobro da relevância de um artigo de agora para ficar à frente.
+ * Artigos sem data de publicação não sofrem decaimento.
+ */
+public final class FreshnessDecay {
+
+    private final double halfLifeSeconds;
+
+    public FreshnessDecay(Duration halfLife) {
+        if (halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("Meia-vida deve ser positiva: " + halfLife);
+        }
+        this.halfLifeSeconds = halfLife.toMillis() / 1000.0;
+    }
+
+    /**
+     * Peso entre 0 e 1 de um artigo publicado em {@code publishedAt}, visto de {@code reference}
+     */
+    public double weight(LocalDateTime publishedAt, LocalDateTime reference) {
+        if (publishedAt == null) {
+            return 1.0;
+        }
+        long age = reference.toEpochSecond(ZoneOffset.UTC) - publishedAt.toEpochSecond(ZoneOffset.UTC);
+        return age <= 0 ? 1.0 : Math.pow(0.5, age / halfLifeSeconds);
+    }
+
+    /**
+     * Score de relevância do artigo com o decaimento aplicado
+     */
+    public double score(NewsArticle article, LocalDateTime reference) {
+        return article.getRelevanceScore() * weight(article.getPublishedAt(), reference);
+    }
+
+    /**
+     * Instante de referência para ordenar um lote: a publicação mais recente, limitada a {@code now}
+     *
+     * Medir a idade a partir do artigo mais novo, e não do relógio, mantém a ordem
+     * de lotes antigos (corpora de teste, reprocessamentos) igual à que teriam quando
+     * eram recentes; para fontes ao vivo, as duas referências praticamente coincidem.
+     */
+    public static LocalDateTime reference(Collection<NewsArticle> articles, LocalDateTime now) {
+        LocalDateTime newest = null;
+        for (NewsArticle article : articles) {
+            LocalDateTime publishedAt = article.getPublishedAt();
+            if (publishedAt != null && (newest == null || publishedAt.isAfter(newest))) {
+                newest = publishedAt;
+            }
+        }
+        return newest == null || newest.isAfter(now) ? now : newest;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.newscurator.relevance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Tokenizador para textos em português
+ *
+ * Converte para minúsculas, remove acentos e cedilha ("Saúde" e "saude" viram
+ * o mesmo termo), separa em sequências de letras e dígitos e descarta
+ * palavras vazias e termos de uma letra. Não aplica stemming.
+ */
+public final class PortugueseAnalyzer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "o", "as", "os", "um", "uma", "uns", "umas", "de", "do", "da", "dos", "das",
+        "em", "no", "na", "nos", "nas", "por", "pelo", "pela", "pelos", "pelas", "para", "pra",
+        "com", "sem", "sob", "sobre", "entre", "ate", "apos", "ao", "aos", "e", "ou", "mas",
+        "que", "se", "nao", "mais", "menos", "muito", "como", "quando", "onde", "ja", "tambem",
+        "seu", "sua", "seus", "suas", "ele", "ela", "eles", "elas", "este", "esta", "esse",
+        "essa", "isso", "isto", "aquele", "aquela", "foi", "ser", "sao", "estao", "tem");
+
+    /** Hashes (String.hashCode) das palavras vazias, ordenados para busca binária */
+    private static final int[] STOPWORD_HASHES = STOPWORDS.stream().mapToInt(String::hashCode).sorted().toArray();
+
+    private PortugueseAnalyzer() {
+    }
+
+    /**
+     * Entrega cada termo do texto, na ordem, ao consumidor
+     */
+    public static void tokenize(String text, Consumer<String> terms) {
+        tokenize(text, Integer.MAX_VALUE, terms);
+    }
+
+    /**
+     * Entrega no máximo {@code limit} termos, sem percorrer o restante do texto
+     *
+     * @return Número de termos entregues
+     */
+    public static int tokenize(String text, int limit, Consumer<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int emitted = 0;
+        StringBuilder term = new StringBuilder(16);
+        for (int i = 0; i <= text.length() && emitted < limit; i++) {
+            char c = i < text.length() ? fold(text.charAt(i)) : ' ';
+            if (c < 128 ? (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') : Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (term.length() > 0) {
+                if (emit(term, terms)) {
+                    emitted++;
+                }
+                term.setLength(0);
+            }
+        }
+        return emitted;
+    }
+
+    /**
+     * Grava o hash de cada termo (igual ao {@code hashCode()} do termo) sem criar strings
+     *
+     * Palavras vazias são reconhecidas pelo hash, de modo que um termo raro com o
+     * mesmo hash de uma delas também é descartado; adequado para assinaturas, não
+     * para indexação.
+     *
+     * @return Número de hashes gravados a partir de {@code offset}, até {@code limit}
+     */
+    public static int tokenHashes(String text, int limit, int[] hashes, int offset) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int emitted = 0;
+        int hash = 0;
+        int length = 0;
+        for (int i = 0; i <= text.length() && emitted < limit; i++) {
+            char c = i < text.length() ? fold(text.charAt(i)) : ' ';
+            if (c < 128 ? (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') : Character.isLetterOrDigit(c)) {
+                hash = 31 * hash + c;
+                length++;
+            } else if (length > 0) {
+                if (length >= 2 && Arrays.binarySearch(STOPWORD_HASHES, hash) < 0) {
+                    hashes[offset + emitted++] = hash;
+                }
+                hash = 0;
+                length = 0;
+            }
+        }
+        return emitted;
+    }
+
+    /**
+     * Termos do texto em uma lista (com repetições)
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, tokens::add);
+        return tokens;
+    }
+
+    private static boolean emit(StringBuilder term, Consumer<String> terms) {
+        if (term.length() < 2) {
+            return false;
+        }
+        String value = term.toString();
+        if (STOPWORDS.contains(value)) {
+            return false;
+        }
+        terms.accept(value);
+        return true;
+    }
+
+    /**
+     * Minúscula sem acento; cobre os caracteres acentuados usados em português
+     */
+    public static char fold(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+        }
+        return switch (Character.toLowerCase(c)) {
+            case 'á', 'à', 'â', 'ã', 'ä' -> 'a';
+            case 'é', 'è', 'ê', 'ë' -> 'e';
+            case 'í', 'ì', 'î', 'ï' -> 'i';
+            case 'ó', 'ò', 'ô', 'õ', 'ö' -> 'o';
+            case 'ú', 'ù', 'û', 'ü' -> 'u';
+            case 'ç' -> 'c';
+            case 'ñ' -> 'n';
+            default -> Character.toLowerCase(c);
+        };
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.newscurator.resilience;
+
+import com.example.newscurator.logging.AsyncLogging;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Disjuntor de chamadas a uma fonte instável
+ *
+ * Fechado, deixa tudo passar e conta, em janelas de {@code windowSize} chamadas,
+ * as falhas e as chamadas lentas. Quando uma das taxas atinge o limiar (com ao
+ * menos {@code minCalls} chamadas na janela), abre: as chamadas falham na hora,
+ * sem consumir a fonte, durante {@code openDuration}. Depois fica meio-aberto e
+ * deixa passar {@code probes} chamadas de teste; se todas forem rápidas e bem
+ * sucedidas fecha de novo, senão volta a abrir.
+ *
+ * O caminho comum é sem lock: com o disjuntor fechado, {@link #tryAcquire()} é uma
+ * leitura volátil e o registro do resultado um único incremento atômico dos
+ * contadores da janela, empacotados em um {@code long}.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = AsyncLogging.getLogger(CircuitBreaker.class);
+
+    /**
+     * Estado do disjuntor
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int COUNTER_BITS = 21;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long SLOW = 1L;
+    private static final long FAILURE = 1L << COUNTER_BITS;
+    private static final long CALL = 1L << (2 * COUNTER_BITS);
+
+    private final String name;
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int probes;
+
+    private final AtomicReference<Phase> phase;
+    private final AtomicLong window = new AtomicLong();
+
+    /**
+     * @param name Nome da fonte, usado nos logs
+     * @param windowSize Chamadas por janela de contagem
+     * @param minCalls Chamadas mínimas na janela para avaliar as taxas
+     * @param failureRateThreshold Fração de falhas que abre o disjuntor
+     * @param slowCall Latência a partir da qual uma chamada é lenta
+     * @param slowCallRateThreshold Fração de chamadas lentas que abre o disjuntor
+     * @param openDuration Tempo aberto antes de testar a fonte de novo
+     * @param probes Chamadas de teste no estado meio-aberto
+     */
+    public CircuitBreaker(String name, int windowSize, int minCalls, double failureRateThreshold,
+                          Duration slowCall, double slowCallRateThreshold,
+                          Duration openDuration, int probes) {
+        if (windowSize <= 0 || windowSize > COUNTER_MASK || minCalls <= 0 || probes <= 0) {
+            throw new IllegalArgumentException("Parâmetros inválidos do disjuntor " + name);
+        }
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCall.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.probes = probes;
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, System.nanoTime(), 0));
+    }
+
+    /**
+     * Pede passagem para uma chamada
+     *
+     * @return true se a chamada pode ser feita; nesse caso registre o resultado com
+     *         {@link #onSuccess(long)} ou {@link #onFailure(long)}, ou devolva a passagem
+     *         com {@link #release()} se a chamada foi cancelada
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return true;
+                case HALF_OPEN:
+                    return current.permits.getAndDecrement() > 0;
+                default:
+                    if (System.nanoTime() - current.sinceNanos < openNanos) {
+                        return false;
+                    }
+                    transition(current, State.HALF_OPEN);
+            }
+        }
+    }
+
+    /**
+     * Registra uma chamada concluída com sucesso; acima do limiar de latência conta como lenta
+     */
+    public void onSuccess(long latencyNanos) {
+        record(false, latencyNanos >= slowCallNanos);
+    }
+
+    /**
+     * Registra uma chamada que falhou
+     */
+    public void onFailure(long latencyNanos) {
+        record(true, latencyNanos >= slowCallNanos);
+    }
+
+    /**
+     * Devolve a passagem de uma chamada cancelada por quem a fez, sem contar como falha
+     *
+     * Um cancelamento (prazo da curadoria, interrupção) não diz nada sobre a fonte; no
+     * estado meio-aberto, a chamada de teste volta a ficar disponível.
+     */
+    public void release() {
+        Phase current = phase.get();
+        if (current.state == State.HALF_OPEN) {
+            current.permits.incrementAndGet();
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        Phase current = phase.get();
+        if (current.state == State.HALF_OPEN) {
+            if (failed || slow) {
+                transition(current, State.OPEN);
+            } else if (current.successes.incrementAndGet() >= probes) {
+                transition(current, State.CLOSED);
+            }
+            return;
+        }
+        if (current.state == State.OPEN) {
+            // Resultado de uma chamada admitida antes de abrir
+            return;
+        }
+
+        long counters = window.addAndGet(CALL + (failed ? FAILURE : 0) + (slow ? SLOW : 0));
+        long calls = counters >>> (2 * COUNTER_BITS);
+        long failures = (counters >>> COUNTER_BITS) & COUNTER_MASK;
+        long slowCalls = counters & COUNTER_MASK;
+        if (calls >= minCalls && (failures >= calls * failureRateThreshold
+                                  || slowCalls >= calls * slowCallRateThreshold)) {
+            if (transition(current, State.OPEN)) {
+                logger.warn("Disjuntor da fonte {} aberto: {} falhas e {} chamadas lentas em {}",
+                            name, failures, slowCalls, calls);
+            }
+        } else if (calls >= windowSize) {
+            // Nova janela; se outro resultado chegou antes, o próximo a completa a reinicia
+            window.compareAndSet(counters, 0);
+        }
+    }
+
+    private boolean transition(Phase from, State to) {
+        if (!phase.compareAndSet(from, new Phase(to, System.nanoTime(), to == State.HALF_OPEN ? probes : 0))) {
+            return false;
+        }
+        if (to != State.HALF_OPEN) {
+            window.set(0);
+        }
+        if (to == State.CLOSED) {
+            logger.info("Disjuntor da fonte {} fechado", name);
+        }
+        return true;
+    }
+
+    public State getState() {
+        return phase.get().state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Estado atual e instante da última transição
+     */
+    private static final class Phase {
+        private final State state;
+        private final long sinceNanos;
+        private final AtomicInteger permits;
+        private final AtomicInteger successes = new AtomicInteger();
+
+        Phase(State state, long sinceNanos, int permits) {
+            this.state = state;
+            this.sinceNanos = sinceNanos;
+            this.permits = new AtomicInteger(permits);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.newscurator.resilience;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.sources.NewsSource;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fonte protegida por limite de taxa e disjuntor próprios
+ *
+ * Cada provedor tem a sua cota e a sua instabilidade, por isso cada fonte recebe o
+ * seu {@link TokenBucket} e o seu {@link CircuitBreaker}. Uma busca sem ficha ou com
+ * o disjuntor aberto falha com {@link RejectedExecutionException}, sem chamar a fonte.
+ * Uma busca cancelada por quem a fez ({@link CancellationException} ou interrupção,
+ * como no prazo da curadoria) não conta como falha do provedor.
+ */
+public class GuardedNewsSource implements NewsSource {
+
+    private final String name;
+    private final NewsSource delegate;
+    private final TokenBucket rateLimit;
+    private final CircuitBreaker breaker;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    /**
+     * @param rateLimit Limite de taxa, ou null para não limitar
+     * @param breaker Disjuntor, ou null para chamar a fonte sempre
+     */
+    public GuardedNewsSource(String name, NewsSource delegate, TokenBucket rateLimit, CircuitBreaker breaker) {
+        this.name = name;
+        this.delegate = delegate;
+        this.rateLimit = rateLimit;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public List<NewsArticle> search(String topic, int maxResults) {
+        if (rateLimit != null && !rateLimit.acquire()) {
+            rateLimited.increment();
+            throw new RejectedExecutionException("Limite de taxa da fonte " + name + " atingido");
+        }
+        if (breaker != null && !breaker.tryAcquire()) {
+            shortCircuited.increment();
+            throw new RejectedExecutionException("Disjuntor da fonte " + name + " aberto");
+        }
+
+        calls.increment();
+        long start = System.nanoTime();
+        try {
+            List<NewsArticle> articles = delegate.search(topic, maxResults);
+            if (breaker != null) {
+                breaker.onSuccess(System.nanoTime() - start);
+            }
+            return articles;
+        } catch (RuntimeException | Error e) {
+            if (e instanceof CancellationException || Thread.currentThread().isInterrupted()) {
+                cancelled.increment();
+                if (breaker != null) {
+                    breaker.release();
+                }
+                throw e;
+            }
+            failures.increment();
+            if (breaker != null) {
+                breaker.onFailure(System.nanoTime() - start);
+            }
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreaker.State getState() {
+        return breaker != null ? breaker.getState() : CircuitBreaker.State.CLOSED;
+    }
+
+    @Override
+    public List<String> describeHealth() {
+        return List.of(String.format("%s: disjuntor=%s chamadas=%d falhas=%d canceladas=%d limitadas=%d recusadas=%d%s",
+            name, getState(), calls.sum(), failures.sum(), cancelled.sum(), rateLimited.sum(), shortCircuited.sum(),
+            rateLimit != null ? " fichas=" + rateLimit.getAvailable() : ""));
+    }
+}
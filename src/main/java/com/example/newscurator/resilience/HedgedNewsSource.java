@@ -0,0 +1,134 @@
+package com.example.newscurator.resilience;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.sources.NewsSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fonte primária com uma secundária de reserva
+ *
+ * A busca vai para a primária. Se ela falhar, repete na secundária; se passar de
+ * {@code hedgeAfter} sem responder, dispara a mesma busca na secundária e fica com
+ * a primeira que responder com sucesso. Assim a cauda de latência da primária não
+ * chega à curadoria, ao custo de buscas duplicadas só nas chamadas lentas.
+ *
+ * A chamada perdedora não é interrompida: termina (ou esgota o próprio timeout) em
+ * segundo plano e continua contando no limite de taxa e no disjuntor da sua fonte.
+ */
+public class HedgedNewsSource implements NewsSource {
+
+    private final NewsSource primary;
+    private final NewsSource secondary;
+    private final long hedgeAfterNanos;
+    private final Executor executor;
+
+    private final LongAdder hedged = new LongAdder();
+    private final LongAdder secondaryWins = new LongAdder();
+    private final LongAdder failovers = new LongAdder();
+
+    /**
+     * @param hedgeAfter Espera pela primária antes de consultar também a secundária; zero só
+     *                   usa a secundária quando a primária falha
+     * @param executor Executa as buscas; precisa comportar duas buscas bloqueantes por chamada
+     */
+    public HedgedNewsSource(NewsSource primary, NewsSource secondary, Duration hedgeAfter, Executor executor) {
+        this.primary = primary;
+        this.secondary = secondary;
+        this.hedgeAfterNanos = hedgeAfter.toNanos();
+        this.executor = executor;
+    }
+
+    @Override
+    public List<NewsArticle> search(String topic, int maxResults) {
+        if (hedgeAfterNanos <= 0) {
+            try {
+                return primary.search(topic, maxResults);
+            } catch (RuntimeException e) {
+                failovers.increment();
+                return secondary.search(topic, maxResults);
+            }
+        }
+
+        CompletableFuture<List<NewsArticle>> first =
+            CompletableFuture.supplyAsync(() -> primary.search(topic, maxResults), executor);
+        try {
+            return first.get(hedgeAfterNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            hedged.increment();
+        } catch (ExecutionException e) {
+            failovers.increment();
+            return secondary.search(topic, maxResults);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Busca interrompida: " + topic);
+        }
+
+        CompletableFuture<List<NewsArticle>> second =
+            CompletableFuture.supplyAsync(() -> secondary.search(topic, maxResults), executor);
+        try {
+            Winner winner = firstSuccessful(first, second).get();
+            if (winner.fromSecondary) {
+                secondaryWins.increment();
+            }
+            return winner.articles;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Busca interrompida: " + topic);
+        }
+    }
+
+    /**
+     * Conclui com o primeiro sucesso; falha só se as duas buscas falharem, com a falha da primária
+     */
+    private static CompletableFuture<Winner> firstSuccessful(CompletableFuture<List<NewsArticle>> first,
+                                                             CompletableFuture<List<NewsArticle>> second) {
+        CompletableFuture<Winner> result = new CompletableFuture<>();
+        AtomicInteger failed = new AtomicInteger();
+        first.whenComplete((articles, error) -> {
+            if (error == null) {
+                result.complete(new Winner(articles, false));
+            } else if (failed.incrementAndGet() == 2) {
+                result.completeExceptionally(error);
+            }
+        });
+        second.whenComplete((articles, error) -> {
+            if (error == null) {
+                result.complete(new Winner(articles, true));
+            } else if (failed.incrementAndGet() == 2) {
+                result.completeExceptionally(first.handle((ignored, primaryError) -> primaryError).join());
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public List<String> describeHealth() {
+        List<String> health = new ArrayList<>(primary.describeHealth());
+        health.addAll(secondary.describeHealth());
+        health.add(String.format("reserva: buscas duplicadas=%d vencidas pela secundária=%d falhas da primária=%d",
+                                 hedged.sum(), secondaryWins.sum(), failovers.sum()));
+        return health;
+    }
+
+    private record Winner(List<NewsArticle> articles, boolean fromSecondary) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.newscurator.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Balde de fichas para limitar a taxa de chamadas a uma fonte
+ *
+ * O estado é um único instante, o momento em que o balde estaria cheio de novo
+ * (equivalente ao algoritmo GCRA): cada ficha o empurra um intervalo para frente, e
+ * a chamada é aceita enquanto ele não passar de {@code burst} intervalos à frente do
+ * relógio. Assim a retirada de uma ficha é um único CAS, sem lock e sem thread de
+ * reposição.
+ *
+ * Com espera máxima positiva, uma chamada sem ficha reserva a próxima e dorme até
+ * ela vencer (fila implícita, em ordem de chegada); sem espera, falha na hora.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long maxWaitNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param permitsPerSecond Taxa sustentada
+     * @param burst Fichas acumuladas no máximo (chamadas aceitas de uma vez após um período ocioso)
+     * @param maxWaitMillis Espera máxima por uma ficha; 0 falha imediatamente
+     */
+    public TokenBucket(double permitsPerSecond, int burst, long maxWaitMillis) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Taxa e burst devem ser positivos: " + permitsPerSecond + ", " + burst);
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Retira uma ficha, esperando até a espera máxima configurada
+     *
+     * @return true se obteve a ficha
+     */
+    public boolean acquire() {
+        long wait = reserve(System.nanoTime());
+        if (wait < 0) {
+            return false;
+        }
+        if (wait > 0) {
+            long deadline = System.nanoTime() + wait;
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    // A ficha reservada é perdida; a taxa só fica mais conservadora
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reserva uma ficha
+     *
+     * @return Espera até a ficha vencer (0 se disponível), ou -1 se excederia a espera máxima
+     */
+    private long reserve(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+
+    /**
+     * Fichas disponíveis agora, aproximadamente
+     */
+    public int getAvailable() {
+        long ahead = Math.max(0, fullAt.get() - System.nanoTime());
+        return (int) (Math.max(0, burstNanos - ahead) / intervalNanos);
+    }
+}
@@ -0,0 +1,334 @@
+package com.example.newscurator.scheduling;
+
+import com.example.newscurator.logging.AsyncLogging;
+import com.example.newscurator.metrics.LatencyHistogram;
+import com.example.newscurator.utils.ConfigManager;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Escalonador de curadorias com classes de prioridade e partilha justa entre clientes
+ *
+ * Um conjunto fixo de workers atende as filas das classes em ordem de prioridade
+ * estrita, respeitando o limite de execuções simultâneas de cada classe: com o
+ * limite de backfill abaixo do número de workers, sempre sobram workers para
+ * pedidos interativos, que não esperam atrás de lotes grandes.
+ *
+ * Dentro de uma classe, os clientes (tenants) dividem os workers na proporção de
+ * seus pesos, por enfileiramento justo com marcas de início (SFQ): cada job recebe
+ * a marca {@code max(tempo virtual da classe, fim do job anterior do cliente)} e
+ * termina em {@code início + custo / peso}; sai primeiro a menor marca de início.
+ * Um cliente que envia muitos jobs de uma vez não atrasa os demais além da sua fatia.
+ */
+public class CurationScheduler implements AutoCloseable {
+
+    private static final Logger logger = AsyncLogging.getLogger(CurationScheduler.class);
+
+    /** Tamanho a partir do qual as marcas de clientes ociosos são descartadas */
+    private static final int TENANT_PRUNE_THRESHOLD = 1024;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Map<JobClass, ClassQueue> queues = new EnumMap<>(JobClass.class);
+    private final Map<String, Integer> weights;
+    private long sequence;
+    private boolean closed;
+
+    /**
+     * Cria o escalonador com os parâmetros {@code scheduler.*} da configuração
+     */
+    public CurationScheduler(ConfigManager configManager) {
+        this(Integer.parseInt(configManager.getProperty("scheduler.workers",
+                 String.valueOf(Math.max(2, Runtime.getRuntime().availableProcessors())))),
+             caps(configManager),
+             Integer.parseInt(configManager.getProperty("scheduler.max.queued", "10000")),
+             parseWeights(configManager.getProperty("scheduler.tenant.weights", "")));
+    }
+
+    /**
+     * @param workerCount Curadorias simultâneas no total
+     * @param maxConcurrent Limite de execuções simultâneas por classe; ausente equivale a {@code workerCount}
+     * @param maxQueued Jobs aguardando por classe antes de recusar novos
+     * @param weights Peso de cada cliente; ausente equivale a 1
+     */
+    public CurationScheduler(int workerCount, Map<JobClass, Integer> maxConcurrent, int maxQueued,
+                             Map<String, Integer> weights) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("scheduler.workers deve ser positivo: " + workerCount);
+        }
+        for (JobClass jobClass : JobClass.values()) {
+            queues.put(jobClass, new ClassQueue(maxConcurrent.getOrDefault(jobClass, workerCount), maxQueued));
+        }
+        this.weights = Map.copyOf(weights);
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "curation-scheduler-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+        }
+        logger.info("Escalonador iniciado com {} workers e limites {}", workerCount, maxConcurrent);
+    }
+
+    private static Map<JobClass, Integer> caps(ConfigManager configManager) {
+        Map<JobClass, Integer> caps = new EnumMap<>(JobClass.class);
+        for (JobClass jobClass : JobClass.values()) {
+            String value = configManager.getProperty(
+                "scheduler." + jobClass.name().toLowerCase() + ".max.concurrent", "");
+            if (!value.isBlank()) {
+                caps.put(jobClass, Integer.parseInt(value.trim()));
+            }
+        }
+        return caps;
+    }
+
+    /**
+     * Lê pesos no formato {@code cliente:peso,cliente:peso}
+     */
+    static Map<String, Integer> parseWeights(String raw) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String entry : raw.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Peso inválido (use cliente:peso): " + entry);
+            }
+            int weight = Integer.parseInt(entry.substring(separator + 1).trim());
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Peso deve ser positivo: " + entry);
+            }
+            weights.put(entry.substring(0, separator).trim(), weight);
+        }
+        return weights;
+    }
+
+    /**
+     * Enfileira um job de custo 1
+     *
+     * @see #submit(String, JobClass, int, Callable)
+     */
+    public <T> CompletableFuture<T> submit(String tenant, JobClass jobClass, Callable<T> job) {
+        return submit(tenant, jobClass, 1, job);
+    }
+
+    /**
+     * Enfileira um job
+     *
+     * @param tenant Cliente que divide a classe com os demais na proporção do seu peso
+     * @param cost Custo relativo do job (ex.: número de tópicos)
+     * @return Futuro do resultado; cancelá-lo enquanto o job espera o retira da fila.
+     *         Falha com {@link RejectedExecutionException} se a fila da classe estiver cheia
+     */
+    public <T> CompletableFuture<T> submit(String tenant, JobClass jobClass, int cost, Callable<T> job) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        ClassQueue queue = queues.get(jobClass);
+        Job<T> queued;
+        lock.lock();
+        try {
+            if (closed) {
+                future.completeExceptionally(new RejectedExecutionException("Escalonador encerrado"));
+                return future;
+            }
+            if (queue.pending.size() >= queue.maxQueued) {
+                queue.rejected++;
+                future.completeExceptionally(new RejectedExecutionException(
+                    "Fila " + jobClass.getLabel() + " cheia (" + queue.maxQueued + " jobs)"));
+                return future;
+            }
+            double start = Math.max(queue.virtualTime, queue.finishTags.getOrDefault(tenant, 0.0));
+            double finish = start + (double) Math.max(1, cost) / weights.getOrDefault(tenant, 1);
+            queue.finishTags.put(tenant, finish);
+            queued = new Job<>(start, sequence++, jobClass, job, future, System.nanoTime());
+            queue.pending.add(queued);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        future.whenComplete((value, error) -> {
+            if (future.isCancelled()) {
+                withdraw(queue, queued);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Retira da fila um job cancelado, para que não ocupe vaga em {@code maxQueued} nem conte como aguardando
+     */
+    private void withdraw(ClassQueue queue, Job<?> job) {
+        lock.lock();
+        try {
+            queue.pending.remove(job);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fila, execução e espera de cada classe
+     */
+    public Map<JobClass, ClassStats> getStats() {
+        Map<JobClass, ClassStats> stats = new EnumMap<>(JobClass.class);
+        lock.lock();
+        try {
+            queues.forEach((jobClass, queue) -> {
+                LatencyHistogram.Snapshot wait = queue.waits.snapshot();
+                stats.put(jobClass, new ClassStats(queue.pending.size(), queue.running, queue.maxConcurrent,
+                    queue.completed, queue.rejected,
+                    wait.getValueAtQuantile(0.50) / 1_000_000.0,
+                    wait.getValueAtQuantile(0.99) / 1_000_000.0,
+                    wait.getMaxNanos() / 1_000_000.0));
+            });
+        } finally {
+            lock.unlock();
+        }
+        return stats;
+    }
+
+    /**
+     * Para de aceitar jobs e encerra os workers; jobs na fila são cancelados
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            for (ClassQueue queue : queues.values()) {
+                // Esvaziada antes de cancelar: o cancelamento retira o job da fila
+                List<Job<?>> pending = new ArrayList<>(queue.pending);
+                queue.pending.clear();
+                for (Job<?> job : pending) {
+                    job.future.cancel(false);
+                }
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void work() {
+        while (true) {
+            Job<?> job;
+            lock.lock();
+            try {
+                while ((job = next()) == null) {
+                    if (closed) {
+                        return;
+                    }
+                    available.awaitUninterruptibly();
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            Runnable completion = job.run();
+            lock.lock();
+            try {
+                ClassQueue queue = queues.get(job.jobClass);
+                queue.running--;
+                queue.completed++;
+                // Uma vaga da classe pode liberar um job que esperava só pelo limite
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            // Depois dos contadores, para que quem espera o futuro já veja o job como concluído
+            completion.run();
+        }
+    }
+
+    /**
+     * Próximo job da classe mais prioritária com vaga, ou null; chamado com o lock
+     */
+    private Job<?> next() {
+        for (ClassQueue queue : queues.values()) {
+            if (queue.running >= queue.maxConcurrent) {
+                continue;
+            }
+            Job<?> job;
+            while ((job = queue.pending.poll()) != null && job.future.isDone()) {
+                // Cancelado enquanto esperava
+            }
+            if (job != null) {
+                queue.running++;
+                queue.virtualTime = job.start;
+                queue.waits.record(System.nanoTime() - job.enqueuedNanos);
+                if (queue.finishTags.size() > TENANT_PRUNE_THRESHOLD) {
+                    double now = queue.virtualTime;
+                    queue.finishTags.values().removeIf(finish -> finish <= now);
+                }
+                return job;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Estado de uma classe; protegido pelo lock do escalonador
+     */
+    private static final class ClassQueue {
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final PriorityQueue<Job<?>> pending = new PriorityQueue<>(
+            Comparator.comparingDouble((Job<?> job) -> job.start).thenComparingLong(job -> job.sequence));
+        private final Map<String, Double> finishTags = new HashMap<>();
+        private final LatencyHistogram waits = new LatencyHistogram();
+        private double virtualTime;
+        private int running;
+        private long completed;
+        private long rejected;
+
+        ClassQueue(int maxConcurrent, int maxQueued) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+        }
+    }
+
+    private record Job<T>(double start, long sequence, JobClass jobClass, Callable<T> task,
+                          CompletableFuture<T> future, long enqueuedNanos) {
+
+        /**
+         * Executa o job e devolve a ação que conclui o futuro com o resultado
+         */
+        Runnable run() {
+            if (future.isDone()) {
+                return () -> { };
+            }
+            try {
+                T value = task.call();
+                return () -> future.complete(value);
+            } catch (Exception | Error e) {
+                return () -> future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Métricas de uma classe; tempos de espera em milissegundos
+     *
+     * @param queued Jobs aguardando
+     * @param running Jobs em execução
+     */
+    public record ClassStats(int queued, int running, int maxConcurrent, long completed, long rejected,
+                             double p50WaitMillis, double p99WaitMillis, double maxWaitMillis) {
+
+        public String format() {
+            return String.format("fila=%d executando=%d/%d concluídos=%d recusados=%d espera p50=%.2fms p99=%.2fms max=%.2fms",
+                                 queued, running, maxConcurrent, completed, rejected,
+                                 p50WaitMillis, p99WaitMillis, maxWaitMillis);
+        }
+    }
+}
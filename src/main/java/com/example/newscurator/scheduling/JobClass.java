@@ -0,0 +1,34 @@
+package com.example.newscurator.scheduling;
+
+/**
+ * Classes de prioridade das curadorias, da mais para a menos prioritária
+ */
+public enum JobClass {
+    INTERACTIVE("interativa"),
+    SCHEDULED("agendada"),
+    BACKFILL("backfill");
+
+    private final String label;
+
+    JobClass(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Converte o nome recebido de fora (ex.: parâmetro HTTP), sem diferenciar maiúsculas
+     *
+     * @throws IllegalArgumentException se o nome não corresponder a nenhuma classe
+     */
+    public static JobClass parse(String name) {
+        for (JobClass jobClass : values()) {
+            if (jobClass.name().equalsIgnoreCase(name.trim())) {
+                return jobClass;
+            }
+        }
+        throw new IllegalArgumentException("Classe de prioridade desconhecida: " + name);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.newscurator.server;
+
+import com.example.newscurator.utils.LatencySummary;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cliente de carga local para o {@link NewsCuratorServer}
+ *
+ * Dispara requisições de N clientes concorrentes contra uma URL e reporta
+ * requisições por segundo, distribuição de status HTTP e percentis de latência.
+ *
+ * <pre>
+ * java -cp news-curator-agent.jar com.example.newscurator.server.LoadTestClient \
+ *     --url "http://localhost:8080/curate?topic=tecnologia" --concurrency 32 --requests 2000
+ * </pre>
+ */
+public class LoadTestClient {
+
+    private final URI uri;
+    private final int concurrency;
+    private final int totalRequests;
+    private final HttpClient client;
+
+    public LoadTestClient(URI uri, int concurrency, int totalRequests) {
+        this.uri = uri;
+        this.concurrency = concurrency;
+        this.totalRequests = totalRequests;
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = "http://localhost:8080/curate?topic=tecnologia";
+        int concurrency = 16;
+        int requests = 1000;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url" -> url = args[i + 1];
+                case "--concurrency" -> concurrency = Integer.parseInt(args[i + 1]);
+                case "--requests" -> requests = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Argumento inválido: " + args[i]);
+            }
+        }
+
+        LoadTestClient loadTest = new LoadTestClient(URI.create(url), concurrency, requests);
+        System.out.println(loadTest.run().format());
+    }
+
+    /**
+     * Executa o teste de carga e aguarda todas as requisições
+     */
+    public Result run() throws InterruptedException {
+        long[] latencies = new long[totalRequests];
+        AtomicInteger next = new AtomicInteger();
+        LongAdder errors = new LongAdder();
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        long start = System.nanoTime();
+        for (int worker = 0; worker < concurrency; worker++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    int index;
+                    while ((index = next.getAndIncrement()) < totalRequests) {
+                        long requestStart = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            statusCounts.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                        latencies[index] = System.nanoTime() - requestStart;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + worker);
+            thread.start();
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+
+        Map<Integer, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((status, count) -> statuses.put(status, count.sum()));
+        return new Result(totalRequests, errors.intValue(), statuses, elapsed,
+                          LatencySummary.fromNanos(Arrays.copyOf(latencies, totalRequests), totalRequests));
+    }
+
+    /**
+     * Resultado do teste de carga
+     */
+    public record Result(int requests, int errors, Map<Integer, Long> statusCounts,
+                         long elapsedNanos, LatencySummary latency) {
+
+        public double requestsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public String format() {
+            return String.format(
+                "Requisições: %d em %.2fs (%.2f req/s)\n" +
+                "Status HTTP: %s | Erros de conexão: %d\n" +
+                "Latência: %s",
+                requests, elapsedNanos / 1_000_000_000.0, requestsPerSecond(),
+                statusCounts, errors, latency.format());
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.example.newscurator.server;
+
+import com.example.newscurator.admission.AdmissionController;
+import com.example.newscurator.agent.ContinuousCurator;
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.metrics.MetricsSnapshot;
+import com.example.newscurator.metrics.PipelineStage;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.scheduling.CurationScheduler;
+import com.example.newscurator.scheduling.JobClass;
+import com.example.newscurator.tools.ReportGeneratorTool;
+import com.example.newscurator.utils.ConfigManager;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * Servidor HTTP embutido que expõe o {@link NewsCuratorAgent} como serviço
+ *
+ * Endpoints:
+ * <ul>
+ *   <li>{@code GET /curate?topic=X} - curadoria de um tópico</li>
+ *   <li>{@code GET /curate/multi?topics=a,b} ou {@code POST /curate/multi} com os tópicos no corpo</li>
+ *   <li>{@code GET /curate/continuous} - visão da curadoria contínua, quando habilitada</li>
+ *   <li>{@code GET /recent?topic=X&hours=N&limit=K} - melhores notícias recentes já curadas, sem nova busca</li>
+ *   <li>{@code GET /stats} - contadores do servidor e estatísticas do agente</li>
+ * </ul>
+ *
+ * Os relatórios são escritos em JSON de forma incremental (resposta chunked).
+ * Cada requisição roda em uma virtual thread quando a JVM oferece suporte
+ * (Java 21+); caso contrário, em um pool de threads de plataforma. Acima do
+ * limite de admissão, que se ajusta à latência ({@link AdmissionController}), a
+ * resposta vem do cache ou sem resumos (cabeçalho {@code X-Curation-Mode}) ou é 503.
+ */
+public class NewsCuratorServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsCuratorServer.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final NewsCuratorAgent agent;
+    private final ReportGeneratorTool reportTool;
+    private final int port;
+    private final AdmissionController admission;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private ContinuousCurator continuousCurator;
+    private Duration curationDeadline = Duration.ZERO; // Zero: sem prazo, curadoria síncrona
+    private CurationScheduler scheduler;
+
+    /**
+     * Cria o servidor com admissão adaptativa ({@code admission.*}) e os parâmetros {@code server.*}
+     */
+    public NewsCuratorServer(NewsCuratorAgent agent, ReportGeneratorTool reportTool, ConfigManager configManager) {
+        this(agent, reportTool,
+             Integer.parseInt(configManager.getProperty("server.port", "8080")),
+             new AdmissionController(agent, configManager));
+        this.curationDeadline = Duration.ofMillis(
+            Long.parseLong(configManager.getProperty("server.curation.deadline.ms", "0")));
+    }
+
+    /**
+     * Cria o servidor com um limite fixo de requisições simultâneas
+     */
+    public NewsCuratorServer(NewsCuratorAgent agent, ReportGeneratorTool reportTool,
+                             int port, int maxConcurrent, long admissionTimeoutMillis) {
+        this(agent, reportTool, port, AdmissionController.fixed(maxConcurrent, admissionTimeoutMillis));
+    }
+
+    public NewsCuratorServer(NewsCuratorAgent agent, ReportGeneratorTool reportTool,
+                             int port, AdmissionController admission) {
+        this.agent = agent;
+        this.reportTool = reportTool;
+        this.port = port;
+        this.admission = admission;
+    }
+
+    /**
+     * Expõe a visão de uma curadoria contínua em {@code /curate/continuous}; chame antes de {@link #start()}
+     */
+    public synchronized void setContinuousCurator(ContinuousCurator continuousCurator) {
+        this.continuousCurator = continuousCurator;
+    }
+    
+    /**
+     * Encaminha as curadorias pelo escalonador; chame antes de {@link #start()}
+     * 
+     * O cliente vem do cabeçalho {@code X-Tenant} e a classe do parâmetro {@code class}
+     * (padrão: interativa).
+     */
+    public synchronized void setScheduler(CurationScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+    
+    /**
+     * Inicia o servidor
+     */
+    public synchronized void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/curate/continuous", this::handleContinuous);
+        server.createContext("/curate/multi", exchange -> handleCurate(exchange, true));
+        server.createContext("/curate", exchange -> handleCurate(exchange, false));
+        server.createContext("/recent", this::handleRecent);
+        server.createContext("/stats", this::handleStats);
+        server.start();
+        logger.info("Servidor iniciado na porta {} (limite inicial de {} requisições simultâneas)",
+                    getPort(), admission.getStats().limit());
+    }
+
+    /**
+     * Porta efetiva (útil quando configurado com porta 0)
+     */
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    /**
+     * Encerra o servidor: para de aceitar conexões e aguarda as requisições em andamento
+     *
+     * @param grace Tempo máximo de espera pelas requisições em andamento
+     */
+    public synchronized void stop(Duration grace) {
+        if (server == null) {
+            return;
+        }
+        logger.info("Encerrando servidor ({} requisições em andamento)", inFlight.get());
+        // O prazo vale para o encerramento inteiro: o executor só aguarda o que sobrar dele
+        long deadline = System.nanoTime() + grace.toNanos();
+        server.stop((int) Math.max(1, grace.toSeconds()));
+        executor.shutdown();
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            if (!executor.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        logger.info("Servidor encerrado");
+    }
+
+    private void handleCurate(HttpExchange exchange, boolean multi) throws IOException {
+        try (exchange) {
+            List<String> topics = multi ? readTopics(exchange) : singleTopic(exchange);
+            if (topics.isEmpty()) {
+                sendError(exchange, 400, "Informe ao menos um tópico");
+                return;
+            }
+            JobClass jobClass;
+            try {
+                jobClass = JobClass.parse(queryParameters(exchange).getOrDefault("class", "interactive"));
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            inFlight.incrementAndGet();
+            try {
+                // A permissão de admissão só é tomada quando o escalonador libera o job: jobs
+                // de backfill parados na fila não ocupam o limite dos pedidos interativos
+                AdmissionController.Admitted admitted = scheduler == null
+                    ? admit(topics)
+                    : scheduler.submit(tenant(exchange), jobClass, topics.size(), () -> admit(topics)).join();
+                accepted.increment();
+
+                exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+                exchange.getResponseHeaders().add("X-Curation-Mode", admitted.mode().name().toLowerCase());
+                exchange.sendResponseHeaders(200, 0);
+                try (Writer writer = new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)) {
+                    reportTool.writeJsonReport(admitted.report(), writer, false);
+                }
+            } catch (RuntimeException e) {
+                if (e instanceof RejectedExecutionException
+                    || e instanceof CompletionException && e.getCause() instanceof RejectedExecutionException) {
+                    // Limite de admissão atingido ou fila da classe cheia no escalonador
+                    rejected.increment();
+                    exchange.getResponseHeaders().add("Retry-After", "1");
+                    sendError(exchange, 503, e instanceof CompletionException ? e.getCause().getMessage() : e.getMessage());
+                    return;
+                }
+                failed.increment();
+                logger.error("Erro ao processar requisição para tópicos: {}", topics, e);
+                sendError(exchange, 500, e.getMessage());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private AdmissionController.Admitted admit(List<String> topics) {
+        return admission.curate(topics, (summarize, executed) -> curate(topics, summarize, executed));
+    }
+
+    private NewsReport curate(List<String> topics, boolean summarize, LongConsumer executed) {
+        long start = System.nanoTime();
+        NewsReport report = curationDeadline.isZero()
+            ? agent.curateNews(topics, summarize)
+            : agent.curateNewsAsync(topics, curationDeadline, summarize).join();
+        executed.accept(System.nanoTime() - start);
+        return report;
+    }
+
+    private static String tenant(HttpExchange exchange) {
+        String tenant = exchange.getRequestHeaders().getFirst("X-Tenant");
+        return tenant == null || tenant.isBlank() ? "default" : tenant.trim();
+    }
+
+    private void handleContinuous(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (continuousCurator == null) {
+                sendError(exchange, 404, "Curadoria contínua não habilitada");
+                return;
+            }
+            NewsReport report = continuousCurator.currentReport();
+            if (report == null) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                sendError(exchange, 503, "Primeiro ciclo da curadoria contínua em andamento");
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (Writer writer = new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)) {
+                reportTool.writeJsonReport(report, writer, false);
+            }
+        }
+    }
+    
+    private void handleRecent(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            List<String> topics = singleTopic(exchange);
+            if (topics.isEmpty()) {
+                sendError(exchange, 400, "Informe o tópico");
+                return;
+            }
+            Map<String, String> parameters = queryParameters(exchange);
+            Duration window;
+            int limit;
+            try {
+                window = Duration.ofMinutes((long) (Double.parseDouble(parameters.getOrDefault("hours", "24")) * 60));
+                limit = Integer.parseInt(parameters.getOrDefault("limit", "10"));
+            } catch (NumberFormatException e) {
+                sendError(exchange, 400, "Parâmetros hours e limit devem ser numéricos");
+                return;
+            }
+            if (window.isNegative() || window.isZero() || limit <= 0) {
+                sendError(exchange, 400, "Parâmetros hours e limit devem ser positivos");
+                return;
+            }
+            NewsReport report = reportTool.generateReport(topics, agent.getRecentTopStories(topics.get(0), window, limit));
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (Writer writer = new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)) {
+                reportTool.writeJsonReport(report, writer, false);
+            }
+        }
+    }
+    
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (JsonGenerator json = JSON_FACTORY.createGenerator(exchange.getResponseBody())) {
+                json.writeStartObject();
+                json.writeNumberField("accepted", accepted.sum());
+                json.writeNumberField("rejected", rejected.sum());
+                json.writeNumberField("failed", failed.sum());
+                json.writeNumberField("inFlight", inFlight.get());
+                writeAdmission(json, admission.getStats());
+                writeStages(json, agent.getMetricsSnapshot());
+                json.writeStringField("agentStats", agent.getAgentStats());
+                if (continuousCurator != null) {
+                    json.writeStringField("continuous", continuousCurator.getStats().format());
+                }
+                if (scheduler != null) {
+                    writeScheduler(json, scheduler.getStats());
+                }
+                json.writeEndObject();
+            }
+        }
+    }
+
+    private void writeStages(JsonGenerator json, MetricsSnapshot snapshot) throws IOException {
+        json.writeObjectFieldStart("stages");
+        for (PipelineStage stage : PipelineStage.values()) {
+            MetricsSnapshot.StageSnapshot metrics = snapshot.stage(stage);
+            json.writeObjectFieldStart(stage.name().toLowerCase());
+            json.writeNumberField("invocations", metrics.invocations());
+            json.writeNumberField("items", metrics.items());
+            json.writeNumberField("itemsPerSecond", metrics.itemsPerSecond());
+            json.writeNumberField("p50Millis", metrics.p50Millis());
+            json.writeNumberField("p90Millis", metrics.p90Millis());
+            json.writeNumberField("p99Millis", metrics.p99Millis());
+            json.writeNumberField("maxMillis", metrics.maxMillis());
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+    }
+    
+    private void writeAdmission(JsonGenerator json, AdmissionController.Stats stats) throws IOException {
+        json.writeNumberField("maxConcurrent", stats.limit());
+        json.writeObjectFieldStart("admission");
+        json.writeNumberField("limit", stats.limit());
+        json.writeNumberField("inFlight", stats.inFlight());
+        json.writeNumberField("waiting", stats.waiting());
+        json.writeNumberField("full", stats.full());
+        json.writeNumberField("degraded", stats.degraded());
+        json.writeNumberField("cached", stats.cached());
+        json.writeNumberField("rejected", stats.rejected());
+        json.writeEndObject();
+    }
+
+    private void writeScheduler(JsonGenerator json, Map<JobClass, CurationScheduler.ClassStats> stats) throws IOException {
+        json.writeObjectFieldStart("scheduler");
+        for (Map.Entry<JobClass, CurationScheduler.ClassStats> entry : stats.entrySet()) {
+            CurationScheduler.ClassStats classStats = entry.getValue();
+            json.writeObjectFieldStart(entry.getKey().name().toLowerCase());
+            json.writeNumberField("queued", classStats.queued());
+            json.writeNumberField("running", classStats.running());
+            json.writeNumberField("maxConcurrent", classStats.maxConcurrent());
+            json.writeNumberField("completed", classStats.completed());
+            json.writeNumberField("rejected", classStats.rejected());
+            json.writeNumberField("p50WaitMillis", classStats.p50WaitMillis());
+            json.writeNumberField("p99WaitMillis", classStats.p99WaitMillis());
+            json.writeNumberField("maxWaitMillis", classStats.maxWaitMillis());
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+    }
+    
+    private List<String> singleTopic(HttpExchange exchange) {
+        String topic = queryParameters(exchange).getOrDefault("topic", "").trim();
+        return topic.isEmpty() ? List.of() : List.of(topic);
+    }
+
+    private List<String> readTopics(HttpExchange exchange) throws IOException {
+        String raw;
+        if ("POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            try (InputStream body = exchange.getRequestBody()) {
+                raw = new String(body.readNBytes(64 * 1024), StandardCharsets.UTF_8);
+            }
+        } else {
+            raw = queryParameters(exchange).getOrDefault("topics", "");
+        }
+        return Arrays.stream(raw.split("[,\\n]"))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .toList();
+    }
+
+    private Map<String, String> queryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                               URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        try (OutputStream body = exchange.getResponseBody();
+             JsonGenerator json = JSON_FACTORY.createGenerator(body)) {
+            json.writeStartObject();
+            json.writeStringField("error", message);
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Usa virtual threads quando disponíveis (Java 21+), mantendo compatibilidade com Java 17
+     */
+    private ExecutorService newRequestExecutor() {
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+            logger.info("Usando virtual threads para as requisições");
+            return virtual;
+        } catch (ReflectiveOperationException e) {
+            logger.info("Virtual threads indisponíveis, usando pool de threads de plataforma");
+            AtomicInteger counter = new AtomicInteger();
+            // Pool sem fila: requisições acima do limite chegam logo à admissão e recebem 503
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "http-worker-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
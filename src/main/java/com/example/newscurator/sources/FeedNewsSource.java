@@ -0,0 +1,279 @@
+package com.example.newscurator.sources;
+
+import com.example.newscurator.logging.AsyncLogging;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.relevance.PortugueseAnalyzer;
+import com.example.newscurator.utils.Lazy;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Fonte de notícias sobre arquivos de feed RSS/Atom em disco
+ *
+ * Aponta para um arquivo ou diretório (percorrido recursivamente; arquivos
+ * {@code .xml}, {@code .rss}, {@code .atom} e as versões {@code .gz}). Os arquivos
+ * são lidos em paralelo, um por thread, pelo {@link FeedParser}.
+ *
+ * As buscas não releem os arquivos: os artigos de cada arquivo ficam em memória e
+ * só são lidos de novo quando a data de modificação ou o tamanho do arquivo muda,
+ * de modo que buscar N tópicos lê o dump uma vez, e não N. Uma busca devolve cópias
+ * dos {@code maxResults} artigos mais recentes que mencionam o tópico no título, nas
+ * categorias ou no texto, sem diferenciar maiúsculas nem acentos ("politica"
+ * encontra "Política"). {@link #ingest} continua lendo os arquivos em streaming,
+ * sem guardar os artigos.
+ */
+public class FeedNewsSource implements NewsSource {
+
+    private static final Logger logger = AsyncLogging.getLogger(FeedNewsSource.class);
+
+    private static final Comparator<NewsArticle> OLDEST_FIRST = Comparator
+        .comparing(NewsArticle::getPublishedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+        .thenComparing(NewsArticle::getTitle, Comparator.reverseOrder());
+
+    private final Path root;
+    private final int parallelism;
+    private final Lazy<ExecutorService> executor;
+    private final Map<Path, ParsedFeed> parsed = new ConcurrentHashMap<>();
+
+    /**
+     * @param root Arquivo de feed ou diretório de feeds
+     * @param parallelism Arquivos lidos ao mesmo tempo
+     */
+    public FeedNewsSource(Path root, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("news.feeds.parallelism deve ser positivo: " + parallelism);
+        }
+        this.root = root;
+        this.parallelism = parallelism;
+        this.executor = Lazy.of(this::newExecutor);
+    }
+
+    private ExecutorService newExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "feed-reader-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public List<NewsArticle> search(String topic, int maxResults) {
+        String folded = fold(topic.trim());
+        PriorityQueue<NewsArticle> newest = new PriorityQueue<>(maxResults + 1, OLDEST_FIRST);
+        for (ParsedFeed feed : feeds()) {
+            for (NewsArticle article : feed.articles()) {
+                if (mentions(article, folded)) {
+                    newest.add(article);
+                    if (newest.size() > maxResults) {
+                        newest.poll();
+                    }
+                }
+            }
+        }
+
+        List<NewsArticle> results = new ArrayList<>(newest.size());
+        for (NewsArticle cached : newest) {
+            // Cópia: a curadoria altera os artigos, e os guardados servem às próximas buscas
+            NewsArticle article = new NewsArticle(cached);
+            List<String> keywords = new ArrayList<>(cached.getKeywords().size() + 1);
+            keywords.add(topic);
+            keywords.addAll(cached.getKeywords());
+            article.setKeywords(keywords);
+            results.add(article);
+        }
+        results.sort(OLDEST_FIRST.reversed());
+        return results;
+    }
+
+    private static boolean mentions(NewsArticle article, String topic) {
+        if (containsFolded(article.getTitle(), topic)) {
+            return true;
+        }
+        for (String keyword : article.getKeywords()) {
+            if (containsFolded(keyword, topic)) {
+                return true;
+            }
+        }
+        return article.getBody() != null && containsFolded(article.getBody(), topic);
+    }
+
+    /**
+     * Verifica se o texto contém o termo já dobrado, dobrando o texto caractere a caractere, sem cópias
+     */
+    static boolean containsFolded(String text, String folded) {
+        int last = text.length() - folded.length();
+        for (int i = 0; i <= last; i++) {
+            int j = 0;
+            while (j < folded.length() && PortugueseAnalyzer.fold(text.charAt(i + j)) == folded.charAt(j)) {
+                j++;
+            }
+            if (j == folded.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String fold(String text) {
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = PortugueseAnalyzer.fold(text.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Artigos de todos os feeds, relendo (em paralelo) só os arquivos novos ou alterados
+     */
+    private List<ParsedFeed> feeds() {
+        List<Path> files = feedFiles();
+        parsed.keySet().retainAll(files);
+
+        List<Path> stale = new ArrayList<>();
+        List<ParsedFeed> feeds = new ArrayList<>(files.size());
+        for (Path file : files) {
+            ParsedFeed feed = parsed.get(file);
+            BasicFileAttributes attributes = attributes(file);
+            if (feed == null || attributes == null || !feed.matches(attributes)) {
+                stale.add(file);
+            } else {
+                feeds.add(feed);
+            }
+        }
+        for (ParsedFeed feed : inParallel(stale, FeedNewsSource::parseFeed)) {
+            parsed.put(feed.file(), feed);
+            feeds.add(feed);
+        }
+        return feeds;
+    }
+
+    private static ParsedFeed parseFeed(Path file) {
+        // Atributos lidos antes do conteúdo: uma alteração durante a leitura força outra leitura depois
+        BasicFileAttributes attributes = attributes(file);
+        List<NewsArticle> articles = new ArrayList<>();
+        parseQuietly(file, articles::add);
+        return new ParsedFeed(file, attributes != null ? attributes.lastModifiedTime() : null,
+                              attributes != null ? attributes.size() : -1, Collections.unmodifiableList(articles));
+    }
+
+    private static BasicFileAttributes attributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lê todos os feeds em paralelo
+     *
+     * @param consumer Recebe cada artigo; é chamado por várias threads ao mesmo tempo
+     * @return Número de artigos lidos; arquivos ilegíveis são registrados no log e ignorados
+     */
+    public long ingest(Consumer<NewsArticle> consumer) {
+        long total = 0;
+        for (long count : inParallel(feedFiles(), file -> parseQuietly(file, consumer))) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Aplica a leitura a cada arquivo, em paralelo quando há mais de um
+     *
+     * @return Resultados na ordem dos arquivos
+     */
+    private <T> List<T> inParallel(List<Path> files, Function<Path, T> read) {
+        if (files.size() <= 1) {
+            return files.isEmpty() ? List.of() : List.of(read.apply(files.get(0)));
+        }
+
+        List<Future<T>> pending = new ArrayList<>(files.size());
+        for (Path file : files) {
+            pending.add(executor.get().submit(() -> read.apply(file)));
+        }
+        List<T> results = new ArrayList<>(files.size());
+        try {
+            for (Future<T> future : pending) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            pending.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Leitura de feeds interrompida");
+        } catch (ExecutionException e) {
+            pending.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    private static long parseQuietly(Path file, Consumer<NewsArticle> consumer) {
+        try {
+            return FeedParser.parse(file, consumer);
+        } catch (IOException e) {
+            logger.warn("Feed ignorado: {} ({})", file, e.getMessage());
+            return 0;
+        }
+    }
+
+    private List<Path> feedFiles() {
+        if (Files.isRegularFile(root)) {
+            return List.of(root);
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(Files::isRegularFile)
+                .filter(FeedNewsSource::isFeed)
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível listar os feeds em " + root, e);
+        }
+    }
+
+    private static boolean isFeed(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        return name.endsWith(".xml") || name.endsWith(".rss") || name.endsWith(".atom");
+    }
+
+    /**
+     * Artigos lidos de um arquivo e a versão do arquivo (data de modificação e tamanho) de que vieram
+     */
+    private record ParsedFeed(Path file, FileTime modified, long size, List<NewsArticle> articles) {
+
+        boolean matches(BasicFileAttributes attributes) {
+            return attributes.lastModifiedTime().equals(modified) && attributes.size() == size;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.newscurator.sources;
+
+import com.example.newscurator.models.NewsArticle;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Leitor de feeds RSS 2.0, RSS 1.0 (RDF) e Atom em streaming (StAX)
+ *
+ * Cada item é entregue ao consumidor assim que seu elemento fecha, e só o item em
+ * leitura fica em memória, com cada campo limitado a {@value #MAX_FIELD_CHARS}
+ * caracteres: o consumo é constante qualquer que seja o tamanho do arquivo. Preenche título, URL, fonte (título do canal), data de publicação,
+ * texto (descrição ou conteúdo) e palavras-chave (categorias do item).
+ *
+ * Os campos são reconhecidos pelo nome e pelo namespace: elementos de extensões
+ * (por exemplo {@code <media:title>} ou {@code <media:content>} do Media RSS) são
+ * ignorados, para não sobrescreverem o título nem virarem o texto do artigo.
+ *
+ * DTDs e entidades externas são desabilitadas, já que os arquivos vêm de terceiros.
+ */
+public final class FeedParser {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Caracteres guardados por campo; o excedente é lido e descartado */
+    private static final int MAX_FIELD_CHARS = 64 * 1024;
+
+    /** Namespaces dos elementos reconhecidos, além do vazio (RSS 2.0) */
+    private static final Set<String> FEED_NAMESPACES = Set.of(
+        "http://purl.org/rss/1.0/",
+        "http://www.w3.org/2005/Atom",
+        "http://purl.org/atom/ns#",
+        "http://purl.org/rss/1.0/modules/content/",
+        "http://purl.org/dc/elements/1.1/",
+        "http://purl.org/dc/terms/");
+
+    private static final XMLInputFactory XML_FACTORY = newFactory();
+
+    private FeedParser() {
+    }
+
+    private static XMLInputFactory newFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Lê um arquivo de feed ({@code .gz} é descompactado em streaming)
+     *
+     * @param consumer Recebe cada artigo, na ordem do arquivo
+     * @return Número de artigos lidos
+     */
+    public static long parse(Path file, Consumer<NewsArticle> consumer) throws IOException {
+        try (InputStream raw = Files.newInputStream(file);
+             InputStream buffered = new BufferedInputStream(raw, BUFFER_SIZE);
+             InputStream input = file.getFileName().toString().endsWith(".gz")
+                 ? new GZIPInputStream(buffered, BUFFER_SIZE) : buffered) {
+            return parse(input, file.getFileName().toString(), consumer);
+        }
+    }
+
+    /**
+     * Lê um feed de um fluxo, que não é fechado
+     *
+     * @param fallbackSource Fonte usada se o feed não tiver título
+     */
+    public static long parse(InputStream input, String fallbackSource, Consumer<NewsArticle> consumer)
+            throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_FACTORY.createXMLStreamReader(input);
+            return read(reader, fallbackSource, consumer);
+        } catch (XMLStreamException e) {
+            throw new IOException("Feed inválido (" + fallbackSource + "): " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // Nada a liberar além do fluxo, que pertence ao chamador
+                }
+            }
+        }
+    }
+
+    private static long read(XMLStreamReader reader, String fallbackSource, Consumer<NewsArticle> consumer)
+            throws XMLStreamException {
+        String source = null;
+        long count = 0;
+        int depth = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                continue;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            depth++;
+            if (!isFeedElement(reader)) {
+                continue;
+            }
+            String name = reader.getLocalName();
+            if ("item".equals(name) || "entry".equals(name)) {
+                NewsArticle article = readItem(reader, name);
+                depth--;
+                if (article.getTitle() != null && !article.getTitle().isEmpty()) {
+                    article.setSource(source != null ? source : fallbackSource);
+                    consumer.accept(article);
+                    count++;
+                }
+            } else if ("title".equals(name) && source == null && depth <= 3) {
+                // Título do canal (rss/channel/title, rdf:RDF/channel/title ou feed/title)
+                source = text(reader);
+                depth--;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lê um item (RSS) ou entrada (Atom) até o fim do elemento
+     */
+    private static NewsArticle readItem(XMLStreamReader reader, String element) throws XMLStreamException {
+        NewsArticle article = new NewsArticle();
+        List<String> keywords = new ArrayList<>();
+        String description = null;
+        String content = null;
+        LocalDateTime published = null;
+        LocalDateTime updated = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && element.equals(reader.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            if (!isFeedElement(reader)) {
+                skip(reader);
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "title" -> article.setTitle(text(reader));
+                case "link" -> {
+                    String href = reader.getAttributeValue(null, "href");
+                    if (href != null) {
+                        // Atom: prefere o link sem rel ou com rel="alternate"
+                        String rel = reader.getAttributeValue(null, "rel");
+                        if (rel == null || "alternate".equals(rel) || article.getUrl() == null) {
+                            article.setUrl(href.trim());
+                        }
+                        skip(reader);
+                    } else {
+                        article.setUrl(text(reader));
+                    }
+                }
+                case "guid", "id" -> {
+                    String id = text(reader);
+                    if (article.getUrl() == null && id.startsWith("http")) {
+                        article.setUrl(id);
+                    }
+                }
+                case "description", "summary" -> description = text(reader);
+                case "encoded", "content" -> content = text(reader);
+                case "pubDate", "published", "issued", "date" -> published = timestamp(text(reader));
+                case "updated", "modified" -> updated = timestamp(text(reader));
+                case "category", "subject" -> {
+                    String term = reader.getAttributeValue(null, "term");
+                    String keyword = term != null ? term : text(reader);
+                    if (term != null) {
+                        skip(reader);
+                    }
+                    if (!keyword.isBlank()) {
+                        keywords.add(keyword.trim());
+                    }
+                }
+                default -> skip(reader);
+            }
+        }
+
+        article.setPublishedAt(published != null ? published : updated);
+        article.setBody(content != null && !content.isBlank() ? content : description);
+        article.setKeywords(keywords);
+        return article;
+    }
+
+    private static boolean isFeedElement(XMLStreamReader reader) {
+        String namespace = reader.getNamespaceURI();
+        return namespace == null || namespace.isEmpty() || FEED_NAMESPACES.contains(namespace);
+    }
+
+    private static String text(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    int room = MAX_FIELD_CHARS - text.length();
+                    if (room > 0) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(),
+                                    Math.min(room, reader.getTextLength()));
+                    }
+                }
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                default -> {
+                }
+            }
+        }
+        return text.toString().trim();
+    }
+
+    private static void skip(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Datas RFC 1123 (RSS 2.0) ou ISO 8601 (Atom, Dublin Core), no fuso local
+     */
+    static LocalDateTime timestamp(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            if (Character.isDigit(value.charAt(0))) {
+                return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            }
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)
+                .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
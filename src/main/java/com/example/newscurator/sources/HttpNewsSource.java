@@ -0,0 +1,156 @@
+package com.example.newscurator.sources;
+
+import com.example.newscurator.models.NewsArticle;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Fonte de notícias de um provedor HTTP no formato da NewsAPI
+ *
+ * Consulta {@code <url>?q=<tópico>&pageSize=<máximo>} e lê a resposta
+ * {@code {"articles": [{"title", "description", "url", "source": {"name"}, "publishedAt", "content"}]}}
+ * em streaming. Respostas fora da faixa 2xx e erros de rede viram
+ * {@link UncheckedIOException}, contados como falha pelo disjuntor da fonte.
+ */
+public class HttpNewsSource implements NewsSource {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final URI endpoint;
+    private final String apiKey;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    /**
+     * @param endpoint URL de busca do provedor
+     * @param apiKey Chave enviada no cabeçalho {@code X-Api-Key}, ou null
+     * @param timeout Tempo máximo de cada requisição
+     */
+    public HttpNewsSource(URI endpoint, String apiKey, Duration timeout) {
+        this.endpoint = endpoint;
+        this.apiKey = apiKey == null || apiKey.isBlank() ? null : apiKey;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .build();
+    }
+
+    @Override
+    public List<NewsArticle> search(String topic, int maxResults) {
+        String separator = endpoint.getRawQuery() == null ? "?" : "&";
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(endpoint + separator
+                + "q=" + URLEncoder.encode(topic, StandardCharsets.UTF_8) + "&pageSize=" + maxResults))
+            .timeout(timeout)
+            .header("Accept", "application/json")
+            .GET();
+        if (apiKey != null) {
+            request.header("X-Api-Key", apiKey);
+        }
+
+        try {
+            HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() / 100 != 2) {
+                    throw new IOException("HTTP " + response.statusCode() + " de " + endpoint.getHost());
+                }
+                return parse(body, maxResults);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao buscar '" + topic + "' em " + endpoint.getHost(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Busca interrompida: " + topic);
+        }
+    }
+
+    static List<NewsArticle> parse(InputStream body, int maxResults) throws IOException {
+        List<NewsArticle> articles = new ArrayList<>(Math.min(maxResults, 100));
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Resposta não é um objeto JSON");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (!"articles".equals(field) || parser.currentToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    NewsArticle article = parseArticle(parser);
+                    if (articles.size() < maxResults && article.getTitle() != null) {
+                        articles.add(article);
+                    }
+                }
+            }
+        }
+        return articles;
+    }
+
+    private static NewsArticle parseArticle(JsonParser parser) throws IOException {
+        NewsArticle article = new NewsArticle();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "title" -> article.setTitle(parser.getValueAsString());
+                case "description" -> article.setSummary(parser.getValueAsString());
+                case "url" -> article.setUrl(parser.getValueAsString());
+                case "content" -> article.setBody(parser.getValueAsString());
+                case "publishedAt" -> article.setPublishedAt(parseTimestamp(parser.getValueAsString()));
+                case "source" -> article.setSource(value == JsonToken.START_OBJECT
+                    ? sourceName(parser) : parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return article;
+    }
+
+    private static String sourceName(JsonParser parser) throws IOException {
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.newscurator.sources;
+
+import com.example.newscurator.models.NewsArticle;
+
+import java.util.List;
+
+/**
+ * Fonte de notícias consultada pela {@link com.example.newscurator.tools.NewsSearchTool}
+ */
+public interface NewsSource {
+
+    /**
+     * Busca artigos sobre um tópico
+     *
+     * @param topic Tópico pesquisado
+     * @param maxResults Número máximo de artigos
+     * @return Artigos encontrados (lista nova e mutável a cada chamada); o score de relevância
+     *         é recalculado pela ferramenta de busca
+     */
+    List<NewsArticle> search(String topic, int maxResults);
+
+    /**
+     * Estado das proteções da fonte (limite de taxa, disjuntor), uma linha por fonte protegida
+     */
+    default List<String> describeHealth() {
+        return List.of();
+    }
+}
@@ -0,0 +1,540 @@
+package com.example.newscurator.sources;
+
+import com.example.newscurator.models.NewsArticle;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gerador determinístico de um corpus sintético de notícias
+ *
+ * Cada artigo é função apenas da semente e do seu índice, de modo que o corpus
+ * pode ter milhões de artigos sem ocupar memória, ser lido em qualquer ordem ou
+ * em paralelo e ser reproduzido exatamente em qualquer máquina. O corpus imita
+ * características de um fluxo real:
+ * <ul>
+ *   <li>tamanhos de título e de corpo com distribuição log-normal (cauda longa);</li>
+ *   <li>fontes com distribuição de Zipf e categorias com pesos desiguais;</li>
+ *   <li>sindicação: parte dos artigos republica, com pequenas alterações e em
+ *       outra fonte, um artigo publicado pouco antes;</li>
+ *   <li>datas de publicação crescentes com o índice, com variação aleatória.</li>
+ * </ul>
+ *
+ * Também pode ser gravado em disco como NDJSON:
+ *
+ * <pre>
+ * java -cp target/news-curator-agent-1.0.0.jar com.example.newscurator.sources.SyntheticCorpus \
+ *     --count 1000000 --seed 42 --output corpus.ndjson.gz
+ * </pre>
+ */
+public class SyntheticCorpus {
+
+    public static final long DEFAULT_SEED = 42L;
+    public static final double DEFAULT_SYNDICATION_RATE = 0.15;
+
+    /** Distância máxima (em artigos) entre um original e sua republicação */
+    private static final int SYNDICATION_WINDOW = 200;
+    /** Intervalo médio entre publicações, em segundos */
+    private static final int INTERARRIVAL_SECONDS = 30;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final long INDEX_MIX = 0xBF58476D1CE4E5B9L;
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+    private static final long SYNDICATION_SALT = 0x94D049BB133111EBL;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String[] SOURCES = {
+        "G1", "Folha de S.Paulo", "UOL", "O Globo", "Estadão", "CNN Brasil", "R7",
+        "BBC Brasil", "Valor Econômico", "Agência Brasil", "Exame", "Metrópoles",
+        "Correio Braziliense", "Gazeta do Povo", "Zero Hora", "Jornal do Commercio",
+        "TechCrunch Brasil", "InfoMoney", "Poder360", "Nexo"
+    };
+
+    private static final String[] DOMAINS = {
+        "g1.example.com", "folha.example.com", "uol.example.com", "oglobo.example.com",
+        "estadao.example.com", "cnnbrasil.example.com", "r7.example.com", "bbcbrasil.example.com",
+        "valor.example.com", "agenciabrasil.example.com", "exame.example.com", "metropoles.example.com",
+        "correiobraziliense.example.com", "gazetadopovo.example.com", "zh.example.com",
+        "jc.example.com", "techcrunchbr.example.com", "infomoney.example.com",
+        "poder360.example.com", "nexo.example.com"
+    };
+
+    private static final String[] VERBS = {
+        "anuncia", "aprova", "revela", "lança", "discute", "investe em", "critica", "adia",
+        "confirma", "amplia", "suspende", "apresenta", "debate", "defende", "questiona"
+    };
+
+    private static final String[] QUALIFIERS = {
+        "em meio a incertezas", "após semanas de negociação", "segundo especialistas",
+        "no primeiro semestre", "com impacto nacional", "apesar das críticas",
+        "em todo o país", "nesta semana", "para os próximos anos", "em votação apertada",
+        "com apoio do setor privado", "diante de pressão internacional", "em São Paulo",
+        "no Rio de Janeiro", "em Brasília", "na região Nordeste"
+    };
+
+    private static final String[] CONNECTORS = {
+        "de acordo com", "além disso", "por outro lado", "no entanto", "enquanto isso",
+        "segundo dados de", "em comparação com", "ao mesmo tempo", "ainda assim", "na avaliação de"
+    };
+
+    private static final String[] COMMON_WORDS = {
+        "o", "a", "os", "as", "de", "do", "da", "em", "no", "na", "para", "com", "que", "por",
+        "ano", "país", "governo", "mercado", "setor", "projeto", "dados", "relatório", "processo",
+        "resultado", "medida", "prazo", "especialistas", "população", "empresas", "crescimento"
+    };
+
+    private static final Category[] CATEGORIES = {
+        new Category("política", 0.24,
+            new String[]{"Congresso", "Senado Federal", "Câmara dos Deputados", "Presidente", "Governo federal",
+                         "Ministro da Fazenda", "Supremo Tribunal Federal", "Prefeitura de São Paulo"},
+            new String[]{"reforma tributária", "projeto de lei", "orçamento federal", "medida provisória",
+                         "novo marco regulatório", "programa social", "eleições municipais", "plano de governo"},
+            new String[]{"governo", "congresso", "lei", "reforma", "votação", "senado", "eleição", "partido"}),
+        new Category("economia", 0.22,
+            new String[]{"Banco Central", "Ibovespa", "Mercado financeiro", "Petrobras", "Indústria nacional",
+                         "Varejo", "Agronegócio", "Tesouro Nacional"},
+            new String[]{"taxa de juros", "aumento da inflação", "alta do dólar", "plano de investimento",
+                         "resultado trimestral", "exportações recordes", "nova rodada de concessões", "emprego formal"},
+            new String[]{"economia", "mercado", "inflação", "juros", "dólar", "investimento", "pib", "emprego"}),
+        new Category("esportes", 0.18,
+            new String[]{"Seleção brasileira", "Time do Flamengo", "Palmeiras", "Corinthians", "CBF",
+                         "Atleta brasileira", "Comitê Olímpico", "Técnico da seleção"},
+            new String[]{"campeonato nacional", "final da Libertadores", "novo reforço", "convocação",
+                         "recorde mundial", "Copa do Mundo", "calendário de jogos", "renovação de contrato"},
+            new String[]{"futebol", "esporte", "jogo", "campeonato", "time", "seleção", "olimpíada", "atleta"}),
+        new Category("tecnologia", 0.14,
+            new String[]{"Startup brasileira", "Inteligência artificial", "Google", "Empresa de software",
+                         "Operadoras de telefonia", "Mercado de criptomoedas", "Fintech paulista", "Big techs"},
+            new String[]{"nova tecnologia de dados", "aplicativo de pagamentos", "rede 5G", "programa de automação",
+                         "modelo de linguagem", "plataforma de nuvem", "falha de segurança", "chip nacional"},
+            new String[]{"tecnologia", "inovação", "digital", "startup", "software", "ia", "internet", "dados"}),
+        new Category("saúde", 0.12,
+            new String[]{"Ministério da Saúde", "Hospital público", "Anvisa", "Fiocruz", "SUS",
+                         "Médicos brasileiros", "Secretaria de Saúde", "Pesquisadores da Unifesp"},
+            new String[]{"vacina contra vírus", "campanha de vacinação", "novo tratamento", "surto de dengue",
+                         "fila de cirurgias", "remédio de alto custo", "atenção primária", "saúde mental"},
+            new String[]{"saúde", "medicina", "hospital", "doença", "tratamento", "vacina", "sus", "paciente"}),
+        new Category("ciência", 0.10,
+            new String[]{"Pesquisadores da USP", "NASA", "Cientistas brasileiros", "Inpe", "Embrapa",
+                         "Universidade federal", "Observatório", "Instituto Butantan"},
+            new String[]{"estudo sobre clima", "descoberta científica", "missão espacial", "nova espécie",
+                         "desmatamento na Amazônia", "energia renovável", "sequenciamento genético", "fóssil raro"},
+            new String[]{"ciência", "pesquisa", "estudo", "descoberta", "cientista", "universidade", "clima", "espaço"})
+    };
+
+    private static final double[] CATEGORY_CUMULATIVE = cumulative(categoryWeights());
+    private static final double[] SOURCE_CUMULATIVE = cumulative(zipfWeights(SOURCES.length, 1.1));
+
+    private final long seed;
+    private final long size;
+    private final double syndicationRate;
+
+    public SyntheticCorpus(long seed, long size) {
+        this(seed, size, DEFAULT_SYNDICATION_RATE);
+    }
+
+    /**
+     * @param seed Semente; a mesma semente gera sempre o mesmo corpus
+     * @param size Número de artigos
+     * @param syndicationRate Fração de artigos que republicam um artigo anterior
+     */
+    public SyntheticCorpus(long seed, long size, double syndicationRate) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Tamanho do corpus deve ser positivo: " + size);
+        }
+        if (syndicationRate < 0 || syndicationRate >= 1) {
+            throw new IllegalArgumentException("Taxa de sindicação deve estar em [0, 1): " + syndicationRate);
+        }
+        this.seed = seed;
+        this.size = size;
+        this.syndicationRate = syndicationRate;
+    }
+
+    public static void main(String[] args) throws IOException {
+        long count = 100_000;
+        long seed = DEFAULT_SEED;
+        double syndicationRate = DEFAULT_SYNDICATION_RATE;
+        Path output = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--count" -> count = Long.parseLong(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--syndication" -> syndicationRate = Double.parseDouble(args[i + 1]);
+                case "--output" -> output = Paths.get(args[i + 1]);
+                default -> throw new IllegalArgumentException("Argumento inválido: " + args[i]);
+            }
+        }
+        if (output == null) {
+            throw new IllegalArgumentException("Informe o arquivo de saída com --output");
+        }
+
+        SyntheticCorpus corpus = new SyntheticCorpus(seed, count, syndicationRate);
+        long start = System.nanoTime();
+        corpus.writeNdjson(output);
+        System.err.printf("%d artigos gravados em %s (%.1fs)%n",
+                          count, output, (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Gera o artigo de um índice; chamadas repetidas devolvem artigos iguais (mas não o mesmo objeto)
+     */
+    public NewsArticle article(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fora do corpus: " + index);
+        }
+        if (index > 0 && syndicationRate > 0) {
+            SplittableRandom random = randomFor(index, SYNDICATION_SALT);
+            if (random.nextDouble() < syndicationRate) {
+                long distance = 1 + random.nextInt((int) Math.min(SYNDICATION_WINDOW, index));
+                return syndicate(original(index - distance), index, random);
+            }
+        }
+        return original(index);
+    }
+
+    /**
+     * Fluxo sequencial e preguiçoso de todos os artigos (memória constante)
+     */
+    public Stream<NewsArticle> stream() {
+        return LongStream.range(0, size).mapToObj(this::article);
+    }
+
+    /**
+     * Categoria associada a um tópico: pelo nome ou por um dos termos da categoria;
+     * tópicos desconhecidos são associados deterministicamente a uma categoria
+     */
+    static String categoryForTopic(String topic) {
+        String normalized = topic.toLowerCase(Locale.ROOT).trim();
+        for (Category category : CATEGORIES) {
+            if (normalized.contains(category.name)) {
+                return category.name;
+            }
+        }
+        for (Category category : CATEGORIES) {
+            for (String term : category.terms) {
+                if (containsWord(normalized, term)) {
+                    return category.name;
+                }
+            }
+        }
+        return CATEGORIES[Math.floorMod(normalized.hashCode(), CATEGORIES.length)].name;
+    }
+
+    /**
+     * Grava o corpus inteiro como NDJSON (compactado com gzip se o nome terminar em .gz)
+     */
+    public void writeNdjson(Path output) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream file = Files.newOutputStream(output);
+             OutputStream stream = output.toString().endsWith(".gz") ? fastGzip(file) : file;
+             Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
+            writeNdjson(writer);
+        }
+    }
+
+    /**
+     * Escreve o corpus como NDJSON, um artigo por linha; o destino não é fechado
+     */
+    public void writeNdjson(Writer writer) throws IOException {
+        JsonGenerator json = JSON_FACTORY.createGenerator(writer);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            stream().forEach(article -> {
+                try {
+                    writeArticle(json, article);
+                    json.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        json.flush();
+    }
+
+    /**
+     * Gzip no nível mais rápido: com o nível padrão, a compressão domina o tempo de gravação
+     */
+    private static OutputStream fastGzip(OutputStream out) throws IOException {
+        return new GZIPOutputStream(out, 1 << 16) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        };
+    }
+
+    private static void writeArticle(JsonGenerator json, NewsArticle article) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("title", article.getTitle());
+        json.writeStringField("url", article.getUrl());
+        json.writeStringField("source", article.getSource());
+        json.writeStringField("category", article.getCategory());
+        json.writeStringField("publishedAt", article.getPublishedAt().toString());
+        json.writeNumberField("relevanceScore", article.getRelevanceScore());
+        json.writeArrayFieldStart("keywords");
+        for (String keyword : article.getKeywords()) {
+            json.writeString(keyword);
+        }
+        json.writeEndArray();
+        json.writeStringField("body", article.getBody());
+        json.writeEndObject();
+    }
+
+    private NewsArticle original(long index) {
+        SplittableRandom random = randomFor(index, 0);
+        Category category = CATEGORIES[pick(CATEGORY_CUMULATIVE, random)];
+        int sourceIndex = pick(SOURCE_CUMULATIVE, random);
+
+        String subject = category.subjects[random.nextInt(category.subjects.length)];
+        String object = category.objects[random.nextInt(category.objects.length)];
+        String title = buildTitle(subject, object, random);
+
+        NewsArticle article = new NewsArticle();
+        article.setTitle(title);
+        article.setSource(SOURCES[sourceIndex]);
+        article.setUrl(url(sourceIndex, category, index));
+        article.setCategory(category.name);
+        article.setPublishedAt(EPOCH.plusSeconds(index * INTERARRIVAL_SECONDS + random.nextInt(INTERARRIVAL_SECONDS)));
+        // Média de dois uniformes: scores concentrados no meio, como notas editoriais
+        article.setRelevanceScore((random.nextDouble() + random.nextDouble()) / 2);
+        article.setKeywords(keywords(category, random));
+        article.setBody(buildBody(category, subject, object, random));
+        return article;
+    }
+
+    /**
+     * Republica um artigo em outra fonte, com pequenas alterações de título e corpo
+     */
+    private NewsArticle syndicate(NewsArticle original, long index, SplittableRandom random) {
+        int sourceIndex = pick(SOURCE_CUMULATIVE, random);
+        if (SOURCES[sourceIndex].equals(original.getSource())) {
+            sourceIndex = (sourceIndex + 1) % SOURCES.length;
+        }
+        String source = SOURCES[sourceIndex];
+
+        String title = switch (random.nextInt(4)) {
+            case 0 -> original.getTitle();
+            case 1 -> original.getTitle() + " | " + source;
+            case 2 -> "Agência: " + original.getTitle();
+            default -> dropLastWord(original.getTitle());
+        };
+
+        Category category = categoryByName(original.getCategory());
+        NewsArticle copy = new NewsArticle();
+        copy.setTitle(title);
+        copy.setSource(source);
+        copy.setUrl(url(sourceIndex, category, index));
+        copy.setCategory(original.getCategory());
+        copy.setPublishedAt(original.getPublishedAt().plusMinutes(1 + random.nextInt(240)));
+        copy.setRelevanceScore(clamp(original.getRelevanceScore() + (random.nextDouble() - 0.5) * 0.1));
+        copy.setKeywords(original.getKeywords());
+        copy.setBody("(" + original.getSource() + ") " + original.getBody());
+        return copy;
+    }
+
+    private static String buildTitle(String subject, String object, SplittableRandom random) {
+        // Títulos com mediana de ~10 palavras e cauda longa
+        int targetWords = (int) Math.round(Math.exp(Math.log(10) + 0.3 * gaussian(random)));
+        targetWords = Math.max(5, Math.min(22, targetWords));
+
+        StringBuilder title = new StringBuilder(96)
+            .append(subject).append(' ')
+            .append(VERBS[random.nextInt(VERBS.length)]).append(' ')
+            .append(object);
+        int words = countWords(title);
+        while (words < targetWords) {
+            String qualifier = QUALIFIERS[random.nextInt(QUALIFIERS.length)];
+            title.append(' ').append(qualifier);
+            words += countWords(qualifier);
+        }
+        return title.toString();
+    }
+
+    private static String buildBody(Category category, String subject, String object, SplittableRandom random) {
+        // Corpos com mediana de ~380 palavras e cauda longa (limitados a 3000)
+        int targetWords = (int) Math.round(Math.exp(Math.log(380) + 0.55 * gaussian(random)));
+        targetWords = Math.max(60, Math.min(3000, targetWords));
+
+        StringBuilder body = new StringBuilder(targetWords * 7);
+        body.append(subject).append(' ').append(VERBS[random.nextInt(VERBS.length)])
+            .append(' ').append(object).append('.');
+        int words = countWords(body);
+        while (words < targetWords) {
+            int sentenceWords = 12 + random.nextInt(17);
+            body.append(' ');
+            String connector = CONNECTORS[random.nextInt(CONNECTORS.length)];
+            body.append(Character.toUpperCase(connector.charAt(0))).append(connector, 1, connector.length());
+            for (int i = 0; i < sentenceWords; i++) {
+                String word = random.nextInt(3) == 0
+                    ? category.terms[random.nextInt(category.terms.length)]
+                    : COMMON_WORDS[random.nextInt(COMMON_WORDS.length)];
+                body.append(' ').append(word);
+            }
+            body.append('.');
+            words += sentenceWords + countWords(connector);
+        }
+        return body.toString();
+    }
+
+    private static List<String> keywords(Category category, SplittableRandom random) {
+        List<String> keywords = new ArrayList<>(4);
+        keywords.add(category.name);
+        while (keywords.size() < 4) {
+            String term = category.terms[random.nextInt(category.terms.length)];
+            if (!keywords.contains(term)) {
+                keywords.add(term);
+            }
+        }
+        return keywords;
+    }
+
+    private static String url(int sourceIndex, Category category, long index) {
+        return "https://" + DOMAINS[sourceIndex] + "/" + category.slug + "/noticia-" + index;
+    }
+
+    private SplittableRandom randomFor(long index, long salt) {
+        return new SplittableRandom(seed * SEED_MIX + index * INDEX_MIX + salt);
+    }
+
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        double value = random.nextDouble();
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (value < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller: SplittableRandom não oferece nextGaussian no Java 17
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private static int countWords(CharSequence text) {
+        int words = text.length() > 0 ? 1 : 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == ' ') {
+                words++;
+            }
+        }
+        return words;
+    }
+
+    private static String dropLastWord(String title) {
+        int lastSpace = title.lastIndexOf(' ');
+        return lastSpace > 0 ? title.substring(0, lastSpace) : title;
+    }
+
+    private static boolean containsWord(String text, String word) {
+        int from = 0;
+        int at;
+        while ((at = text.indexOf(word, from)) >= 0) {
+            boolean startOk = at == 0 || !Character.isLetterOrDigit(text.charAt(at - 1));
+            int end = at + word.length();
+            boolean endOk = end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+            if (startOk && endOk) {
+                return true;
+            }
+            from = at + 1;
+        }
+        return false;
+    }
+
+    private static double clamp(double score) {
+        return Math.max(0.0, Math.min(1.0, score));
+    }
+
+    private static Category categoryByName(String name) {
+        for (Category category : CATEGORIES) {
+            if (category.name.equals(name)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Categoria desconhecida: " + name);
+    }
+
+    private static double[] categoryWeights() {
+        double[] weights = new double[CATEGORIES.length];
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            weights[i] = CATEGORIES[i].weight;
+        }
+        return weights;
+    }
+
+    private static double[] zipfWeights(int count, double exponent) {
+        double[] weights = new double[count];
+        for (int rank = 0; rank < count; rank++) {
+            weights[rank] = 1.0 / Math.pow(rank + 1, exponent);
+        }
+        return weights;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] cumulative = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cumulative[i] = running / total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Vocabulário de uma categoria
+     */
+    private static final class Category {
+        final String name;
+        final String slug;
+        final double weight;
+        final String[] subjects;
+        final String[] objects;
+        final String[] terms;
+
+        Category(String name, double weight, String[] subjects, String[] objects, String[] terms) {
+            this.name = name;
+            this.slug = name.replace('í', 'i').replace('ú', 'u').replace('ê', 'e');
+            this.weight = weight;
+            this.subjects = subjects;
+            this.objects = objects;
+            this.terms = terms;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.newscurator.sources;
+
+import com.example.newscurator.models.NewsArticle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Fonte de notícias sobre um {@link SyntheticCorpus}
+ *
+ * Cada tópico começa a varredura em uma posição derivada do próprio tópico e
+ * seleciona os artigos da categoria associada a ele ou cujo título o mencione.
+ * A mesma consulta devolve sempre os mesmos artigos, sem índice em memória.
+ */
+public class SyntheticNewsSource implements NewsSource {
+
+    /** Artigos examinados por resultado pedido antes de desistir */
+    private static final int SCAN_FACTOR = 64;
+
+    private final SyntheticCorpus corpus;
+
+    public SyntheticNewsSource(SyntheticCorpus corpus) {
+        this.corpus = corpus;
+    }
+
+    public SyntheticCorpus getCorpus() {
+        return corpus;
+    }
+
+    @Override
+    public List<NewsArticle> search(String topic, int maxResults) {
+        String normalized = topic.toLowerCase(Locale.ROOT).trim();
+        String category = SyntheticCorpus.categoryForTopic(normalized);
+        long size = corpus.size();
+        long start = Math.floorMod(normalized.hashCode() * 0x9E3779B97F4A7C15L, size);
+        long scanLimit = Math.min(size, (long) maxResults * SCAN_FACTOR);
+
+        List<NewsArticle> results = new ArrayList<>(maxResults);
+        for (long scanned = 0; scanned < scanLimit && results.size() < maxResults; scanned++) {
+            NewsArticle article = corpus.article((start + scanned) % size);
+            boolean mentioned = article.getTitle().toLowerCase(Locale.ROOT).contains(normalized);
+            if (mentioned || category.equals(article.getCategory())) {
+                List<String> keywords = new ArrayList<>(article.getKeywords().size() + 1);
+                keywords.add(topic);
+                keywords.addAll(article.getKeywords());
+                article.setKeywords(keywords);
+                results.add(article);
+            }
+        }
+        return results;
+    }
+}
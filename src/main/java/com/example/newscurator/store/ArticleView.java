@@ -0,0 +1,146 @@
+package com.example.newscurator.store;
+
+import com.example.newscurator.models.NewsArticle;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Visão de um artigo do {@link OffHeapArticleStore}
+ *
+ * Funciona como flyweight: não copia o registro para o heap e decodifica cada
+ * campo apenas quando o getter correspondente é chamado. Durante uma varredura
+ * a mesma instância é reposicionada, portanto não deve ser guardada entre passos.
+ */
+public class ArticleView {
+
+    private final OffHeapArticleStore store;
+    private ByteBuffer segment;
+    private int offset;
+    private int id = -1;
+
+    ArticleView(OffHeapArticleStore store) {
+        this.store = store;
+    }
+
+    void moveTo(int id) {
+        this.segment = store.segment(id);
+        this.offset = store.offset(id);
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return field(OffHeapArticleStore.FIELD_TITLE);
+    }
+
+    public String getSummary() {
+        return field(OffHeapArticleStore.FIELD_SUMMARY);
+    }
+
+    public String getUrl() {
+        return field(OffHeapArticleStore.FIELD_URL);
+    }
+
+    public String getSource() {
+        return field(OffHeapArticleStore.FIELD_SOURCE);
+    }
+
+    public List<String> getKeywords() {
+        return list(OffHeapArticleStore.FIELD_KEYWORDS);
+    }
+
+    public List<String> getTopics() {
+        return list(OffHeapArticleStore.FIELD_TOPICS);
+    }
+
+    public List<String> getCoverage() {
+        return list(OffHeapArticleStore.FIELD_COVERAGE);
+    }
+
+    public String getBody() {
+        return field(OffHeapArticleStore.FIELD_BODY);
+    }
+
+    private List<String> list(int index) {
+        String joined = field(index);
+        if (joined == null) {
+            return null;
+        }
+        if (joined.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(joined.split(String.valueOf(OffHeapArticleStore.KEYWORD_SEPARATOR)));
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return OffHeapArticleStore.fromEpochMillis(segment.getLong(offset + OffHeapArticleStore.OFFSET_PUBLISHED_AT));
+    }
+
+    public double getRelevanceScore() {
+        return segment.getDouble(offset + OffHeapArticleStore.OFFSET_RELEVANCE);
+    }
+
+    public void setRelevanceScore(double relevanceScore) {
+        store.setRelevanceScore(id, relevanceScore);
+    }
+
+    public String getCategory() {
+        return store.getCategory(id);
+    }
+
+    public void setCategory(String category) {
+        store.setCategory(id, category);
+    }
+
+    public String getSentiment() {
+        return OffHeapArticleStore.sentimentName(segment.get(offset + OffHeapArticleStore.OFFSET_SENTIMENT));
+    }
+
+    /**
+     * Copia o registro para um {@link NewsArticle} no heap
+     */
+    public NewsArticle toArticle() {
+        NewsArticle article = new NewsArticle();
+        article.setTitle(getTitle());
+        article.setSummary(getSummary());
+        article.setUrl(getUrl());
+        article.setSource(getSource());
+        article.setKeywords(getKeywords());
+        article.setTopics(getTopics());
+        article.setCoverage(getCoverage());
+        article.setBody(getBody());
+        article.setPublishedAt(getPublishedAt());
+        article.setRelevanceScore(getRelevanceScore());
+        article.setCategory(getCategory());
+        article.setSentiment(getSentiment());
+        return article;
+    }
+
+    /**
+     * Decodifica o campo de índice informado, pulando os anteriores pelo prefixo de tamanho
+     */
+    private String field(int index) {
+        int position = offset + OffHeapArticleStore.HEADER_BYTES;
+        for (int i = 0; i < index; i++) {
+            int length = segment.getInt(position);
+            position += 4 + Math.max(length, 0);
+        }
+        int length = segment.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        return OffHeapArticleStore.decode(segment, position + 4, length);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ArticleView{id=%d, title='%s', category='%s', relevanceScore=%.2f}",
+                           id, getTitle(), getCategory(), getRelevanceScore());
+    }
+}
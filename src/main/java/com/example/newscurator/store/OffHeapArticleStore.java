@@ -0,0 +1,420 @@
+package com.example.newscurator.store;
+
+import com.example.newscurator.models.NewsArticle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Armazenamento de artigos fora do heap para corpora com milhões de notícias
+ *
+ * Os artigos são serializados em segmentos de {@link ByteBuffer} diretos ou em
+ * arquivos mapeados em memória, evitando manter milhões de {@link NewsArticle}
+ * vivos no heap. Cada registro tem o layout:
+ *
+ * <pre>
+ * int    tamanho total do registro
+ * double score de relevância        (mutável)
+ * long   publishedAt em epoch millis (Long.MIN_VALUE = ausente)
+ * byte   código da categoria        (mutável, -1 = ausente)
+ * byte   código do sentimento       (mutável, -1 = ausente)
+ * campos title, summary, url, source, keywords, topics, coverage, body:
+ *        int tamanho (-1 = nulo) + bytes UTF-8 (listas unidas por U+001F)
+ * </pre>
+ *
+ * Apêndices são serializados; leituras usam apenas acessos absolutos aos buffers
+ * e podem ocorrer em paralelo com novos apêndices. O apêndice publica o registro
+ * pela escrita volátil de {@code size}, depois de gravar os bytes, o endereço e,
+ * se preciso, os novos arrays de segmentos e endereços (também voláteis e nunca
+ * alterados depois de trocados, exceto por posições ainda não publicadas); a
+ * leitura confere o id contra {@code size} antes de ler os arrays.
+ */
+public class OffHeapArticleStore implements Iterable<ArticleView>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffHeapArticleStore.class);
+
+    public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+    static final int OFFSET_LENGTH = 0;
+    static final int OFFSET_RELEVANCE = 4;
+    static final int OFFSET_PUBLISHED_AT = 12;
+    static final int OFFSET_CATEGORY = 20;
+    static final int OFFSET_SENTIMENT = 21;
+    static final int HEADER_BYTES = 22;
+    static final int FIELD_COUNT = 8;
+    static final int FIELD_TITLE = 0;
+    static final int FIELD_SUMMARY = 1;
+    static final int FIELD_URL = 2;
+    static final int FIELD_SOURCE = 3;
+    static final int FIELD_KEYWORDS = 4;
+    static final int FIELD_TOPICS = 5;
+    static final int FIELD_COVERAGE = 6;
+    /** Por último: é o maior campo, e os anteriores são encontrados sem pulá-lo */
+    static final int FIELD_BODY = 7;
+
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    static final char KEYWORD_SEPARATOR = '\u001F';
+
+    private static final String[] SENTIMENTS = {"POSITIVE", "NEGATIVE", "NEUTRAL"};
+
+    private final int segmentBytes;
+    private final FileChannel channel;
+    private final List<String> categories = new ArrayList<>();
+
+    /** Segmentos alocados; trocado por uma cópia maior a cada novo segmento */
+    private volatile ByteBuffer[] segments = new ByteBuffer[0];
+    /** Endereço de cada registro: índice do segmento nos 32 bits altos, offset nos baixos */
+    private volatile long[] addresses = new long[1024];
+    private volatile int size;
+    private int writeOffset;
+    private long mappedBytes;
+
+    private OffHeapArticleStore(int segmentBytes, FileChannel channel) {
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Tamanho de segmento inválido: " + segmentBytes);
+        }
+        this.segmentBytes = segmentBytes;
+        this.channel = channel;
+    }
+
+    /**
+     * Cria um armazenamento em buffers diretos (memória nativa, fora do heap)
+     */
+    public static OffHeapArticleStore direct() {
+        return direct(DEFAULT_SEGMENT_BYTES);
+    }
+
+    public static OffHeapArticleStore direct(int segmentBytes) {
+        return new OffHeapArticleStore(segmentBytes, null);
+    }
+
+    /**
+     * Cria um armazenamento mapeado em arquivo; o conteúdo é paginado pelo sistema operacional
+     */
+    public static OffHeapArticleStore mapped(Path file) throws IOException {
+        return mapped(file, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public static OffHeapArticleStore mapped(Path file, int segmentBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        logger.info("OffHeapArticleStore mapeado em {}", file);
+        return new OffHeapArticleStore(segmentBytes, channel);
+    }
+
+    /**
+     * Adiciona um artigo ao armazenamento
+     *
+     * @param article Artigo a ser serializado
+     * @return Identificador sequencial do artigo
+     */
+    public synchronized int append(NewsArticle article) {
+        byte[][] fields = {
+            encode(article.getTitle()),
+            encode(article.getSummary()),
+            encode(article.getUrl()),
+            encode(article.getSource()),
+            encode(join(article.getKeywords())),
+            encode(join(article.getTopics())),
+            encode(join(article.getCoverage())),
+            encode(article.getBody())
+        };
+
+        int recordBytes = HEADER_BYTES;
+        for (byte[] field : fields) {
+            recordBytes += 4 + (field != null ? field.length : 0);
+        }
+        if (recordBytes > segmentBytes) {
+            throw new IllegalArgumentException("Artigo excede o tamanho do segmento: " + recordBytes + " bytes");
+        }
+
+        ByteBuffer[] current = segments;
+        if (current.length == 0 || writeOffset + recordBytes > segmentBytes) {
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = allocateSegment();
+            segments = current;
+            writeOffset = 0;
+        }
+
+        int segmentIndex = current.length - 1;
+        ByteBuffer segment = current[segmentIndex];
+        int offset = writeOffset;
+
+        segment.putInt(offset + OFFSET_LENGTH, recordBytes);
+        segment.putDouble(offset + OFFSET_RELEVANCE, article.getRelevanceScore());
+        segment.putLong(offset + OFFSET_PUBLISHED_AT, toEpochMillis(article.getPublishedAt()));
+        segment.put(offset + OFFSET_CATEGORY, (byte) -1);
+        segment.put(offset + OFFSET_SENTIMENT, sentimentCode(article.getSentiment()));
+
+        int position = offset + HEADER_BYTES;
+        for (byte[] field : fields) {
+            if (field == null) {
+                segment.putInt(position, -1);
+                position += 4;
+            } else {
+                segment.putInt(position, field.length);
+                segment.put(position + 4, field);
+                position += 4 + field.length;
+            }
+        }
+        writeOffset = position;
+
+        if (article.getCategory() != null) {
+            segment.put(offset + OFFSET_CATEGORY, categoryCode(article.getCategory()));
+        }
+        int id = size;
+        long[] table = addresses;
+        if (id == table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+        }
+        table[id] = ((long) segmentIndex << 32) | offset;
+        addresses = table;
+        // Publica o registro: leituras que veem o novo size veem tudo o que foi gravado antes
+        size = id + 1;
+        return id;
+    }
+
+    /**
+     * Número de artigos armazenados
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Total de bytes reservados fora do heap
+     */
+    public synchronized long reservedBytes() {
+        return (long) segments.length * segmentBytes;
+    }
+
+    /**
+     * Acesso aleatório por id; a view decodifica os campos apenas quando solicitados
+     */
+    public ArticleView get(int id) {
+        ArticleView view = new ArticleView(this);
+        view.moveTo(id);
+        return view;
+    }
+
+    /**
+     * Varredura sequencial; a mesma view é reposicionada a cada passo, sem alocação por artigo
+     */
+    @Override
+    public Iterator<ArticleView> iterator() {
+        final int limit = size;
+        final ArticleView view = new ArticleView(this);
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < limit;
+            }
+
+            @Override
+            public ArticleView next() {
+                if (next >= limit) {
+                    throw new NoSuchElementException();
+                }
+                view.moveTo(next++);
+                return view;
+            }
+        };
+    }
+
+    /**
+     * Materializa um artigo no heap (use apenas para o subconjunto final do relatório)
+     */
+    public NewsArticle materialize(int id) {
+        return get(id).toArticle();
+    }
+
+    public double getRelevanceScore(int id) {
+        return segment(id).getDouble(offset(id) + OFFSET_RELEVANCE);
+    }
+
+    public void setRelevanceScore(int id, double relevanceScore) {
+        segment(id).putDouble(offset(id) + OFFSET_RELEVANCE, relevanceScore);
+    }
+
+    public String getCategory(int id) {
+        int code = segment(id).get(offset(id) + OFFSET_CATEGORY);
+        return code < 0 ? null : categoryName(code);
+    }
+
+    public void setCategory(int id, String category) {
+        segment(id).put(offset(id) + OFFSET_CATEGORY, category == null ? (byte) -1 : categoryCode(category));
+    }
+
+    /**
+     * Retorna os ids dos k artigos mais relevantes em ordem decrescente de score,
+     * lendo apenas o cabeçalho de cada registro
+     */
+    public int[] topByRelevance(int k) {
+        int limit = size;
+        if (k <= 0 || limit == 0) {
+            return new int[0];
+        }
+
+        PriorityQueue<long[]> heap = new PriorityQueue<>(Math.min(k, limit) + 1,
+            (a, b) -> Double.compare(Double.longBitsToDouble(a[0]), Double.longBitsToDouble(b[0])));
+        for (int id = 0; id < limit; id++) {
+            double score = getRelevanceScore(id);
+            if (heap.size() < k) {
+                heap.add(new long[]{Double.doubleToRawLongBits(score), id});
+            } else if (score > Double.longBitsToDouble(heap.peek()[0])) {
+                long[] entry = heap.poll();
+                entry[0] = Double.doubleToRawLongBits(score);
+                entry[1] = id;
+                heap.add(entry);
+            }
+        }
+
+        int[] ids = new int[heap.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = (int) heap.poll()[1];
+        }
+        return ids;
+    }
+
+    /**
+     * Conta artigos por categoria sem materializar nenhum artigo
+     */
+    public int[] countByCategoryCode() {
+        int[] counts;
+        synchronized (this) {
+            counts = new int[categories.size()];
+        }
+        int limit = size;
+        for (int id = 0; id < limit; id++) {
+            int code = segment(id).get(offset(id) + OFFSET_CATEGORY);
+            if (code >= 0 && code < counts.length) {
+                counts[code]++;
+            }
+        }
+        return counts;
+    }
+
+    public synchronized String categoryName(int code) {
+        return categories.get(code);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            for (ByteBuffer segment : segments) {
+                ((MappedByteBuffer) segment).force();
+            }
+            channel.close();
+        }
+        size = 0;
+        segments = new ByteBuffer[0];
+    }
+
+    // Acessos usados pela ArticleView
+
+    ByteBuffer segment(int id) {
+        checkId(id);
+        return segments[(int) (addresses[id] >>> 32)];
+    }
+
+    int offset(int id) {
+        return (int) addresses[id];
+    }
+
+    static String decode(ByteBuffer segment, int position, int length) {
+        byte[] bytes = new byte[length];
+        segment.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static String sentimentName(int code) {
+        return code < 0 ? null : SENTIMENTS[code];
+    }
+
+    static LocalDateTime fromEpochMillis(long epochMillis) {
+        if (epochMillis == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+            Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Id de artigo inválido: " + id);
+        }
+    }
+
+    private ByteBuffer allocateSegment() {
+        if (channel == null) {
+            return ByteBuffer.allocateDirect(segmentBytes);
+        }
+        try {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, mappedBytes, segmentBytes);
+            mappedBytes += segmentBytes;
+            return segment;
+        } catch (IOException e) {
+            logger.error("Erro ao mapear segmento do armazenamento", e);
+            throw new RuntimeException("Falha ao mapear segmento: " + e.getMessage(), e);
+        }
+    }
+
+    private synchronized byte categoryCode(String category) {
+        int code = categories.indexOf(category);
+        if (code < 0) {
+            if (categories.size() == Byte.MAX_VALUE) {
+                throw new IllegalStateException("Limite de categorias excedido");
+            }
+            categories.add(category);
+            code = categories.size() - 1;
+        }
+        return (byte) code;
+    }
+
+    private static byte sentimentCode(String sentiment) {
+        if (sentiment != null) {
+            for (int i = 0; i < SENTIMENTS.length; i++) {
+                if (SENTIMENTS[i].equals(sentiment)) {
+                    return (byte) i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIMESTAMP;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1000 + dateTime.getNano() / 1_000_000;
+    }
+
+    private static String join(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        return String.join(String.valueOf(KEYWORD_SEPARATOR), values);
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.newscurator.store;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.relevance.FreshnessDecay;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Índice em memória dos artigos recentes, por tópico, em janelas de tempo
+ *
+ * Os artigos ficam em um anel de baldes de largura fixa (por exemplo, 5 minutos),
+ * escolhido pela data de publicação; o anel cobre o período de retenção. Quando o
+ * relógio avança, o balde mais antigo é reaproveitado para o período novo e seus
+ * artigos são liberados, sem thread de limpeza: a primeira indexação ou consulta
+ * de cada período também libera os baldes que saíram da retenção sem terem sido
+ * reaproveitados, de modo que o índice não segura artigos expirados quando a
+ * indexação de alguns tópicos para. Uma consulta "melhores notícias do tópico X
+ * nas últimas N horas" percorre só os baldes da janela e o tópico pedido em cada um.
+ *
+ * Cada balde guarda no máximo {@code maxPerTopic} artigos por tópico (os de maior
+ * relevância), o que limita a memória do índice. O mesmo artigo indexado de novo
+ * (mesma URL) substitui o anterior no balde; se a nova data de publicação o levar
+ * a outro balde, as duas entradas convivem e a consulta devolve só a de maior score.
+ */
+public class RecentArticleIndex {
+
+    private final long bucketSeconds;
+    private final int maxPerTopic;
+    private final FreshnessDecay decay;
+    private final AtomicReferenceArray<Bucket> ring;
+    /** Último período em que os baldes expirados foram liberados */
+    private final AtomicLong expiredEpoch = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param bucketWidth Período coberto por cada balde
+     * @param retention Período coberto pelo anel; artigos mais antigos são descartados
+     * @param maxPerTopic Artigos guardados por tópico em cada balde
+     * @param decay Decaimento aplicado ao ordenar as consultas, ou null para usar só a relevância
+     */
+    public RecentArticleIndex(Duration bucketWidth, Duration retention, int maxPerTopic, FreshnessDecay decay) {
+        if (bucketWidth.getSeconds() <= 0 || retention.compareTo(bucketWidth) < 0 || maxPerTopic <= 0) {
+            throw new IllegalArgumentException("Largura do balde, retenção e limite por tópico inválidos");
+        }
+        this.bucketSeconds = bucketWidth.getSeconds();
+        this.maxPerTopic = maxPerTopic;
+        this.decay = decay;
+        int buckets = (int) ((retention.getSeconds() + bucketSeconds - 1) / bucketSeconds);
+        this.ring = new AtomicReferenceArray<>(buckets);
+    }
+
+    /**
+     * Indexa os artigos nos tópicos que os encontraram ({@link NewsArticle#getTopics()})
+     *
+     * Artigos sem data de publicação entram no balde de {@code now}; artigos fora da
+     * retenção são ignorados.
+     *
+     * @return Número de artigos indexados
+     */
+    public int addAll(List<NewsArticle> articles, LocalDateTime now) {
+        long current = epoch(now);
+        expireOnce(current);
+        int added = 0;
+        for (NewsArticle article : articles) {
+            if (article.getTopics() == null || article.getTopics().isEmpty()) {
+                continue;
+            }
+            long epoch = article.getPublishedAt() != null ? Math.min(epoch(article.getPublishedAt()), current) : current;
+            if (epoch <= current - ring.length()) {
+                continue;
+            }
+            Bucket bucket = bucket(epoch);
+            if (bucket == null) {
+                continue;
+            }
+            for (String topic : article.getTopics()) {
+                bucket.topics.computeIfAbsent(normalize(topic), ignored -> new TopicEntries()).add(article, maxPerTopic);
+            }
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * Melhores artigos do tópico publicados na janela que termina em {@code now}
+     *
+     * @return Cópias dos artigos, do maior para o menor score (com decaimento, se configurado)
+     */
+    public List<NewsArticle> top(String topic, Duration window, int limit, LocalDateTime now) {
+        String key = normalize(topic);
+        LocalDateTime cutoff = now.minus(window);
+        long current = epoch(now);
+        expireOnce(current);
+        long first = Math.max(epoch(cutoff), current - ring.length() + 1);
+
+        // A mesma notícia pode estar em mais de um balde (reindexada com outra data)
+        Map<String, NewsArticle> byKey = new HashMap<>();
+        for (long epoch = first; epoch <= current; epoch++) {
+            Bucket bucket = ring.get(slot(epoch));
+            if (bucket == null || bucket.epoch != epoch) {
+                continue;
+            }
+            TopicEntries entries = bucket.topics.get(key);
+            if (entries == null) {
+                continue;
+            }
+            for (NewsArticle article : entries.snapshot()) {
+                LocalDateTime publishedAt = article.getPublishedAt();
+                if (publishedAt != null && publishedAt.isBefore(cutoff)) {
+                    continue;
+                }
+                byKey.merge(key(article), article,
+                            (kept, other) -> score(other, now) > score(kept, now) ? other : kept);
+            }
+        }
+
+        Comparator<NewsArticle> byScore = Comparator.comparingDouble(article -> score(article, now));
+        PriorityQueue<NewsArticle> best = new PriorityQueue<>(limit + 1, byScore);
+        for (NewsArticle article : byKey.values()) {
+            best.add(article);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<NewsArticle> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            results.add(new NewsArticle(best.poll()));
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Libera os baldes que saíram da retenção sem terem sido reaproveitados
+     *
+     * {@link #addAll} e {@link #top} já fazem isso uma vez por período; chamar
+     * diretamente só adianta a liberação quando o índice fica sem uso.
+     *
+     * @return Número de baldes liberados
+     */
+    public int expire(LocalDateTime now) {
+        return expire(epoch(now));
+    }
+
+    /**
+     * Libera os baldes expirados na primeira chamada de cada período
+     */
+    private void expireOnce(long current) {
+        long last = expiredEpoch.get();
+        if (current > last && expiredEpoch.compareAndSet(last, current)) {
+            expire(current);
+        }
+    }
+
+    private int expire(long current) {
+        long oldest = current - ring.length() + 1;
+        int released = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null && bucket.epoch < oldest && ring.compareAndSet(i, bucket, null)) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Artigos guardados no índice, somando todos os tópicos
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null) {
+                for (TopicEntries entries : bucket.topics.values()) {
+                    size += entries.size();
+                }
+            }
+        }
+        return size;
+    }
+
+    private double score(NewsArticle article, LocalDateTime now) {
+        return decay != null ? decay.score(article, now) : article.getRelevanceScore();
+    }
+
+    /**
+     * Balde do período, reaproveitando a posição do anel se ela guardar um período mais antigo
+     *
+     * @return O balde, ou null se a posição já pertencer a um período mais novo
+     */
+    private Bucket bucket(long epoch) {
+        int slot = slot(epoch);
+        while (true) {
+            Bucket current = ring.get(slot);
+            if (current != null && current.epoch == epoch) {
+                return current;
+            }
+            if (current != null && current.epoch > epoch) {
+                return null;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (ring.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) ring.length());
+    }
+
+    private long epoch(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+    }
+
+    private static String key(NewsArticle article) {
+        return article.getUrl() != null ? article.getUrl() : article.getTitle();
+    }
+
+    private static String normalize(String topic) {
+        return topic.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Artigos de um período; o período identifica o balde mesmo após a posição ser reaproveitada
+     */
+    private static final class Bucket {
+        private final long epoch;
+        private final Map<String, TopicEntries> topics = new ConcurrentHashMap<>();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * Artigos de um tópico em um balde, por URL (ou título); protegida pelo próprio monitor
+     */
+    private static final class TopicEntries {
+        private final Map<String, NewsArticle> articles = new HashMap<>();
+
+        synchronized void add(NewsArticle article, int limit) {
+            String key = key(article);
+            if (articles.size() >= limit && !articles.containsKey(key)) {
+                String weakest = null;
+                double weakestScore = Double.MAX_VALUE;
+                for (Map.Entry<String, NewsArticle> entry : articles.entrySet()) {
+                    if (entry.getValue().getRelevanceScore() < weakestScore) {
+                        weakest = entry.getKey();
+                        weakestScore = entry.getValue().getRelevanceScore();
+                    }
+                }
+                if (weakestScore >= article.getRelevanceScore()) {
+                    return;
+                }
+                articles.remove(weakest);
+            }
+            articles.put(key, article);
+        }
+
+        synchronized List<NewsArticle> snapshot() {
+            return new ArrayList<>(articles.values());
+        }
+
+        synchronized int size() {
+            return articles.size();
+        }
+    }
+}
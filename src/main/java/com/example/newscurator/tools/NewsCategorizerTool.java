@@ -1,23 +1,46 @@
 package com.example.newscurator.tools;
 
+import com.example.newscurator.logging.AsyncLogging;
 import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.relevance.PortugueseAnalyzer;
+import com.example.newscurator.store.ArticleView;
+import com.example.newscurator.store.OffHeapArticleStore;
 import com.example.newscurator.utils.ConfigManager;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Ferramenta para categorizar notícias automaticamente
  */
 public class NewsCategorizerTool {
     
-    private static final Logger logger = LoggerFactory.getLogger(NewsCategorizerTool.class);
+    private static final Logger logger = AsyncLogging.getLogger(NewsCategorizerTool.class);
+
+    /** Caracteres do corpo examinados quando título e palavras-chave não bastam */
+    private static final int BODY_PREFIX_CHARS = 2000;
+
+    /** Ocorrências mínimas no corpo para atribuir a categoria */
+    private static final int MIN_BODY_HITS = 2;
+
+    /** Categorias na ordem de desempate, a mesma da busca no título */
+    private static final String[] BODY_CATEGORIES = {
+        "tecnologia", "política", "economia", "esportes", "saúde", "ciência"
+    };
+
     private final ConfigManager configManager;
+
+    /** Palavras-chave de cada categoria de {@link #BODY_CATEGORIES}, já tokenizadas como o corpo */
+    private final List<Set<String>> bodyTerms;
     
     public NewsCategorizerTool(ConfigManager configManager) {
         this.configManager = configManager;
+        this.bodyTerms = List.of(
+            bodyTerms(getTechnologyKeywords()), bodyTerms(getPoliticsKeywords()), bodyTerms(getEconomyKeywords()),
+            bodyTerms(getSportsKeywords()), bodyTerms(getHealthKeywords()), bodyTerms(getScienceKeywords()));
         logger.info("NewsCategorizerTool inicializada");
     }
     
@@ -53,14 +76,50 @@ public class NewsCategorizerTool {
     }
     
     /**
-     * Categoriza um artigo individual baseado no título e palavras-chave
+     * Categoriza um artigo individual baseado no título e palavras-chave e, se
+     * nenhum deles indicar a categoria, no início do corpo
      * 
      * @param article Artigo para categorizar
      * @return Categoria identificada
      */
     public String categorizeArticle(NewsArticle article) {
-        String title = article.getTitle().toLowerCase();
-        List<String> keywords = article.getKeywords();
+        String category = categorize(article.getTitle(), article.getKeywords());
+        if ("geral".equals(category) && article.getBody() != null && !article.getBody().isBlank()) {
+            return categorizeBody(article.getBody());
+        }
+        return category;
+    }
+    
+    /**
+     * Categoriza todos os artigos de um armazenamento fora do heap, gravando a
+     * categoria diretamente no registro sem materializar {@link NewsArticle}s
+     * 
+     * @param store Armazenamento de artigos
+     * @return Número de artigos categorizados
+     */
+    public int categorizeStore(OffHeapArticleStore store) {
+        logger.info("Categorizando {} artigos do armazenamento fora do heap", store.size());
+        
+        int categorized = 0;
+        for (ArticleView view : store) {
+            try {
+                view.setCategory(categorize(view.getTitle(), view.getKeywords()));
+            } catch (Exception e) {
+                logger.error("Erro ao categorizar artigo do armazenamento: {}", view.getId(), e);
+                view.setCategory("geral");
+            }
+            categorized++;
+        }
+        
+        logger.info("Categorização concluída para {} artigos do armazenamento", categorized);
+        return categorized;
+    }
+    
+    /**
+     * Categoriza a partir do título e das palavras-chave
+     */
+    private String categorize(String rawTitle, List<String> keywords) {
+        String title = rawTitle.toLowerCase();
         
         // Verifica palavras-chave no título
         if (containsKeywords(title, getTechnologyKeywords())) {
@@ -96,6 +155,42 @@ public class NewsCategorizerTool {
         return "geral";
     }
     
+    /**
+     * Categoria com mais ocorrências de palavras-chave no início do corpo
+     *
+     * Compara palavras inteiras, sem acento (a busca por trecho do título acharia
+     * "ia" em quase todo parágrafo); termos compostos como "meio ambiente" não
+     * entram na contagem.
+     */
+    private String categorizeBody(String body) {
+        String prefix = body.length() > BODY_PREFIX_CHARS ? body.substring(0, BODY_PREFIX_CHARS) : body;
+        int[] hits = new int[BODY_CATEGORIES.length];
+        PortugueseAnalyzer.tokenize(prefix, term -> {
+            for (int i = 0; i < bodyTerms.size(); i++) {
+                if (bodyTerms.get(i).contains(term)) {
+                    hits[i]++;
+                }
+            }
+        });
+
+        int best = -1;
+        for (int i = 0; i < hits.length; i++) {
+            if (hits[i] >= MIN_BODY_HITS && (best < 0 || hits[i] > hits[best])) {
+                best = i;
+            }
+        }
+        return best < 0 ? "geral" : BODY_CATEGORIES[best];
+    }
+
+    private static Set<String> bodyTerms(List<String> keywords) {
+        return keywords.stream()
+            .filter(keyword -> keyword.indexOf(' ') < 0)
+            .map(PortugueseAnalyzer::tokens)
+            .filter(tokens -> tokens.size() == 1)
+            .map(tokens -> tokens.get(0))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
     /**
      * Verifica se o texto contém alguma das palavras-chave
      */
@@ -1,14 +1,31 @@
 package com.example.newscurator.tools;
 
+import com.example.newscurator.logging.AsyncLogging;
 import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.relevance.Bm25Index;
+import com.example.newscurator.relevance.PortugueseAnalyzer;
+import com.example.newscurator.resilience.CircuitBreaker;
+import com.example.newscurator.resilience.GuardedNewsSource;
+import com.example.newscurator.resilience.HedgedNewsSource;
+import com.example.newscurator.resilience.TokenBucket;
+import com.example.newscurator.sources.FeedNewsSource;
+import com.example.newscurator.sources.HttpNewsSource;
+import com.example.newscurator.sources.NewsSource;
+import com.example.newscurator.sources.SyntheticCorpus;
+import com.example.newscurator.sources.SyntheticNewsSource;
 import com.example.newscurator.utils.ConfigManager;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Ferramenta para buscar notícias usando APIs de busca
@@ -18,12 +35,28 @@ import java.util.Random;
  * - Google News API
  * - NewsAPI.org
  * - Bing News Search API
+ * 
+ * Com {@code news.source=synthetic}, as buscas usam um {@link SyntheticCorpus}
+ * determinístico (semente e tamanho configuráveis) em vez dos dados simulados.
+ * 
+ * Com {@code news.source=feeds}, as buscas leem arquivos RSS/Atom do diretório
+ * {@code news.feeds.path} ({@link FeedNewsSource}).
+ * 
+ * Com {@code news.source=http}, as buscas vão para um provedor HTTP
+ * ({@code news.http.url}) protegido por limite de taxa e disjuntor; com
+ * {@code news.http.secondary.url}, um segundo provedor cobre as falhas e, após
+ * {@code news.http.hedge.after.ms}, a lentidão do primeiro.
+ * 
+ * Em todos os casos o score de relevância é calculado por um {@link Bm25Index}
+ * compartilhado entre as buscas, que indexa os artigos à medida que chegam.
  */
 public class NewsSearchTool {
     
-    private static final Logger logger = LoggerFactory.getLogger(NewsSearchTool.class);
+    private static final Logger logger = AsyncLogging.getLogger(NewsSearchTool.class);
     private final ConfigManager configManager;
     private final Random random;
+    private final NewsSource source;
+    private final Bm25Index relevanceIndex;
     
     // Dados simulados para demonstração
     private static final String[] SAMPLE_SOURCES = {
@@ -48,11 +81,97 @@ public class NewsSearchTool {
     };
     
     public NewsSearchTool(ConfigManager configManager) {
+        this(configManager, configuredSource(configManager));
+    }
+    
+    /**
+     * Cria a ferramenta sobre uma fonte específica
+     * 
+     * @param source Fonte de notícias, ou null para usar os dados simulados
+     */
+    public NewsSearchTool(ConfigManager configManager, NewsSource source) {
         this.configManager = configManager;
         this.random = new Random();
+        this.source = source;
+        this.relevanceIndex = new Bm25Index(Integer.parseInt(configManager.getProperty(
+            "relevance.index.max.documents", String.valueOf(Bm25Index.DEFAULT_MAX_DOCUMENTS))));
         logger.info("NewsSearchTool inicializada");
     }
     
+    private static NewsSource configuredSource(ConfigManager configManager) {
+        String type = configManager.getProperty("news.source", "simulated").trim();
+        return switch (type) {
+            case "simulated" -> null;
+            case "synthetic" -> new SyntheticNewsSource(new SyntheticCorpus(
+                Long.parseLong(configManager.getProperty("news.synthetic.seed",
+                                                         String.valueOf(SyntheticCorpus.DEFAULT_SEED))),
+                Long.parseLong(configManager.getProperty("news.synthetic.size", "1000000"))));
+            case "http" -> httpSource(configManager);
+            case "feeds" -> new FeedNewsSource(
+                Path.of(configManager.getProperty("news.feeds.path", "feeds")),
+                Integer.parseInt(configManager.getProperty("news.feeds.parallelism",
+                    String.valueOf(Runtime.getRuntime().availableProcessors()))));
+            default -> throw new IllegalArgumentException("Fonte de notícias desconhecida: " + type);
+        };
+    }
+    
+    private static NewsSource httpSource(ConfigManager configManager) {
+        NewsSource primary = guardedHttpSource(configManager, "news.http.", "primária");
+        if (configManager.getProperty("news.http.secondary.url", "").isBlank()) {
+            return primary;
+        }
+        NewsSource secondary = guardedHttpSource(configManager, "news.http.secondary.", "secundária");
+        AtomicInteger sequence = new AtomicInteger();
+        return new HedgedNewsSource(primary, secondary,
+            Duration.ofMillis(Long.parseLong(configManager.getProperty("news.http.hedge.after.ms", "0"))),
+            Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "news-source-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }));
+    }
+    
+    /**
+     * Provedor HTTP com limite de taxa e disjuntor próprios; os parâmetros com o prefixo
+     * da fonte valem sobre os de {@code news.http.}
+     */
+    private static NewsSource guardedHttpSource(ConfigManager configManager, String prefix, String name) {
+        String url = httpSetting(configManager, prefix, "url", "");
+        if (url.isBlank()) {
+            throw new IllegalArgumentException(prefix + "url é obrigatório com news.source=http");
+        }
+        URI endpoint = URI.create(url.trim());
+        NewsSource http = new HttpNewsSource(endpoint, httpSetting(configManager, prefix, "api.key", ""),
+            Duration.ofMillis(Long.parseLong(httpSetting(configManager, prefix, "timeout.ms", "5000"))));
+        
+        double rate = Double.parseDouble(httpSetting(configManager, prefix, "rate.per.second", "0"));
+        TokenBucket rateLimit = rate > 0
+            ? new TokenBucket(rate,
+                              Integer.parseInt(httpSetting(configManager, prefix, "rate.burst", "1")),
+                              Long.parseLong(httpSetting(configManager, prefix, "rate.max.wait.ms", "0")))
+            : null;
+        CircuitBreaker breaker = new CircuitBreaker(name + " (" + endpoint.getHost() + ")",
+            Integer.parseInt(httpSetting(configManager, prefix, "breaker.window", "20")),
+            Integer.parseInt(httpSetting(configManager, prefix, "breaker.min.calls", "10")),
+            Double.parseDouble(httpSetting(configManager, prefix, "breaker.failure.rate", "0.5")),
+            Duration.ofMillis(Long.parseLong(httpSetting(configManager, prefix, "breaker.slow.call.ms", "2000"))),
+            Double.parseDouble(httpSetting(configManager, prefix, "breaker.slow.call.rate", "0.8")),
+            Duration.ofMillis(Long.parseLong(httpSetting(configManager, prefix, "breaker.open.ms", "10000"))),
+            Integer.parseInt(httpSetting(configManager, prefix, "breaker.probes", "2")));
+        return new GuardedNewsSource(name + " (" + endpoint.getHost() + ")", http, rateLimit, breaker);
+    }
+    
+    private static String httpSetting(ConfigManager configManager, String prefix, String key, String defaultValue) {
+        return configManager.getProperty(prefix + key, configManager.getProperty("news.http." + key, defaultValue));
+    }
+    
+    /**
+     * Estado das proteções da fonte configurada (vazio se ela não tiver nenhuma)
+     */
+    public List<String> getSourceHealth() {
+        return source != null ? source.describeHealth() : List.of();
+    }
+    
     /**
      * Busca notícias sobre um tópico específico
      * 
@@ -60,11 +179,22 @@ public class NewsSearchTool {
      * @return Lista de artigos encontrados
      */
     public List<NewsArticle> searchNews(String topic) {
+        return searchNews(topic, configManager.getMaxSearchResults());
+    }
+    
+    /**
+     * Busca notícias sobre um tópico, com limite próprio em vez de {@code max.search.results}
+     * 
+     * @param maxResults Máximo de artigos pedidos à fonte
+     */
+    public List<NewsArticle> searchNews(String topic, int maxResults) {
         logger.info("Buscando notícias para o tópico: {}", topic);
         
         try {
-            // Simula chamada para API de notícias
-            List<NewsArticle> articles = simulateNewsSearch(topic);
+            List<NewsArticle> articles = source != null
+                ? source.search(topic, maxResults)
+                : simulateNewsSearch(topic, maxResults);
+            relevanceIndex.scoreArticles(topic, articles);
             
             logger.info("Encontrados {} artigos para o tópico '{}'", articles.size(), topic);
             return articles;
@@ -102,11 +232,12 @@ public class NewsSearchTool {
      * Simula a busca de notícias (implementação para demonstração)
      * Em um ambiente real, aqui seria feita a chamada para uma API real
      */
-    private List<NewsArticle> simulateNewsSearch(String topic) {
+    private List<NewsArticle> simulateNewsSearch(String topic, int maxResults) {
         List<NewsArticle> articles = new ArrayList<>();
-        int numArticles = Math.min(configManager.getMaxSearchResults(), 5 + random.nextInt(6));
+        int numArticles = Math.min(maxResults, 5 + random.nextInt(6));
         
         String[] titles = getTitlesForTopic(topic);
+        LocalDateTime now = LocalDateTime.now();
         
         for (int i = 0; i < numArticles; i++) {
             NewsArticle article = new NewsArticle();
@@ -114,19 +245,18 @@ public class NewsSearchTool {
             // Título baseado no tópico
             article.setTitle(titles[random.nextInt(titles.length)]);
             
-            // URL simulada
-            article.setUrl("https://example-news.com/article-" + (i + 1));
+            // URL simulada, derivada do título: a mesma notícia tem a mesma URL em qualquer tópico
+            article.setUrl("https://example-news.com/" + String.join("-", PortugueseAnalyzer.tokens(article.getTitle())));
             
             // Fonte aleatória
             article.setSource(SAMPLE_SOURCES[random.nextInt(SAMPLE_SOURCES.length)]);
             
-            // Score de relevância baseado no tópico
-            double relevanceScore = calculateRelevanceScore(topic, article.getTitle());
-            article.setRelevanceScore(relevanceScore);
-            
             // Palavras-chave baseadas no tópico
             article.setKeywords(generateKeywords(topic));
             
+            // Publicação nas últimas 24 horas
+            article.setPublishedAt(now.minusMinutes(random.nextInt(24 * 60)));
+            
             articles.add(article);
         }
         
@@ -157,28 +287,6 @@ public class NewsSearchTool {
         }
     }
     
-    /**
-     * Calcula score de relevância baseado na correspondência entre tópico e título
-     */
-    private double calculateRelevanceScore(String topic, String title) {
-        String topicLower = topic.toLowerCase();
-        String titleLower = title.toLowerCase();
-        
-        // Score base
-        double score = 0.5;
-        
-        // Aumenta score se o tópico aparece no título
-        if (titleLower.contains(topicLower)) {
-            score += 0.3;
-        }
-        
-        // Adiciona variação aleatória
-        score += (random.nextDouble() - 0.5) * 0.4;
-        
-        // Garante que está entre 0 e 1
-        return Math.max(0.0, Math.min(1.0, score));
-    }
-    
     /**
      * Gera palavras-chave baseadas no tópico
      */
@@ -1,9 +1,9 @@
 package com.example.newscurator.tools;
 
+import com.example.newscurator.logging.AsyncLogging;
 import com.example.newscurator.models.NewsArticle;
 import com.example.newscurator.utils.ConfigManager;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -20,7 +20,7 @@ import java.util.Random;
  */
 public class NewsSummarizerTool {
     
-    private static final Logger logger = LoggerFactory.getLogger(NewsSummarizerTool.class);
+    private static final Logger logger = AsyncLogging.getLogger(NewsSummarizerTool.class);
     private final ConfigManager configManager;
     private final Random random;
     
@@ -88,11 +88,16 @@ public class NewsSummarizerTool {
         logger.debug("Gerando resumo para: {}", article.getTitle());
         
         try {
-            // Simula chamada para API de IA para gerar resumo
-            String summary = simulateAISummary(article);
+            int maxLength = configManager.getMaxSummaryLength();
+            
+            // Com o texto do artigo, o resumo são as primeiras frases; sem ele,
+            // simula chamada para API de IA
+            String body = article.getBody();
+            String summary = body != null && !body.isBlank()
+                ? leadSentences(body, maxLength)
+                : simulateAISummary(article);
             
             // Garante que o resumo não excede o tamanho máximo
-            int maxLength = configManager.getMaxSummaryLength();
             if (summary.length() > maxLength) {
                 summary = summary.substring(0, maxLength - 3) + "...";
             }
@@ -125,6 +130,23 @@ public class NewsSummarizerTool {
         return baseSummary;
     }
     
+    /**
+     * Resumo extrativo: as frases iniciais do texto que cabem em {@code maxLength}
+     *
+     * Se nem a primeira frase couber, devolve o texto inteiro para ser truncado.
+     */
+    static String leadSentences(String body, int maxLength) {
+        String text = body.strip();
+        int end = -1;
+        for (int i = 0; i < text.length() && i < maxLength; i++) {
+            char c = text.charAt(i);
+            if ((c == '.' || c == '!' || c == '?') && (i + 1 == text.length() || text.charAt(i + 1) == ' ')) {
+                end = i + 1;
+            }
+        }
+        return end > 0 ? text.substring(0, end) : text;
+    }
+    
     /**
      * Simula geração de resumo usando IA (implementação para demonstração)
      * Em um ambiente real, aqui seria feita a chamada para uma API de IA
@@ -1,13 +1,20 @@
 package com.example.newscurator.tools;
 
+import com.example.newscurator.jfr.ReportRenderingEvent;
+import com.example.newscurator.logging.AsyncLogging;
 import com.example.newscurator.models.NewsArticle;
 import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.store.OffHeapArticleStore;
 import com.example.newscurator.utils.ConfigManager;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -17,7 +24,8 @@ import java.util.stream.Collectors;
  */
 public class ReportGeneratorTool {
     
-    private static final Logger logger = LoggerFactory.getLogger(ReportGeneratorTool.class);
+    private static final Logger logger = AsyncLogging.getLogger(ReportGeneratorTool.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
     private final ConfigManager configManager;
     
     public ReportGeneratorTool(ConfigManager configManager) {
@@ -64,6 +72,8 @@ public class ReportGeneratorTool {
      * Gera relatório em formato texto para exibição
      */
     public String generateTextReport(NewsReport report) {
+        ReportRenderingEvent event = new ReportRenderingEvent("text");
+        event.begin();
         StringBuilder sb = new StringBuilder();
         
         // Cabeçalho
@@ -72,6 +82,9 @@ public class ReportGeneratorTool {
         sb.append("=".repeat(60)).append("\n");
         sb.append("Gerado em: ").append(report.getGeneratedAt().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"))).append("\n");
         sb.append("Tópicos: ").append(String.join(", ", report.getTopics())).append("\n");
+        if (report.isPartial()) {
+            sb.append("ATENÇÃO: relatório parcial (prazo da curadoria esgotado)\n");
+        }
         sb.append("\n");
         
         // Resumo executivo
@@ -96,6 +109,16 @@ public class ReportGeneratorTool {
         }
         sb.append("\n");
         
+        // Palavras em alta nas curadorias recentes
+        if (report.getTrendingKeywords() != null && !report.getTrendingKeywords().isEmpty()) {
+            sb.append("EM ALTA\n");
+            sb.append("-".repeat(20)).append("\n");
+            report.getTrendingKeywords().forEach((term, count) ->
+                sb.append("- ").append(term).append(": ").append(count).append(" menções\n")
+            );
+            sb.append("\n");
+        }
+        
         // Lista de artigos
         sb.append("ARTIGOS ENCONTRADOS\n");
         sb.append("-".repeat(25)).append("\n");
@@ -106,6 +129,13 @@ public class ReportGeneratorTool {
                 sb.append(String.format("%d. %s\n", i + 1, article.getTitle()));
                 sb.append(String.format("   Fonte: %s | Categoria: %s | Score: %.2f\n", 
                          article.getSource(), article.getCategory(), article.getRelevanceScore()));
+                if (article.getCoverage() != null && article.getCoverage().size() > 1) {
+                    sb.append("   Coberto por ").append(article.getCoverage().size()).append(" fontes: ")
+                      .append(String.join(", ", article.getCoverage())).append("\n");
+                }
+                if (article.getTopics() != null && article.getTopics().size() > 1) {
+                    sb.append("   Tópicos: ").append(String.join(", ", article.getTopics())).append("\n");
+                }
                 if (article.getSummary() != null && !article.getSummary().isEmpty()) {
                     sb.append(String.format("   Resumo: %s\n", article.getSummary()));
                 }
@@ -116,6 +146,7 @@ public class ReportGeneratorTool {
             }
         }
         
+        event.complete(topicsOf(report), report.getTotalArticles());
         return sb.toString();
     }
     
@@ -123,6 +154,8 @@ public class ReportGeneratorTool {
      * Gera relatório em formato JSON
      */
     public String generateJsonReport(NewsReport report) {
+        ReportRenderingEvent event = new ReportRenderingEvent("json");
+        event.begin();
         try {
             // Em uma implementação real, usaria Jackson ObjectMapper
             // Por simplicidade, geramos JSON manualmente
@@ -144,6 +177,7 @@ public class ReportGeneratorTool {
             json.append("  \"summary\": \"").append(escapeJson(report.getSummary())).append("\"\n");
             json.append("}");
             
+            event.complete(topicsOf(report), report.getTotalArticles());
             return json.toString();
             
         } catch (Exception e) {
@@ -152,6 +186,110 @@ public class ReportGeneratorTool {
         }
     }
     
+    /**
+     * Escreve o relatório completo (incluindo artigos) em JSON de forma incremental
+     * 
+     * @param report Relatório a ser serializado
+     * @param writer Destino; não é fechado ao final
+     * @param pretty true para JSON indentado, false para uma única linha (NDJSON)
+     */
+    public void writeJsonReport(NewsReport report, Writer writer, boolean pretty) throws IOException {
+        ReportRenderingEvent event = new ReportRenderingEvent(pretty ? "json" : "ndjson");
+        event.begin();
+        JsonGenerator json = JSON_FACTORY.createGenerator(writer);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (pretty) {
+            json.useDefaultPrettyPrinter();
+        }
+        
+        json.writeStartObject();
+        json.writeStringField("title", report.getTitle());
+        json.writeStringField("generatedAt", String.valueOf(report.getGeneratedAt()));
+        json.writeArrayFieldStart("topics");
+        if (report.getTopics() != null) {
+            for (String topic : report.getTopics()) {
+                json.writeString(topic);
+            }
+        }
+        json.writeEndArray();
+        if (report.isPartial()) {
+            json.writeBooleanField("partial", true);
+        }
+        json.writeNumberField("totalArticles", report.getTotalArticles());
+        json.writeNumberField("averageRelevanceScore", report.getAverageRelevanceScore());
+        json.writeStringField("summary", report.getSummary());
+        
+        json.writeObjectFieldStart("categorySummary");
+        if (report.getCategorySummary() != null) {
+            for (Map.Entry<String, Integer> entry : report.getCategorySummary().entrySet()) {
+                json.writeNumberField(entry.getKey(), entry.getValue());
+            }
+        }
+        json.writeEndObject();
+        
+        if (report.getTrendingKeywords() != null && !report.getTrendingKeywords().isEmpty()) {
+            json.writeObjectFieldStart("trendingKeywords");
+            for (Map.Entry<String, Long> entry : report.getTrendingKeywords().entrySet()) {
+                json.writeNumberField(entry.getKey(), entry.getValue());
+            }
+            json.writeEndObject();
+        }
+        
+        json.writeArrayFieldStart("articles");
+        if (report.getArticles() != null) {
+            for (NewsArticle article : report.getArticles()) {
+                writeJsonArticle(json, article);
+            }
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.flush();
+        event.complete(topicsOf(report), report.getTotalArticles());
+    }
+    
+    private static String topicsOf(NewsReport report) {
+        return report.getTopics() != null ? String.join(", ", report.getTopics()) : "";
+    }
+    
+    private void writeJsonArticle(JsonGenerator json, NewsArticle article) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("title", article.getTitle());
+        json.writeStringField("summary", article.getSummary());
+        json.writeStringField("url", article.getUrl());
+        json.writeStringField("source", article.getSource());
+        json.writeStringField("category", article.getCategory());
+        if (article.getPublishedAt() != null) {
+            json.writeStringField("publishedAt", article.getPublishedAt().toString());
+        }
+        json.writeNumberField("relevanceScore", article.getRelevanceScore());
+        if (article.getKeywords() != null) {
+            json.writeArrayFieldStart("keywords");
+            for (String keyword : article.getKeywords()) {
+                json.writeString(keyword);
+            }
+            json.writeEndArray();
+        }
+        if (article.getSentiment() != null) {
+            json.writeStringField("sentiment", article.getSentiment());
+        }
+        if (article.getCoverage() != null) {
+            json.writeNumberField("coverageCount", article.getCoverage().size());
+            json.writeArrayFieldStart("coverage");
+            for (String source : article.getCoverage()) {
+                json.writeString(source);
+            }
+            json.writeEndArray();
+        }
+        if (article.getTopics() != null) {
+            json.writeArrayFieldStart("topics");
+            for (String topic : article.getTopics()) {
+                json.writeString(topic);
+            }
+            json.writeEndArray();
+        }
+        json.writeEndObject();
+    }
+    
     /**
      * Gera título do relatório baseado nos tópicos
      */
@@ -223,6 +361,21 @@ public class ReportGeneratorTool {
             ));
     }
     
+    /**
+     * Gera estatísticas por categoria sobre todo o armazenamento fora do heap,
+     * lendo apenas o código de categoria de cada registro
+     */
+    public Map<String, Integer> generateCategorySummary(OffHeapArticleStore store) {
+        int[] counts = store.countByCategoryCode();
+        Map<String, Integer> categorySummary = new LinkedHashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                categorySummary.put(store.categoryName(code), counts[code]);
+            }
+        }
+        return categorySummary;
+    }
+    
     /**
      * Escapa caracteres especiais para JSON
      */
@@ -0,0 +1,69 @@
+package com.example.newscurator.trends;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch sobre hashes de termos, com incrementos sem bloqueio
+ *
+ * Cada linha usa uma função de hash diferente para escolher um contador; a
+ * estimativa de um termo é o menor dos seus contadores, que nunca fica abaixo da
+ * contagem real e a excede, com alta probabilidade, em no máximo uma fração do
+ * total proporcional a {@code 1 / largura}. A memória é fixa (profundidade ×
+ * largura contadores), qualquer que seja o vocabulário.
+ */
+public final class CountMinSketch {
+
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F, 0x165667B1, 0xD3A2646C,
+                                        0xFD7046C5, 0xB55A4F09};
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param depth Número de linhas (funções de hash), até 8
+     * @param width Contadores por linha; arredondado para a potência de 2 seguinte
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || depth > SEEDS.length || width <= 0) {
+            throw new IllegalArgumentException("Dimensões inválidas do sketch: " + depth + "x" + width);
+        }
+        int columns = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.depth = depth;
+        this.mask = columns - 1;
+        this.counters = new AtomicLongArray(depth * columns);
+    }
+
+    public void add(int hash) {
+        for (int row = 0; row < depth; row++) {
+            counters.getAndIncrement(index(row, hash));
+        }
+    }
+
+    public long estimate(int hash) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(row, hash)));
+        }
+        return min;
+    }
+
+    /**
+     * Contador do termo em uma linha; somar linhas de vários sketches antes do mínimo dá a estimativa da soma
+     */
+    long count(int row, int hash) {
+        return counters.get(index(row, hash));
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    private int index(int row, int hash) {
+        int h = hash * SEEDS[row];
+        h ^= h >>> 15;
+        h *= 0x2C1B3C6D;
+        h ^= h >>> 13;
+        return row * (mask + 1) + (h & mask);
+    }
+}
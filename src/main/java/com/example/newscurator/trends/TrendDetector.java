@@ -0,0 +1,342 @@
+package com.example.newscurator.trends;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.relevance.PortugueseAnalyzer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Detector de palavras em alta nos artigos curados, em janela deslizante
+ *
+ * Cada artigo contribui uma vez com cada palavra do título (sem palavras vazias)
+ * e cada palavra-chave, exceto os próprios tópicos da busca. As contagens ficam em
+ * um anel de {@link CountMinSketch}es, um por fatia da janela (por exemplo, 12
+ * fatias de 5 minutos para uma hora): ao entrar em uma fatia nova, a mais antiga é
+ * descartada inteira, e a contagem na janela é a soma das fatias vivas. Os termos
+ * mais frequentes ficam em tabelas de candidatos de tamanho fixo, divididas em
+ * faixas pelo hash do termo; só a faixa do termo é bloqueada, e só quando ele
+ * supera o candidato mais fraco. A memória não depende do vocabulário.
+ *
+ * O registro não cria objetos no caminho comum: os termos são tratados pelo hash
+ * e o texto só é materializado quando o termo entra na tabela de candidatos.
+ */
+public class TrendDetector {
+
+    private static final int STRIPES = 8;
+    private static final int MAX_TERMS_PER_ARTICLE = 64;
+
+    private final long sliceNanos;
+    private final int depth;
+    private final int width;
+    private final int topK;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Slice> ring;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /** Hashes já contados no artigo em andamento, por thread */
+    private final ThreadLocal<int[]> seen = ThreadLocal.withInitial(() -> new int[MAX_TERMS_PER_ARTICLE]);
+
+    /**
+     * @param window Duração da janela deslizante
+     * @param slices Fatias da janela; mais fatias deslizam de forma mais suave
+     * @param depth Linhas de cada sketch
+     * @param width Contadores por linha de cada sketch
+     * @param topK Termos em alta mantidos
+     */
+    public TrendDetector(Duration window, int slices, int depth, int width, int topK) {
+        this(window, slices, depth, width, topK, System::nanoTime);
+    }
+
+    TrendDetector(Duration window, int slices, int depth, int width, int topK, LongSupplier clock) {
+        if (slices <= 0 || topK <= 0 || depth <= 0 || width <= 0 || window.toNanos() < slices) {
+            throw new IllegalArgumentException("Janela, fatias e top-K das tendências inválidos");
+        }
+        this.sliceNanos = window.toNanos() / slices;
+        this.depth = depth;
+        this.width = width;
+        this.topK = topK;
+        this.clock = clock;
+        this.ring = new AtomicReferenceArray<>(slices);
+        int perStripe = Math.max(4, (2 * topK + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Registra os termos dos artigos; pode ser chamado por várias threads ao mesmo tempo
+     */
+    public void recordAll(List<NewsArticle> articles) {
+        long epoch = Math.floorDiv(clock.getAsLong(), sliceNanos);
+        CountMinSketch sketch = slice(epoch).sketch;
+        for (NewsArticle article : articles) {
+            record(article, sketch, epoch);
+        }
+    }
+
+    private void record(NewsArticle article, CountMinSketch sketch, long epoch) {
+        int[] hashes = seen.get();
+        int count = 0;
+        // Os tópicos entram como já vistos: repetem a busca e não indicam tendência
+        List<String> topics = article.getTopics();
+        if (topics != null) {
+            for (int i = 0; i < topics.size() && count < MAX_TERMS_PER_ARTICLE / 4; i++) {
+                hashes[count++] = foldedHash(topics.get(i));
+            }
+        }
+
+        int titleTerms = PortugueseAnalyzer.tokenHashes(article.getTitle(), MAX_TERMS_PER_ARTICLE / 2, hashes, count);
+        int end = count + titleTerms;
+        for (int i = count; i < end; i++) {
+            int hash = hashes[i];
+            if (!contains(hashes, 0, count, hash)) {
+                hashes[count++] = hash;
+                count(hash, sketch, epoch, article, -1);
+            }
+        }
+
+        List<String> keywords = article.getKeywords();
+        if (keywords != null) {
+            for (int k = 0; k < keywords.size() && count < MAX_TERMS_PER_ARTICLE; k++) {
+                int hash = foldedHash(keywords.get(k));
+                if (hash != 0 && !contains(hashes, 0, count, hash)) {
+                    hashes[count++] = hash;
+                    count(hash, sketch, epoch, article, k);
+                }
+            }
+        }
+    }
+
+    private void count(int hash, CountMinSketch sketch, long epoch, NewsArticle article, int keyword) {
+        sketch.add(hash);
+        long estimate = estimate(hash, epoch);
+        stripes[hash & (STRIPES - 1)].offer(hash, estimate, article, keyword, this, epoch);
+    }
+
+    /**
+     * Termos mais frequentes na janela atual, do mais para o menos frequente
+     *
+     * @return Termo e contagem estimada na janela
+     */
+    public Map<String, Long> top(int limit) {
+        long epoch = Math.floorDiv(clock.getAsLong(), sliceNanos);
+        List<Map.Entry<String, Long>> candidates = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.collect(this, epoch, candidates);
+        }
+        candidates.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Long> top = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : candidates) {
+            if (top.size() == Math.min(limit, topK)) {
+                break;
+            }
+            top.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        return top;
+    }
+
+    /**
+     * Termos mais frequentes, até o top-K configurado
+     */
+    public Map<String, Long> top() {
+        return top(topK);
+    }
+
+    /**
+     * Contagem estimada do termo na janela que termina na fatia {@code epoch}
+     */
+    long estimate(int hash, long epoch) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long sum = 0;
+            for (int i = 0; i < ring.length(); i++) {
+                Slice slice = ring.get(i);
+                if (slice != null && slice.epoch > epoch - ring.length() && slice.epoch <= epoch) {
+                    sum += slice.sketch.count(row, hash);
+                }
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    /**
+     * Contagem estimada do termo (palavra ou palavra-chave) na janela atual
+     */
+    public long estimate(String term) {
+        return estimate(foldedHash(term), Math.floorDiv(clock.getAsLong(), sliceNanos));
+    }
+
+    /**
+     * Fatia do período, substituindo a fatia vencida que ocupava a mesma posição do anel
+     */
+    private Slice slice(long epoch) {
+        int index = (int) Math.floorMod(epoch, (long) ring.length());
+        while (true) {
+            Slice current = ring.get(index);
+            if (current != null && current.epoch >= epoch) {
+                return current;
+            }
+            Slice fresh = new Slice(epoch, new CountMinSketch(depth, width));
+            if (ring.compareAndSet(index, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static boolean contains(int[] hashes, int from, int to, int hash) {
+        for (int i = from; i < to; i++) {
+            if (hashes[i] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hash do termo em minúsculas e sem acentos, igual ao de {@link PortugueseAnalyzer#tokenHashes}
+     */
+    static int foldedHash(String term) {
+        int start = 0;
+        int end = term.length();
+        while (start < end && Character.isWhitespace(term.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(term.charAt(end - 1))) {
+            end--;
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + PortugueseAnalyzer.fold(term.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Texto do termo: a palavra-chave ou a palavra do título com esse hash
+     */
+    private static String term(NewsArticle article, int hash, int keyword) {
+        if (keyword >= 0) {
+            return article.getKeywords().get(keyword).trim().toLowerCase(Locale.ROOT);
+        }
+        String title = article.getTitle();
+        int wordHash = 0;
+        int start = -1;
+        for (int i = 0; i <= title.length(); i++) {
+            char c = i < title.length() ? PortugueseAnalyzer.fold(title.charAt(i)) : ' ';
+            if (c < 128 ? (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') : Character.isLetterOrDigit(c)) {
+                if (start < 0) {
+                    start = i;
+                }
+                wordHash = 31 * wordHash + c;
+            } else if (start >= 0) {
+                if (wordHash == hash) {
+                    return title.substring(start, i).toLowerCase(Locale.ROOT);
+                }
+                wordHash = 0;
+                start = -1;
+            }
+        }
+        return null;
+    }
+
+    private record Slice(long epoch, CountMinSketch sketch) {
+    }
+
+    /**
+     * Candidatos a termo em alta de uma faixa; protegida pelo próprio monitor
+     *
+     * {@code floor}, a contagem do candidato mais fraco com a tabela cheia, é lido
+     * sem bloqueio para descartar de imediato os termos abaixo dele; vale só na fatia
+     * em que foi calculado, já que a janela deslizante reduz as contagens.
+     */
+    private static final class Stripe {
+        private final int[] hashes;
+        private final String[] terms;
+        private final long[] counts;
+        private int size;
+        private volatile long floor = -1;
+        private volatile long floorEpoch = Long.MIN_VALUE;
+
+        private Stripe(int capacity) {
+            this.hashes = new int[capacity];
+            this.terms = new String[capacity];
+            this.counts = new long[capacity];
+        }
+
+        void offer(int hash, long estimate, NewsArticle article, int keyword, TrendDetector detector, long epoch) {
+            if (estimate <= floor && epoch == floorEpoch) {
+                return;
+            }
+            synchronized (this) {
+                for (int i = 0; i < size; i++) {
+                    if (hashes[i] == hash) {
+                        counts[i] = estimate;
+                        return;
+                    }
+                }
+                String term = term(article, hash, keyword);
+                if (term == null || term.isEmpty()) {
+                    return;
+                }
+                if (size < hashes.length) {
+                    put(size++, hash, term, estimate);
+                    if (size == hashes.length) {
+                        updateFloor(detector, epoch);
+                    }
+                    return;
+                }
+                // Contagens guardadas podem ter envelhecido com a janela: atualiza antes de escolher quem sai
+                int weakest = weakest(detector, epoch);
+                if (counts[weakest] < estimate) {
+                    put(weakest, hash, term, estimate);
+                }
+                updateFloor(detector, epoch);
+            }
+        }
+
+        /**
+         * Índice do candidato com a menor contagem atual na janela
+         */
+        private int weakest(TrendDetector detector, long epoch) {
+            int weakest = -1;
+            for (int i = 0; i < size; i++) {
+                counts[i] = detector.estimate(hashes[i], epoch);
+                if (weakest < 0 || counts[i] < counts[weakest]) {
+                    weakest = i;
+                }
+            }
+            return weakest;
+        }
+
+        private void updateFloor(TrendDetector detector, long epoch) {
+            floor = counts[weakest(detector, epoch)];
+            floorEpoch = epoch;
+        }
+
+        private void put(int index, int hash, String term, long estimate) {
+            hashes[index] = hash;
+            terms[index] = term;
+            counts[index] = estimate;
+        }
+
+        synchronized void collect(TrendDetector detector, long epoch, List<Map.Entry<String, Long>> candidates) {
+            for (int i = 0; i < size; i++) {
+                long count = detector.estimate(hashes[i], epoch);
+                if (count > 0) {
+                    candidates.add(Map.entry(terms[i], count));
+                }
+            }
+        }
+    }
+}
@@ -5,140 +5,300 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
  * Gerenciador de configurações para o agente curador de notícias
+ *
+ * As configurações ficam em um {@link ConfigSnapshot} imutável publicado por
+ * referência volátil. Alterações e recargas criam um novo snapshot validado e o
+ * trocam atomicamente; leitores nunca veem um estado parcial.
+ *
+ * Propriedades definidas em tempo de execução ({@link #setProperty}, como a porta
+ * passada na linha de comando) continuam valendo depois de uma recarga: são
+ * reaplicadas sobre o conteúdo recarregado dos arquivos.
  */
-public class ConfigManager {
-    
+public class ConfigManager implements AutoCloseable {
+
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
-    private final Properties properties;
-    
+
+    /** Propriedade de sistema com o caminho de um arquivo externo de configuração */
+    public static final String CONFIG_FILE_PROPERTY = "news.config.file";
+
+    private final Path externalFile;
+    private volatile ConfigSnapshot snapshot;
+    /** Propriedades definidas em tempo de execução; protegido pelo monitor desta instância */
+    private final Map<String, String> overrides = new LinkedHashMap<>();
+    private WatchService watchService;
+    private Thread watcherThread;
+
     public ConfigManager() {
-        properties = new Properties();
-        loadProperties();
+        this(externalFileFromSystemProperty());
     }
     
     /**
-     * Carrega as configurações do arquivo application.properties
+     * Instância compartilhada pela JVM, carregada apenas no primeiro uso.
+     * Se houver arquivo externo, ele passa a ser observado automaticamente.
      */
-    private void loadProperties() {
+    public static ConfigManager shared() {
+        return SharedHolder.INSTANCE;
+    }
+    
+    private static final class SharedHolder {
+        private static final ConfigManager INSTANCE = createShared();
+        
+        private static ConfigManager createShared() {
+            ConfigManager configManager = new ConfigManager();
+            configManager.startWatching();
+            return configManager;
+        }
+    }
+
+    /**
+     * Cria o gerenciador sobrepondo o arquivo externo às configurações do classpath
+     *
+     * @param externalFile Arquivo de propriedades externo, ou null para usar apenas o classpath
+     */
+    public ConfigManager(Path externalFile) {
+        this.externalFile = externalFile;
+        this.snapshot = ConfigSnapshot.from(loadProperties());
+    }
+
+    /**
+     * Carrega as configurações do arquivo application.properties e do arquivo externo, se houver
+     */
+    private Properties loadProperties() {
+        Properties properties = new Properties();
         try (InputStream input = getClass().getClassLoader().getResourceAsStream("application.properties")) {
             if (input == null) {
                 logger.error("Não foi possível encontrar o arquivo application.properties");
                 throw new RuntimeException("Arquivo de configuração não encontrado");
             }
-            
-            properties.load(input);
+
+            properties.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+            if (externalFile != null) {
+                try (Reader external = Files.newBufferedReader(externalFile, StandardCharsets.UTF_8)) {
+                    properties.load(external);
+                }
+            }
             logger.info("Configurações carregadas com sucesso");
-            
+            return properties;
+
         } catch (IOException e) {
             logger.error("Erro ao carregar configurações", e);
             throw new RuntimeException("Falha ao carregar configurações: " + e.getMessage(), e);
         }
     }
-    
+
+    /**
+     * Recarrega as configurações e reaplica as definidas em tempo de execução; o
+     * snapshot só é trocado se o novo conteúdo for válido
+     *
+     * @return true se o novo snapshot foi publicado
+     */
+    public boolean reload() {
+        try {
+            Properties properties = loadProperties();
+            synchronized (this) {
+                // Sob o mesmo monitor de setProperty: nenhuma das duas trocas se perde
+                overrides.forEach(properties::setProperty);
+                snapshot = ConfigSnapshot.from(properties);
+            }
+            logger.info("Configurações recarregadas");
+            return true;
+        } catch (RuntimeException e) {
+            logger.error("Configuração inválida, mantendo a anterior: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Observa o arquivo externo com {@link WatchService} e recarrega a cada modificação
+     */
+    public synchronized void startWatching() {
+        if (externalFile == null || watcherThread != null) {
+            return;
+        }
+
+        Path directory = externalFile.toAbsolutePath().getParent();
+        Path fileName = externalFile.getFileName();
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.error("Erro ao observar arquivo de configuração", e);
+            throw new RuntimeException("Falha ao observar configurações: " + e.getMessage(), e);
+        }
+
+        WatchService service = watchService;
+        watcherThread = new Thread(() -> watchLoop(service, fileName), "config-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        logger.info("Observando alterações em {}", externalFile);
+    }
+
+    private void watchLoop(WatchService service, Path fileName) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.debug("Observador de configurações encerrado");
+        }
+    }
+
+    /**
+     * Encerra o observador do arquivo externo
+     */
+    @Override
+    public synchronized void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.warn("Erro ao encerrar observador de configurações", e);
+            }
+            watchService = null;
+            watcherThread = null;
+        }
+    }
+
+    /**
+     * Obtém o snapshot atual; use-o para ler várias configurações de forma consistente
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     /**
      * Obtém a chave de API do Google
      */
     public String getGoogleApiKey() {
-        return properties.getProperty("google.api.key");
+        return snapshot.googleApiKey();
     }
-    
+
     /**
      * Obtém o ID do projeto Google
      */
     public String getGoogleProjectId() {
-        return properties.getProperty("google.project.id");
+        return snapshot.googleProjectId();
     }
-    
+
     /**
      * Obtém o número máximo de resultados de busca
      */
     public int getMaxSearchResults() {
-        return Integer.parseInt(properties.getProperty("news.search.max.results", "10"));
+        return snapshot.maxSearchResults();
     }
-    
+
     /**
      * Define o número máximo de resultados de busca
      */
     public void setMaxSearchResults(int maxResults) {
-        properties.setProperty("news.search.max.results", String.valueOf(maxResults));
+        setProperty("news.search.max.results", String.valueOf(maxResults));
     }
-    
+
     /**
      * Obtém o idioma de busca
      */
     public String getSearchLanguage() {
-        return properties.getProperty("news.search.language", "pt");
+        return snapshot.searchLanguage();
     }
-    
+
     /**
      * Obtém o país de busca
      */
     public String getSearchCountry() {
-        return properties.getProperty("news.search.country", "BR");
+        return snapshot.searchCountry();
     }
-    
+
     /**
      * Obtém o tamanho máximo do resumo
      */
     public int getMaxSummaryLength() {
-        return Integer.parseInt(properties.getProperty("news.summary.max.length", "200"));
+        return snapshot.maxSummaryLength();
     }
-    
+
     /**
      * Obtém as categorias suportadas
      */
     public List<String> getSupportedCategories() {
-        String categoriesStr = properties.getProperty("news.categories", 
-                                                    "tecnologia,política,economia,esportes,saúde,ciência");
-        return Arrays.asList(categoriesStr.split(","));
+        return snapshot.supportedCategories();
     }
-    
+
     /**
      * Verifica se o cache está habilitado
      */
     public boolean isCacheEnabled() {
-        return Boolean.parseBoolean(properties.getProperty("cache.enabled", "true"));
+        return snapshot.cacheEnabled();
     }
-    
+
     /**
      * Obtém a duração do cache em minutos
      */
     public int getCacheDurationMinutes() {
-        return Integer.parseInt(properties.getProperty("cache.duration.minutes", "30"));
+        return snapshot.cacheDurationMinutes();
     }
-    
+
     /**
      * Obtém o nível de logging
      */
     public String getLoggingLevel() {
-        return properties.getProperty("logging.level", "INFO");
+        return snapshot.loggingLevel();
     }
-    
+
     /**
      * Obtém o caminho do arquivo de log
      */
     public String getLogFilePath() {
-        return properties.getProperty("logging.file.path", "logs/news-curator.log");
+        return snapshot.logFilePath();
     }
-    
+
     /**
      * Obtém uma propriedade genérica
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return snapshot.getProperty(key, defaultValue);
     }
-    
+
     /**
      * Define uma propriedade genérica
+     *
+     * @throws IllegalArgumentException se o valor tornar a configuração inválida
      */
-    public void setProperty(String key, String value) {
-        properties.setProperty(key, value);
+    public synchronized void setProperty(String key, String value) {
+        snapshot = snapshot.withProperty(key, value);
+        overrides.put(key, value);
     }
-}
 
+    private static Path externalFileFromSystemProperty() {
+        String path = System.getProperty(CONFIG_FILE_PROPERTY);
+        return path == null || path.isBlank() ? null : Paths.get(path);
+    }
+}
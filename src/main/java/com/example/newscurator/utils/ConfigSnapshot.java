@@ -0,0 +1,131 @@
+package com.example.newscurator.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Snapshot imutável e pré-processado das configurações do agente
+ *
+ * Todos os valores tipados são convertidos e validados uma única vez na
+ * construção; os caminhos quentes leem apenas campos finais.
+ */
+public record ConfigSnapshot(
+    String googleApiKey,
+    String googleProjectId,
+    int maxSearchResults,
+    String searchLanguage,
+    String searchCountry,
+    int maxSummaryLength,
+    List<String> supportedCategories,
+    boolean cacheEnabled,
+    int cacheDurationMinutes,
+    String loggingLevel,
+    String logFilePath,
+    boolean fetchEnabled,
+    double freshnessHalfLifeHours,
+    boolean nearDuplicatesEnabled,
+    double nearDuplicateThreshold,
+    Map<String, String> properties
+) {
+
+    /**
+     * Converte e valida um conjunto de propriedades
+     *
+     * @throws IllegalArgumentException se algum valor for inválido
+     */
+    public static ConfigSnapshot from(Properties source) {
+        Map<String, String> properties = new HashMap<>();
+        for (String key : source.stringPropertyNames()) {
+            properties.put(key, source.getProperty(key));
+        }
+        return from(properties);
+    }
+
+    private static ConfigSnapshot from(Map<String, String> properties) {
+        int maxSearchResults = parseInt(properties, "news.search.max.results", "10");
+        int maxSummaryLength = parseInt(properties, "news.summary.max.length", "200");
+        int cacheDurationMinutes = parseInt(properties, "cache.duration.minutes", "30");
+
+        if (maxSearchResults <= 0) {
+            throw new IllegalArgumentException("news.search.max.results deve ser positivo: " + maxSearchResults);
+        }
+        if (maxSummaryLength <= 3) {
+            throw new IllegalArgumentException("news.summary.max.length deve ser maior que 3: " + maxSummaryLength);
+        }
+        if (cacheDurationMinutes < 0) {
+            throw new IllegalArgumentException("cache.duration.minutes não pode ser negativo: " + cacheDurationMinutes);
+        }
+
+        double freshnessHalfLifeHours = parseDouble(properties, "ranking.freshness.half.life.hours", "24");
+        double nearDuplicateThreshold = parseDouble(properties, "dedup.near.threshold", "0.7");
+        if (freshnessHalfLifeHours < 0) {
+            throw new IllegalArgumentException("ranking.freshness.half.life.hours não pode ser negativo: "
+                                               + freshnessHalfLifeHours);
+        }
+        if (nearDuplicateThreshold <= 0 || nearDuplicateThreshold > 1) {
+            throw new IllegalArgumentException("dedup.near.threshold deve estar em (0, 1]: " + nearDuplicateThreshold);
+        }
+
+        List<String> categories = List.copyOf(Arrays.asList(
+            properties.getOrDefault("news.categories", "tecnologia,política,economia,esportes,saúde,ciência").split(",")));
+        if (categories.isEmpty() || categories.get(0).isBlank()) {
+            throw new IllegalArgumentException("news.categories deve conter ao menos uma categoria");
+        }
+
+        return new ConfigSnapshot(
+            properties.get("google.api.key"),
+            properties.get("google.project.id"),
+            maxSearchResults,
+            properties.getOrDefault("news.search.language", "pt"),
+            properties.getOrDefault("news.search.country", "BR"),
+            maxSummaryLength,
+            categories,
+            Boolean.parseBoolean(properties.getOrDefault("cache.enabled", "true")),
+            cacheDurationMinutes,
+            properties.getOrDefault("logging.level", "INFO"),
+            properties.getOrDefault("logging.file.path", "logs/news-curator.log"),
+            Boolean.parseBoolean(properties.getOrDefault("fetch.enabled", "false").trim()),
+            freshnessHalfLifeHours,
+            Boolean.parseBoolean(properties.getOrDefault("dedup.near.enabled", "true").trim()),
+            nearDuplicateThreshold,
+            Map.copyOf(properties)
+        );
+    }
+
+    /**
+     * Cria um novo snapshot com uma propriedade alterada
+     */
+    public ConfigSnapshot withProperty(String key, String value) {
+        Map<String, String> updated = new HashMap<>(properties);
+        updated.put(key, value);
+        return from(updated);
+    }
+
+    /**
+     * Obtém uma propriedade genérica
+     */
+    public String getProperty(String key, String defaultValue) {
+        return properties.getOrDefault(key, defaultValue);
+    }
+
+    private static double parseDouble(Map<String, String> properties, String key, String defaultValue) {
+        String value = properties.getOrDefault(key, defaultValue).trim();
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor numérico inválido para " + key + ": " + value, e);
+        }
+    }
+
+    private static int parseInt(Map<String, String> properties, String key, String defaultValue) {
+        String value = properties.getOrDefault(key, defaultValue).trim();
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inteiro inválido para " + key + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.newscurator.utils;
+
+import java.util.Arrays;
+
+/**
+ * Resumo de latências (percentis em milissegundos) calculado a partir de amostras em nanossegundos
+ */
+public record LatencySummary(int count, double meanMillis, double p50Millis, double p90Millis,
+                             double p99Millis, double maxMillis) {
+
+    /**
+     * Calcula o resumo das primeiras {@code count} amostras (o array é ordenado no lugar)
+     */
+    public static LatencySummary fromNanos(long[] samples, int count) {
+        if (count == 0) {
+            return new LatencySummary(0, 0, 0, 0, 0, 0);
+        }
+
+        Arrays.sort(samples, 0, count);
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[i];
+        }
+
+        return new LatencySummary(
+            count,
+            toMillis(total / count),
+            toMillis(percentile(samples, count, 0.50)),
+            toMillis(percentile(samples, count, 0.90)),
+            toMillis(percentile(samples, count, 0.99)),
+            toMillis(samples[count - 1])
+        );
+    }
+
+    private static long percentile(long[] sorted, int count, double quantile) {
+        int index = (int) Math.ceil(quantile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Formata o resumo em uma linha legível
+     */
+    public String format() {
+        return String.format("média=%.2fms p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                             meanMillis, p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+}
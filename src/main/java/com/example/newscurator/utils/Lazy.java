@@ -0,0 +1,42 @@
+package com.example.newscurator.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Valor inicializado sob demanda, no máximo uma vez, de forma segura entre threads
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private final Supplier<T> factory;
+    private volatile T value;
+
+    private Lazy(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    public static <T> Lazy<T> of(Supplier<T> factory) {
+        return new Lazy<>(factory);
+    }
+
+    @Override
+    public T get() {
+        T current = value;
+        if (current == null) {
+            synchronized (this) {
+                current = value;
+                if (current == null) {
+                    current = factory.get();
+                    value = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Indica se o valor já foi criado
+     */
+    public boolean isInitialized() {
+        return value != null;
+    }
+}
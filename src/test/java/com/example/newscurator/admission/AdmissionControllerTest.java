@@ -0,0 +1,148 @@
+package com.example.newscurator.admission;
+
+import com.example.newscurator.models.NewsReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Testes unitários para o AdmissionController e o AdaptiveConcurrencyLimiter
+ */
+public class AdmissionControllerTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void testLimitBacksOffOnSlowSamplesAndGrowsWhenFastUnderLoad() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, 100, 0.5, 0);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(0));
+        }
+        assertFalse(limiter.tryAcquire(0));
+
+        // Act
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(300));
+        int afterSlow = limiter.getLimit();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(300));
+        int afterSecondSlow = limiter.getLimit();
+        for (int i = 0; i < 8; i++) {
+            limiter.releaseWithoutSample();
+        }
+        for (int round = 0; round < 20; round++) {
+            while (limiter.tryAcquire(0)) {
+                // Ocupa todo o limite
+            }
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(10));
+            while (limiter.getInFlight() > 0) {
+                limiter.releaseWithoutSample();
+            }
+        }
+
+        // Assert
+        assertEquals(5, afterSlow);
+        assertEquals(5, afterSecondSlow, "reduz no máximo uma vez por rodada de amostras");
+        assertTrue(limiter.getLimit() > 5);
+    }
+
+    @Test
+    void testSaturationServesCacheThenDegradesThenRejects() throws Exception {
+        // Arrange
+        AdmissionController controller = new AdmissionController(
+            new AdaptiveConcurrencyLimiter(1, 1, 1, 1_000, 0.9, 0), 0, 1.0,
+            topics -> topics.contains("lento") ? block("degradada") : report("degradada"),
+            16, Duration.ofMinutes(5));
+        assertEquals(AdmissionController.Mode.FULL, controller.curate(List.of("economia"), () -> report("completa")).mode());
+        CompletableFuture.runAsync(() -> controller.curate(List.of("política"), () -> block("completa")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        AdmissionController.Admitted fromCache = controller.curate(List.of("economia"), () -> report("completa"));
+        AdmissionController.Admitted degraded = controller.curate(List.of("esportes"), () -> report("completa"));
+        CountDownLatch degradedStarted = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> {
+            degradedStarted.countDown();
+            controller.curate(List.of("lento"), () -> report("completa"));
+        });
+        assertTrue(degradedStarted.await(5, TimeUnit.SECONDS));
+        while (controller.getStats().inFlight() < 2) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        assertEquals(AdmissionController.Mode.CACHED, fromCache.mode());
+        assertEquals(AdmissionController.Mode.DEGRADED, degraded.mode());
+        assertEquals("degradada", degraded.report().getTitle());
+        assertThrows(RejectedExecutionException.class, () -> controller.curate(List.of("saúde"), () -> report("completa")));
+        AdmissionController.Stats stats = controller.getStats();
+        assertEquals(1, stats.full());
+        assertEquals(1, stats.cached());
+        assertEquals(1, stats.degraded());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    void testOnlyExecutionTimeIsSampledAndDegradedRunsTheSameCuration() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 4, 100, 0.5, 0);
+        AdmissionController controller = new AdmissionController(limiter, 0, 1.0, topics -> report("configurada"),
+                                                                  0, Duration.ZERO);
+
+        // Act
+        controller.curate(List.of("economia"), (summarize, executed) -> {
+            // Espera em fila longa, execução curta
+            sleep(300);
+            executed.accept(TimeUnit.MILLISECONDS.toNanos(5));
+            return report("completa");
+        });
+        int afterQueued = limiter.getLimit();
+        for (int i = 0; i < afterQueued; i++) {
+            CompletableFuture.runAsync(() -> controller.curate(List.of("política"), (summarize, executed) -> block("completa")));
+        }
+        while (limiter.getInFlight() < afterQueued) {
+            Thread.onSpinWait();
+        }
+        AdmissionController.Admitted degraded = controller.curate(List.of("esportes"),
+            (summarize, executed) -> report(summarize ? "completa" : "degradada"));
+
+        // Assert
+        assertEquals(2, afterQueued, "a espera em fila não reduz o limite");
+        assertEquals(AdmissionController.Mode.DEGRADED, degraded.mode());
+        assertEquals("degradada", degraded.report().getTitle());
+    }
+
+    private NewsReport block(String title) {
+        started.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return report(title);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static NewsReport report(String title) {
+        return new NewsReport(title, List.of());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.newscurator.agent;
+
+import com.example.newscurator.metrics.PipelineStage;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.sources.SyntheticCorpus;
+import com.example.newscurator.tools.NewsSearchTool;
+import com.example.newscurator.utils.ConfigManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Testes unitários para o ArticlePublisher
+ */
+public class ArticlePublisherTest {
+
+    private final SyntheticCorpus corpus = new SyntheticCorpus(42, 1_000, 0.0);
+    private final Map<String, List<NewsArticle>> results = Map.of(
+        "economia", articles(0, 30),
+        "esportes", articles(20, 50));
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private NewsCuratorAgent agent;
+
+    @BeforeEach
+    void setUp() {
+        ConfigManager configManager = new ConfigManager((Path) null);
+        NewsSearchTool searchTool = new NewsSearchTool(configManager,
+            (topic, maxResults) -> new ArrayList<>(results.get(topic)));
+        agent = new NewsCuratorAgent(configManager, searchTool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testPublishesEachArticleOnceThenCompletesWithReport() throws Exception {
+        // Arrange
+        ArticlePublisher publisher = agent.curateNewsStream(List.of("economia", "esportes"), executor);
+        RecordingSubscriber subscriber = new RecordingSubscriber(publisher, 1);
+
+        // Act
+        publisher.subscribe(subscriber);
+
+        // Assert
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertNull(subscriber.error);
+        Set<String> urls = new HashSet<>();
+        for (NewsArticle article : subscriber.received) {
+            assertTrue(urls.add(article.getUrl()));
+            assertNotNull(article.getCategory());
+        }
+        assertTrue(urls.size() >= 40);
+        assertTrue(subscriber.reportDoneAtCompletion);
+        NewsReport report = publisher.report().get();
+        assertTrue(report.getTotalArticles() > 0);
+        assertTrue(report.getArticles().stream().allMatch(article -> urls.contains(article.getUrl())));
+    }
+
+    @Test
+    void testSlowSubscriberStopsTheProcessing() throws Exception {
+        // Arrange
+        ArticlePublisher publisher = agent.curateNewsStream(List.of("economia", "esportes"), executor);
+        RecordingSubscriber subscriber = new RecordingSubscriber(publisher, 0);
+        publisher.subscribe(subscriber);
+
+        // Act
+        subscriber.subscription.request(2);
+        Thread.sleep(500);
+
+        // Assert
+        assertEquals(2, subscriber.received.size());
+        long processed = agent.getMetricsSnapshot().stage(PipelineStage.CATEGORIZE).items();
+        assertTrue(processed <= 3, "artigos processados sem demanda: " + processed);
+        assertFalse(publisher.report().isDone());
+    }
+
+    @Test
+    void testCancelStopsPublishingAndCancelsReport() throws Exception {
+        // Arrange
+        ArticlePublisher publisher = agent.curateNewsStream(List.of("economia"), executor);
+        RecordingSubscriber subscriber = new RecordingSubscriber(publisher, 0);
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        Thread.sleep(200);
+
+        // Act
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+        Thread.sleep(200);
+
+        // Assert
+        assertEquals(1, subscriber.received.size());
+        assertTrue(publisher.report().isCancelled());
+        assertEquals(1, subscriber.completed.getCount());
+    }
+
+    @Test
+    void testSecondSubscriberIsRejected() {
+        // Arrange
+        ArticlePublisher publisher = agent.curateNewsStream(List.of("economia"), executor);
+        publisher.subscribe(new RecordingSubscriber(publisher, 0));
+        RecordingSubscriber second = new RecordingSubscriber(publisher, 0);
+
+        // Act
+        publisher.subscribe(second);
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    private List<NewsArticle> articles(int from, int to) {
+        List<NewsArticle> articles = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            articles.add(corpus.article(i));
+        }
+        return articles;
+    }
+
+    /**
+     * Assinante que pede {@code batch} artigos a cada recebimento (0 para pedir manualmente)
+     */
+    private final class RecordingSubscriber implements Flow.Subscriber<NewsArticle> {
+        private final int batch;
+        private final List<NewsArticle> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean reportDoneAtCompletion;
+        private final ArticlePublisher publisher;
+
+        RecordingSubscriber(ArticlePublisher publisher, int batch) {
+            this.publisher = publisher;
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(NewsArticle item) {
+            received.add(item);
+            if (batch > 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            reportDoneAtCompletion = publisher.report().isDone();
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.newscurator.agent;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.sources.SyntheticCorpus;
+import com.example.newscurator.tools.NewsSearchTool;
+import com.example.newscurator.utils.ConfigManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Testes unitários para o curateNewsAsync do NewsCuratorAgent
+ */
+public class AsyncCurationTest {
+
+    private static final String SLOW_TOPIC = "lento";
+
+    private final SyntheticCorpus corpus = new SyntheticCorpus(42, 1_000, 0.0);
+    private final CountDownLatch slowSearchStarted = new CountDownLatch(1);
+    private final CountDownLatch slowSearchInterrupted = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private NewsCuratorAgent agent;
+
+    @BeforeEach
+    void setUp() {
+        ConfigManager configManager = new ConfigManager((Path) null);
+        NewsSearchTool searchTool = new NewsSearchTool(configManager, (topic, maxResults) -> {
+            if (SLOW_TOPIC.equals(topic)) {
+                slowSearchStarted.countDown();
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    slowSearchInterrupted.countDown();
+                }
+                return new ArrayList<>();
+            }
+            int offset = topic.equals("economia") ? 0 : 20;
+            List<NewsArticle> articles = new ArrayList<>();
+            for (int i = offset; i < offset + 20; i++) {
+                articles.add(corpus.article(i));
+            }
+            return articles;
+        });
+        agent = new NewsCuratorAgent(configManager, searchTool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testCompletesWithFullReportBeforeDeadline() throws Exception {
+        // Act
+        NewsReport report = agent.curateNewsAsync(List.of("economia", "esportes"), Duration.ofSeconds(30), executor)
+            .get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(report.isPartial());
+        assertEquals(List.of("economia", "esportes"), report.getTopics());
+        assertTrue(report.getTotalArticles() > 0);
+        assertTrue(report.getArticles().stream().allMatch(article -> article.getCategory() != null));
+    }
+
+    @Test
+    void testDeadlineReturnsPartialReportAndInterruptsPendingSearch() throws Exception {
+        // Act
+        NewsReport report = agent.curateNewsAsync(List.of("economia", SLOW_TOPIC), Duration.ofMillis(300), executor)
+            .get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(report.isPartial());
+        assertTrue(report.getTotalArticles() > 0);
+        assertTrue(report.getArticles().stream()
+            .allMatch(article -> article.getTopics().equals(List.of("economia"))));
+        assertTrue(slowSearchInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancellationInterruptsInFlightSearches() throws Exception {
+        // Arrange
+        CompletableFuture<NewsReport> future = agent.curateNewsAsync(List.of(SLOW_TOPIC), Duration.ofMinutes(5), executor);
+        assertTrue(slowSearchStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        future.cancel(true);
+
+        // Assert
+        assertTrue(slowSearchInterrupted.await(5, TimeUnit.SECONDS));
+        assertThrows(CancellationException.class, future::join);
+    }
+}
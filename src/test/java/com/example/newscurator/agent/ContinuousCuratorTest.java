@@ -0,0 +1,168 @@
+package com.example.newscurator.agent;
+
+import com.example.newscurator.dedup.LongHashSet;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.sources.SyntheticCorpus;
+import com.example.newscurator.tools.NewsSearchTool;
+import com.example.newscurator.utils.ConfigManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Testes unitários para o ContinuousCurator
+ */
+public class ContinuousCuratorTest {
+
+    private final SyntheticCorpus corpus = new SyntheticCorpus(42, 1_000, 0.0);
+    private final Map<String, List<NewsArticle>> nextResults = new HashMap<>();
+    private ConfigManager configManager;
+    private NewsSearchTool searchTool;
+    private NewsCuratorAgent agent;
+
+    @BeforeEach
+    void setUp() {
+        configManager = new ConfigManager((Path) null);
+        searchTool = new NewsSearchTool(configManager,
+            (topic, maxResults) -> new ArrayList<>(nextResults.getOrDefault(topic, List.of())));
+        agent = new NewsCuratorAgent(configManager, searchTool);
+    }
+
+    @Test
+    void testOnlyNewArticlesAreProcessed() {
+        // Arrange
+        ContinuousCurator curator = curator(List.of("economia"), 50);
+        nextResults.put("economia", articles(0, 10));
+        int first = curator.pollOnce();
+
+        // Act
+        nextResults.put("economia", articles(5, 15));
+        int second = curator.pollOnce();
+
+        // Assert
+        assertEquals(10, first);
+        assertEquals(5, second);
+        ContinuousCurator.Stats stats = curator.getStats();
+        assertEquals(20, stats.fetched());
+        assertEquals(5, stats.alreadyInView());
+        assertEquals(15, stats.processed());
+        assertEquals(0.25, stats.reuseRatio(), 1e-9);
+        NewsReport report = curator.currentReport();
+        assertEquals(15, report.getTotalArticles());
+        assertTrue(report.getArticles().stream().allMatch(article -> article.getSummary() != null));
+    }
+
+    @Test
+    void testArticlesBehindTheWatermarkAreSkipped() {
+        // Arrange
+        ContinuousCurator curator = curator(List.of("economia"), 50);
+        nextResults.put("economia", articles(100, 110));
+        curator.pollOnce();
+        NewsArticle late = corpus.article(500);
+        late.setPublishedAt(corpus.article(100).getPublishedAt().minusDays(1));
+
+        // Act
+        nextResults.put("economia", List.of(late));
+        int processed = curator.pollOnce();
+
+        // Assert
+        assertEquals(0, processed);
+        assertEquals(1, curator.getStats().stale());
+    }
+
+    @Test
+    void testOverlappingTopicsAttributeWithoutReprocessing() {
+        // Arrange
+        ContinuousCurator curator = curator(List.of("economia", "mercado"), 4);
+        nextResults.put("economia", articles(0, 6));
+        curator.pollOnce();
+
+        // Act
+        nextResults.put("economia", List.of());
+        nextResults.put("mercado", articles(0, 6));
+        int processed = curator.pollOnce();
+
+        // Assert
+        assertEquals(0, processed);
+        List<NewsArticle> view = curator.currentReport().getArticles();
+        assertEquals(4, view.size());
+        assertTrue(view.stream().allMatch(article -> article.getTopics().equals(List.of("economia", "mercado"))));
+    }
+
+    @Test
+    void testFailedCycleDoesNotMarkArticlesAsSeen() {
+        // Arrange
+        AtomicBoolean failEnrichment = new AtomicBoolean(true);
+        NewsCuratorAgent failing = new NewsCuratorAgent(configManager, searchTool) {
+            @Override
+            List<NewsArticle> enrich(String topicLabel, List<NewsArticle> articles) {
+                if (failEnrichment.getAndSet(false)) {
+                    throw new IllegalStateException("Resumo indisponível");
+                }
+                return super.enrich(topicLabel, articles);
+            }
+        };
+        ContinuousCurator curator = new ContinuousCurator(failing, List.of("economia"), Duration.ofMinutes(5), 50,
+                                                          Duration.ofMinutes(60), Duration.ofHours(24),
+                                                          new LongHashSet(64));
+        nextResults.put("economia", articles(0, 10));
+
+        // Act
+        assertThrows(IllegalStateException.class, curator::pollOnce);
+        int retried = curator.pollOnce();
+
+        // Assert
+        assertEquals(10, retried);
+        assertEquals(10, curator.currentReport().getTotalArticles());
+    }
+
+    @Test
+    void testViewIsRankedWithFreshnessDecay() {
+        // Arrange
+        ContinuousCurator curator = curator(List.of("economia"), 2);
+        LocalDateTime now = LocalDateTime.now();
+        NewsArticle old = article("Economia: economia e mais economia no trimestre", now.minusHours(72));
+        NewsArticle recent = article("Economia cresce hoje", now.minusHours(1));
+        NewsArticle middle = article("Economia cresce ontem", now.minusHours(20));
+        nextResults.put("economia", List.of(old, recent, middle));
+
+        // Act
+        curator.pollOnce();
+        List<NewsArticle> view = curator.currentReport().getArticles();
+
+        // Assert
+        // Pela relevância pura o artigo antigo lideraria; com meia-vida de 24h ele sai da visão
+        assertTrue(old.getRelevanceScore() > recent.getRelevanceScore());
+        assertEquals(List.of("Economia cresce hoje", "Economia cresce ontem"),
+                     view.stream().map(NewsArticle::getTitle).toList());
+    }
+
+    private static NewsArticle article(String title, LocalDateTime publishedAt) {
+        NewsArticle article = new NewsArticle(title, null, "https://example.com/" + title.hashCode(), "Portal");
+        article.setPublishedAt(publishedAt);
+        return article;
+    }
+
+    private ContinuousCurator curator(List<String> topics, int viewSize) {
+        return new ContinuousCurator(agent, topics, Duration.ofMinutes(5), viewSize,
+                                     Duration.ofMinutes(60), Duration.ofHours(24), new LongHashSet(64));
+    }
+
+    private List<NewsArticle> articles(int from, int to) {
+        List<NewsArticle> articles = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            articles.add(corpus.article(i));
+        }
+        return articles;
+    }
+}
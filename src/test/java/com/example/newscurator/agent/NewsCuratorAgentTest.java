@@ -2,10 +2,13 @@ package com.example.newscurator.agent;
 
 import com.example.newscurator.models.NewsArticle;
 import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.utils.ConfigManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -59,6 +62,7 @@ public class NewsCuratorAgentTest {
         List<String> topics = Arrays.asList("inteligência artificial");
         int maxArticles = 3;
         double minRelevanceScore = 0.5;
+        int sharedMaxResults = ConfigManager.shared().getMaxSearchResults();
         
         // Act
         NewsReport report = agent.curateNews(topics, maxArticles, minRelevanceScore);
@@ -66,6 +70,7 @@ public class NewsCuratorAgentTest {
         // Assert
         assertNotNull(report);
         assertTrue(report.getTotalArticles() <= maxArticles);
+        assertEquals(sharedMaxResults, ConfigManager.shared().getMaxSearchResults());
         
         // Verifica se todos os artigos têm score >= minRelevanceScore
         for (NewsArticle article : report.getArticles()) {
@@ -81,7 +86,50 @@ public class NewsCuratorAgentTest {
         // Assert
         assertNotNull(stats);
         assertTrue(stats.contains("NewsCuratorAgent Stats"));
-        assertTrue(stats.contains("Ferramentas ativas"));
+        assertTrue(stats.contains("- Ferramentas ativas: 0\n"));
+    }
+    
+    @Test
+    void testAgentStatsCountToolsCreatedOnDemand() {
+        // Act
+        agent.curateNews("tecnologia");
+        String stats = agent.getAgentStats();
+        
+        // Assert
+        assertTrue(stats.contains("- Ferramentas ativas: 4 (busca, categorização, resumo, relatórios)\n"), stats);
+    }
+    
+    @Test
+    void testRecentTopStoriesAreServedFromIndex() {
+        // Arrange
+        NewsReport report = agent.curateNews("tecnologia");
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(24);
+        
+        // Act
+        List<NewsArticle> recent = agent.getRecentTopStories("Tecnologia", Duration.ofHours(24), 3);
+        
+        // Assert
+        assertFalse(recent.isEmpty());
+        assertTrue(recent.size() <= 3);
+        for (NewsArticle article : recent) {
+            assertTrue(article.getPublishedAt().isAfter(cutoff));
+            assertNotNull(article.getSummary());
+        }
+        assertTrue(report.getArticles().stream().allMatch(article -> article.getPublishedAt() != null));
+        assertTrue(agent.getRecentTopStories("economia", Duration.ofHours(24), 3).isEmpty());
+    }
+    
+    @Test
+    void testTrendingKeywordsAppearInStatsAndReport() {
+        // Act
+        NewsReport report = agent.curateNews(Arrays.asList("política", "economia"));
+        String stats = agent.getAgentStats();
+        
+        // Assert
+        assertFalse(report.getTrendingKeywords().isEmpty());
+        assertFalse(report.getTrendingKeywords().containsKey("política"));
+        assertTrue(stats.contains("- Em alta: "));
+        String term = report.getTrendingKeywords().keySet().iterator().next();
+        assertTrue(agent.getReportGeneratorTool().generateTextReport(report).contains("- " + term + ": "));
     }
 }
-
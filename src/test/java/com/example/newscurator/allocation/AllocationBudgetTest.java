@@ -0,0 +1,85 @@
+package com.example.newscurator.allocation;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.tools.ReportGeneratorTool;
+import com.example.newscurator.utils.ConfigManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Orçamentos de alocação por curadoria e por renderização de relatório
+ *
+ * Regressões de alocação (ex.: formatação repetida em laços) falham o build
+ * como regressões funcionais. Os orçamentos ficam em allocation-budgets.properties.
+ */
+public class AllocationBudgetTest {
+
+    private static final List<String> TOPICS = Arrays.asList("tecnologia", "economia");
+    private static final AllocationMeter METER = new AllocationMeter(200, 50);
+
+    private static AllocationBudgets budgets;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(AllocationMeter.isSupported(), "JVM sem medição de alocação por thread");
+        budgets = AllocationBudgets.load();
+    }
+
+    @Test
+    void testCurateNewsWithinBudget() {
+        // Arrange
+        ConfigManager configManager = new ConfigManager((Path) null);
+        NewsCuratorAgent agent = new NewsCuratorAgent(configManager,
+            new SeededCorpus.SearchTool(configManager, SeededCorpus.articles(100), TOPICS));
+
+        // Act
+        long bytes = METER.bytesPerOperation(() -> agent.curateNews(TOPICS));
+
+        // Assert
+        budgets.assertWithinBudget("curateNews", bytes);
+    }
+
+    @Test
+    void testTextReportWithinBudget() {
+        // Arrange
+        ReportGeneratorTool reportTool = new ReportGeneratorTool(new ConfigManager((Path) null));
+        NewsReport report = SeededCorpus.report(100);
+
+        // Act
+        long bytes = METER.bytesPerOperation(() -> reportTool.generateTextReport(report));
+
+        // Assert
+        budgets.assertWithinBudget("generateTextReport", bytes);
+    }
+
+    @Test
+    void testJsonReportWithinBudget() {
+        // Arrange
+        ReportGeneratorTool reportTool = new ReportGeneratorTool(new ConfigManager((Path) null));
+        NewsReport report = SeededCorpus.report(100);
+
+        // Act
+        long bytes = METER.bytesPerOperation(() -> reportTool.generateJsonReport(report));
+
+        // Assert
+        budgets.assertWithinBudget("generateJsonReport", bytes);
+    }
+
+    @Test
+    void testMeterDetectsAllocation() {
+        // Act
+        long bytes = METER.bytesPerOperation(() -> Arrays.fill(new long[1024], 1L));
+        long none = METER.bytesPerOperation(() -> { });
+
+        // Assert
+        assertTrue(bytes >= 1024 * Long.BYTES, "esperava ao menos 8 KiB, mediu " + bytes);
+        assertTrue(none < 64, "esperava alocação desprezível, mediu " + none);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.newscurator.allocation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Orçamentos de alocação armazenados em {@code allocation-budgets.properties}
+ *
+ * Cada operação tem um orçamento em bytes por execução; a medição pode
+ * excedê-lo até a tolerância configurada. Ao otimizar uma operação, reduza o
+ * orçamento correspondente para que a melhoria não se perca depois.
+ */
+public final class AllocationBudgets {
+
+    private static final String RESOURCE = "/allocation-budgets.properties";
+
+    private final Properties budgets;
+    private final double tolerance;
+
+    private AllocationBudgets(Properties budgets) {
+        this.budgets = budgets;
+        this.tolerance = Double.parseDouble(budgets.getProperty("tolerance", "0.20"));
+    }
+
+    public static AllocationBudgets load() {
+        Properties properties = new Properties();
+        try (InputStream input = AllocationBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Arquivo de orçamentos não encontrado: " + RESOURCE);
+            }
+            properties.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao carregar orçamentos de alocação", e);
+        }
+        return new AllocationBudgets(properties);
+    }
+
+    /**
+     * Orçamento em bytes por execução da operação
+     */
+    public long budget(String operation) {
+        String value = budgets.getProperty(operation + ".bytes");
+        if (value == null) {
+            fail("Sem orçamento de alocação para '" + operation + "' em " + RESOURCE);
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    /**
+     * Falha se a medição exceder o orçamento além da tolerância
+     */
+    public void assertWithinBudget(String operation, long measuredBytes) {
+        long budget = budget(operation);
+        long limit = (long) (budget * (1 + tolerance));
+        assertTrue(measuredBytes <= limit, String.format(
+            "%s alocou %d bytes/op, acima do orçamento de %d bytes (+%.0f%% = %d). " +
+            "Se o aumento for intencional, atualize %s.",
+            operation, measuredBytes, budget, tolerance * 100, limit, RESOURCE));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.newscurator.allocation;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mede os bytes alocados pela thread atual durante uma operação
+ *
+ * Usa {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()},
+ * que conta as alocações da própria thread (TLABs e fora deles) sem depender de
+ * GC. A operação é aquecida antes da medição para que o resultado reflita o
+ * código já compilado pelo JIT, e o valor final é a média por execução.
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int warmupIterations;
+    private final int measuredIterations;
+
+    public AllocationMeter(int warmupIterations, int measuredIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+    /**
+     * Indica se a JVM suporta a medição de alocação por thread
+     */
+    public static boolean isSupported() {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        if (!THREADS.isThreadAllocatedMemoryEnabled()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+    }
+
+    /**
+     * Executa a operação e devolve a média de bytes alocados por execução
+     */
+    public long bytesPerOperation(Runnable operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.run();
+        }
+
+        // Desconta o custo da própria leitura do contador
+        long overhead = THREADS.getCurrentThreadAllocatedBytes();
+        overhead = THREADS.getCurrentThreadAllocatedBytes() - overhead;
+
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < measuredIterations; i++) {
+            operation.run();
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before - overhead;
+        return Math.max(0, allocated / measuredIterations);
+    }
+}
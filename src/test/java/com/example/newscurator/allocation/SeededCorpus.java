@@ -0,0 +1,134 @@
+package com.example.newscurator.allocation;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.tools.NewsSearchTool;
+import com.example.newscurator.utils.ConfigManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Corpus determinístico para as medições de alocação
+ *
+ * Gerado a partir de uma semente fixa, para que medições antes e depois de uma
+ * mudança usem exatamente a mesma entrada. É um corpus próprio, menor e mais
+ * simples que o {@code SyntheticCorpus} dos benchmarks JMH: os orçamentos de
+ * {@code allocation-budgets.properties} foram medidos com ele.
+ */
+final class SeededCorpus {
+
+    static final long SEED = 42L;
+
+    private static final String[] SUBJECTS = {
+        "Inteligência artificial", "Startup brasileira", "Congresso", "Banco Central",
+        "Seleção brasileira", "Ministério da Saúde", "Pesquisadores da USP", "Governo federal",
+        "Mercado de criptomoedas", "Hospital público", "Time do Flamengo", "NASA"
+    };
+
+    private static final String[] VERBS = {
+        "anuncia", "aprova", "revela", "lança", "discute", "investe em", "critica", "adia"
+    };
+
+    private static final String[] OBJECTS = {
+        "nova tecnologia de dados", "reforma tributária", "aumento da inflação", "vacina contra vírus",
+        "campeonato nacional", "estudo sobre clima", "aplicativo de pagamentos", "projeto de lei",
+        "plano de investimento", "descoberta científica", "taxa de juros", "programa de automação"
+    };
+
+    private static final String[] SOURCES = {
+        "G1", "Folha de S.Paulo", "O Globo", "UOL", "R7", "BBC Brasil",
+        "CNN Brasil", "Estadão", "Valor Econômico", "TechCrunch Brasil"
+    };
+
+    private static final String[] CATEGORIES = {
+        "tecnologia", "política", "economia", "esportes", "saúde", "ciência", "geral"
+    };
+
+    private static final List<String> KEYWORDS = List.of("mercado", "economia", "brasil", "setor");
+
+    private SeededCorpus() {
+    }
+
+    static List<NewsArticle> articles(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<NewsArticle> articles = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            NewsArticle article = new NewsArticle();
+            article.setTitle(SUBJECTS[random.nextInt(SUBJECTS.length)] + " "
+                + VERBS[random.nextInt(VERBS.length)] + " "
+                + OBJECTS[random.nextInt(OBJECTS.length)]);
+            article.setUrl("https://example-news.com/article-" + i);
+            article.setSource(SOURCES[random.nextInt(SOURCES.length)]);
+            article.setPublishedAt(base.plusMinutes(random.nextInt(60 * 24 * 30)));
+            article.setRelevanceScore(random.nextDouble());
+            article.setKeywords(KEYWORDS);
+            articles.add(article);
+        }
+        return articles;
+    }
+
+    /**
+     * Relatório já categorizado e resumido, pronto para renderização
+     */
+    static NewsReport report(int size) {
+        List<NewsArticle> articles = articles(size);
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        Map<String, Integer> categorySummary = new LinkedHashMap<>();
+
+        for (NewsArticle article : articles) {
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            article.setCategory(category);
+            article.setSummary("Resumo determinístico do artigo \"" + article.getTitle()
+                + "\" com contexto suficiente para exercitar a renderização.");
+            categorySummary.merge(category, 1, Integer::sum);
+        }
+
+        NewsReport report = new NewsReport("Relatório de Notícias: orçamento de alocação",
+                                           List.of("tecnologia", "economia"));
+        report.setGeneratedAt(LocalDateTime.of(2024, 2, 1, 12, 0));
+        report.setArticles(articles);
+        report.setCategorySummary(categorySummary);
+        report.setSummary("Este relatório apresenta " + size + " notícias geradas deterministicamente.");
+        return report;
+    }
+
+    /**
+     * Busca que devolve cópias de uma fatia fixa do corpus para cada tópico
+     *
+     * As cópias evitam que categorização e resumo de uma execução alterem a
+     * entrada da seguinte.
+     */
+    static final class SearchTool extends NewsSearchTool {
+
+        private final List<NewsArticle> corpus;
+        private final List<String> topics;
+
+        SearchTool(ConfigManager configManager, List<NewsArticle> corpus, List<String> topics) {
+            super(configManager);
+            this.corpus = corpus;
+            this.topics = topics;
+        }
+
+        @Override
+        public List<NewsArticle> searchNews(String topic, int maxResults) {
+            int slice = Math.max(0, topics.indexOf(topic));
+            int perTopic = corpus.size() / topics.size();
+            List<NewsArticle> articles = new ArrayList<>(perTopic);
+            for (NewsArticle source : corpus.subList(slice * perTopic, (slice + 1) * perTopic)) {
+                NewsArticle copy = new NewsArticle(source.getTitle(), null, source.getUrl(), source.getSource());
+                copy.setPublishedAt(source.getPublishedAt());
+                copy.setRelevanceScore(source.getRelevanceScore());
+                copy.setKeywords(source.getKeywords());
+                articles.add(copy);
+            }
+            return articles;
+        }
+    }
+}
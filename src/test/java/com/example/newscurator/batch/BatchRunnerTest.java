@@ -0,0 +1,130 @@
+package com.example.newscurator.batch;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.sources.SyntheticCorpus;
+import com.example.newscurator.tools.NewsSearchTool;
+import com.example.newscurator.tools.ReportGeneratorTool;
+import com.example.newscurator.utils.ConfigManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Testes unitários para o BatchRunner
+ */
+public class BatchRunnerTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final SyntheticCorpus corpus = new SyntheticCorpus(42, 1_000, 0.0);
+    private BatchRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        ConfigManager configManager = new ConfigManager((Path) null);
+        NewsSearchTool searchTool = new NewsSearchTool(configManager, (topic, maxResults) -> {
+            // Tópicos de número menor demoram mais: terminam depois dos seguintes
+            int number = Integer.parseInt(topic.replaceAll("\\D", "0"));
+            try {
+                Thread.sleep(Math.max(0, 40 - number));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<NewsArticle> articles = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                articles.add(corpus.article(number * 5L + i));
+            }
+            return articles;
+        });
+        NewsCuratorAgent agent = new NewsCuratorAgent(configManager, searchTool);
+        ReportGeneratorTool reportTool = new ReportGeneratorTool(configManager) {
+            @Override
+            public void writeJsonReport(NewsReport report, Writer writer, boolean pretty) throws IOException {
+                if (report.getTopics().get(0).startsWith("quebrado")) {
+                    throw new IOException("Falha ao gerar relatório de " + report.getTopics());
+                }
+                super.writeJsonReport(report, writer, pretty);
+            }
+        };
+        runner = new BatchRunner(agent, reportTool, 8);
+    }
+
+    @Test
+    void testParseTopics() {
+        // Act & Assert
+        assertEquals(List.of("tecnologia", "política", "economia"), BatchRunner.parseTopics("  tecnologia ,, política,economia "));
+        assertEquals(List.of("clima"), BatchRunner.parseTopics("clima"));
+        assertEquals(List.of(), BatchRunner.parseTopics("# tópicos da manhã"));
+        assertEquals(List.of(), BatchRunner.parseTopics("   "));
+        assertEquals(List.of(), BatchRunner.parseTopics(" , ,"));
+    }
+
+    @Test
+    void testOneLinePerInputInInputOrderUnderParallelism() throws IOException {
+        // Arrange
+        StringBuilder input = new StringBuilder("# conjuntos de tópicos\n\n");
+        List<List<String>> expected = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            List<String> topics = i % 3 == 0 ? List.of("t" + i, "t" + (i + 1)) : List.of("t" + i);
+            expected.add(topics);
+            input.append(String.join(", ", topics)).append(i % 10 == 0 ? "\n\n" : "\n");
+        }
+        StringWriter output = new StringWriter();
+
+        // Act
+        BatchRunner.BatchSummary summary = runner.run(new BufferedReader(new StringReader(input.toString())), output);
+
+        // Assert
+        String[] lines = output.toString().split("\n");
+        assertEquals(40, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(expected.get(i), topics(JSON.readTree(lines[i])), "linha " + (i + 1));
+        }
+        assertEquals(40, summary.total());
+        assertEquals(0, summary.failed());
+        assertEquals(0, summary.exitCode());
+    }
+
+    @Test
+    void testFailedCurationsBecomeErrorLinesAndFailTheExitCode() throws IOException {
+        // Arrange
+        String input = "t1\nquebrado\nt2, t3\nquebrado-de-novo\nt4\n";
+        StringWriter output = new StringWriter();
+
+        // Act
+        BatchRunner.BatchSummary summary = runner.run(new BufferedReader(new StringReader(input)), output);
+
+        // Assert
+        String[] lines = output.toString().split("\n");
+        assertEquals(5, lines.length);
+        JsonNode error = JSON.readTree(lines[1]);
+        assertEquals(List.of("quebrado"), topics(error));
+        assertTrue(error.get("error").asText().contains("quebrado"), error.toString());
+        assertTrue(JSON.readTree(lines[3]).has("error"));
+        assertFalse(JSON.readTree(lines[2]).has("error"));
+        assertEquals(List.of("t4"), topics(JSON.readTree(lines[4])));
+        assertEquals(5, summary.total());
+        assertEquals(2, summary.failed());
+        assertEquals(1, summary.exitCode());
+        assertEquals(3, summary.latency().count());
+    }
+
+    private static List<String> topics(JsonNode line) {
+        List<String> topics = new ArrayList<>();
+        line.get("topics").forEach(topic -> topics.add(topic.asText()));
+        return topics;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.newscurator.dedup;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.utils.ConfigManager;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Testes unitários para o ArticleDeduplicator e as impressões digitais de artigos
+ */
+public class ArticleDeduplicatorTest {
+
+    @Test
+    void testFingerprintsIgnoreCosmeticDifferences() {
+        // Assert
+        assertEquals(ArticleFingerprints.url("https://g1.globo.com/economia/noticia-1"),
+                     ArticleFingerprints.url("http://www.G1.globo.com/economia/noticia-1/?utm_source=x#topo"));
+        assertEquals(ArticleFingerprints.url("https://site.com/a?id=7"),
+                     ArticleFingerprints.url("https://site.com/a?id=7&fbclid=abc"));
+        assertNotEquals(ArticleFingerprints.url("https://site.com/a?id=7"),
+                        ArticleFingerprints.url("https://site.com/a?id=8"));
+        assertNotEquals(ArticleFingerprints.url("https://site.com/Noticia"),
+                        ArticleFingerprints.url("https://site.com/noticia"));
+        assertEquals(ArticleFingerprints.title("Saúde: Governo amplia vacinação"),
+                     ArticleFingerprints.title("  saude governo AMPLIA vacinacao!"));
+        assertEquals(ArticleFingerprints.NONE, ArticleFingerprints.title(" -- "));
+    }
+
+    @Test
+    void testDuplicatesAcrossTopicsAreMergedIntoTheFirstArticle() {
+        // Arrange
+        ArticleDeduplicator deduplicator = new ArticleDeduplicator(4);
+        NewsArticle first = article("https://site.com/ia-na-saude", "IA chega aos hospitais", 0.4);
+        NewsArticle sameUrl = article("https://www.site.com/ia-na-saude/", "IA chega aos hospitais do país", 0.9);
+        NewsArticle sameTitle = article("https://outro.com/123", "IA chega aos hospitais", 0.5);
+        NewsArticle other = article("https://site.com/eleicoes", "Eleições municipais", 0.7);
+
+        // Act
+        boolean keptFirst = deduplicator.add("inteligência artificial", first);
+        boolean keptSameUrl = deduplicator.add("tecnologia", sameUrl);
+        boolean keptSameTitle = deduplicator.add("saúde", sameTitle);
+        boolean keptOther = deduplicator.add("política", other);
+
+        // Assert
+        assertTrue(keptFirst);
+        assertFalse(keptSameUrl);
+        assertFalse(keptSameTitle);
+        assertTrue(keptOther);
+        assertEquals(List.of(first, other), deduplicator.getArticles());
+        assertEquals(List.of("inteligência artificial", "tecnologia", "saúde"), first.getTopics());
+        assertEquals(0.9, first.getRelevanceScore());
+        assertEquals(2, deduplicator.getDuplicateCount());
+    }
+
+    @Test
+    void testHistoryDropsArticlesSeenInPreviousRuns() {
+        for (FingerprintSet history : List.of(new LongHashSet(16), new BloomFilter(10_000, 0.001))) {
+            // Arrange
+            ArticleDeduplicator firstRun = new ArticleDeduplicator(2, history);
+            firstRun.add("economia", article("https://site.com/juros", "Juros caem", 0.5));
+            ArticleDeduplicator secondRun = new ArticleDeduplicator(2, history);
+
+            // Act
+            boolean repeated = secondRun.add("economia", article("https://site.com/juros?utm_medium=rss", "Juros caem", 0.5));
+            boolean fresh = secondRun.add("economia", article("https://site.com/inflacao", "Inflação sobe", 0.5));
+
+            // Assert
+            assertFalse(repeated);
+            assertTrue(fresh);
+            assertEquals(1, secondRun.getPreviouslySeenCount());
+        }
+    }
+
+    @Test
+    void testBloomFilterFalsePositiveRateStaysNearTarget() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.add(ArticleFingerprints.url("https://site.com/noticia-" + i));
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 100_000; i < 200_000; i++) {
+            if (filter.mightContain(ArticleFingerprints.url("https://site.com/noticia-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives < 2_000, "Falsos positivos: " + falsePositives);
+        assertTrue(filter.mightContain(ArticleFingerprints.url("https://site.com/noticia-42")));
+    }
+
+    @Test
+    void testOverlappingTopicsProduceUniqueArticles() {
+        // Arrange
+        NewsCuratorAgent agent = new NewsCuratorAgent(new ConfigManager((Path) null));
+
+        // Act
+        NewsReport report = agent.curateNews(Arrays.asList("inteligência artificial", "tecnologia", "inovação"));
+
+        // Assert
+        List<String> urls = report.getArticles().stream().map(NewsArticle::getUrl).toList();
+        assertEquals(urls.size(), urls.stream().distinct().count());
+        assertTrue(report.getArticles().stream().allMatch(article -> !article.getTopics().isEmpty()));
+    }
+
+    private static NewsArticle article(String url, String title, double score) {
+        NewsArticle article = new NewsArticle(title, "", url, "G1");
+        article.setRelevanceScore(score);
+        return article;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.newscurator.dedup;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.sources.SyntheticCorpus;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Testes unitários para o NearDuplicateDetector
+ */
+public class NearDuplicateDetectorTest {
+
+    @Test
+    void testSyndicatedVariantsCollapseIntoOneArticle() {
+        // Arrange
+        NewsArticle original = article("Banco Central mantém juros e sinaliza cortes no segundo semestre", "G1", 0.6,
+            "O comitê decidiu por unanimidade manter a taxa básica e indicou que a inflação segue em queda");
+        NewsArticle agency = article("Agência: Banco Central mantém juros e sinaliza cortes no segundo semestre", "UOL", 0.8,
+            "(G1) O comitê decidiu por unanimidade manter a taxa básica e indicou que a inflação segue em queda");
+        NewsArticle suffix = article("Banco Central mantém juros e sinaliza cortes no segundo semestre | R7", "R7", 0.5,
+            "(G1) O comitê decidiu por unanimidade manter a taxa básica e indicou que a inflação segue em queda");
+        NewsArticle unrelated = article("Seleção vence amistoso e se prepara para as eliminatórias", "G1", 0.9,
+            "Técnico elogiou a defesa e confirmou a escalação para a próxima rodada");
+        original.setTopics(new ArrayList<>(List.of("economia")));
+        suffix.setTopics(new ArrayList<>(List.of("juros")));
+
+        // Act
+        List<NewsArticle> result = new NearDuplicateDetector().collapse(List.of(original, agency, suffix, unrelated));
+
+        // Assert
+        assertEquals(List.of(agency, unrelated), result);
+        assertEquals(List.of("UOL", "G1", "R7"), agency.getCoverage());
+        assertEquals(List.of("economia", "juros"), agency.getTopics());
+        assertNull(unrelated.getCoverage());
+    }
+
+    @Test
+    void testSyntheticCorpusSyndicationIsFoundWithFewFalseMerges() {
+        // Arrange
+        List<NewsArticle> corpus = new SyntheticCorpus(42, 20_000).stream().collect(Collectors.toList());
+        // Republicações levam "(Fonte original) " no corpo; sem o prefixo, cada corpo distinto é uma notícia
+        long stories = corpus.stream()
+            .map(article -> article.getBody().startsWith("(")
+                ? article.getBody().substring(article.getBody().indexOf(") ") + 2) : article.getBody())
+            .distinct()
+            .count();
+        long expected = corpus.size() - stories;
+
+        // Act
+        List<NewsArticle> result = new NearDuplicateDetector().collapse(corpus);
+
+        // Assert
+        long removed = corpus.size() - result.size();
+        assertTrue(removed >= expected * 0.95, "Removidos " + removed + " de " + expected + " republicações");
+        assertTrue(removed <= expected * 1.02, "Removidos " + removed + " de " + expected + " republicações");
+        assertTrue(result.stream().anyMatch(article -> article.getCoverage() != null && article.getCoverage().size() > 2));
+    }
+
+    private static NewsArticle article(String title, String source, double score, String body) {
+        NewsArticle article = new NewsArticle(title, null, "https://" + source.toLowerCase() + ".com/" + title.hashCode(), source);
+        article.setRelevanceScore(score);
+        article.setBody(body);
+        return article;
+    }
+}
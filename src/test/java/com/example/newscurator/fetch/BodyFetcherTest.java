@@ -0,0 +1,221 @@
+package com.example.newscurator.fetch;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.tools.NewsCategorizerTool;
+import com.example.newscurator.tools.NewsSummarizerTool;
+import com.example.newscurator.utils.ConfigManager;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Testes unitários para o HtmlTextExtractor e o BodyFetcher
+ */
+public class BodyFetcherTest {
+
+    private static final String PARAGRAPH = "O Banco Central manteve a taxa de juros, e o mercado reagiu com alta "
+        + "da bolsa e queda do dólar ao longo da tarde.";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExtractsArticleTextWithoutBoilerplate() throws IOException {
+        // Arrange
+        String html = page(PARAGRAPH + " Analistas &quot;esperam&quot; cortes &#8212; talvez em mar&ccedil;o.");
+
+        // Act
+        String text = extract(html, 1 << 20, 8000);
+        String capped = extract(html, 480, 8000);
+
+        // Assert
+        assertTrue(text.startsWith("Juros estáveis"));
+        assertTrue(text.contains("Analistas \"esperam\" cortes — talvez em março."));
+        assertFalse(text.contains("var tracking"));
+        assertFalse(text.contains("Menu"));
+        assertFalse(text.contains("Todos os direitos"));
+        assertFalse(text.contains("Assine"));
+        assertTrue(capped.contains("Banco Central"));
+        assertFalse(capped.contains("Analistas"));
+    }
+
+    @Test
+    void testLimitsConcurrentDownloadsPerHost() {
+        // Arrange
+        Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> peak = new ConcurrentHashMap<>();
+        ArticleFetcher slow = url -> {
+            AtomicInteger current = active.computeIfAbsent(url.getHost(), h -> new AtomicInteger());
+            peak.computeIfAbsent(url.getHost(), h -> new AtomicInteger()).accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                current.decrementAndGet();
+            }
+            return stream(page(PARAGRAPH));
+        };
+        List<NewsArticle> articles = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            articles.add(new NewsArticle("Notícia " + i, null, "https://portal" + (i % 3) + ".example.com/" + i, "portal"));
+        }
+        articles.add(new NewsArticle("Sem URL", null, null, "portal"));
+
+        // Act
+        int filled;
+        try (BodyFetcher fetcher = new BodyFetcher(slow, 12, 2, 1 << 20, 8000, 280)) {
+            filled = fetcher.fetchBodies(articles);
+        }
+
+        // Assert
+        assertEquals(24, filled);
+        assertEquals(3, peak.size());
+        peak.values().forEach(max -> assertTrue(max.get() <= 2, "downloads simultâneos no host: " + max.get()));
+        assertTrue(articles.get(0).getBody().startsWith("Juros estáveis"));
+        assertNull(articles.get(24).getBody());
+    }
+
+    @Test
+    void testSavedPagesFeedSummaryAndCategory() throws IOException {
+        // Arrange
+        Files.createDirectories(tempDir.resolve("g1.example.com/economia"));
+        Files.writeString(tempDir.resolve("g1.example.com/economia/juros.html"), page(PARAGRAPH));
+        NewsArticle article = new NewsArticle("Copom decide hoje", null, "https://g1.example.com/economia/juros", "G1");
+        NewsArticle missing = new NewsArticle("Outra", null, "https://g1.example.com/nao-existe", "G1");
+        ConfigManager config = new ConfigManager((Path) null);
+
+        // Act
+        long failed;
+        try (BodyFetcher fetcher = new BodyFetcher(new FileArticleFetcher(tempDir), 2, 1, 1 << 20, 8000, 280)) {
+            fetcher.fetchBodies(List.of(article, missing));
+            failed = fetcher.getFailedCount();
+        }
+        String category = new NewsCategorizerTool(config).categorizeArticle(article);
+        String summary = new NewsSummarizerTool(config).generateSummary(article);
+
+        // Assert
+        assertEquals(1, failed);
+        assertNull(missing.getBody());
+        assertEquals("economia", category);
+        assertTrue(summary.startsWith("Juros estáveis"));
+        assertTrue(summary.endsWith("."));
+        assertTrue(summary.length() <= config.getMaxSummaryLength());
+    }
+
+    @Test
+    void testDeadlineAppliesOnlyFinishedBodies() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        ArticleFetcher fetcher = url -> {
+            if (url.getPath().startsWith("/lenta")) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return stream(page(PARAGRAPH));
+        };
+        List<NewsArticle> articles = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String path = i % 2 == 0 ? "/rapida/" : "/lenta/";
+            articles.add(new NewsArticle("Notícia " + i, null, "https://portal" + i + ".example.com" + path + i, "portal"));
+        }
+
+        // Act
+        int filled;
+        long elapsedMillis;
+        try (BodyFetcher bodyFetcher = new BodyFetcher(fetcher, 6, 1, 1 << 20, 8000, 280)) {
+            long start = System.nanoTime();
+            filled = bodyFetcher.fetchBodies(articles, Duration.ofMillis(300));
+            elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            release.countDown();
+        }
+
+        // Assert
+        assertEquals(3, filled);
+        assertTrue(elapsedMillis < 2_000, "esperou " + elapsedMillis + "ms");
+        assertNotNull(articles.get(0).getBody());
+        assertNull(articles.get(1).getBody());
+    }
+
+    @Test
+    void testHttpFetcherCapsBodyReadTime() throws IOException {
+        // Arrange
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("<html><body><p>".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                // Cabeçalhos enviados, corpo parado
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+        URI url = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/parada");
+        HttpArticleFetcher fetcher = new HttpArticleFetcher(Duration.ofSeconds(2), Duration.ofMillis(300));
+
+        // Act
+        long start = System.nanoTime();
+        IOException error;
+        try (InputStream html = fetcher.open(url)) {
+            error = assertThrows(IOException.class, () -> HtmlTextExtractor.extract(html, 1 << 20, 8000));
+        } finally {
+            server.stop(0);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertTrue(error.getMessage().startsWith("Tempo de leitura esgotado"), error.getMessage());
+        assertTrue(elapsedMillis < 2_000, "leu por " + elapsedMillis + "ms");
+    }
+
+    private static String page(String paragraph) {
+        return """
+            <!DOCTYPE html>
+            <html><head><title>Portal</title><script>var tracking = "<p>nada</p>";</script></head>
+            <body>
+              <header><nav><a href="/">Menu</a> <a href="/economia">Economia</a></nav></header>
+              <div class="promo"><p>Assine o portal e receba as notícias do dia no seu e-mail, todos os dias, sem custo adicional.</p></div>
+              <article>
+                <h2>Juros estáveis</h2>
+                <p>%s</p>
+                <p>A decisão foi unânime e o comunicado repetiu que a inflação segue acima da meta.</p>
+              </article>
+              <footer>Todos os direitos reservados</footer>
+            </body></html>
+            """.formatted(paragraph);
+    }
+
+    private static String extract(String html, int maxBytes, int maxChars) throws IOException {
+        return HtmlTextExtractor.extract(stream(html), maxBytes, maxChars);
+    }
+
+    private static InputStream stream(String html) {
+        return new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8));
+    }
+}
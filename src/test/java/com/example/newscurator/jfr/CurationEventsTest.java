@@ -0,0 +1,172 @@
+package com.example.newscurator.jfr;
+
+import com.example.newscurator.admission.AdaptiveConcurrencyLimiter;
+import com.example.newscurator.admission.AdmissionController;
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.models.NewsReport;
+import com.example.newscurator.utils.ConfigManager;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Testes dos eventos JFR da curadoria, gravados com o perfil news-curator.jfc
+ */
+public class CurationEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCurationEmitsStageEvents() throws Exception {
+        // Arrange
+        NewsCuratorAgent agent = new NewsCuratorAgent(new ConfigManager((Path) null));
+        Path output = tempDir.resolve("curadoria.jfr");
+
+        // Act
+        try (Recording recording = new Recording(loadSettings())) {
+            recording.start();
+            NewsReport report = agent.curateNews(Arrays.asList("tecnologia", "saúde"));
+            agent.getReportGeneratorTool().generateTextReport(report);
+            recording.stop();
+            recording.dump(output);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(output).stream()
+            .filter(event -> event.getEventType().getName().startsWith("com.example.newscurator."))
+            .toList();
+
+        // Assert
+        Set<String> names = events.stream()
+            .map(event -> event.getEventType().getName())
+            .collect(Collectors.toSet());
+        assertEquals(Set.of("com.example.newscurator.TopicSearch",
+                            "com.example.newscurator.Deduplication",
+                            "com.example.newscurator.CategorizationBatch",
+                            "com.example.newscurator.Summarization",
+                            "com.example.newscurator.Ranking",
+                            "com.example.newscurator.ReportRendering"), names);
+
+        List<String> searchedTopics = events.stream()
+            .filter(event -> event.getEventType().getName().endsWith("TopicSearch"))
+            .map(event -> event.getString("topic"))
+            .toList();
+        assertEquals(Arrays.asList("tecnologia", "saúde"), searchedTopics);
+
+        for (RecordedEvent event : events) {
+            assertTrue(event.getInt("articleCount") >= 0);
+            assertFalse(event.hasField("cacheHit"));
+            assertFalse(event.getDuration().isNegative());
+        }
+
+        Set<String> formats = events.stream()
+            .filter(event -> event.getEventType().getName().endsWith("ReportRendering"))
+            .map(event -> event.getString("format"))
+            .collect(Collectors.toSet());
+        assertEquals(Set.of("report", "text"), formats);
+    }
+
+    @Test
+    void testEventsDisabledByDefault() throws Exception {
+        // Arrange
+        NewsCuratorAgent agent = new NewsCuratorAgent(new ConfigManager((Path) null));
+        Path output = tempDir.resolve("padrao.jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.start();
+            agent.curateNews("tecnologia");
+            recording.stop();
+            recording.dump(output);
+        }
+
+        // Assert
+        assertTrue(RecordingFile.readAllEvents(output).stream()
+            .noneMatch(event -> event.getEventType().getName().startsWith("com.example.newscurator.")));
+    }
+
+    @Test
+    void testAdmissionEventMarksCacheHits() throws Exception {
+        // Arrange
+        AdmissionController admission = new AdmissionController(AdaptiveConcurrencyLimiter.fixed(1), 0, 0.0,
+                                                                 null, 16, Duration.ofMinutes(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Path output = tempDir.resolve("admissao.jfr");
+
+        // Act
+        try (Recording recording = new Recording(loadSettings())) {
+            recording.start();
+            admission.curate(List.of("economia"), () -> report("economia", 3));
+            CompletableFuture<AdmissionController.Admitted> busy = CompletableFuture.supplyAsync(
+                () -> admission.curate(List.of("clima"), () -> {
+                    started.countDown();
+                    await(release);
+                    return report("clima", 2);
+                }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            admission.curate(List.of("economia"), () -> report("economia", 3));
+            assertThrows(RejectedExecutionException.class,
+                         () -> admission.curate(List.of("esportes"), () -> report("esportes", 1)));
+            release.countDown();
+            busy.get(5, TimeUnit.SECONDS);
+            recording.stop();
+            recording.dump(output);
+        }
+        List<String> admissions = RecordingFile.readAllEvents(output).stream()
+            .filter(event -> event.getEventType().getName().equals("com.example.newscurator.Admission"))
+            .map(event -> event.getString("topic") + ":" + event.getString("mode") + ":"
+                          + event.getInt("articleCount") + ":" + event.getBoolean("cacheHit"))
+            .sorted()
+            .toList();
+
+        // Assert
+        assertEquals(List.of("clima:full:2:false", "economia:cached:3:true", "economia:full:3:false",
+                             "esportes:rejected:0:false"), admissions);
+    }
+
+    private static NewsReport report(String topic, int articles) {
+        List<NewsArticle> list = new ArrayList<>();
+        for (int i = 0; i < articles; i++) {
+            list.add(new NewsArticle(topic + " " + i, null, "https://example.com/" + topic + "/" + i, "Portal"));
+        }
+        NewsReport report = new NewsReport();
+        report.setTopics(List.of(topic));
+        report.setArticles(list);
+        return report;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Configuration loadSettings() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                 getClass().getResourceAsStream("/jfr/news-curator.jfc"), StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.newscurator.load;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.utils.ConfigManager;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Testes do harness de carga e do sorteio de tópicos
+ */
+public class SoakHarnessTest {
+
+    @Test
+    void testRunsFixedRequestCountConcurrently() throws Exception {
+        // Arrange
+        ConfigManager configManager = new ConfigManager((Path) null);
+        NewsCuratorAgent agent = new NewsCuratorAgent(configManager);
+        SoakHarness.Options options = SoakHarness.Options.defaults()
+            .withClients(4)
+            .withMaxRequests(80)
+            .withDuration(null)
+            .withTopicsPerRequest(2)
+            .withSampleInterval(Duration.ofMillis(50));
+
+        // Act
+        SoakHarness.SoakResult result = new SoakHarness(agent, configManager, options).run();
+
+        // Assert
+        assertEquals(80, result.requests());
+        assertEquals(0, result.errors());
+        assertEquals(80, result.latency().count());
+        assertFalse(result.configDrifted());
+        assertFalse(result.timeline().isEmpty());
+        assertTrue(result.format().contains("Linha do tempo"));
+    }
+
+    @Test
+    void testZipfianSamplerFavorsHotTopics() {
+        // Arrange
+        List<String> topics = Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h");
+        ZipfianTopicSampler sampler = new ZipfianTopicSampler(topics, 1.0);
+        SplittableRandom random = new SplittableRandom(7);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // Act
+        for (int i = 0; i < 20_000; i++) {
+            counts.merge(sampler.next(random), 1, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(topics.size(), counts.size());
+        assertTrue(counts.get("a") > counts.get("b"));
+        assertTrue(counts.get("b") > counts.get("h"));
+        assertEquals(2, sampler.next(random, 2).stream().distinct().count());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.newscurator.logging;
+
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.utils.ConfigManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Testes unitários para o AsyncLogWriter e o modo de log assíncrono
+ */
+public class AsyncLogWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        AsyncLogging.shutdown();
+    }
+
+    @Test
+    void testWritesFormattedMessagesOnClose() {
+        // Arrange
+        StringWriter out = new StringWriter();
+        AsyncLogWriter writer = new AsyncLogWriter(out, 16, 4, 5, Level.INFO).start();
+
+        // Act
+        writer.log("teste", Level.INFO, "Buscando notícias para o tópico: {}", new Object[]{"tecnologia"}, null);
+        writer.log("teste", Level.DEBUG, "ignorada abaixo do nível", null, null);
+        writer.log("teste", Level.ERROR, "Falha", null, new IllegalStateException("boom"));
+        writer.close();
+
+        // Assert
+        String log = out.toString();
+        assertTrue(log.contains("INFO teste - Buscando notícias para o tópico: tecnologia"));
+        assertFalse(log.contains("ignorada"));
+        assertTrue(log.contains("java.lang.IllegalStateException: boom"));
+        assertEquals(2, writer.getWrittenCount());
+        assertFalse(writer.log("teste", Level.INFO, "após fechar", null, null));
+    }
+
+    @Test
+    void testOverflowDropsDebugButKeepsInfo() {
+        // Arrange: escritor ainda não iniciado, para encher o buffer
+        StringWriter out = new StringWriter();
+        AsyncLogWriter writer = new AsyncLogWriter(out, 8, 1_000_000, 1, Level.DEBUG);
+
+        // Act
+        int acceptedDebug = 0;
+        for (int i = 0; i < 20; i++) {
+            if (writer.log("teste", Level.DEBUG, "depuração {}", new Object[]{i}, null)) {
+                acceptedDebug++;
+            }
+        }
+        boolean infoAccepted = writer.log("teste", Level.INFO, "importante", null, null);
+        writer.start();
+        writer.close();
+
+        // Assert
+        assertEquals(6, acceptedDebug, "DEBUG deve ser amostrado acima de 3/4 da capacidade");
+        assertTrue(infoAccepted);
+        assertEquals(14, writer.getDroppedDebugCount());
+        String log = out.toString();
+        assertTrue(log.contains("importante"));
+        assertTrue(log.contains("14 mensagens descartadas"));
+    }
+
+    @Test
+    void testAgentLogsGoToConfiguredFile() throws Exception {
+        // Arrange
+        Path logFile = tempDir.resolve("logs/curadoria.log");
+        Path config = tempDir.resolve("config.properties");
+        Files.writeString(config, "logging.async.enabled=true\nlogging.file.path="
+            + logFile.toString().replace('\\', '/') + "\n", StandardCharsets.UTF_8);
+        ConfigManager configManager = new ConfigManager(config);
+
+        // Act
+        assertTrue(AsyncLogging.installIfEnabled(configManager));
+        new NewsCuratorAgent(configManager).curateNews("tecnologia");
+        AsyncLogging.shutdown();
+
+        // Assert
+        List<String> lines = Files.readAllLines(logFile, StandardCharsets.UTF_8);
+        assertTrue(lines.stream().anyMatch(line -> line.contains("Buscando notícias para o tópico: tecnologia")));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("Curadoria concluída com sucesso")));
+    }
+
+    @Test
+    void testWriteFailureFallsBackToSynchronousLogging() throws InterruptedException {
+        // Arrange
+        Writer broken = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("Disco cheio");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncLogWriter writer = new AsyncLogWriter(broken, 4, 1, 500, Level.INFO);
+        AsyncLogging.install(writer.start());
+        Logger logger = AsyncLogging.getLogger(AsyncLogWriterTest.class);
+
+        // Act
+        writer.log("teste", Level.INFO, "primeira", null, null);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (AsyncLogging.currentWriter() != null && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            logger.info("depois da falha {}", i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertNull(AsyncLogging.currentWriter());
+        assertFalse(writer.log("teste", Level.INFO, "descartada", null, null));
+        // Com o escritor ainda instalado, cada chamada esperaria 500ms por espaço no buffer
+        assertTrue(elapsedMillis < 2_000, "log bloqueado por " + elapsedMillis + "ms");
+    }
+}
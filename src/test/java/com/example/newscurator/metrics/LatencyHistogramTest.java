@@ -0,0 +1,108 @@
+package com.example.newscurator.metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Testes unitários para o LatencyHistogram e o PipelineMetrics
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    void testBucketBoundsEncloseEveryValue() {
+        // Arrange
+        Random random = new Random(42);
+        long[] values = new long[2000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < 64 ? i : i < 126 ? 1L << (i - 63) : random.nextLong() >>> (1 + random.nextInt(63));
+        }
+
+        for (long value : values) {
+            // Act
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            long previousUpper = index == 0 ? -1 : LatencyHistogram.bucketUpperBound(index - 1);
+
+            // Assert
+            assertTrue(index >= 0 && index < LatencyHistogram.BUCKETS, "índice de " + value);
+            assertTrue(previousUpper < value && value <= upper, "baldes de " + value);
+            // Erro relativo de até 1/8 do valor (exato abaixo de 8)
+            assertTrue(upper - value <= value / 8, "erro de " + value);
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKETS - 1));
+    }
+
+    @Test
+    void testQuantilesStayWithinBucketError() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        LatencyHistogram.Snapshot empty = new LatencyHistogram().snapshot();
+
+        // Assert
+        for (double quantile : new double[]{0.01, 0.5, 0.9, 0.99, 0.999}) {
+            long exact = (long) Math.ceil(quantile * 10_000) * 1_000L;
+            long estimate = snapshot.getValueAtQuantile(quantile);
+            assertTrue(estimate >= exact && estimate <= exact + exact / 8,
+                       "p" + quantile + ": " + estimate + " para " + exact);
+        }
+        assertEquals(10_000_000L, snapshot.getValueAtQuantile(1.0));
+        assertEquals(10_000_000L, snapshot.getMaxNanos());
+        assertEquals(5_000_500L, snapshot.getMeanNanos());
+        assertEquals(0, empty.getValueAtQuantile(0.99));
+    }
+
+    @Test
+    void testConcurrentRecordingMergesAllStripes() throws InterruptedException {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        PipelineMetrics metrics = new PipelineMetrics();
+        int threads = 8;
+        int rounds = 10_000;
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            long latency = (t + 1) * 1_000_000L;
+            workers.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < rounds; i++) {
+                        histogram.record(latency);
+                        metrics.record(PipelineStage.SEARCH, latency, 3);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(30, TimeUnit.SECONDS));
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        MetricsSnapshot.StageSnapshot search = metrics.snapshot().stage(PipelineStage.SEARCH);
+
+        // Assert
+        assertEquals((long) threads * rounds, snapshot.getCount());
+        assertEquals(4_500_000L, snapshot.getMeanNanos());
+        assertEquals(8_000_000L, snapshot.getMaxNanos());
+        assertEquals((long) threads * rounds, search.invocations());
+        assertEquals(3L * threads * rounds, search.items());
+        assertTrue(search.p50Millis() >= 4.0 && search.p50Millis() <= 4.5, "p50=" + search.p50Millis());
+        assertEquals(8.0, search.maxMillis());
+        assertEquals(0, metrics.snapshot().stage(PipelineStage.RANK).invocations());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.newscurator.relevance;
+
+import com.example.newscurator.models.NewsArticle;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Testes unitários para o Bm25Index e o PortugueseAnalyzer
+ */
+public class Bm25IndexTest {
+
+    @Test
+    void testAnalyzerFoldsAccentsAndDropsStopwords() {
+        // Act
+        List<String> tokens = PortugueseAnalyzer.tokens("A Política de SAÚDE e a Educação no Brasil, com IA");
+
+        // Assert
+        assertEquals(List.of("politica", "saude", "educacao", "brasil", "ia"), tokens);
+    }
+
+    @Test
+    void testTitleMatchesRankAboveBodyMatchesAndUnrelatedArticles() {
+        // Arrange
+        Bm25Index index = new Bm25Index();
+        NewsArticle inTitle = article("1", "Saúde pública amplia vacinação", "Campanha começa nesta semana.");
+        NewsArticle inBody = article("2", "Prefeitura anuncia obras", "Parte do orçamento vai para a saude.");
+        NewsArticle unrelated = article("3", "Time vence o campeonato", "Torcida comemora nas ruas.");
+        List<NewsArticle> articles = List.of(inTitle, inBody, unrelated);
+
+        // Act
+        index.scoreArticles("saúde", articles);
+
+        // Assert
+        assertTrue(inTitle.getRelevanceScore() > inBody.getRelevanceScore());
+        assertTrue(inBody.getRelevanceScore() > 0);
+        assertEquals(0.0, unrelated.getRelevanceScore());
+        assertTrue(inTitle.getRelevanceScore() < 1.0);
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testMultiWordTopicsRewardArticlesMatchingAllTerms() {
+        // Arrange
+        Bm25Index index = new Bm25Index();
+        NewsArticle both = article("1", "Inteligência artificial chega aos hospitais", "");
+        NewsArticle one = article("2", "Artificial ou natural: o debate dos adoçantes", "");
+        int[] ids = {index.add(both), index.add(one)};
+
+        // Act
+        double[] scores = index.score("inteligencia artificial", ids);
+
+        // Assert
+        assertTrue(scores[0] > scores[1]);
+        assertTrue(scores[1] > 0);
+    }
+
+    @Test
+    void testUpdatedArticleReplacesPreviousVersion() {
+        // Arrange
+        Bm25Index index = new Bm25Index();
+        NewsArticle article = article("1", "Mercado fecha em alta", "Bolsa sobe.");
+        int first = index.add(article);
+        int unchanged = index.add(article);
+
+        // Act
+        article.setBody("Bolsa sobe puxada por ações de energia.");
+        int updated = index.add(article);
+        double[] scores = index.score("energia", new int[]{first, updated});
+
+        // Assert
+        assertEquals(first, unchanged);
+        assertNotEquals(first, updated);
+        assertEquals(1, index.size());
+        assertEquals(0.0, scores[0]);
+        assertTrue(scores[1] > 0);
+    }
+
+    @Test
+    void testRemovedVersionsDoNotCountTowardDocumentFrequency() {
+        // Arrange
+        NewsArticle updated = article("1", "Mercado fecha em alta", "Bolsa sobe puxada por ações de energia.");
+        Bm25Index index = new Bm25Index();
+        index.add(updated);
+        updated.setBody("Bolsa sobe puxada por bancos.");
+        index.add(updated);
+        int energy = index.add(article("2", "Tarifa de energia sobe", "Conta de luz fica mais cara."));
+        Bm25Index fresh = new Bm25Index();
+        fresh.add(article("1", "Mercado fecha em alta", "Bolsa sobe puxada por bancos."));
+        int freshEnergy = fresh.add(article("2", "Tarifa de energia sobe", "Conta de luz fica mais cara."));
+
+        // Act
+        double score = index.score("energia bancos", new int[]{energy})[0];
+        double freshScore = fresh.score("energia bancos", new int[]{freshEnergy})[0];
+
+        // Assert
+        assertEquals(2, index.size());
+        assertEquals(freshScore, score, 1e-12);
+    }
+
+    @Test
+    void testIndexResetsWhenFull() {
+        // Arrange
+        Bm25Index index = new Bm25Index(2);
+        index.add(article("1", "Primeira notícia", ""));
+        index.add(article("2", "Segunda notícia", ""));
+
+        // Act
+        NewsArticle third = article("3", "Terceira notícia", "");
+        index.scoreArticles("terceira", List.of(third));
+
+        // Assert
+        assertEquals(1, index.size());
+        assertTrue(third.getRelevanceScore() > 0);
+    }
+
+    private static NewsArticle article(String id, String title, String body) {
+        NewsArticle article = new NewsArticle(title, "", "https://example-news.com/" + id, "G1");
+        article.setBody(body);
+        return article;
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.newscurator.resilience;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.sources.HttpNewsSource;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Testes unitários para o limite de taxa, o disjuntor e a reserva das fontes,
+ * contra provedores locais que injetam latência e erros
+ */
+public class NewsSourceResilienceTest {
+
+    private final List<StubProvider> providers = new ArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        providers.forEach(provider -> provider.server.stop(0));
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testTokenBucketFailsFastOrQueuesWhenEmpty() {
+        // Arrange
+        TokenBucket failFast = new TokenBucket(10, 3, 0);
+        TokenBucket queueing = new TokenBucket(20, 1, 1_000);
+
+        // Act
+        int granted = 0;
+        for (int i = 0; i < 5; i++) {
+            if (failFast.acquire()) {
+                granted++;
+            }
+        }
+        assertTrue(queueing.acquire());
+        long start = System.nanoTime();
+        boolean queued = queueing.acquire() && queueing.acquire();
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals(3, granted);
+        assertTrue(queued);
+        assertTrue(waitedMillis >= 80, "esperou " + waitedMillis + "ms por duas fichas a 20/s");
+    }
+
+    @Test
+    void testBreakerOpensOnErrorsAndClosesAfterSuccessfulProbe() throws Exception {
+        // Arrange
+        StubProvider provider = start("G1");
+        provider.status = 500;
+        GuardedNewsSource source = guarded(provider, Duration.ofMillis(200), Duration.ofMillis(150));
+        for (int i = 0; i < 4; i++) {
+            assertThrows(UncheckedIOException.class, () -> source.search("economia", 5));
+        }
+
+        // Act
+        int hitsWhenOpened = provider.hits.get();
+        assertThrows(RejectedExecutionException.class, () -> source.search("economia", 5));
+        CircuitBreaker.State whileOpen = source.getState();
+        provider.status = 200;
+        Thread.sleep(200);
+        List<NewsArticle> articles = source.search("economia", 5);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, whileOpen);
+        assertEquals(4, hitsWhenOpened);
+        assertEquals(5, provider.hits.get(), "a recusa não chega ao provedor");
+        assertEquals(CircuitBreaker.State.CLOSED, source.getState());
+        assertEquals(3, articles.size());
+        assertEquals("G1", articles.get(0).getSource());
+        assertNotNull(articles.get(0).getPublishedAt());
+    }
+
+    @Test
+    void testBreakerOpensOnSlowCalls() {
+        // Arrange
+        StubProvider provider = start("Folha");
+        provider.delayMillis = 60;
+        GuardedNewsSource source = guarded(provider, Duration.ofMillis(30), Duration.ofSeconds(30));
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            source.search("política", 5);
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, source.getState());
+        assertThrows(RejectedExecutionException.class, () -> source.search("política", 5));
+    }
+
+    @Test
+    void testSlowPrimaryIsHedgedToSecondary() {
+        // Arrange
+        StubProvider slow = start("Lento");
+        slow.delayMillis = 2_000;
+        StubProvider fast = start("Rápido");
+        HedgedNewsSource source = new HedgedNewsSource(
+            guarded(slow, Duration.ofSeconds(5), Duration.ofSeconds(30)),
+            guarded(fast, Duration.ofSeconds(5), Duration.ofSeconds(30)),
+            Duration.ofMillis(50), executor);
+
+        // Act
+        long start = System.nanoTime();
+        List<NewsArticle> articles = source.search("esportes", 5);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals("Rápido", articles.get(0).getSource());
+        assertTrue(elapsedMillis < 1_500, "respondeu em " + elapsedMillis + "ms");
+        assertTrue(source.describeHealth().get(2).contains("buscas duplicadas=1"));
+    }
+
+    @Test
+    void testFailingPrimaryFailsOverToSecondary() {
+        // Arrange
+        StubProvider broken = start("Fora do ar");
+        broken.status = 503;
+        StubProvider healthy = start("Reserva");
+        HedgedNewsSource source = new HedgedNewsSource(
+            guarded(broken, Duration.ofSeconds(5), Duration.ofSeconds(30)),
+            guarded(healthy, Duration.ofSeconds(5), Duration.ofSeconds(30)),
+            Duration.ZERO, executor);
+
+        // Act
+        List<NewsArticle> articles = source.search("saúde", 5);
+
+        // Assert
+        assertEquals("Reserva", articles.get(0).getSource());
+        assertEquals(1, broken.hits.get());
+    }
+
+    @Test
+    void testCancelledSearchesDoNotOpenTheBreaker() throws Exception {
+        // Arrange
+        CircuitBreaker breaker = new CircuitBreaker("Cancelada", 4, 4, 0.5, Duration.ofSeconds(5), 0.5,
+                                                    Duration.ofMillis(50), 1);
+        AtomicInteger calls = new AtomicInteger();
+        GuardedNewsSource source = new GuardedNewsSource("Cancelada", (topic, max) -> {
+            if (calls.incrementAndGet() <= 8) {
+                throw new CancellationException("Busca interrompida: " + topic);
+            }
+            throw new IllegalStateException("falha do provedor");
+        }, null, breaker);
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            assertThrows(CancellationException.class, () -> source.search("clima", 5));
+        }
+        CircuitBreaker.State afterCancellations = source.getState();
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> source.search("clima", 5));
+        }
+        Thread.sleep(80);
+        boolean probe = breaker.tryAcquire();
+        breaker.release();
+        boolean probeAgain = breaker.tryAcquire();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, afterCancellations);
+        assertTrue(probe && probeAgain, "a chamada de teste cancelada devolve a passagem");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(source.describeHealth().get(0).contains("falhas=4 canceladas=8"));
+    }
+
+    @Test
+    void testInterruptedHedgedSearchIsCancelled() throws Exception {
+        // Arrange
+        StubProvider slow = start("Lento");
+        slow.delayMillis = 2_000;
+        StubProvider slower = start("Mais lento");
+        slower.delayMillis = 2_000;
+        HedgedNewsSource source = new HedgedNewsSource(
+            guarded(slow, Duration.ofSeconds(5), Duration.ofSeconds(30)),
+            guarded(slower, Duration.ofSeconds(5), Duration.ofSeconds(30)),
+            Duration.ofMillis(20), executor);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean stillInterrupted = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            try {
+                source.search("trânsito", 5);
+            } catch (RuntimeException e) {
+                error.set(e);
+                stillInterrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+
+        // Act
+        caller.start();
+        Thread.sleep(200);
+        long start = System.nanoTime();
+        caller.interrupt();
+        caller.join(1_000);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertFalse(caller.isAlive());
+        assertTrue(elapsedMillis < 1_000, "parou em " + elapsedMillis + "ms");
+        assertInstanceOf(CancellationException.class, error.get());
+        assertTrue(stillInterrupted.get());
+    }
+
+    private GuardedNewsSource guarded(StubProvider provider, Duration slowCall, Duration openDuration) {
+        HttpNewsSource http = new HttpNewsSource(provider.uri(), "chave", Duration.ofSeconds(5));
+        CircuitBreaker breaker = new CircuitBreaker(provider.name, 4, 4, 0.5, slowCall, 0.5, openDuration, 1);
+        return new GuardedNewsSource(provider.name, http, null, breaker);
+    }
+
+    private StubProvider start(String name) {
+        try {
+            StubProvider provider = new StubProvider(name);
+            providers.add(provider);
+            return provider;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Provedor local no formato da NewsAPI com latência e status configuráveis
+     */
+    private static final class StubProvider {
+        private final String name;
+        private final HttpServer server;
+        private final AtomicInteger hits = new AtomicInteger();
+        private volatile int status = 200;
+        private volatile long delayMillis;
+
+        StubProvider(String name) throws IOException {
+            this.name = name;
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v2/everything", exchange -> {
+                hits.incrementAndGet();
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = status == 200 ? articles().getBytes(StandardCharsets.UTF_8) : new byte[0];
+                exchange.sendResponseHeaders(status, body.length > 0 ? body.length : -1);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+        }
+
+        URI uri() {
+            return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v2/everything?language=pt");
+        }
+
+        private String articles() {
+            StringBuilder json = new StringBuilder("{\"status\":\"ok\",\"totalResults\":3,\"articles\":[");
+            for (int i = 0; i < 3; i++) {
+                json.append(i > 0 ? "," : "")
+                    .append("{\"source\":{\"id\":null,\"name\":\"").append(name).append("\"},")
+                    .append("\"title\":\"Notícia ").append(i).append("\",")
+                    .append("\"description\":\"Resumo\",\"url\":\"https://example.com/").append(i).append("\",")
+                    .append("\"publishedAt\":\"2024-05-01T12:0").append(i).append(":00Z\",\"content\":null}");
+            }
+            return json.append("]}").toString();
+        }
+    }
+}
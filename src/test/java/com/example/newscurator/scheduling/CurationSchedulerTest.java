@@ -0,0 +1,160 @@
+package com.example.newscurator.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Testes unitários para o CurationScheduler
+ */
+public class CurationSchedulerTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private CurationScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void testInteractiveJobsRunBeforeQueuedBackfill() throws Exception {
+        // Arrange
+        scheduler = new CurationScheduler(1, Map.of(), 100, Map.of());
+        CompletableFuture<String> blocker = scheduler.submit("lote", JobClass.BACKFILL, this::block);
+        List<CompletableFuture<String>> jobs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            jobs.add(scheduler.submit("lote", JobClass.BACKFILL, record("backfill-" + i)));
+        }
+        jobs.add(scheduler.submit("lote", JobClass.SCHEDULED, record("agendada")));
+
+        // Act
+        jobs.add(scheduler.submit("portal", JobClass.INTERACTIVE, record("interativa")));
+        release.countDown();
+        CompletableFuture.allOf(jobs.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("bloqueio", blocker.get());
+        assertEquals("interativa", executed.get(0));
+        assertEquals("agendada", executed.get(1));
+        assertEquals("backfill-0", executed.get(2));
+        CurationScheduler.ClassStats interactive = scheduler.getStats().get(JobClass.INTERACTIVE);
+        assertEquals(1, interactive.completed());
+        assertEquals(0, interactive.queued());
+    }
+
+    @Test
+    void testClassConcurrencyCapLeavesWorkersForInteractiveJobs() throws Exception {
+        // Arrange
+        scheduler = new CurationScheduler(2, Map.of(JobClass.BACKFILL, 1), 100, Map.of());
+        scheduler.submit("lote", JobClass.BACKFILL, this::block);
+        scheduler.submit("lote", JobClass.BACKFILL, this::block);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        String result = scheduler.submit("portal", JobClass.INTERACTIVE, record("interativa")).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("interativa", result);
+        CurationScheduler.ClassStats backfill = scheduler.getStats().get(JobClass.BACKFILL);
+        assertEquals(1, backfill.running());
+        assertEquals(1, backfill.queued());
+    }
+
+    @Test
+    void testTenantsShareClassInProportionToWeights() throws Exception {
+        // Arrange
+        scheduler = new CurationScheduler(1, Map.of(), 100, CurationScheduler.parseWeights("a:2, b:1"));
+        scheduler.submit("a", JobClass.BACKFILL, this::block);
+        List<CompletableFuture<String>> jobs = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            jobs.add(scheduler.submit("a", JobClass.BACKFILL, record("a")));
+        }
+        for (int i = 0; i < 30; i++) {
+            jobs.add(scheduler.submit("b", JobClass.BACKFILL, record("b")));
+        }
+
+        // Act
+        release.countDown();
+        CompletableFuture.allOf(jobs.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        long servedA = executed.subList(0, 30).stream().filter("a"::equals).count();
+        assertEquals(20, servedA, 1);
+    }
+
+    @Test
+    void testCancelledAndOverflowingJobsAreNotExecuted() throws Exception {
+        // Arrange
+        scheduler = new CurationScheduler(1, Map.of(), 2, Map.of());
+        scheduler.submit("a", JobClass.INTERACTIVE, this::block);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> cancelled = scheduler.submit("a", JobClass.INTERACTIVE, record("cancelado"));
+        CompletableFuture<String> kept = scheduler.submit("a", JobClass.INTERACTIVE, record("mantido"));
+
+        // Act
+        CompletableFuture<String> overflow = scheduler.submit("a", JobClass.INTERACTIVE, record("excedente"));
+        cancelled.cancel(false);
+        release.countDown();
+
+        // Assert
+        assertEquals("mantido", kept.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("mantido"), executed);
+        Exception failure = assertThrows(Exception.class, overflow::join);
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        assertEquals(1, scheduler.getStats().get(JobClass.INTERACTIVE).rejected());
+    }
+
+    @Test
+    void testCancelledJobsFreeTheirQueueSlot() throws Exception {
+        // Arrange
+        scheduler = new CurationScheduler(1, Map.of(), 2, Map.of());
+        scheduler.submit("a", JobClass.INTERACTIVE, this::block);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> first = scheduler.submit("a", JobClass.INTERACTIVE, record("cancelado-1"));
+        CompletableFuture<String> second = scheduler.submit("a", JobClass.INTERACTIVE, record("cancelado-2"));
+
+        // Act
+        first.cancel(false);
+        second.cancel(false);
+        int queuedAfterCancel = scheduler.getStats().get(JobClass.INTERACTIVE).queued();
+        CompletableFuture<String> third = scheduler.submit("a", JobClass.INTERACTIVE, record("aceito-1"));
+        CompletableFuture<String> fourth = scheduler.submit("a", JobClass.INTERACTIVE, record("aceito-2"));
+        release.countDown();
+
+        // Assert
+        assertEquals(0, queuedAfterCancel);
+        assertEquals("aceito-1", third.get(5, TimeUnit.SECONDS));
+        assertEquals("aceito-2", fourth.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("aceito-1", "aceito-2"), executed);
+        assertEquals(0, scheduler.getStats().get(JobClass.INTERACTIVE).rejected());
+    }
+
+    private String block() throws InterruptedException {
+        started.countDown();
+        release.await();
+        return "bloqueio";
+    }
+
+    private Callable<String> record(String name) {
+        return () -> {
+            executed.add(name);
+            return name;
+        };
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.newscurator.server;
+
+import com.example.newscurator.admission.AdmissionController;
+import com.example.newscurator.agent.ContinuousCurator;
+import com.example.newscurator.agent.NewsCuratorAgent;
+import com.example.newscurator.dedup.LongHashSet;
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.scheduling.CurationScheduler;
+import com.example.newscurator.scheduling.JobClass;
+import com.example.newscurator.sources.SyntheticCorpus;
+import com.example.newscurator.tools.NewsSearchTool;
+import com.example.newscurator.tools.ReportGeneratorTool;
+import com.example.newscurator.utils.ConfigManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Testes unitários para o NewsCuratorServer e o LoadTestClient, com o servidor em uma porta local livre
+ */
+public class NewsCuratorServerTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final SyntheticCorpus corpus = new SyntheticCorpus(42, 1_000, 0.0);
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final CountDownLatch searching = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ConfigManager configManager;
+    private NewsCuratorAgent agent;
+    private NewsCuratorServer server;
+
+    @BeforeEach
+    void setUp() {
+        configManager = new ConfigManager((Path) null);
+        NewsSearchTool searchTool = new NewsSearchTool(configManager, (topic, maxResults) -> {
+            if (topic.equals("lento")) {
+                searching.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return articles(topic);
+        });
+        agent = new NewsCuratorAgent(configManager, searchTool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (server != null) {
+            server.stop(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void testEndpointsServeReportsRecentStoriesAndStats() throws Exception {
+        // Arrange
+        server = new NewsCuratorServer(agent, new ReportGeneratorTool(configManager), 0,
+                                       AdmissionController.fixed(4, 1_000));
+        server.start();
+
+        // Act
+        HttpResponse<String> single = get("/curate?topic=economia");
+        HttpResponse<String> multi = get("/curate/multi?topics=economia,esportes");
+        HttpResponse<String> posted = client.send(
+            HttpRequest.newBuilder(uri("/curate/multi")).POST(HttpRequest.BodyPublishers.ofString("tecnologia\nclima")).build(),
+            HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> missingTopic = get("/curate");
+        HttpResponse<String> recent = get("/recent?topic=economia&hours=1&limit=3");
+        HttpResponse<String> badRecent = get("/recent?topic=economia&hours=muitas");
+        HttpResponse<String> continuous = get("/curate/continuous");
+        JsonNode stats = JSON.readTree(get("/stats").body());
+
+        // Assert
+        assertEquals(200, single.statusCode());
+        assertEquals("full", single.headers().firstValue("X-Curation-Mode").orElse(null));
+        assertTrue(JSON.readTree(single.body()).get("totalArticles").asInt() > 0);
+        assertEquals(200, multi.statusCode());
+        assertEquals(List.of("economia", "esportes"), topics(multi));
+        assertEquals(List.of("tecnologia", "clima"), topics(posted));
+        assertEquals(400, missingTopic.statusCode());
+        assertEquals(200, recent.statusCode());
+        int recentCount = JSON.readTree(recent.body()).get("totalArticles").asInt();
+        assertTrue(recentCount > 0 && recentCount <= 3, "recentes: " + recentCount);
+        assertEquals(400, badRecent.statusCode());
+        assertEquals(404, continuous.statusCode());
+        assertEquals(3, stats.get("accepted").asInt());
+        assertEquals(0, stats.get("rejected").asInt());
+        assertTrue(stats.get("stages").get("search").get("invocations").asInt() >= 5);
+    }
+
+    @Test
+    void testSaturationAnswers503AndStopWaitsForInFlightRequests() throws Exception {
+        // Arrange
+        server = new NewsCuratorServer(agent, new ReportGeneratorTool(configManager), 0,
+                                       AdmissionController.fixed(1, 0));
+        server.start();
+        CompletableFuture<HttpResponse<String>> slow = client.sendAsync(
+            HttpRequest.newBuilder(uri("/curate?topic=lento")).build(), HttpResponse.BodyHandlers.ofString());
+        assertTrue(searching.await(5, TimeUnit.SECONDS));
+
+        // Act
+        LoadTestClient.Result load = new LoadTestClient(uri("/curate?topic=economia"), 2, 6).run();
+        HttpResponse<String> rejected = get("/curate?topic=economia");
+        CompletableFuture<Void> stopped = CompletableFuture.runAsync(() -> server.stop(Duration.ofSeconds(5)));
+        Thread.sleep(200);
+        boolean stoppedBeforeRelease = stopped.isDone();
+        release.countDown();
+        HttpResponse<String> finished = slow.get(10, TimeUnit.SECONDS);
+        stopped.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(Map.of(503, 6L), load.statusCounts());
+        assertEquals(0, load.errors());
+        assertEquals(6, load.requests());
+        assertTrue(load.requestsPerSecond() > 0);
+        assertEquals(503, rejected.statusCode());
+        assertEquals("1", rejected.headers().firstValue("Retry-After").orElse(null));
+        assertFalse(stoppedBeforeRelease, "o encerramento espera a requisição em andamento");
+        assertEquals(200, finished.statusCode());
+        assertEquals(List.of("lento"), topics(finished));
+        assertThrows(IOException.class, () -> get("/stats"));
+    }
+
+    @Test
+    void testStopWaitsAtMostTheGracePeriodInTotal() throws Exception {
+        // Arrange
+        server = new NewsCuratorServer(agent, new ReportGeneratorTool(configManager), 0,
+                                       AdmissionController.fixed(1, 0));
+        server.start();
+        client.sendAsync(HttpRequest.newBuilder(uri("/curate?topic=lento")).build(),
+                         HttpResponse.BodyHandlers.ofString());
+        assertTrue(searching.await(5, TimeUnit.SECONDS));
+
+        // Act
+        long start = System.nanoTime();
+        server.stop(Duration.ofSeconds(1));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertTrue(elapsedMillis < 1_500, "encerramento levou " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testContinuousViewAndScheduledCurations() throws Exception {
+        // Arrange
+        configManager.setProperty("server.port", "0");
+        ContinuousCurator continuous = new ContinuousCurator(agent, List.of("economia"), Duration.ofMinutes(5), 20,
+                                                             Duration.ofMinutes(60), Duration.ofHours(24),
+                                                             new LongHashSet(64));
+        try (CurationScheduler scheduler = new CurationScheduler(2, Map.of(), 10, Map.of())) {
+            server = new NewsCuratorServer(agent, new ReportGeneratorTool(configManager), configManager);
+            server.setContinuousCurator(continuous);
+            server.setScheduler(scheduler);
+            server.start();
+
+            // Act
+            HttpResponse<String> beforeFirstCycle = get("/curate/continuous");
+            continuous.pollOnce();
+            HttpResponse<String> afterFirstCycle = get("/curate/continuous");
+            HttpResponse<String> backfill = client.send(
+                HttpRequest.newBuilder(uri("/curate?topic=esportes&class=backfill")).header("X-Tenant", "arquivo").build(),
+                HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> unknownClass = get("/curate?topic=esportes&class=urgente");
+            JsonNode stats = JSON.readTree(get("/stats").body());
+
+            // Assert
+            assertNotEquals(0, server.getPort());
+            assertEquals(503, beforeFirstCycle.statusCode());
+            assertEquals(200, afterFirstCycle.statusCode());
+            assertEquals(List.of("economia"), topics(afterFirstCycle));
+            assertEquals(200, backfill.statusCode());
+            assertEquals(400, unknownClass.statusCode());
+            assertEquals(1, stats.get("scheduler").get("backfill").get("completed").asInt());
+            assertEquals(0, stats.get("scheduler").get("interactive").get("completed").asInt());
+            assertTrue(stats.get("admission").get("limit").asInt() > 0);
+            assertTrue(stats.get("continuous").asText().length() > 0);
+        }
+    }
+
+    @Test
+    void testQueuedBackfillDoesNotHoldAdmissionPermits() throws Exception {
+        // Arrange
+        try (CurationScheduler scheduler = new CurationScheduler(2, Map.of(JobClass.BACKFILL, 1), 10, Map.of())) {
+            server = new NewsCuratorServer(agent, new ReportGeneratorTool(configManager), 0,
+                                           AdmissionController.fixed(2, 0));
+            server.setScheduler(scheduler);
+            server.start();
+            CompletableFuture<HttpResponse<String>> running = client.sendAsync(
+                HttpRequest.newBuilder(uri("/curate?topic=lento&class=backfill")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertTrue(searching.await(5, TimeUnit.SECONDS));
+            CompletableFuture<HttpResponse<String>> queued = client.sendAsync(
+                HttpRequest.newBuilder(uri("/curate?topic=economia&class=backfill")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            while (scheduler.getStats().get(JobClass.BACKFILL).queued() == 0) {
+                Thread.sleep(10);
+            }
+
+            // Act
+            HttpResponse<String> interactive = get("/curate?topic=esportes");
+            release.countDown();
+
+            // Assert
+            assertEquals(200, interactive.statusCode());
+            assertEquals("full", interactive.headers().firstValue("X-Curation-Mode").orElse(null));
+            assertEquals(200, running.get(10, TimeUnit.SECONDS).statusCode());
+            assertEquals(200, queued.get(10, TimeUnit.SECONDS).statusCode());
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private static List<String> topics(HttpResponse<String> response) throws IOException {
+        List<String> topics = new ArrayList<>();
+        JSON.readTree(response.body()).get("topics").forEach(topic -> topics.add(topic.asText()));
+        return topics;
+    }
+
+    /**
+     * Artigos do corpus sintético publicados nos últimos minutos, para entrarem no índice de recentes
+     */
+    private List<NewsArticle> articles(String topic) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NewsArticle> articles = new ArrayList<>();
+        int offset = Math.floorMod(topic.hashCode(), 500);
+        for (int i = 0; i < 10; i++) {
+            NewsArticle article = corpus.article(offset + i);
+            article.setPublishedAt(now.minusMinutes(i + 1));
+            articles.add(article);
+        }
+        return articles;
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.newscurator.sources;
+
+import com.example.newscurator.models.NewsArticle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Testes unitários para o FeedParser e o FeedNewsSource
+ */
+public class FeedNewsSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testParsesRssAndAtomItems() throws IOException {
+        // Arrange
+        Path rss = write("g1.rss", rss("G1", 1, 2));
+        Path atom = Files.writeString(tempDir.resolve("folha.atom"), """
+            <?xml version="1.0" encoding="utf-8"?>
+            <feed xmlns="http://www.w3.org/2005/Atom">
+              <title>Folha</title>
+              <link rel="self" href="https://folha.example.com/feed.atom"/>
+              <entry>
+                <title type="html">Senado aprova reforma tributária</title>
+                <link rel="alternate" href="https://folha.example.com/reforma"/>
+                <id>tag:folha.example.com,2024:1</id>
+                <published>2024-05-01T09:30:00-03:00</published>
+                <category term="política"/>
+                <summary>Texto aprovado segue para sanção</summary>
+                <author><name>Redação</name></author>
+              </entry>
+            </feed>
+            """);
+        List<NewsArticle> articles = new ArrayList<>();
+
+        // Act
+        long fromRss = FeedParser.parse(rss, articles::add);
+        long fromAtom = FeedParser.parse(atom, articles::add);
+
+        // Assert
+        assertEquals(2, fromRss);
+        assertEquals(1, fromAtom);
+        NewsArticle first = articles.get(0);
+        assertEquals("G1 notícia 1 sobre esportes", first.getTitle());
+        assertEquals("https://g1.example.com/1", first.getUrl());
+        assertEquals("G1", first.getSource());
+        assertNotNull(first.getPublishedAt());
+        assertEquals(List.of("esportes"), first.getKeywords());
+        assertEquals("Juros <b>sobem</b> de novo", first.getBody());
+        NewsArticle entry = articles.get(2);
+        assertEquals("https://folha.example.com/reforma", entry.getUrl());
+        assertEquals("Folha", entry.getSource());
+        assertEquals(List.of("política"), entry.getKeywords());
+        assertEquals(FeedParser.timestamp("2024-05-01T12:30:00Z"), entry.getPublishedAt());
+    }
+
+    @Test
+    void testSearchReturnsNewestMatchesAcrossParallelFeeds() throws IOException {
+        // Arrange
+        Files.createDirectories(tempDir.resolve("portais"));
+        write("portais/g1.xml", rss("G1", 1, 20));
+        write("portais/uol.rss", rss("UOL", 21, 40));
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempDir.resolve("r7.xml.gz")))) {
+            out.write(rss("R7", 41, 60).getBytes(StandardCharsets.UTF_8));
+        }
+        write("leia-me.txt", "não é um feed");
+        FeedNewsSource source = new FeedNewsSource(tempDir, 4);
+
+        // Act
+        List<NewsArticle> results = source.search("Economia", 5);
+        AtomicLong total = new AtomicLong();
+        long ingested = source.ingest(article -> total.incrementAndGet());
+
+        // Assert
+        assertEquals(60, ingested);
+        assertEquals(60, total.get());
+        assertEquals(5, results.size());
+        assertEquals("R7 notícia 60 sobre economia", results.get(0).getTitle());
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).getPublishedAt().isAfter(results.get(i).getPublishedAt()));
+        }
+        assertEquals("Economia", results.get(0).getKeywords().get(0));
+    }
+
+    @Test
+    void testItemsAreEmittedBeforeTheWholeFeedIsRead() {
+        // Arrange
+        String truncated = rss("G1", 1, 3).replace("</channel>", "<item><title>incompleto");
+        List<String> seen = new ArrayList<>();
+
+        // Act
+        IOException failure = assertThrows(IOException.class, () -> FeedParser.parse(
+            new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8)), "g1", a -> seen.add(a.getTitle())));
+
+        // Assert
+        assertTrue(failure.getMessage().startsWith("Feed inválido (g1)"));
+        assertEquals(3, seen.size());
+    }
+
+    @Test
+    void testSearchFoldsAccentsAndIgnoresExtensionElements() throws IOException {
+        // Arrange
+        write("agencia.rss", """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <rss version="2.0" xmlns:media="http://search.yahoo.com/mrss/">
+              <channel>
+                <title>Agência</title>
+                <item>
+                  <title>Eleição movimenta a POLÍTICA local</title>
+                  <link>https://agencia.example.com/1</link>
+                  <media:content url="https://agencia.example.com/1.jpg">
+                    <media:title>Foto da votação</media:title>
+                  </media:content>
+                  <media:title>Legenda da foto</media:title>
+                  <description>Candidatos fazem campanha</description>
+                </item>
+              </channel>
+            </rss>
+            """);
+        FeedNewsSource source = new FeedNewsSource(tempDir, 2);
+
+        // Act
+        List<NewsArticle> results = source.search("politica", 10);
+        List<NewsArticle> none = source.search("votação", 10);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals("Eleição movimenta a POLÍTICA local", results.get(0).getTitle());
+        assertEquals("Candidatos fazem campanha", results.get(0).getBody());
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    void testSearchReparsesOnlyChangedFiles() throws IOException {
+        // Arrange
+        Path feed = write("g1.xml", rss("G1", 1, 4));
+        FeedNewsSource source = new FeedNewsSource(tempDir, 2);
+        List<NewsArticle> first = source.search("economia", 10);
+        FileTime modified = Files.getLastModifiedTime(feed);
+
+        // Act
+        // Mesmo tamanho e mesma data de modificação: a busca usa os artigos já lidos
+        write("g1.xml", rss("G1", 1, 4).replace("economia", "financas"));
+        Files.setLastModifiedTime(feed, modified);
+        List<NewsArticle> cached = source.search("economia", 10);
+        Files.setLastModifiedTime(feed, FileTime.fromMillis(modified.toMillis() + 60_000));
+        List<NewsArticle> changed = source.search("economia", 10);
+
+        // Assert
+        assertEquals(2, first.size());
+        assertEquals(2, cached.size());
+        assertNotSame(first.get(0), cached.get(0));
+        assertEquals(List.of("economia", "economia"), first.get(0).getKeywords());
+        assertTrue(changed.isEmpty());
+        assertEquals(2, source.search("financas", 10).size());
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+
+    /**
+     * Feed RSS 2.0 com um item por índice, publicados uma hora depois do anterior
+     */
+    private static String rss(String source, int from, int to) {
+        StringBuilder xml = new StringBuilder("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <rss version="2.0" xmlns:dc="http://purl.org/dc/elements/1.1/">
+              <channel>
+                <title>%s</title>
+                <link>https://%s.example.com</link>
+                <image><title>Logo</title><url>https://example.com/logo.png</url></image>
+            """.formatted(source, source.toLowerCase()));
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 0, 0);
+        for (int i = from; i <= to; i++) {
+            xml.append("""
+                <item>
+                  <title>%s notícia %d sobre %s</title>
+                  <link>https://%s.example.com/%d</link>
+                  <guid isPermaLink="false">%s-%d</guid>
+                  <pubDate>%s</pubDate>
+                  <category>%s</category>
+                  <description><![CDATA[Juros <b>sobem</b> de novo]]></description>
+                </item>
+                """.formatted(source, i, i % 2 == 0 ? "economia" : "esportes", source.toLowerCase(), i, source, i,
+                              DateTimeFormatter.RFC_1123_DATE_TIME.format(base.plusHours(i).atZone(ZoneOffset.UTC)),
+                              i % 2 == 0 ? "economia" : "esportes"));
+        }
+        return xml.append("  </channel>\n</rss>\n").toString();
+    }
+}
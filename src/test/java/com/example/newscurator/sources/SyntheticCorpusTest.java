@@ -0,0 +1,111 @@
+package com.example.newscurator.sources;
+
+import com.example.newscurator.models.NewsArticle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Testes unitários para o SyntheticCorpus e o SyntheticNewsSource
+ */
+public class SyntheticCorpusTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSameSeedGeneratesSameArticles() {
+        // Arrange
+        SyntheticCorpus corpus = new SyntheticCorpus(7, 10_000);
+        SyntheticCorpus same = new SyntheticCorpus(7, 10_000);
+        SyntheticCorpus other = new SyntheticCorpus(8, 10_000);
+
+        // Act
+        NewsArticle article = corpus.article(1234);
+        NewsArticle again = same.article(1234);
+        NewsArticle different = other.article(1234);
+
+        // Assert
+        assertEquals(article.getTitle(), again.getTitle());
+        assertEquals(article.getBody(), again.getBody());
+        assertEquals(article.getUrl(), again.getUrl());
+        assertEquals(article.getPublishedAt(), again.getPublishedAt());
+        assertEquals(article.getRelevanceScore(), again.getRelevanceScore());
+        assertNotEquals(article.getBody(), different.getBody());
+        assertEquals(corpus.article(9_999).getTitle(), corpus.stream().skip(9_999).findFirst().get().getTitle());
+    }
+
+    @Test
+    void testCorpusHasSkewAndSyndication() {
+        // Arrange
+        SyntheticCorpus corpus = new SyntheticCorpus(42, 20_000);
+        Map<String, Integer> sources = new HashMap<>();
+        Map<String, Integer> titles = new HashMap<>();
+        long totalBodyWords = 0;
+
+        // Act
+        for (long i = 0; i < corpus.size(); i++) {
+            NewsArticle article = corpus.article(i);
+            sources.merge(article.getSource(), 1, Integer::sum);
+            titles.merge(article.getTitle(), 1, Integer::sum);
+            totalBodyWords += article.getBody().split(" ").length;
+            assertFalse(article.getKeywords().isEmpty());
+        }
+
+        // Assert
+        assertTrue(sources.get("G1") > 4 * sources.get("Nexo"), "fontes devem seguir Zipf: " + sources);
+        long repeatedTitles = titles.values().stream().filter(count -> count > 1).count();
+        assertTrue(repeatedTitles > 500, "esperava republicações com o mesmo título: " + repeatedTitles);
+        double meanWords = (double) totalBodyWords / corpus.size();
+        assertTrue(meanWords > 300 && meanWords < 600, "média de palavras do corpo: " + meanWords);
+        assertTrue(corpus.article(10_000).getPublishedAt().isAfter(corpus.article(100).getPublishedAt()));
+    }
+
+    @Test
+    void testSourceSearchIsDeterministicAndOnTopic() {
+        // Arrange
+        SyntheticNewsSource source = new SyntheticNewsSource(new SyntheticCorpus(42, 1_000_000));
+
+        // Act
+        List<NewsArticle> first = source.search("tecnologia", 10);
+        List<NewsArticle> second = source.search("tecnologia", 10);
+
+        // Assert
+        assertEquals(10, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getUrl(), second.get(i).getUrl());
+            assertEquals("tecnologia", first.get(i).getCategory());
+            assertEquals("tecnologia", first.get(i).getKeywords().get(0));
+            assertTrue(first.get(i).getRelevanceScore() >= 0 && first.get(i).getRelevanceScore() <= 1);
+        }
+    }
+
+    @Test
+    void testWritesCompressedNdjson() throws Exception {
+        // Arrange
+        SyntheticCorpus corpus = new SyntheticCorpus(42, 500);
+        Path output = tempDir.resolve("corpus/corpus.ndjson.gz");
+
+        // Act
+        corpus.writeNdjson(output);
+
+        // Assert
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                 new GZIPInputStream(Files.newInputStream(output)), StandardCharsets.UTF_8))) {
+            List<String> lines = reader.lines().toList();
+            assertEquals(500, lines.size());
+            assertTrue(lines.get(0).startsWith("{\"title\":"));
+            assertTrue(lines.get(0).contains("\"body\":"));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.newscurator.store;
+
+import com.example.newscurator.models.NewsArticle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Testes unitários para o OffHeapArticleStore
+ */
+public class OffHeapArticleStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testAppendAndRandomAccess() throws Exception {
+        // Arrange
+        LocalDateTime publishedAt = LocalDateTime.of(2024, 5, 10, 14, 30, 15);
+        NewsArticle article = newArticle("Inteligência artificial na saúde", 0.8);
+        article.setPublishedAt(publishedAt);
+        article.setSentiment("POSITIVE");
+
+        try (OffHeapArticleStore store = OffHeapArticleStore.direct(4096)) {
+            // Act
+            int id = store.append(article);
+            ArticleView view = store.get(id);
+
+            // Assert
+            assertEquals(0, id);
+            assertEquals("Inteligência artificial na saúde", view.getTitle());
+            assertEquals("G1", view.getSource());
+            assertNull(view.getSummary());
+            assertEquals(Arrays.asList("ia", "saúde"), view.getKeywords());
+            assertEquals(publishedAt, view.getPublishedAt());
+            assertEquals("POSITIVE", view.getSentiment());
+            assertEquals(0.8, view.getRelevanceScore());
+        }
+    }
+
+    @Test
+    void testScanAcrossSegmentsAndTopByRelevance() throws Exception {
+        // Arrange
+        try (OffHeapArticleStore store = OffHeapArticleStore.direct(256)) {
+            for (int i = 0; i < 100; i++) {
+                store.append(newArticle("Artigo " + i, i / 100.0));
+            }
+
+            // Act
+            int scanned = 0;
+            for (ArticleView view : store) {
+                assertEquals("Artigo " + scanned, view.getTitle());
+                view.setCategory(scanned % 2 == 0 ? "tecnologia" : "economia");
+                scanned++;
+            }
+            int[] top = store.topByRelevance(3);
+
+            // Assert
+            assertEquals(100, scanned);
+            assertTrue(store.reservedBytes() > 256);
+            assertArrayEquals(new int[]{99, 98, 97}, top);
+            assertEquals("economia", store.getCategory(99));
+            assertEquals(50, store.countByCategoryCode()[0]);
+        }
+    }
+
+    @Test
+    void testMemoryMappedStore() throws Exception {
+        // Arrange
+        try (OffHeapArticleStore store = OffHeapArticleStore.mapped(tempDir.resolve("articles.bin"), 1024)) {
+            // Act
+            int id = store.append(newArticle("Congresso aprova nova lei", 0.6));
+            store.setRelevanceScore(id, 0.9);
+            NewsArticle materialized = store.materialize(id);
+
+            // Assert
+            assertEquals("Congresso aprova nova lei", materialized.getTitle());
+            assertEquals(0.9, materialized.getRelevanceScore());
+        }
+    }
+
+    @Test
+    void testBodyTopicsAndCoverageRoundTrip() throws Exception {
+        // Arrange
+        NewsArticle article = newArticle("Chuvas atingem o litoral", 0.7);
+        article.setBody("Texto completo da reportagem sobre as chuvas");
+        article.setTopics(List.of("clima", "cidades"));
+        article.setCoverage(List.of("G1", "UOL"));
+
+        try (OffHeapArticleStore store = OffHeapArticleStore.direct(4096)) {
+            // Act
+            NewsArticle stored = store.materialize(store.append(article));
+            NewsArticle withoutBody = store.materialize(store.append(newArticle("Sem texto", 0.1)));
+
+            // Assert
+            assertEquals("Texto completo da reportagem sobre as chuvas", stored.getBody());
+            assertEquals(List.of("clima", "cidades"), stored.getTopics());
+            assertEquals(List.of("G1", "UOL"), stored.getCoverage());
+            assertEquals(List.of("ia", "saúde"), stored.getKeywords());
+            assertNull(withoutBody.getBody());
+            assertNull(withoutBody.getTopics());
+            assertNull(withoutBody.getCoverage());
+        }
+    }
+
+    @Test
+    void testReadsRunConcurrentlyWithAppends() throws Exception {
+        // Arrange
+        int total = 20_000;
+        try (OffHeapArticleStore store = OffHeapArticleStore.direct(512)) {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread reader = new Thread(() -> {
+                try {
+                    while (store.size() < total) {
+                        int last = store.size() - 1;
+                        if (last >= 0) {
+                            assertEquals("Artigo " + last, store.get(last).getTitle());
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+
+            // Act
+            reader.start();
+            for (int i = 0; i < total; i++) {
+                store.append(newArticle("Artigo " + i, i));
+            }
+            reader.join(30_000);
+
+            // Assert
+            assertNull(failure.get());
+            assertEquals(total, store.size());
+            assertEquals("Artigo " + (total - 1), store.get(total - 1).getTitle());
+        }
+    }
+
+    private NewsArticle newArticle(String title, double relevanceScore) {
+        NewsArticle article = new NewsArticle();
+        article.setTitle(title);
+        article.setUrl("https://example-news.com/" + title.hashCode());
+        article.setSource("G1");
+        article.setRelevanceScore(relevanceScore);
+        article.setKeywords(List.of("ia", "saúde"));
+        return article;
+    }
+}
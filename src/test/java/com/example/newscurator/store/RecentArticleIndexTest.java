@@ -0,0 +1,126 @@
+package com.example.newscurator.store;
+
+import com.example.newscurator.models.NewsArticle;
+import com.example.newscurator.relevance.FreshnessDecay;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Testes unitários para o RecentArticleIndex e o FreshnessDecay
+ */
+public class RecentArticleIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    void testTopStoriesInWindowAreRankedWithDecay() {
+        // Arrange
+        RecentArticleIndex index = new RecentArticleIndex(Duration.ofMinutes(5), Duration.ofHours(24), 100,
+                                                          new FreshnessDecay(Duration.ofHours(2)));
+        List<NewsArticle> articles = List.of(
+            article("Nova", "tecnologia", 1.0, NOW.minusMinutes(10)),
+            article("Antiga relevante", "tecnologia", 1.5, NOW.minusHours(4)),
+            article("Média", "tecnologia", 0.9, NOW.minusHours(1)),
+            article("Fora da janela", "tecnologia", 5.0, NOW.minusHours(7)),
+            article("Outro tópico", "economia", 3.0, NOW.minusMinutes(5)),
+            article("Expirada", "tecnologia", 9.0, NOW.minusHours(30)));
+
+        // Act
+        int added = index.addAll(articles, NOW);
+        List<NewsArticle> top = index.top("Tecnologia ", Duration.ofHours(6), 2, NOW);
+        List<NewsArticle> all = index.top("tecnologia", Duration.ofHours(6), 10, NOW);
+
+        // Assert
+        assertEquals(5, added);
+        assertEquals(List.of("Nova", "Média"), top.stream().map(NewsArticle::getTitle).toList());
+        assertEquals(List.of("Nova", "Média", "Antiga relevante"), all.stream().map(NewsArticle::getTitle).toList());
+        assertNotSame(articles.get(0), top.get(0));
+    }
+
+    @Test
+    void testExpiredBucketsAreReclaimed() {
+        // Arrange
+        RecentArticleIndex index = new RecentArticleIndex(Duration.ofMinutes(60), Duration.ofHours(3), 100, null);
+        index.addAll(List.of(article("Primeira", "clima", 1.0, NOW)), NOW);
+
+        // Act
+        int beforeWrap = index.top("clima", Duration.ofHours(3), 10, NOW.plusHours(2)).size();
+        index.addAll(List.of(article("Três horas depois", "clima", 1.0, NOW.plusHours(3))), NOW.plusHours(3));
+        List<NewsArticle> afterWrap = index.top("clima", Duration.ofHours(3), 10, NOW.plusHours(3));
+        int released = index.expire(NOW.plusHours(10));
+
+        // Assert
+        assertEquals(1, beforeWrap);
+        assertEquals(List.of("Três horas depois"), afterWrap.stream().map(NewsArticle::getTitle).toList());
+        assertEquals(1, released);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testQueriesReleaseExpiredBucketsWithoutExplicitExpire() {
+        // Arrange
+        RecentArticleIndex index = new RecentArticleIndex(Duration.ofMinutes(60), Duration.ofHours(3), 100, null);
+        index.addAll(List.of(article("Clima", "clima", 1.0, NOW), article("Economia", "economia", 1.0, NOW)), NOW);
+        int beforeExpiry = index.size();
+
+        // Act
+        List<NewsArticle> later = index.top("esportes", Duration.ofHours(3), 10, NOW.plusHours(5));
+
+        // Assert
+        assertEquals(2, beforeExpiry);
+        assertTrue(later.isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testBucketKeepsMostRelevantPerTopic() {
+        // Arrange
+        RecentArticleIndex index = new RecentArticleIndex(Duration.ofMinutes(5), Duration.ofHours(1), 3, null);
+        List<NewsArticle> articles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            articles.add(article("Artigo " + i, "esportes", i, NOW.minusMinutes(1)));
+        }
+        NewsArticle again = article("Artigo 9", "esportes", 9, NOW.minusMinutes(1));
+
+        // Act
+        index.addAll(articles, NOW);
+        index.addAll(List.of(again), NOW);
+        List<NewsArticle> top = index.top("esportes", Duration.ofMinutes(30), 10, NOW);
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals(List.of("Artigo 9", "Artigo 8", "Artigo 7"), top.stream().map(NewsArticle::getTitle).toList());
+    }
+
+    @Test
+    void testReindexedArticleIsReturnedOnce() {
+        // Arrange
+        RecentArticleIndex index = new RecentArticleIndex(Duration.ofMinutes(5), Duration.ofHours(24), 100, null);
+        NewsArticle first = article("Mesma notícia", "política", 1.0, NOW.minusHours(3));
+        NewsArticle again = article("Mesma notícia", "política", 2.0, NOW.minusMinutes(20));
+        NewsArticle other = article("Outra notícia", "política", 1.5, NOW.minusHours(1));
+
+        // Act
+        index.addAll(List.of(first, other), NOW);
+        index.addAll(List.of(again), NOW);
+        List<NewsArticle> top = index.top("política", Duration.ofHours(6), 10, NOW);
+
+        // Assert
+        assertEquals(List.of("Mesma notícia", "Outra notícia"), top.stream().map(NewsArticle::getTitle).toList());
+        assertEquals(2.0, top.get(0).getRelevanceScore());
+        assertEquals(NOW.minusMinutes(20), top.get(0).getPublishedAt());
+    }
+
+    private static NewsArticle article(String title, String topic, double relevance, LocalDateTime publishedAt) {
+        NewsArticle article = new NewsArticle(title, null, "https://example.com/" + title.replace(' ', '-'), "Portal");
+        article.setTopics(List.of(topic));
+        article.setRelevanceScore(relevance);
+        article.setPublishedAt(publishedAt);
+        return article;
+    }
+}
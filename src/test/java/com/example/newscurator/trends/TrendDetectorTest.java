@@ -0,0 +1,110 @@
+package com.example.newscurator.trends;
+
+import com.example.newscurator.models.NewsArticle;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Testes unitários para o TrendDetector e o CountMinSketch
+ */
+public class TrendDetectorTest {
+
+    @Test
+    void testHeavyHittersStandOutFromLongTail() {
+        // Arrange
+        TrendDetector detector = new TrendDetector(Duration.ofHours(1), 6, 4, 256, 3, () -> 0L);
+        List<NewsArticle> articles = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            // Cauda longa de 3000 termos distintos, muito maior que o sketch e as tabelas
+            String title = "Termo" + i + (i % 10 == 0 ? " Eleição" : "") + (i % 25 == 0 ? " Vacina" : "");
+            articles.add(article(title, "notícias", i % 40 == 0 ? List.of("notícias", "Copa") : List.of("notícias")));
+        }
+
+        // Act
+        detector.recordAll(articles);
+        Map<String, Long> top = detector.top();
+
+        // Assert
+        assertEquals(List.of("eleição", "vacina", "copa"), List.copyOf(top.keySet()));
+        assertTrue(top.get("eleição") >= 300 && top.get("eleição") < 330, "estimativa: " + top.get("eleição"));
+        assertTrue(detector.estimate("Vacina") >= 120);
+        // O tópico da busca não é contado; sobra só o ruído de colisões do sketch
+        assertTrue(detector.estimate("notícias") < 30);
+    }
+
+    @Test
+    void testCountsSlideOutOfTheWindow() {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        TrendDetector detector = new TrendDetector(Duration.ofMinutes(60), 12, 4, 512, 5, now::get);
+        long slice = Duration.ofMinutes(5).toNanos();
+
+        // Act
+        detector.recordAll(List.of(article("Apagão no metrô", "cidade", List.of()),
+                                   article("Apagão atinge bairros", "cidade", List.of())));
+        now.set(11 * slice);
+        long insideWindow = detector.estimate("apagão");
+        now.set(12 * slice);
+        long afterWindow = detector.estimate("apagão");
+        now.set(30 * slice);
+        detector.recordAll(List.of(article("Chuva forte amanhã", "cidade", List.of())));
+        now.set(41 * slice);
+        Map<String, Long> later = detector.top();
+
+        // Assert
+        assertEquals(2, insideWindow);
+        assertEquals(0, afterWindow);
+        assertEquals(Map.of("chuva", 1L, "forte", 1L, "amanhã", 1L), later);
+    }
+
+    @Test
+    void testConcurrentWorkersDoNotLoseCounts() throws InterruptedException {
+        // Arrange
+        TrendDetector detector = new TrendDetector(Duration.ofHours(1), 4, 4, 1024, 5);
+        List<NewsArticle> batch = List.of(article("Greve dos bancários", "economia", List.of("Greve")),
+                                          article("Greve continua", "economia", List.of("sindicato")));
+        int threads = 8;
+        int rounds = 500;
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            workers.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < rounds; i++) {
+                        detector.recordAll(batch);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(2L * threads * rounds, detector.estimate("greve"));
+        assertEquals((long) threads * rounds, detector.estimate("sindicato"));
+        assertEquals("greve", detector.top(1).keySet().iterator().next());
+    }
+
+    private static NewsArticle article(String title, String topic, List<String> keywords) {
+        NewsArticle article = new NewsArticle(title, null, null, "Portal");
+        article.setTopics(List.of(topic));
+        article.setKeywords(keywords);
+        return article;
+    }
+}
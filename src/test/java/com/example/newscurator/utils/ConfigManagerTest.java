@@ -0,0 +1,72 @@
+package com.example.newscurator.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Testes unitários para o ConfigManager e o ConfigSnapshot
+ */
+public class ConfigManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRuntimeOverridesSurviveReload() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("news.properties");
+        Files.writeString(file, "server.port=9000\nnews.search.max.results=7\n");
+        ConfigManager config = new ConfigManager(file);
+        config.setProperty("server.port", "8181");
+
+        // Act
+        Files.writeString(file, "server.port=9001\nnews.search.max.results=12\n");
+        boolean reloaded = config.reload();
+
+        // Assert
+        assertTrue(reloaded);
+        assertEquals("8181", config.getProperty("server.port", null));
+        assertEquals(12, config.getMaxSearchResults());
+    }
+
+    @Test
+    void testInvalidReloadKeepsPreviousSnapshot() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("news.properties");
+        Files.writeString(file, "dedup.near.threshold=0.8\n");
+        ConfigManager config = new ConfigManager(file);
+        ConfigSnapshot before = config.getSnapshot();
+
+        // Act
+        Files.writeString(file, "dedup.near.threshold=1.5\n");
+        boolean reloaded = config.reload();
+
+        // Assert
+        assertFalse(reloaded);
+        assertSame(before, config.getSnapshot());
+        assertEquals(0.8, config.getSnapshot().nearDuplicateThreshold());
+    }
+
+    @Test
+    void testTypedSettingsAreParsedOnce() {
+        // Arrange
+        ConfigManager config = new ConfigManager((Path) null);
+
+        // Act
+        config.setProperty("fetch.enabled", " true ");
+        config.setProperty("ranking.freshness.half.life.hours", "6.5");
+        ConfigSnapshot snapshot = config.getSnapshot();
+
+        // Assert
+        assertTrue(snapshot.fetchEnabled());
+        assertEquals(6.5, snapshot.freshnessHalfLifeHours());
+        assertTrue(snapshot.nearDuplicatesEnabled());
+        assertThrows(IllegalArgumentException.class, () -> config.setProperty("ranking.freshness.half.life.hours", "-1"));
+        assertEquals(6.5, config.getSnapshot().freshnessHalfLifeHours());
+    }
+}